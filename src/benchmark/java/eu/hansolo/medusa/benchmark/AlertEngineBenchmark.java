@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.AlertEngine;
+import eu.hansolo.medusa.GaugeModel;
+import eu.hansolo.medusa.GaugeModel.Range;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * Measures the throughput of the AlertEngine for 10k, 100k and 1M signals,
+ * evaluated in one shard on the calling thread and sharded over the
+ * common ForkJoinPool. Every signal checks a threshold, three sections and
+ * one marker. Runs without JavaFX.
+ *
+ * Usage: AlertEngineBenchmark [batchesPerRound] [rounds]
+ * Defaults: 20 batches per round, 5 rounds (plus 2 warmup rounds).
+ */
+public class AlertEngineBenchmark {
+    private static final int[]   NO_OF_SIGNALS = { 10_000, 100_000, 1_000_000 };
+    private static final int     WARMUP_ROUNDS = 2;
+    private static final int     PRECOMPUTED   = 8;
+    private static final Range[] SECTIONS      = { new Range(0, 40), new Range(40, 80), new Range(80, 100) };
+
+
+    // ******************** Methods *******************************************
+    public static void main(final String[] args) {
+        int batches = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int rounds  = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        System.out.println(String.format("%-10s %8s %16s %16s %14s", "Signals", "Shards", "Values/s", "ms/batch", "Transitions"));
+        for (int noOfSignals : NO_OF_SIGNALS) {
+            double[][] values = createBatches(noOfSignals);
+            run(new AlertEngine(ForkJoinPool.commonPool(), 1), noOfSignals, values, batches, rounds);
+            run(new AlertEngine(), noOfSignals, values, batches, rounds);
+        }
+    }
+
+    private static void run(final AlertEngine ENGINE, final int NO_OF_SIGNALS, final double[][] VALUES, final int BATCHES, final int ROUNDS) {
+        for (int i = 0 ; i < NO_OF_SIGNALS ; i++) {
+            GaugeModel model = new GaugeModel(0, 100);
+            model.setThreshold(75);
+            model.setCheckThreshold(true);
+            model.setSections(SECTIONS);
+            model.setCheckSectionsForValue(true);
+            model.setMarkers(25);
+            model.setCheckMarkers(true);
+            ENGINE.register(model);
+        }
+        for (int i = 0 ; i < WARMUP_ROUNDS ; i++) { measure(ENGINE, VALUES, BATCHES); }
+        ENGINE.resetMetrics();
+
+        double totalNanos = 0;
+        for (int i = 0 ; i < ROUNDS ; i++) { totalNanos += measure(ENGINE, VALUES, BATCHES); }
+        double valuesPerSecond = ENGINE.getNoOfValues() / (totalNanos / 1_000_000_000.0);
+        double msPerBatch      = totalNanos / 1_000_000.0 / (ROUNDS * BATCHES);
+        System.out.println(String.format("%-10d %8d %16.0f %16.3f %14d", NO_OF_SIGNALS, ENGINE.getNoOfShards(), valuesPerSecond, msPerBatch, ENGINE.getNoOfTransitions()));
+    }
+
+    private static double measure(final AlertEngine ENGINE, final double[][] VALUES, final int BATCHES) {
+        long start = System.nanoTime();
+        for (int i = 0 ; i < BATCHES ; i++) { ENGINE.ingest(VALUES[i % VALUES.length]); }
+        return System.nanoTime() - start;
+    }
+
+    // Random walk per signal so that a part of the signals crosses borders in every batch
+    private static double[][] createBatches(final int NO_OF_SIGNALS) {
+        Random     rnd     = new Random(42);
+        double[][] batches = new double[PRECOMPUTED][NO_OF_SIGNALS];
+        for (int s = 0 ; s < NO_OF_SIGNALS ; s++) {
+            double value = rnd.nextDouble() * 100;
+            for (int b = 0 ; b < PRECOMPUTED ; b++) {
+                value = Math.max(0, Math.min(100, value + (rnd.nextDouble() - 0.5) * 10));
+                batches[b][s] = value;
+            }
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.Clock.ClockSkinType;
+import eu.hansolo.medusa.ClockBuilder;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.layout.FlowPane;
+import javafx.stage.Stage;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Measures the allocation rate of the JavaFX application thread while a
+ * number of running clocks with continuous seconds are visible.
+ *
+ * Usage: ClockAllocationBenchmark [noOfClocks] [durationInSeconds] [skinType...]
+ * Defaults: 100 clocks, 60 seconds, skin types TEXT, DIGITAL and CLOCK.
+ */
+public class ClockAllocationBenchmark {
+    private static final long WARMUP_SECONDS = 5;
+
+
+    // ******************** Methods *******************************************
+    public static void main(final String[] args) throws Exception {
+        int                 noOfClocks = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        long                duration   = args.length > 1 ? Long.parseLong(args[1]) : 60;
+        List<ClockSkinType> skinTypes  = new ArrayList<>();
+        for (int i = 2 ; i < args.length ; i++) { skinTypes.add(ClockSkinType.valueOf(args[i])); }
+        if (skinTypes.isEmpty()) { skinTypes = List.of(ClockSkinType.TEXT, ClockSkinType.DIGITAL, ClockSkinType.CLOCK); }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        CountDownLatch startupLatch = new CountDownLatch(1);
+        Platform.startup(startupLatch::countDown);
+        startupLatch.await();
+
+        AtomicLong fxThreadId = new AtomicLong();
+        runAndWait(() -> fxThreadId.set(Thread.currentThread().getId()));
+
+        System.out.println(String.format("%-10s %8s %8s %16s %16s", "SkinType", "Clocks", "Seconds", "Bytes/s", "Bytes/clock/s"));
+        for (ClockSkinType skinType : skinTypes) {
+            List<Clock> clocks = new ArrayList<>(noOfClocks);
+            Stage[]     stage  = new Stage[1];
+            runAndWait(() -> {
+                FlowPane pane = new FlowPane();
+                for (int i = 0 ; i < noOfClocks ; i++) {
+                    Clock clock = ClockBuilder.create()
+                                              .skinType(skinType)
+                                              .prefSize(100, 100)
+                                              .discreteSeconds(false)
+                                              .secondsVisible(true)
+                                              .textVisible(true)
+                                              .dateVisible(true)
+                                              .running(true)
+                                              .build();
+                    clocks.add(clock);
+                    pane.getChildren().add(clock);
+                }
+                stage[0] = new Stage();
+                stage[0].setScene(new Scene(pane, 1000, 1000));
+                stage[0].show();
+            });
+
+            TimeUnit.SECONDS.sleep(WARMUP_SECONDS);
+
+            long start      = threadMXBean.getThreadAllocatedBytes(fxThreadId.get());
+            long startNanos = System.nanoTime();
+            TimeUnit.SECONDS.sleep(duration);
+            long allocated  = threadMXBean.getThreadAllocatedBytes(fxThreadId.get()) - start;
+            double seconds  = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+            System.out.println(String.format("%-10s %8d %8.1f %16.0f %16.1f", skinType.name(), noOfClocks, seconds, allocated / seconds, allocated / seconds / noOfClocks));
+
+            runAndWait(() -> {
+                stage[0].close();
+                clocks.forEach(clock -> clock.setRunning(false));
+            });
+        }
+        Platform.exit();
+        System.exit(0);
+    }
+
+    private static void runAndWait(final Runnable RUNNABLE) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                RUNNABLE.run();
+            } finally {
+                latch.countDown();
+            }
+        });
+        latch.await();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.GaugeBuilder;
+import eu.hansolo.medusa.GaugeTemplate;
+import eu.hansolo.medusa.Section;
+import javafx.application.Platform;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+
+/**
+ * Compares the time needed to create gauges with the GaugeBuilder against
+ * the time needed to instantiate them from a GaugeTemplate.
+ *
+ * Usage: GaugeTemplateBenchmark [noOfGauges] [rounds] [skinType]
+ * Defaults: 1000 gauges, 5 rounds (plus 2 warmup rounds), skin type GAUGE.
+ */
+public class GaugeTemplateBenchmark {
+    private static final int WARMUP_ROUNDS = 2;
+
+
+    // ******************** Methods *******************************************
+    public static void main(final String[] args) throws Exception {
+        int      noOfGauges = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int      rounds     = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        SkinType skinType   = args.length > 2 ? SkinType.valueOf(args[2]) : SkinType.GAUGE;
+
+        CountDownLatch startupLatch = new CountDownLatch(1);
+        Platform.startup(startupLatch::countDown);
+        startupLatch.await();
+
+        runAndWait(() -> {
+            Supplier<Gauge> builder      = () -> createBuilder(skinType).build();
+            GaugeTemplate   template     = GaugeTemplate.of(createBuilder(skinType).build());
+            Supplier<Gauge> instantiator = template::instantiate;
+
+            for (int i = 0 ; i < WARMUP_ROUNDS ; i++) {
+                measure(builder, noOfGauges);
+                measure(instantiator, noOfGauges);
+            }
+
+            System.out.println(String.format("%-8s %8s %14s %14s", "Round", "Gauges", "Builder [ms]", "Template [ms]"));
+            double builderTotal  = 0;
+            double templateTotal = 0;
+            for (int i = 0 ; i < rounds ; i++) {
+                double builderMs  = measure(builder, noOfGauges);
+                double templateMs = measure(instantiator, noOfGauges);
+                builderTotal  += builderMs;
+                templateTotal += templateMs;
+                System.out.println(String.format("%-8d %8d %14.1f %14.1f", i + 1, noOfGauges, builderMs, templateMs));
+            }
+            System.out.println(String.format("%-8s %8d %14.1f %14.1f", "Average", noOfGauges, builderTotal / rounds, templateTotal / rounds));
+        });
+        Platform.exit();
+    }
+
+    private static GaugeBuilder createBuilder(final SkinType SKIN_TYPE) {
+        return GaugeBuilder.create()
+                           .skinType(SKIN_TYPE)
+                           .prefSize(200, 200)
+                           .title("Temperature")
+                           .unit("\u00B0C")
+                           .minValue(-20)
+                           .maxValue(60)
+                           .decimals(1)
+                           .sectionsVisible(true)
+                           .sections(new Section(-20, 0, Color.rgb(0, 0, 255, 0.5)),
+                                     new Section(0, 40, Color.rgb(0, 255, 0, 0.5)),
+                                     new Section(40, 60, Color.rgb(255, 0, 0, 0.5)))
+                           .needleColor(Color.ORANGE)
+                           .thresholdVisible(true)
+                           .threshold(45)
+                           .animated(true)
+                           .value(21.5);
+    }
+
+    private static double measure(final Supplier<Gauge> SUPPLIER, final int NO_OF_GAUGES) {
+        List<Gauge> gauges = new ArrayList<>(NO_OF_GAUGES);
+        long        start  = System.nanoTime();
+        for (int i = 0 ; i < NO_OF_GAUGES ; i++) { gauges.add(SUPPLIER.get()); }
+        double ms = (System.nanoTime() - start) / 1_000_000.0;
+        if (gauges.size() != NO_OF_GAUGES) { throw new IllegalStateException(); }
+        return ms;
+    }
+
+    private static void runAndWait(final Runnable RUNNABLE) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                RUNNABLE.run();
+            } finally {
+                latch.countDown();
+            }
+        });
+        latch.await();
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.Clock.ClockSkinType;
+import eu.hansolo.medusa.ClockBuilder;
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.GaugeBuilder;
+import eu.hansolo.medusa.Section;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.sun.management.ThreadMXBean;
+
+
+/**
+ * Headless performance regression suite for the skins of all Gauge.SkinTypes
+ * and Clock.ClockSkinTypes. Has to run with the Monocle headless platform
+ * (-Dglass.platform=Monocle -Dmonocle.platform=Headless -Dprism.order=sw).
+ *
+ * For every skin type N instances are added to a shown scene and M value
+ * updates are driven through the animation path. The suite records
+ * - the median and 95th percentile of the pulse durations on the JavaFX
+ *   application thread while the values are animated
+ * - the bytes allocated on the JavaFX application thread per update and
+ *   instance (ThreadMXBean)
+ * - the retained heap per instance
+ * and compares them with the baseline file. If a value exceeds its baseline
+ * by more than the tolerance factor of the metric (and by more than a small
+ * absolute delta to ignore noise) the suite exits with status 1. A skin
+ * without baseline fails the suite as well.
+ *
+ * Usage: PerformanceRegression [baselineFile] [resultFile]
+ * System properties: medusa.perf.instances (20), medusa.perf.updates (30),
+ * medusa.perf.updateBaseline (false) writes the measured values as new baseline.
+ */
+public class PerformanceRegression {
+    private static final int          PULSES_PER_UPDATE = 4;
+    private static final int          SETTLE_PULSES     = 10;
+    private static final double       SIZE              = 120;
+    private static final double       MIN_PULSE_DELTA   = 0.5; // ms
+    private static final double       MIN_ALLOC_DELTA   = 1.0; // kB
+    private static final double       MIN_HEAP_DELTA    = 4.0; // kB
+    private static final Random       RND               = new Random(42);
+    private static final ThreadMXBean THREAD_MX_BEAN    = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static       Scene        scene;
+    private static       FlowPane     pane;
+
+
+    // ******************** Methods *******************************************
+    public static void main(final String[] args) throws Exception {
+        final Path    BASELINE_FILE   = Paths.get(args.length > 0 ? args[0] : "src/benchmark/resources/performance-baseline.properties");
+        final Path    RESULT_FILE     = args.length > 1 ? Paths.get(args[1]) : null;
+        final int     NO_OF_INSTANCES = Integer.getInteger("medusa.perf.instances", 20);
+        final int     NO_OF_UPDATES   = Integer.getInteger("medusa.perf.updates", 30);
+        final boolean UPDATE_BASELINE = Boolean.getBoolean("medusa.perf.updateBaseline");
+        final Properties BASELINE     = load(BASELINE_FILE);
+
+        CountDownLatch startupLatch = new CountDownLatch(1);
+        Platform.startup(startupLatch::countDown);
+        startupLatch.await();
+        runAndWait(() -> {
+            pane  = new FlowPane();
+            scene = new Scene(pane, 1600, 1200);
+            Stage stage = new Stage();
+            stage.setScene(scene);
+            stage.show();
+        });
+
+        List<Result> results = new ArrayList<>();
+        for (SkinType skinType : SkinType.values()) {
+            results.add(measure("Gauge." + skinType.name(), () -> createGauge(skinType), node -> ((Gauge) node).setValue(RND.nextDouble() * 100), NO_OF_INSTANCES, NO_OF_UPDATES));
+        }
+        for (ClockSkinType skinType : ClockSkinType.values()) {
+            results.add(measure("Clock." + skinType.name(), () -> createClock(skinType), node -> {
+                final Clock CLOCK = (Clock) node;
+                CLOCK.setTime(CLOCK.getTime().plusSeconds(1));
+            }, NO_OF_INSTANCES, NO_OF_UPDATES));
+        }
+        Platform.exit();
+
+        final double PULSE_TOLERANCE    = Double.parseDouble(BASELINE.getProperty("tolerance.pulse", "1.5"));
+        final double ALLOC_TOLERANCE    = Double.parseDouble(BASELINE.getProperty("tolerance.alloc", "1.3"));
+        final double RETAINED_TOLERANCE = Double.parseDouble(BASELINE.getProperty("tolerance.retained", "1.3"));
+        int          regressions        = 0;
+        int          missing            = 0;
+        System.out.println(String.format(Locale.US, "%-28s %12s %12s %14s %14s  %s", "Skin", "Median [ms]", "P95 [ms]", "Alloc [kB/upd]", "Retained [kB]", "Status"));
+        for (Result result : results) {
+            String status;
+            if (null != result.error) {
+                status = "ERROR " + result.error;
+                regressions++;
+            } else if (null == BASELINE.getProperty(result.name + ".pulse")) {
+                status = "no baseline";
+                missing++;
+            } else {
+                List<String> exceeded = new ArrayList<>();
+                check(BASELINE, result.name + ".pulse", result.pulseMedian, PULSE_TOLERANCE, MIN_PULSE_DELTA, exceeded);
+                check(BASELINE, result.name + ".alloc", result.alloc, ALLOC_TOLERANCE, MIN_ALLOC_DELTA, exceeded);
+                check(BASELINE, result.name + ".retained", result.retained, RETAINED_TOLERANCE, MIN_HEAP_DELTA, exceeded);
+                status = exceeded.isEmpty() ? "ok" : "REGRESSION " + String.join(", ", exceeded);
+                if (!exceeded.isEmpty()) { regressions++; }
+            }
+            System.out.println(String.format(Locale.US, "%-28s %12.3f %12.3f %14.3f %14.3f  %s", result.name, result.pulseMedian, result.pulseP95, result.alloc, result.retained, status));
+        }
+
+        if (null != RESULT_FILE) { store(RESULT_FILE, results, BASELINE); }
+        if (UPDATE_BASELINE) {
+            store(BASELINE_FILE, results, BASELINE);
+            System.out.println("Baseline written to " + BASELINE_FILE);
+        } else {
+            if (missing > 0) { System.out.println(missing + " skin(s) without baseline, record one with gradlew PerformanceRegression -PupdateBaseline"); }
+            if (regressions > 0) { System.out.println(regressions + " skin(s) regressed"); }
+            if (missing > 0 || regressions > 0) { System.exit(1); }
+        }
+    }
+
+    private static Gauge createGauge(final SkinType SKIN_TYPE) {
+        return GaugeBuilder.create()
+                           .skinType(SKIN_TYPE)
+                           .prefSize(SIZE, SIZE)
+                           .title("Title")
+                           .unit("Unit")
+                           .sectionsVisible(true)
+                           .sections(new Section(0, 60, Color.LIME), new Section(60, 85, Color.YELLOW), new Section(85, 100, Color.RED))
+                           .animated(true)
+                           .animationDuration(PULSES_PER_UPDATE * 16)
+                           .build();
+    }
+
+    private static Clock createClock(final ClockSkinType SKIN_TYPE) {
+        return ClockBuilder.create()
+                           .skinType(SKIN_TYPE)
+                           .prefSize(SIZE, SIZE)
+                           .title("Title")
+                           .secondsVisible(true)
+                           .animated(true)
+                           .animationDuration(PULSES_PER_UPDATE * 16)
+                           .build();
+    }
+
+    private static Result measure(final String NAME, final Supplier<Region> FACTORY, final Consumer<Region> UPDATER, final int NO_OF_INSTANCES, final int NO_OF_UPDATES) throws InterruptedException {
+        final Region[] NODES = new Region[NO_OF_INSTANCES];
+        try {
+            final long HEAP_BEFORE = usedHeap();
+            runAndWait(() -> {
+                for (int i = 0 ; i < NO_OF_INSTANCES ; i++) { NODES[i] = FACTORY.get(); }
+                pane.getChildren().setAll(NODES);
+            });
+            Thread.sleep(SETTLE_PULSES * 17);
+            runAndWait(() -> {});
+            final double RETAINED = (usedHeap() - HEAP_BEFORE) / 1024.0 / NO_OF_INSTANCES;
+
+            final Driver DRIVER = new Driver(NODES, UPDATER, NO_OF_UPDATES);
+            runAndWait(() -> {
+                scene.addPostLayoutPulseListener(DRIVER);
+                DRIVER.start();
+            });
+            final boolean FINISHED = DRIVER.done.await(2, TimeUnit.MINUTES);
+            runAndWait(() -> {
+                DRIVER.stop();
+                scene.removePostLayoutPulseListener(DRIVER);
+            });
+            if (!FINISHED) { return new Result(NAME, "timeout"); }
+
+            final long[] DURATIONS = Arrays.copyOf(DRIVER.durations, DRIVER.noOfDurations);
+            Arrays.sort(DURATIONS);
+            final double MEDIAN = DURATIONS.length == 0 ? 0 : DURATIONS[DURATIONS.length / 2] / 1_000_000.0;
+            final double P95    = DURATIONS.length == 0 ? 0 : DURATIONS[(int) Math.min(DURATIONS.length - 1, Math.ceil(DURATIONS.length * 0.95))] / 1_000_000.0;
+            final double ALLOC  = (DRIVER.allocEnd - DRIVER.allocStart) / 1024.0 / NO_OF_UPDATES / NO_OF_INSTANCES;
+            return new Result(NAME, MEDIAN, P95, ALLOC, RETAINED);
+        } catch (RuntimeException e) {
+            return new Result(NAME, e.toString());
+        } finally {
+            runAndWait(() -> pane.getChildren().clear());
+        }
+    }
+
+    private static void check(final Properties BASELINE, final String KEY, final double VALUE, final double TOLERANCE, final double MIN_DELTA, final List<String> EXCEEDED) {
+        final String PROPERTY = BASELINE.getProperty(KEY);
+        if (null == PROPERTY) { return; }
+        final double REFERENCE = Double.parseDouble(PROPERTY);
+        if (VALUE > REFERENCE * TOLERANCE && VALUE - REFERENCE > MIN_DELTA) {
+            EXCEEDED.add(String.format(Locale.US, "%s %.3f > %.3f", KEY.substring(KEY.lastIndexOf('.') + 1), VALUE, REFERENCE));
+        }
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        for (int i = 0 ; i < 3 ; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static Properties load(final Path FILE) throws IOException {
+        Properties properties = new Properties();
+        if (Files.exists(FILE)) {
+            try (BufferedReader reader = Files.newBufferedReader(FILE, StandardCharsets.UTF_8)) { properties.load(reader); }
+        }
+        return properties;
+    }
+
+    private static void store(final Path FILE, final List<Result> RESULTS, final Properties BASELINE) throws IOException {
+        if (null != FILE.getParent()) { Files.createDirectories(FILE.getParent()); }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(FILE, StandardCharsets.UTF_8))) {
+            writer.println("# Baseline of the PerformanceRegression suite, the values are upper limits per skin");
+            writer.println("# pulse: median pulse duration [ms], alloc: allocation per update and instance [kB], retained: heap per instance [kB]");
+            writer.println("# A value regressed if it exceeds baseline * tolerance");
+            writer.println("# Record the values per skin on the build machine with: gradlew PerformanceRegression -PupdateBaseline");
+            for (String key : new TreeSet<>(BASELINE.stringPropertyNames())) {
+                if (key.startsWith("tolerance.")) { writer.println(key + "=" + BASELINE.getProperty(key)); }
+            }
+            for (Result result : RESULTS) {
+                if (null != result.error) { continue; }
+                writer.println(String.format(Locale.US, "%s.pulse=%.3f", result.name, result.pulseMedian));
+                writer.println(String.format(Locale.US, "%s.alloc=%.3f", result.name, result.alloc));
+                writer.println(String.format(Locale.US, "%s.retained=%.3f", result.name, result.retained));
+            }
+        }
+    }
+
+    private static void runAndWait(final Runnable RUNNABLE) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                RUNNABLE.run();
+            } finally {
+                latch.countDown();
+            }
+        });
+        latch.await();
+    }
+
+    private static long allocatedBytes() { return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()); }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * Sets new values every PULSES_PER_UPDATE pulses and measures the time
+     * from the start of each pulse until its layout pass is finished.
+     */
+    private static class Driver extends AnimationTimer implements Runnable {
+        private final Region[]         nodes;
+        private final Consumer<Region> updater;
+        private final int              noOfUpdates;
+        private final long[]           durations;
+        private final CountDownLatch   done;
+        private       int              noOfDurations;
+        private       int              pulse;
+        private       long             pulseStart;
+        private       long             allocStart;
+        private       long             allocEnd;
+
+
+        // ******************** Constructors **********************************
+        Driver(final Region[] NODES, final Consumer<Region> UPDATER, final int NO_OF_UPDATES) {
+            nodes       = NODES;
+            updater     = UPDATER;
+            noOfUpdates = NO_OF_UPDATES;
+            durations   = new long[NO_OF_UPDATES * PULSES_PER_UPDATE];
+            done        = new CountDownLatch(1);
+        }
+
+
+        // ******************** Methods ***************************************
+        @Override public void handle(final long NOW) {
+            pulseStart = NOW;
+            if (0 == pulse) { allocStart = allocatedBytes(); }
+            if (pulse < noOfUpdates * PULSES_PER_UPDATE && 0 == pulse % PULSES_PER_UPDATE) {
+                for (Region node : nodes) { updater.accept(node); }
+            }
+            pulse++;
+            if (pulse == noOfUpdates * PULSES_PER_UPDATE + SETTLE_PULSES) {
+                allocEnd = allocatedBytes();
+                stop();
+                done.countDown();
+            }
+        }
+
+        // Called after the layout pass of each pulse
+        @Override public void run() {
+            if (pulse > 0 && pulse <= durations.length && noOfDurations < durations.length) { durations[noOfDurations++] = System.nanoTime() - pulseStart; }
+        }
+    }
+
+    private static class Result {
+        private final String name;
+        private final double pulseMedian;
+        private final double pulseP95;
+        private final double alloc;
+        private final double retained;
+        private final String error;
+
+
+        // ******************** Constructors **********************************
+        Result(final String NAME, final double PULSE_MEDIAN, final double PULSE_P95, final double ALLOC, final double RETAINED) {
+            name        = NAME;
+            pulseMedian = PULSE_MEDIAN;
+            pulseP95    = PULSE_P95;
+            alloc       = ALLOC;
+            retained    = RETAINED;
+            error       = null;
+        }
+        Result(final String NAME, final String ERROR) {
+            name        = NAME;
+            pulseMedian = 0;
+            pulseP95    = 0;
+            alloc       = 0;
+            retained    = 0;
+            error       = ERROR;
+        }
+    }
+}
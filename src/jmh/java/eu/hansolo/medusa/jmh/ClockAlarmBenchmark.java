@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.jmh;
+
+import eu.hansolo.medusa.Alarm;
+import eu.hansolo.medusa.Alarm.Repetition;
+import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.ClockBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.time.ZonedDateTime;
+
+
+/**
+ * Clock.checkAlarms() which is called on every tick of a clock with
+ * enabled alarms. The alarms repeat on different days, hours and minutes
+ * so that none of them fires while the time moves forward second by
+ * second. The method is private and will be called by a MethodHandle.
+ */
+@State(Scope.Thread)
+public class ClockAlarmBenchmark {
+    private static final Repetition[] REPETITIONS = { Repetition.HALF_HOURLY, Repetition.HOURLY, Repetition.DAILY, Repetition.WEEKLY };
+    @Param({ "1", "10", "100" })
+    public               int          noOfAlarms;
+    private              Clock        clock;
+    private              MethodHandle checkAlarms;
+    private              ZonedDateTime time;
+
+
+    // ******************** Methods *******************************************
+    @Setup public void setup() throws Exception {
+        FxPlatform.start();
+        time  = ZonedDateTime.now().withHour(12).withMinute(0).withSecond(0).withNano(0);
+        clock = ClockBuilder.create().time(time).alarmsEnabled(true).build();
+        for (int i = 0 ; i < noOfAlarms ; i++) {
+            final ZonedDateTime ALARM_TIME = time.minusDays(1 + i % 6).plusHours(1 + i % 10).plusMinutes(1 + i % 29).withSecond(59 - i % 60);
+            clock.getAlarms().add(new Alarm(REPETITIONS[i % REPETITIONS.length], ALARM_TIME, true, "Alarm " + i));
+        }
+        final Method METHOD = Clock.class.getDeclaredMethod("checkAlarms", ZonedDateTime.class);
+        METHOD.setAccessible(true);
+        checkAlarms = MethodHandles.lookup().unreflect(METHOD);
+    }
+
+    @Benchmark public ZonedDateTime checkAlarms() throws Throwable {
+        time = time.plusSeconds(1);
+        checkAlarms.invoke(clock, time);
+        return time;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.jmh;
+
+import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.Clock.ClockSkinType;
+import eu.hansolo.medusa.ClockBuilder;
+import eu.hansolo.medusa.events.UpdateEvent;
+import eu.hansolo.medusa.events.UpdateEvent.EventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * redraw() and resize() of the skin of every Clock.ClockSkinType. A redraw
+ * is triggered by a REDRAW event, a resize by toggling the size of the
+ * clock by one pixel which leads to resize() followed by redraw().
+ */
+@State(Scope.Thread)
+public class ClockSkinBenchmark {
+    @Param
+    public  ClockSkinType skinType;
+    @Param({ "250" })
+    public  int           size;
+    private Clock         clock;
+    private UpdateEvent   redrawEvent;
+    private boolean       toggle;
+
+
+    // ******************** Methods *******************************************
+    @Setup public void setup() {
+        FxPlatform.start();
+        clock = ClockBuilder.create()
+                            .skinType(skinType)
+                            .title("Title")
+                            .secondsVisible(true)
+                            .dateVisible(true)
+                            .build();
+        clock.resize(size, size);
+        redrawEvent = new UpdateEvent(clock, EventType.REDRAW);
+    }
+
+    @Benchmark public Clock redraw() {
+        clock.fireUpdateEvent(redrawEvent);
+        return clock;
+    }
+
+    @Benchmark public Clock resize() {
+        toggle = !toggle;
+        final double SIZE = toggle ? size + 1 : size;
+        clock.resize(SIZE, SIZE);
+        return clock;
+    }
+}
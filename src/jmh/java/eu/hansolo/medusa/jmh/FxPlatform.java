@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.jmh;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.CountDownLatch;
+
+
+/**
+ * Starts the JavaFX platform once per forked benchmark JVM. The gradle jmh
+ * task runs the benchmarks with the headless Monocle platform and the
+ * software pipeline so they also run on build servers without a display.
+ * The controls that are benchmarked are not part of a shown scene and can
+ * therefore be used on the benchmark thread without the detour over the
+ * JavaFX application thread.
+ */
+final class FxPlatform {
+    private static boolean started = false;
+
+
+    // ******************** Constructors **************************************
+    private FxPlatform() {}
+
+
+    // ******************** Methods *******************************************
+    static synchronized void start() {
+        if (started) { return; }
+        final CountDownLatch LATCH = new CountDownLatch(1);
+        try {
+            Platform.startup(LATCH::countDown);
+            LATCH.await();
+        } catch (IllegalStateException e) {
+            // Platform is already running
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Platform.setImplicitExit(false);
+        started = true;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.jmh;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.GaugeBuilder;
+import eu.hansolo.medusa.Section;
+import eu.hansolo.medusa.events.UpdateEvent;
+import eu.hansolo.medusa.events.UpdateEvent.EventType;
+import javafx.scene.paint.Color;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * redraw() and resize() of the skin of every Gauge.SkinType. A redraw is
+ * triggered by a REDRAW event, a resize by toggling the size of the gauge
+ * by one pixel which leads to resize() followed by redraw() in most skins.
+ */
+@State(Scope.Thread)
+public class GaugeSkinBenchmark {
+    @Param
+    public  SkinType    skinType;
+    @Param({ "250" })
+    public  int         size;
+    private Gauge       gauge;
+    private UpdateEvent redrawEvent;
+    private boolean     toggle;
+
+
+    // ******************** Methods *******************************************
+    @Setup public void setup() {
+        FxPlatform.start();
+        gauge = GaugeBuilder.create()
+                            .skinType(skinType)
+                            .title("Title")
+                            .unit("Unit")
+                            .sections(new Section(0, 60, Color.LIME), new Section(60, 85, Color.YELLOW), new Section(85, 100, Color.RED))
+                            .sectionsVisible(true)
+                            .value(42)
+                            .build();
+        gauge.resize(size, size);
+        redrawEvent = new UpdateEvent(gauge, EventType.REDRAW);
+    }
+
+    @Benchmark public Gauge redraw() {
+        gauge.fireUpdateEvent(redrawEvent);
+        return gauge;
+    }
+
+    @Benchmark public Gauge resize() {
+        toggle = !toggle;
+        final double SIZE = toggle ? size + 1 : size;
+        gauge.resize(SIZE, SIZE);
+        return gauge;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.jmh;
+
+import eu.hansolo.medusa.tools.ConicalGradient;
+import eu.hansolo.medusa.tools.GradientLookup;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Stop;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Color lookup of GradientLookup and rasterization of ConicalGradient. The
+ * ConicalGradient caches the last image, so every invocation rasterizes a
+ * new gradient.
+ */
+@State(Scope.Thread)
+public class GradientBenchmark {
+    private static final Stop[]         STOPS = { new Stop(0.0, Color.BLUE), new Stop(0.25, Color.CYAN), new Stop(0.5, Color.LIME),
+                                                  new Stop(0.75, Color.YELLOW), new Stop(1.0, Color.RED) };
+    @Param({ "100", "250", "500" })
+    public               int            size;
+    private              GradientLookup gradientLookup;
+    private              double         position;
+
+
+    // ******************** Methods *******************************************
+    @Setup public void setup() {
+        FxPlatform.start();
+        gradientLookup = new GradientLookup(STOPS);
+    }
+
+    @Benchmark public Color getColorAt() {
+        position += 0.001;
+        if (position > 1) { position = 0; }
+        return gradientLookup.getColorAt(position);
+    }
+
+    @Benchmark public Image conicalGradientGetImage() { return new ConicalGradient(STOPS).getImage(size, size); }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.jmh;
+
+import eu.hansolo.medusa.tools.Helper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Locale;
+import java.util.Random;
+
+
+/**
+ * Number formatting and scale calculation of Helper.
+ */
+@State(Scope.Thread)
+public class HelperBenchmark {
+    private static final int      NO_OF_VALUES = 1024;
+    private              double[] values;
+    private              int      index;
+
+
+    // ******************** Methods *******************************************
+    @Setup public void setup() {
+        final Random RND = new Random(42);
+        values = new double[NO_OF_VALUES];
+        for (int i = 0 ; i < NO_OF_VALUES ; i++) { values[i] = RND.nextDouble() * 2000 - 1000; }
+    }
+
+    @Benchmark public String formatNumber() { return Helper.formatNumber(Locale.US, "%.2f", 2, nextValue()); }
+
+    @Benchmark public String formatNumberMinMax() { return Helper.formatNumber(Locale.US, -1000, 1000, 2, nextValue()); }
+
+    @Benchmark public double calcNiceNumber() { return Helper.calcNiceNumber(Math.abs(nextValue()) + 1, true); }
+
+    @Benchmark public double[] calcAutoScale() {
+        final double VALUE = nextValue();
+        return Helper.calcAutoScale(VALUE, VALUE + 100);
+    }
+
+    private double nextValue() { return values[index++ & (NO_OF_VALUES - 1)]; }
+}
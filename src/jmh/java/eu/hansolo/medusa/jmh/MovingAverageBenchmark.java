@@ -0,0 +1,65 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.jmh;
+
+import eu.hansolo.medusa.tools.Data;
+import eu.hansolo.medusa.tools.MovingAverage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+
+/**
+ * Adding values to and reading the average of a filled MovingAverage for
+ * different periods.
+ */
+@State(Scope.Thread)
+public class MovingAverageBenchmark {
+    private static final int           NO_OF_VALUES = 1024;
+    @Param({ "10", "100", "1000", "10000" })
+    public               int           period;
+    private              MovingAverage movingAverage;
+    private              Data[]        data;
+    private              int           index;
+
+
+    // ******************** Methods *******************************************
+    @Setup public void setup() {
+        final Random RND = new Random(42);
+        data = new Data[NO_OF_VALUES];
+        for (int i = 0 ; i < NO_OF_VALUES ; i++) { data[i] = new Data(RND.nextDouble() * 100); }
+        movingAverage = new MovingAverage(period);
+        for (int i = 0 ; i < period ; i++) { movingAverage.addData(data[i % NO_OF_VALUES]); }
+    }
+
+    @Benchmark public MovingAverage addData() {
+        movingAverage.addData(data[index++ & (NO_OF_VALUES - 1)]);
+        return movingAverage;
+    }
+
+    @Benchmark public double getAverage() { return movingAverage.getAverage(); }
+
+    @Benchmark public double addDataAndGetAverage() {
+        movingAverage.addData(data[index++ & (NO_OF_VALUES - 1)]);
+        return movingAverage.getAverage();
+    }
+}
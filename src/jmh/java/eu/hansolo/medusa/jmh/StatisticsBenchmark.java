@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.jmh;
+
+import eu.hansolo.medusa.tools.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+/**
+ * The methods of Statistics for different sizes of data. Because
+ * getMedian() sorts the given list, it works on a fresh copy of the
+ * unsorted data in each invocation.
+ */
+@State(Scope.Thread)
+public class StatisticsBenchmark {
+    @Param({ "100", "10000" })
+    public  int          size;
+    private List<Double> data;
+
+
+    // ******************** Methods *******************************************
+    @Setup public void setup() {
+        final Random RND = new Random(42);
+        data = new ArrayList<>(size);
+        for (int i = 0 ; i < size ; i++) { data.add(RND.nextDouble() * 100); }
+    }
+
+    @Benchmark public double getMean() { return Statistics.getMean(data); }
+
+    @Benchmark public double getStdDev() { return Statistics.getStdDev(data); }
+
+    @Benchmark public double getMedian() { return Statistics.getMedian(new ArrayList<>(data)); }
+
+    @Benchmark public double getMin() { return Statistics.getMin(data); }
+
+    @Benchmark public double getMax() { return Statistics.getMax(data); }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.jmh;
+
+import eu.hansolo.medusa.GaugeModel;
+import eu.hansolo.medusa.GaugeModel.Range;
+import eu.hansolo.medusa.Marker;
+import eu.hansolo.medusa.Section;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+/**
+ * Checking a value against the sections and markers of a gauge, once in
+ * the way the Gauge does it with Section and Marker objects and once with
+ * the headless GaugeModel.
+ */
+@State(Scope.Thread)
+public class ValueCheckBenchmark {
+    private static final int           NO_OF_VALUES = 1024;
+    @Param({ "4", "16", "64" })
+    public               int           count;
+    private              List<Section> sections;
+    private              List<Marker>  markers;
+    private              GaugeModel    model;
+    private              double[]      values;
+    private              int           index;
+
+
+    // ******************** Methods *******************************************
+    @Setup public void setup() {
+        final Random RND   = new Random(42);
+        final double WIDTH = 100.0 / count;
+        values   = new double[NO_OF_VALUES];
+        sections = new ArrayList<>(count);
+        markers  = new ArrayList<>(count);
+        final Range[]  RANGES  = new Range[count];
+        final double[] MARKERS = new double[count];
+        for (int i = 0 ; i < NO_OF_VALUES ; i++) { values[i] = RND.nextDouble() * 100; }
+        for (int i = 0 ; i < count ; i++) {
+            sections.add(new Section(i * WIDTH, (i + 1) * WIDTH));
+            markers.add(new Marker(i * WIDTH + WIDTH * 0.5, "M" + i));
+            RANGES[i]  = new Range(i * WIDTH, (i + 1) * WIDTH);
+            MARKERS[i] = i * WIDTH + WIDTH * 0.5;
+        }
+        model = new GaugeModel(0, 100);
+        model.setSections(RANGES);
+        model.setMarkers(MARKERS);
+        model.setCheckSectionsForValue(true);
+        model.setCheckMarkers(true);
+    }
+
+    @Benchmark public void checkSections() {
+        final double VALUE = nextValue();
+        for (int i = 0 ; i < count ; i++) { sections.get(i).checkForValue(VALUE); }
+    }
+
+    @Benchmark public void checkMarkers() {
+        final double VALUE = nextValue();
+        for (int i = 0 ; i < count ; i++) { markers.get(i).checkForValue(VALUE); }
+    }
+
+    @Benchmark public double gaugeModelSetValue() {
+        model.setValue(nextValue());
+        return model.getCurrentValue();
+    }
+
+    private double nextValue() { return values[index++ & (NO_OF_VALUES - 1)]; }
+}
@@ -0,0 +1,400 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.events.GaugeModelEvent;
+import eu.hansolo.medusa.events.GaugeModelEvent.EventType;
+import eu.hansolo.medusa.events.GaugeModelEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+
+/**
+ * Evaluates the values of many GaugeModels in parallel without JavaFX.
+ * Each registered model gets a signal id, values are ingested in batches
+ * of primitive arrays and the models are split into shards that are
+ * evaluated on a ForkJoinPool. The models are kept in an array indexed by
+ * their signal id and no listener will be added to them, the shard that
+ * evaluates a model collects its events. Sparse batches are split into
+ * one slice per shard before they are evaluated. Every model is only
+ * touched by one thread per batch and the batches are evaluated one after
+ * the other, so the models see the values in the order they were ingested.
+ * The threshold, section, area and marker transitions of a batch are
+ * collected in primitive arrays and delivered as one Transitions object
+ * per batch. With setCallbackExecutor(Platform::runLater) the listeners
+ * will be called on the JavaFX application thread, which makes it easy
+ * to update gauges from the transitions.
+ */
+public class AlertEngine {
+    private static final int                       MIN_PARALLEL_BATCH = 4096;
+    private        final ForkJoinPool              pool;
+    private        final Shard[]                   shards;
+    private        final List<Callable<Void>>      tasks;
+    private        final Transitions               transitions;
+    private        final List<TransitionListener>  listenerList;
+    private              GaugeModel[]              models;
+    private              int[]                     slices;
+    private              int[]                     sliceStarts;
+    private              int                       noOfModels;
+    private              Executor                  callbackExecutor;
+    private              long                      noOfValues;
+    private              long                      noOfTransitions;
+
+
+    // ******************** Constructors **************************************
+    public AlertEngine() {
+        this(ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors());
+    }
+    /**
+     * @param POOL         the pool that will be used to evaluate the shards
+     * @param NO_OF_SHARDS the number of shards the models will be split into
+     */
+    public AlertEngine(final ForkJoinPool POOL, final int NO_OF_SHARDS) {
+        if (NO_OF_SHARDS < 1) { throw new IllegalArgumentException("At least one shard is needed"); }
+        pool         = POOL;
+        shards       = new Shard[NO_OF_SHARDS];
+        tasks        = new ArrayList<>(NO_OF_SHARDS);
+        transitions  = new Transitions();
+        listenerList = new CopyOnWriteArrayList<>();
+        models       = new GaugeModel[64];
+        slices       = new int[0];
+        sliceStarts  = new int[NO_OF_SHARDS + 1];
+        noOfModels   = 0;
+        for (int i = 0 ; i < NO_OF_SHARDS ; i++) {
+            shards[i] = new Shard(i);
+            tasks.add(shards[i]);
+        }
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Adds the given model to the engine. A model should only be
+     * registered in one engine and should not be changed while a batch
+     * is evaluated.
+     * @param MODEL the model
+     * @return the signal id of the model which is the index of its values in a dense batch
+     */
+    public synchronized int register(final GaugeModel MODEL) {
+        if (noOfModels == models.length) { models = Arrays.copyOf(models, models.length * 2); }
+        final int SIGNAL_ID = noOfModels++;
+        models[SIGNAL_ID] = MODEL;
+        return SIGNAL_ID;
+    }
+
+    /**
+     * Creates a new model for the given range and registers it
+     * @param MIN_VALUE
+     * @param MAX_VALUE
+     * @return the signal id of the new model
+     */
+    public int register(final double MIN_VALUE, final double MAX_VALUE) { return register(new GaugeModel(MIN_VALUE, MAX_VALUE)); }
+
+    public synchronized GaugeModel getModel(final int SIGNAL_ID) {
+        if (SIGNAL_ID < 0 || SIGNAL_ID >= noOfModels) { throw new IndexOutOfBoundsException("Unknown signal id " + SIGNAL_ID); }
+        return models[SIGNAL_ID];
+    }
+
+    public synchronized int getNoOfModels() { return noOfModels; }
+
+    public int getNoOfShards() { return shards.length; }
+
+    /**
+     * @return the number of values that were evaluated since the last reset
+     */
+    public synchronized long getNoOfValues() { return noOfValues; }
+
+    /**
+     * @return the number of transitions that were found since the last reset
+     */
+    public synchronized long getNoOfTransitions() { return noOfTransitions; }
+
+    public synchronized void resetMetrics() {
+        noOfValues      = 0;
+        noOfTransitions = 0;
+    }
+
+    /**
+     * Defines the executor the listeners will be called with. If null the
+     * listeners will be called on the thread that ingested the batch with
+     * a Transitions object that is only valid during the call, otherwise
+     * they will be called with a copy (e.g. use Platform::runLater).
+     * @param EXECUTOR
+     */
+    public synchronized void setCallbackExecutor(final Executor EXECUTOR) { callbackExecutor = EXECUTOR; }
+
+    /**
+     * Evaluates a dense batch where VALUES[i] is the new value of the
+     * signal with the id i. Signals with a value of NaN will be skipped.
+     * Blocks until the whole batch was evaluated.
+     * @param VALUES the new values, must not be longer than the number of models
+     */
+    public synchronized void ingest(final double[] VALUES) {
+        final int LENGTH = VALUES.length;
+        if (LENGTH > noOfModels) { throw new IllegalArgumentException("Batch contains more values than models are registered"); }
+        for (Shard shard : shards) { shard.prepare(null, VALUES, LENGTH, 0, 0); }
+        evaluate(LENGTH);
+    }
+
+    /**
+     * Evaluates a sparse batch where VALUES[i] is the new value of the
+     * signal with the id SIGNAL_IDS[i]. Values of the same signal will be
+     * evaluated in the order of the batch, values of NaN will be skipped.
+     * Blocks until the whole batch was evaluated.
+     * @param SIGNAL_IDS the ids of the signals
+     * @param VALUES     the new values
+     * @param LENGTH     the number of entries in the batch
+     */
+    public synchronized void ingest(final int[] SIGNAL_IDS, final double[] VALUES, final int LENGTH) {
+        if (LENGTH > SIGNAL_IDS.length || LENGTH > VALUES.length) { throw new IllegalArgumentException("Length exceeds the arrays"); }
+        for (int i = 0 ; i < LENGTH ; i++) {
+            if (SIGNAL_IDS[i] < 0 || SIGNAL_IDS[i] >= noOfModels) { throw new IndexOutOfBoundsException("Unknown signal id " + SIGNAL_IDS[i]); }
+        }
+        split(SIGNAL_IDS, LENGTH);
+        for (int i = 0 ; i < shards.length ; i++) { shards[i].prepare(SIGNAL_IDS, VALUES, LENGTH, sliceStarts[i], sliceStarts[i + 1]); }
+        evaluate(LENGTH);
+    }
+
+    /**
+     * Sorts the positions of the entries of a sparse batch by shard (signal
+     * id modulo the number of shards). The positions of shard i will be in
+     * slices[sliceStarts[i]] to slices[sliceStarts[i + 1] - 1] in the order
+     * of the batch.
+     */
+    private void split(final int[] SIGNAL_IDS, final int LENGTH) {
+        final int NO_OF_SHARDS = shards.length;
+        if (slices.length < LENGTH) { slices = new int[Math.max(LENGTH, slices.length * 2)]; }
+        Arrays.fill(sliceStarts, 0);
+        for (int i = 0 ; i < LENGTH ; i++) { sliceStarts[SIGNAL_IDS[i] % NO_OF_SHARDS + 1]++; }
+        for (int i = 0 ; i < NO_OF_SHARDS ; i++) { sliceStarts[i + 1] += sliceStarts[i]; }
+        final int[] NEXT = Arrays.copyOf(sliceStarts, NO_OF_SHARDS);
+        for (int i = 0 ; i < LENGTH ; i++) { slices[NEXT[SIGNAL_IDS[i] % NO_OF_SHARDS]++] = i; }
+    }
+
+    private void evaluate(final int LENGTH) {
+        if (LENGTH < MIN_PARALLEL_BATCH || shards.length == 1) {
+            for (Shard shard : shards) { shard.call(); }
+        } else {
+            try {
+                for (Future<Void> future : pool.invokeAll(tasks)) { future.get(); }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Evaluation was interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Evaluation failed", e.getCause());
+            }
+        }
+        noOfValues += LENGTH;
+
+        transitions.clear();
+        for (Shard shard : shards) {
+            transitions.addAll(shard.buffer);
+            shard.release();
+        }
+        if (0 == transitions.size()) { return; }
+        noOfTransitions += transitions.size();
+        fireTransitions();
+    }
+
+
+    // ******************** Event handling ************************************
+    public void addTransitionListener(final TransitionListener LISTENER) { if (!listenerList.contains(LISTENER)) listenerList.add(LISTENER); }
+    public void removeTransitionListener(final TransitionListener LISTENER) { listenerList.remove(LISTENER); }
+
+    private void fireTransitions() {
+        if (listenerList.isEmpty()) { return; }
+        if (null == callbackExecutor) {
+            for (TransitionListener listener : listenerList) { listener.onTransitions(transitions); }
+        } else {
+            final Transitions COPY = transitions.copy();
+            callbackExecutor.execute(() -> {
+                for (TransitionListener listener : listenerList) { listener.onTransitions(COPY); }
+            });
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    @FunctionalInterface
+    public interface TransitionListener {
+        void onTransitions(final Transitions TRANSITIONS);
+    }
+
+    /**
+     * The transitions of one batch stored in primitive arrays
+     */
+    public static final class Transitions {
+        private static final EventType[] TYPES = EventType.values();
+        private int[]    signalIds;
+        private byte[]   types;
+        private int[]    indices;
+        private double[] values;
+        private int      size;
+
+
+        // ******************** Constructors **********************************
+        Transitions() { this(16); }
+        private Transitions(final int CAPACITY) {
+            signalIds = new int[CAPACITY];
+            types     = new byte[CAPACITY];
+            indices   = new int[CAPACITY];
+            values    = new double[CAPACITY];
+            size      = 0;
+        }
+
+
+        // ******************** Methods ***************************************
+        public int size() { return size; }
+
+        /**
+         * @return the signal id of the model that fired the transition at the given position
+         */
+        public int getSignalId(final int I) { return signalIds[checkIndex(I)]; }
+
+        public EventType getType(final int I) { return TYPES[types[checkIndex(I)]]; }
+
+        /**
+         * @return the index of the section, area or marker or -1 for threshold transitions
+         */
+        public int getIndex(final int I) { return indices[checkIndex(I)]; }
+
+        /**
+         * @return the value that led to the transition
+         */
+        public double getValue(final int I) { return values[checkIndex(I)]; }
+
+        /**
+         * @return a copy that can be kept after the listener returned
+         */
+        public Transitions copy() {
+            final Transitions COPY = new Transitions(Math.max(1, size));
+            COPY.addAll(this);
+            return COPY;
+        }
+
+        private int checkIndex(final int I) {
+            if (I < 0 || I >= size) { throw new IndexOutOfBoundsException("Index " + I + " size " + size); }
+            return I;
+        }
+
+        void add(final int SIGNAL_ID, final GaugeModelEvent EVENT) {
+            ensureCapacity(size + 1);
+            signalIds[size] = SIGNAL_ID;
+            types[size]     = (byte) EVENT.eventType.ordinal();
+            indices[size]   = EVENT.index;
+            values[size]    = EVENT.value;
+            size++;
+        }
+
+        void addAll(final Transitions OTHER) {
+            if (0 == OTHER.size) { return; }
+            ensureCapacity(size + OTHER.size);
+            System.arraycopy(OTHER.signalIds, 0, signalIds, size, OTHER.size);
+            System.arraycopy(OTHER.types, 0, types, size, OTHER.size);
+            System.arraycopy(OTHER.indices, 0, indices, size, OTHER.size);
+            System.arraycopy(OTHER.values, 0, values, size, OTHER.size);
+            size += OTHER.size;
+        }
+
+        void clear() { size = 0; }
+
+        private void ensureCapacity(final int CAPACITY) {
+            if (CAPACITY <= signalIds.length) { return; }
+            final int NEW_CAPACITY = Math.max(CAPACITY, signalIds.length * 2);
+            signalIds = Arrays.copyOf(signalIds, NEW_CAPACITY);
+            types     = Arrays.copyOf(types, NEW_CAPACITY);
+            indices   = Arrays.copyOf(indices, NEW_CAPACITY);
+            values    = Arrays.copyOf(values, NEW_CAPACITY);
+        }
+    }
+
+    /**
+     * Evaluates the part of a batch that belongs to one shard and collects
+     * the events of the models it evaluates. Dense batches are split into
+     * contiguous ranges, sparse batches into the slices of the positions
+     * of the signals with an id modulo the number of shards equal to the
+     * index of the shard.
+     */
+    private final class Shard implements Callable<Void>, GaugeModelEventListener {
+        private final int         index;
+        private final Transitions buffer;
+        private       int[]       signalIds;
+        private       double[]    values;
+        private       int         length;
+        private       int         sliceFrom;
+        private       int         sliceTo;
+        private       int         signalId;
+
+
+        // ******************** Constructors **********************************
+        Shard(final int INDEX) {
+            index  = INDEX;
+            buffer = new Transitions();
+        }
+
+
+        // ******************** Methods ***************************************
+        void prepare(final int[] SIGNAL_IDS, final double[] VALUES, final int LENGTH, final int SLICE_FROM, final int SLICE_TO) {
+            signalIds = SIGNAL_IDS;
+            values    = VALUES;
+            length    = LENGTH;
+            sliceFrom = SLICE_FROM;
+            sliceTo   = SLICE_TO;
+            buffer.clear();
+        }
+
+        void release() {
+            signalIds = null;
+            values    = null;
+        }
+
+        @Override public Void call() {
+            final GaugeModel[] MODELS = models;
+            if (null == signalIds) {
+                final int FROM = (int) ((long) length * index / shards.length);
+                final int TO   = (int) ((long) length * (index + 1) / shards.length);
+                for (int i = FROM ; i < TO ; i++) {
+                    final double VALUE = values[i];
+                    if (Double.isNaN(VALUE)) { continue; }
+                    signalId = i;
+                    MODELS[i].setValue(VALUE, this);
+                }
+            } else {
+                final int[] SLICES = slices;
+                for (int i = sliceFrom ; i < sliceTo ; i++) {
+                    final int    POSITION = SLICES[i];
+                    final double VALUE    = values[POSITION];
+                    if (Double.isNaN(VALUE)) { continue; }
+                    signalId = signalIds[POSITION];
+                    MODELS[signalId].setValue(VALUE, this);
+                }
+            }
+            return null;
+        }
+
+        @Override public void onGaugeModelEvent(final GaugeModelEvent EVENT) { buffer.add(signalId, EVENT); }
+    }
+}
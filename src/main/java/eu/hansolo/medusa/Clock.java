@@ -25,12 +25,11 @@ import eu.hansolo.medusa.events.TimeEventListener;
 import eu.hansolo.medusa.events.UpdateEvent;
 import eu.hansolo.medusa.events.UpdateEvent.EventType;
 import eu.hansolo.medusa.events.UpdateEventListener;
+import eu.hansolo.medusa.jfr.FlightRecorderEvents;
 import eu.hansolo.medusa.skins.*;
+import eu.hansolo.medusa.tools.AnimationEngine;
 import eu.hansolo.medusa.tools.Helper;
 import eu.hansolo.medusa.tools.TimeSectionComparator;
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.beans.NamedArg;
 import javafx.beans.property.BooleanProperty;
@@ -62,8 +61,10 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -96,13 +97,15 @@ public class Clock extends Control {
 
     // Alarm events
     private List<UpdateEventListener>         listenerList          = new CopyOnWriteArrayList<>();
+    private Map<EventType, UpdateEvent>       batchedEvents         = new EnumMap<>(EventType.class);
+    private int                               updateDepth;
     private List<AlarmEventListener>          alarmListenerList     = new CopyOnWriteArrayList<>();
     private List<TimeEventListener>           timeEventListenerList = new CopyOnWriteArrayList<>();
 
     private ObjectProperty<ZonedDateTime>     time;
     private LongProperty                      currentTime;
     private ZoneId                            zoneId;
-    private Timeline                          timeline;
+    private AnimationEngine.Target            currentTimeAnimation;
     private int                               updateInterval;
     private ClockSkinType                     skinType;
     private String                            _title;
@@ -294,14 +297,10 @@ public class Clock extends Control {
             @Override protected void invalidated() {
                 if (!isRunning() && isAnimated()) {
                     long animationDuration = getAnimationDuration();
-                    timeline.stop();
-                    final KeyValue KEY_VALUE = new KeyValue(currentTime, TIME.toEpochSecond());
-                    final KeyFrame KEY_FRAME = new KeyFrame(javafx.util.Duration.millis(animationDuration), KEY_VALUE);
-                    timeline.getKeyFrames().setAll(KEY_FRAME);
-                    timeline.setOnFinished(e -> fireUpdateEvent(FINISHED_EVENT));
-                    timeline.play();
+                    AnimationEngine.start(currentTimeAnimation, currentTime.get(), get().toEpochSecond(), animationDuration, AnimationEngine.LINEAR);
                 } else {
-                    currentTime.set(TIME.toEpochSecond());
+                    AnimationEngine.stop(currentTimeAnimation);
+                    currentTime.set(get().toEpochSecond());
                     fireUpdateEvent(FINISHED_EVENT);
                 }
             }
@@ -314,8 +313,10 @@ public class Clock extends Control {
             @Override public String getName() { return "currentTime"; }
         };
         zoneId                  = time.get().getZone();
-        timeline                = new Timeline();
-        timeline.setOnFinished(e -> fireUpdateEvent(FINISHED_EVENT));
+        currentTimeAnimation    = new AnimationEngine.Target() {
+            @Override protected void apply(final double VALUE) { currentTime.set(Math.round(VALUE)); }
+            @Override protected void finished() { fireUpdateEvent(FINISHED_EVENT); }
+        };
         updateInterval          = LONG_INTERVAL;
         _checkSectionsForValue  = false;
         _checkAreasForValue     = false;
@@ -2047,6 +2048,7 @@ public class Clock extends Control {
      * @param TIME
      */
     private void checkAlarms(final ZonedDateTime TIME) {
+        final Object EVENT = FlightRecorderEvents.beginAlarmCheck(Clock.this, alarms.size());
         alarmsToRemove.clear();
         for (Alarm alarm : alarms) {
             final ZonedDateTime ALARM_TIME = alarm.getTime();
@@ -2105,6 +2107,7 @@ public class Clock extends Control {
         for (Alarm alarm : alarmsToRemove) {
             removeAlarm(alarm);
         }
+        FlightRecorderEvents.commit(EVENT);
     }
 
     /**
@@ -2127,6 +2130,12 @@ public class Clock extends Control {
 
     private void tick() { Platform.runLater(() -> {
         if (isAnimated()) return;
+        final Object EVENT = FlightRecorderEvents.beginClockTick(Clock.this);
+        handleTick();
+        FlightRecorderEvents.commit(EVENT);
+    }); }
+
+    private void handleTick() {
         ZonedDateTime oldTime = getTime();
         setTime(getTime().plus(Duration.ofMillis(updateInterval)));
         ZonedDateTime now = time.get();
@@ -2146,7 +2155,7 @@ public class Clock extends Control {
         if (oldTime.getSecond() != now.getSecond()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.SECOND));
         if (oldTime.getMinute() != now.getMinute()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.MINUTE));
         if (oldTime.getHour() != now.getHour()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.HOUR));
-    }); }
+    }
 
 
     // ******************** Scheduled tasks ***********************************
@@ -2219,29 +2228,34 @@ public class Clock extends Control {
 
     public ClockSkinType getSkinType() { return skinType; }
     public void setSkinType(ClockSkinType SKIN_TYPE) {
-        skinType = SKIN_TYPE;
-        switch(SKIN_TYPE) {
-            case YOTA2     : super.setSkin(new ClockSkin(Clock.this)); break;
-            case LCD       : super.setSkin(new LcdClockSkin(Clock.this)); break;
-            case PEAR      : super.setSkin(new PearClockSkin(Clock.this)); break;
-            case PLAIN     : super.setSkin(new PlainClockSkin(Clock.this)); break;
-            case DB        : super.setSkin(new DBClockSkin(Clock.this)); break;
-            case FAT       : super.setSkin(new FatClockSkin(Clock.this)); break;
-            case ROUND_LCD : super.setSkin(new RoundLcdClockSkin(Clock.this)); break;
-            case SLIM      : super.setSkin(new SlimClockSkin(Clock.this)); break;
-            case MINIMAL   : super.setSkin(new MinimalClockSkin(Clock.this)); break;
-            case DIGITAL   : super.setSkin(new DigitalClockSkin(Clock.this)); break;
-            case TEXT      : super.setSkin(new TextClockSkin(Clock.this)); break;
-            case DESIGN    : super.setSkin(new DesignClockSkin(Clock.this)); break;
-            case INDUSTRIAL: super.setSkin(new IndustrialClockSkin(Clock.this)); break;
-            case TILE      : super.setSkin(new TileClockSkin(Clock.this)); break;
-            case DIGI      : super.setSkin(new DigitalClockSkin(Clock.this)); break;
-            case MORPHING  : super.setSkin(new MorphingClockSkin(Clock.this)); break;
-            case CLOCK     :
-            default        : super.setSkin(new ClockSkin(Clock.this)); break;
+        beginUpdate();
+        try {
+            skinType = SKIN_TYPE;
+            switch(SKIN_TYPE) {
+                case YOTA2     : super.setSkin(new ClockSkin(Clock.this)); break;
+                case LCD       : super.setSkin(new LcdClockSkin(Clock.this)); break;
+                case PEAR      : super.setSkin(new PearClockSkin(Clock.this)); break;
+                case PLAIN     : super.setSkin(new PlainClockSkin(Clock.this)); break;
+                case DB        : super.setSkin(new DBClockSkin(Clock.this)); break;
+                case FAT       : super.setSkin(new FatClockSkin(Clock.this)); break;
+                case ROUND_LCD : super.setSkin(new RoundLcdClockSkin(Clock.this)); break;
+                case SLIM      : super.setSkin(new SlimClockSkin(Clock.this)); break;
+                case MINIMAL   : super.setSkin(new MinimalClockSkin(Clock.this)); break;
+                case DIGITAL   : super.setSkin(new DigitalClockSkin(Clock.this)); break;
+                case TEXT      : super.setSkin(new TextClockSkin(Clock.this)); break;
+                case DESIGN    : super.setSkin(new DesignClockSkin(Clock.this)); break;
+                case INDUSTRIAL: super.setSkin(new IndustrialClockSkin(Clock.this)); break;
+                case TILE      : super.setSkin(new TileClockSkin(Clock.this)); break;
+                case DIGI      : super.setSkin(new DigitalClockSkin(Clock.this)); break;
+                case MORPHING  : super.setSkin(new MorphingClockSkin(Clock.this)); break;
+                case CLOCK     :
+                default        : super.setSkin(new ClockSkin(Clock.this)); break;
+            }
+            fireUpdateEvent(RESIZE_EVENT);
+            presetClockParameters(skinType);
+        } finally {
+            endUpdate();
         }
-        fireUpdateEvent(RESIZE_EVENT);
-        presetClockParameters(skinType);
     }
 
     private void presetClockParameters(final ClockSkinType SKIN_TYPE) {
@@ -2392,7 +2406,41 @@ public class Clock extends Control {
     public void addUpdateEventListener(final UpdateEventListener LISTENER) { if(!listenerList.contains(LISTENER)) listenerList.add(LISTENER); }
     public void removeUpdateEventListener(final UpdateEventListener LISTENER) { if (listenerList.contains(LISTENER)) listenerList.remove(LISTENER); }
 
+    /**
+     * Starts a batch update. All update events that are fired until the
+     * matching call of endUpdate() will be collected and fired only once
+     * (per event type) when the batch ends.
+     * Calls to beginUpdate() / endUpdate() can be nested.
+     */
+    public void beginUpdate() { updateDepth++; }
+
+    /**
+     * Ends a batch update started with beginUpdate(). If this was the
+     * outermost batch, a single RECALC and REDRAW event plus every other
+     * event type that was fired during the batch will be fired once.
+     */
+    public void endUpdate() {
+        if (updateDepth == 0) { throw new IllegalStateException("endUpdate() called without beginUpdate()"); }
+        updateDepth--;
+        if (updateDepth > 0 || batchedEvents.isEmpty()) { return; }
+        batchedEvents.put(EventType.RECALC, RECALC_EVENT);
+        batchedEvents.put(EventType.REDRAW, REDRAW_EVENT);
+        UpdateEvent[] events = new UpdateEvent[UpdateEvent.BATCH_ORDER.size()];
+        for (int i = 0 ; i < events.length ; i++) { events[i] = batchedEvents.get(UpdateEvent.BATCH_ORDER.get(i)); }
+        batchedEvents.clear();
+        for (UpdateEvent event : events) { if (null != event) { fireUpdateEvent(event); } }
+    }
+
+    /**
+     * @return true if a batch update is in progress
+     */
+    public boolean isUpdating() { return updateDepth > 0; }
+
     public void fireUpdateEvent(final UpdateEvent EVENT) {
+        if (updateDepth > 0) {
+            batchedEvents.put(EVENT.eventType, EVENT);
+            return;
+        }
         int listSize = listenerList.size();
         for (int i = 0 ; i < listSize ; i++) { listenerList.get(i).onUpdateEvent(EVENT); }
     }
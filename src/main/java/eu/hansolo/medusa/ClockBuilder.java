@@ -422,10 +422,19 @@ public class ClockBuilder <B extends ClockBuilder<B>> {
     }
 
     public final Clock build() {
-        final Clock CONTROL;
+        final Clock CONTROL = properties.containsKey("skinType") ? new Clock(((ObjectProperty<ClockSkinType>) properties.get("skinType")).get()) : new Clock();
+        CONTROL.beginUpdate();
+        try {
+            apply(CONTROL);
+        } finally {
+            CONTROL.endUpdate();
+        }
+        return CONTROL;
+    }
+
+    private void apply(final Clock CONTROL) {
         if (properties.containsKey("skinType")) {
             ClockSkinType skinType = ((ObjectProperty<ClockSkinType>) properties.get("skinType")).get();
-            CONTROL = new Clock(skinType);
 
             switch(skinType) {
                 case YOTA2:
@@ -558,8 +567,6 @@ public class ClockBuilder <B extends ClockBuilder<B>> {
                 case MORPHING:
                     break;
             }
-        } else {
-            CONTROL = new Clock();
         }
 
         // Make sure that alarms, sections, areas and markers will be added first
@@ -727,6 +734,5 @@ public class ClockBuilder <B extends ClockBuilder<B>> {
                 CONTROL.setCustomFont(((ObjectProperty<Font>) properties.get(key)).get());
             }
         }
-        return CONTROL;
     }
 }
@@ -20,15 +20,19 @@ package eu.hansolo.medusa;
 import eu.hansolo.medusa.Gauge.SkinType;
 import eu.hansolo.medusa.GaugeDesign.GaugeBackground;
 import eu.hansolo.medusa.skins.GaugeSkin;
+import eu.hansolo.medusa.tools.FrameRenderer;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Scene;
 import javafx.scene.control.Skin;
-import javafx.scene.effect.BlurType;
-import javafx.scene.effect.InnerShadow;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.CycleMethod;
 import javafx.scene.paint.RadialGradient;
 import javafx.scene.paint.Stop;
 import javafx.scene.shape.Circle;
+import javafx.stage.Window;
 
 
 /**
@@ -44,18 +48,21 @@ public class FGauge extends Region {
     public static final double MINIMUM_HEIGHT   = 50;
     public static final double MAXIMUM_WIDTH    = 1024;
     public static final double MAXIMUM_HEIGHT   = 1024;
+    private static      String userAgentStyleSheet;
 
     // Model related
     private Gauge           gauge;
 
     // View related
     private double          size;
-    private Region          frame;
-    private Circle          background;
+    private ImageView       frame;
     private Circle          foreground;
     private GaugeDesign     gaugeDesign;
     private GaugeBackground gaugeBackground;
-    private InnerShadow     innerShadow;
+
+    // Listeners
+    private InvalidationListener   outputScaleListener;
+    private ChangeListener<Window> windowListener;
 
 
     // ******************** Constructors **************************************
@@ -66,7 +73,6 @@ public class FGauge extends Region {
         this(GAUGE, DESIGN, GaugeBackground.DARK_GRAY);
     }
     public FGauge(final Gauge GAUGE, final GaugeDesign DESIGN, final GaugeBackground BACKGROUND) {
-        getStylesheets().add(getClass().getResource("framed-gauge.css").toExternalForm());
         getStyleClass().setAll("framed-gauge");
         gauge           = GAUGE;
         gaugeDesign     = DESIGN;
@@ -99,22 +105,38 @@ public class FGauge extends Region {
     }
 
     private void initGraphics() {
-        innerShadow = new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.35), 20, 0.0, 0, 20);
-
-        frame = new Region();
-
-        background = new Circle();
-        background.setEffect(innerShadow);
+        // Frame, background and inner shadow are rendered into one shared image
+        frame = new ImageView();
+        frame.setSmooth(true);
+        frame.setPreserveRatio(true);
 
         foreground = new Circle();
         foreground.setMouseTransparent(true);
 
-        getChildren().setAll(frame, background, gauge, foreground);
+        getChildren().setAll(frame, gauge, foreground);
     }
 
     private void registerListeners() {
         widthProperty().addListener(o -> redraw());
         heightProperty().addListener(o -> redraw());
+
+        // The frame image depends on the output scale of the window
+        outputScaleListener = o -> redraw();
+        windowListener      = (o, ov, nv) -> {
+            if (null != ov) { ov.outputScaleXProperty().removeListener(outputScaleListener); }
+            if (null != nv) { nv.outputScaleXProperty().addListener(outputScaleListener); }
+            redraw();
+        };
+        sceneProperty().addListener((o, ov, nv) -> {
+            if (null != ov) {
+                ov.windowProperty().removeListener(windowListener);
+                windowListener.changed(ov.windowProperty(), ov.getWindow(), null);
+            }
+            if (null != nv) {
+                nv.windowProperty().addListener(windowListener);
+                windowListener.changed(nv.windowProperty(), null, nv.getWindow());
+            }
+        });
     }
 
 
@@ -140,6 +162,16 @@ public class FGauge extends Region {
     public Gauge getGauge() { return gauge; }
     public void setGauge(final Gauge GAUGE) { gauge = GAUGE; }
 
+    @Override public String getUserAgentStylesheet() {
+        if (null == userAgentStyleSheet) { userAgentStyleSheet = FGauge.class.getResource("framed-gauge.css").toExternalForm(); }
+        return userAgentStyleSheet;
+    }
+
+    private double getOutputScale() {
+        final Scene SCENE = getScene();
+        return null == SCENE || null == SCENE.getWindow() ? 1.0 : SCENE.getWindow().getOutputScaleX();
+    }
+
 
     // ******************** Resizing ******************************************
     private void redraw() {
@@ -154,39 +186,23 @@ public class FGauge extends Region {
                 setTranslateY(0.5 * (getHeight() - size));
             }
 
-            frame.setPrefSize(size, size);
-            frame.setBorder(gaugeDesign.getBorder(size));
-
-            background.setCenterX(size * 0.5);
-            background.setCenterY(size * 0.5);
-            background.setRadius(size * 0.4375);
-
-            background.setFill(gaugeBackground.getPaint(background.getLayoutBounds().getMinX(), background.getLayoutBounds().getMinY(),
-                                                        background.getLayoutBounds().getMaxX(), background.getLayoutBounds().getMaxY()));
+            frame.setImage(FrameRenderer.getImage(gaugeDesign, gaugeBackground, size, getOutputScale()));
+            frame.setFitWidth(size);
+            frame.setFitHeight(size);
 
             switch(gaugeDesign) {
                 case NONE:
                     frame.setVisible(false);
                     foreground.setVisible(false);
-                    background.setVisible(false);
                     break;
                 case ENZO:
-                    background.setFill(Color.rgb(240, 240, 240));
-                    innerShadow.setRadius(0.07407407 * size);
-                    innerShadow.setOffsetX(0);
-                    innerShadow.setOffsetY(0.07407407 * size);
-                    innerShadow.setColor(Color.rgb(0, 0, 0, 0.35));
+                    frame.setVisible(true);
                     foreground.setFill(Color.TRANSPARENT);
                     foreground.setStroke(null);
                     break;
                 default:
                     frame.setVisible(true);
                     foreground.setVisible(true);
-                    background.setVisible(true);
-                    innerShadow.setColor(Color.rgb(0, 0, 0, 0.65));
-                    innerShadow.setRadius(0.08 * size);
-                    innerShadow.setOffsetX(0);
-                    innerShadow.setOffsetY(0.0 * size);
                     foreground.setFill(new RadialGradient(0, 0, size * 0.5, size * gaugeDesign.FRAME_FACTOR * 0.5, size, false, CycleMethod.NO_CYCLE,
                                                           new Stop(0, Color.rgb(255, 255, 255, 0.6)),
                                                           new Stop(0.4, Color.TRANSPARENT)));
@@ -17,126 +17,242 @@
  */
 package eu.hansolo.medusa;
 
+import eu.hansolo.medusa.Clock.ClockSkinType;
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.tools.Helper;
 import javafx.scene.text.Font;
 
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 
 /**
  * Created by hansolo on 11.12.15.
+ * Each face will be loaded on first use, the faces that a set of skin types
+ * needs can be loaded in the background by calling one of the preload()
+ * methods before the controls will be created.
  */
 public class Fonts {
-    private static final String DIGITAL_NAME;
-    private static final String DIGITAL_READOUT_NAME;
-    private static final String DIGITAL_READOUT_BOLD_NAME;
-    private static final String ELEKTRA_NAME;
-    private static final String ROBOTO_THIN_NAME;
-    private static final String ROBOTO_LIGHT_NAME;
-    private static final String ROBOTO_REGULAR_NAME;
-    private static final String ROBOTO_MEDIUM_NAME;
-    private static final String ROBOTO_BOLD_NAME;
-    private static final String ROBOTO_LIGHT_CONDENSED_NAME;
-    private static final String ROBOTO_REGULAR_CONDENSED_NAME;
-    private static final String ROBOTO_BOLD_CONDENSED_NAME;
-    private static final String LATO_LIGHT_NAME;
-    private static final String LATO_REGULAR_NAME;
-    private static final String LATO_BOLD_NAME;
-    private static final String ESTRICTA_REGULAR_NAME;
-    private static final String ESTRICTA_REGULAR_ITALIC_NAME;
-    private static final String ESTRICTA_MEDIUM_NAME;
-    private static final String ESTRICTA_MEDIUM_ITALIC_NAME;
-
-    private static String digitalName;
-    private static String digitalReadoutName;
-    private static String digitalReadoutBoldName;
-    private static String elektraName;
-
-    private static String robotoThinName;
-    private static String robotoLightName;
-    private static String robotoRegularName;
-    private static String robotoMediumName;
-    private static String robotoBoldName;
-
-    private static String robotoLightCondensedName;
-    private static String robotoRegularCondensedName;
-    private static String robotoBoldCondensedName;
-
-    private static String latoLightName;
-    private static String latoRegularName;
-    private static String latoBoldName;
-
-    private static String estrictaRegularName;
-    private static String estrictaRegularItalicName;
-    private static String estrictaMediumName;
-    private static String estrictaMediumItalicName;
-
-
-    static {
-        try {
-            digitalName                = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/digital.ttf"), 10).getName();
-            digitalReadoutName         = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/digitalreadout.ttf"), 10).getName();
-            digitalReadoutBoldName     = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/digitalreadoutb.ttf"), 10).getName();
-            elektraName                = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/elektra.ttf"), 10).getName();
-            robotoThinName             = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Roboto-Thin.ttf"), 10).getName();
-            robotoLightName            = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Roboto-Light.ttf"), 10).getName();
-            robotoRegularName          = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Roboto-Regular.ttf"), 10).getName();
-            robotoMediumName           = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Roboto-Medium.ttf"), 10).getName();
-            robotoBoldName             = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Roboto-Bold.ttf"), 10).getName();
-            robotoLightCondensedName   = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/RobotoCondensed-Light.ttf"), 10).getName();
-            robotoRegularCondensedName = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/RobotoCondensed-Regular.ttf"), 10).getName();
-            robotoBoldCondensedName    = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/RobotoCondensed-Bold.ttf"), 10).getName();
-            latoLightName              = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Lato-Lig.otf"), 10).getName();
-            latoRegularName            = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Lato-Reg.otf"), 10).getName();
-            latoBoldName               = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Lato-Bol.otf"), 10).getName();
-            estrictaRegularName        = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Estricta-Regular.otf"), 10).getName();
-            estrictaRegularItalicName  = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Estricta-RegularItalic.otf"), 10).getName();
-            estrictaMediumName         = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Estricta-Medium.otf"), 10).getName();
-            estrictaMediumItalicName   = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Estricta-MediumItalic.otf"), 10).getName();
-        } catch (Exception exception) { }
-        DIGITAL_NAME                  = digitalName;
-        DIGITAL_READOUT_NAME          = digitalReadoutName;
-        DIGITAL_READOUT_BOLD_NAME     = digitalReadoutBoldName;
-        ELEKTRA_NAME                  = elektraName;
-        ROBOTO_THIN_NAME              = robotoThinName;
-        ROBOTO_LIGHT_NAME             = robotoLightName;
-        ROBOTO_REGULAR_NAME           = robotoRegularName;
-        ROBOTO_MEDIUM_NAME            = robotoMediumName;
-        ROBOTO_BOLD_NAME              = robotoBoldName;
-        ROBOTO_LIGHT_CONDENSED_NAME   = robotoLightCondensedName;
-        ROBOTO_REGULAR_CONDENSED_NAME = robotoRegularCondensedName;
-        ROBOTO_BOLD_CONDENSED_NAME    = robotoBoldCondensedName;
-        LATO_LIGHT_NAME               = latoLightName;
-        LATO_REGULAR_NAME             = latoRegularName;
-        LATO_BOLD_NAME                = latoBoldName;
-        ESTRICTA_REGULAR_NAME         = estrictaRegularName;
-        ESTRICTA_REGULAR_ITALIC_NAME  = estrictaRegularItalicName;
-        ESTRICTA_MEDIUM_NAME          = estrictaMediumName;
-        ESTRICTA_MEDIUM_ITALIC_NAME   = estrictaMediumItalicName;
-    }
+    private static final EnumSet<Face> LCD_FACES = EnumSet.of(Face.DIGITAL, Face.DIGITAL_READOUT, Face.DIGITAL_READOUT_BOLD, Face.ELEKTRA);
+    private static       ExecutorService preloadService;
 
 
     // ******************** Methods *******************************************
-    public static Font digital(final double SIZE) { return new Font(DIGITAL_NAME, SIZE); }
+    public static Font digital(final double SIZE) { return new Font(Face.DIGITAL.getName(), SIZE); }
+
+    public static Font digitalReadout(final double SIZE) { return new Font(Face.DIGITAL_READOUT.getName(), SIZE); }
+    public static Font digitalReadoutBold(final double SIZE) { return new Font(Face.DIGITAL_READOUT_BOLD.getName(), SIZE); }
+
+    public static Font elektra(final double SIZE) { return new Font(Face.ELEKTRA.getName(), SIZE); }
+
+    public static Font robotoThin(final double SIZE) { return new Font(Face.ROBOTO_THIN.getName(), SIZE); }
+    public static Font robotoLight(final double SIZE) { return new Font(Face.ROBOTO_LIGHT.getName(), SIZE); }
+    public static Font robotoRegular(final double SIZE) { return new Font(Face.ROBOTO_REGULAR.getName(), SIZE); }
+    public static Font robotoMedium(final double SIZE) { return new Font(Face.ROBOTO_MEDIUM.getName(), SIZE); }
+    public static Font robotoBold(final double SIZE) { return new Font(Face.ROBOTO_BOLD.getName(), SIZE); }
+
+    public static Font robotoCondensedLight(final double SIZE) { return new Font(Face.ROBOTO_CONDENSED_LIGHT.getName(), SIZE); }
+    public static Font robotoCondensedRegular(final double SIZE) { return new Font(Face.ROBOTO_CONDENSED_REGULAR.getName(), SIZE); }
+    public static Font robotoCondensedBold(final double SIZE) { return new Font(Face.ROBOTO_CONDENSED_BOLD.getName(), SIZE); }
+
+    public static Font latoLight(final double SIZE) { return new Font(Face.LATO_LIGHT.getName(), SIZE); }
+    public static Font latoRegular(final double SIZE) { return new Font(Face.LATO_REGULAR.getName(), SIZE); }
+    public static Font latoBold(final double SIZE) { return new Font(Face.LATO_BOLD.getName(), SIZE); }
+
+    public static Font estrictaRegular(final double SIZE) { return new Font(Face.ESTRICTA_REGULAR.getName(), SIZE); }
+    public static Font estrictaRegularItalic(final double SIZE) { return new Font(Face.ESTRICTA_REGULAR_ITALIC.getName(), SIZE); }
+    public static Font estrictaMedium(final double SIZE) { return new Font(Face.ESTRICTA_MEDIUM.getName(), SIZE); }
+    public static Font estrictaMediumItalic(final double SIZE) { return new Font(Face.ESTRICTA_MEDIUM_ITALIC.getName(), SIZE); }
+
+    /**
+     * Loads the given faces on a background thread
+     * @param FACES the faces to load
+     * @return a future that completes when all given faces are loaded
+     */
+    public static CompletableFuture<Void> preload(final Face... FACES) { return preload(Arrays.asList(FACES)); }
+    /**
+     * Loads the faces that are needed by the given gauge skin types on a
+     * background thread
+     * @param SKIN_TYPES the gauge skin types that will be used
+     * @return a future that completes when all needed faces are loaded
+     */
+    public static CompletableFuture<Void> preload(final SkinType... SKIN_TYPES) {
+        final Set<Face> FACES = EnumSet.noneOf(Face.class);
+        for (SkinType skinType : SKIN_TYPES) { FACES.addAll(getFaces(skinType)); }
+        return preload(FACES);
+    }
+    /**
+     * Loads the faces that are needed by the given clock skin types on a
+     * background thread
+     * @param SKIN_TYPES the clock skin types that will be used
+     * @return a future that completes when all needed faces are loaded
+     */
+    public static CompletableFuture<Void> preload(final ClockSkinType... SKIN_TYPES) {
+        final Set<Face> FACES = EnumSet.noneOf(Face.class);
+        for (ClockSkinType skinType : SKIN_TYPES) { FACES.addAll(getFaces(skinType)); }
+        return preload(FACES);
+    }
+    private static CompletableFuture<Void> preload(final Collection<Face> FACES) {
+        final Face[] PENDING = FACES.stream().filter(face -> !face.isLoaded()).distinct().toArray(Face[]::new);
+        if (0 == PENDING.length) { return CompletableFuture.completedFuture(null); }
+        return CompletableFuture.runAsync(() -> { for (Face face : PENDING) { face.getName(); } }, getPreloadService());
+    }
+
+    private static synchronized ExecutorService getPreloadService() {
+        if (null == preloadService) { preloadService = Executors.newSingleThreadExecutor(Helper.getThreadFactory("FontPreloader", true)); }
+        return preloadService;
+    }
 
-    public static Font digitalReadout(final double SIZE) { return new Font(DIGITAL_READOUT_NAME, SIZE); }
-    public static Font digitalReadoutBold(final double SIZE) { return new Font(DIGITAL_READOUT_BOLD_NAME, SIZE); }
+    /**
+     * Returns the faces that the skin of the given gauge skin type might
+     * use. The faces of the LCD fonts are included for skins that support
+     * an LCD.
+     * @param SKIN_TYPE the gauge skin type
+     * @return the faces that the skin might use
+     */
+    public static Set<Face> getFaces(final SkinType SKIN_TYPE) {
+        final EnumSet<Face> FACES;
+        switch(SKIN_TYPE) {
+            case AMP            :
+            case PLAIN_AMP      : FACES = EnumSet.of(Face.ROBOTO_CONDENSED_REGULAR, Face.ROBOTO_MEDIUM); FACES.addAll(LCD_FACES); break;
+            case BULLET_CHART   :
+            case SIMPLE         : FACES = EnumSet.of(Face.ROBOTO_MEDIUM, Face.ROBOTO_REGULAR); break;
+            case DASHBOARD      : FACES = EnumSet.of(Face.ROBOTO_BOLD, Face.ROBOTO_REGULAR, Face.ROBOTO_THIN); break;
+            case FLAT           :
+            case BAR            : FACES = EnumSet.of(Face.ROBOTO_LIGHT, Face.ROBOTO_REGULAR); break;
+            case INDICATOR      :
+            case KPI            :
+            case TILE_KPI       :
+            case TILE_TEXT_KPI  :
+            case TILE_SPARK_LINE: FACES = EnumSet.of(Face.LATO_REGULAR); break;
+            case MODERN         : FACES = EnumSet.of(Face.LATO_REGULAR, Face.ROBOTO_CONDENSED_LIGHT, Face.ROBOTO_CONDENSED_REGULAR); break;
+            case SLIM           :
+            case SIMPLE_SECTION : FACES = EnumSet.of(Face.LATO_BOLD, Face.LATO_LIGHT); break;
+            case SPACE_X        : FACES = EnumSet.of(Face.ROBOTO_LIGHT, Face.ROBOTO_MEDIUM, Face.ROBOTO_REGULAR); break;
+            case QUARTER        : FACES = EnumSet.of(Face.ROBOTO_CONDENSED_BOLD, Face.ROBOTO_CONDENSED_REGULAR, Face.ROBOTO_MEDIUM, Face.ROBOTO_REGULAR); FACES.addAll(LCD_FACES); break;
+            case LCD            : FACES = EnumSet.of(Face.LATO_BOLD, Face.ROBOTO_MEDIUM); FACES.addAll(LCD_FACES); break;
+            case TINY           :
+            case CHARGE         : FACES = EnumSet.noneOf(Face.class); break;
+            case BATTERY        : FACES = EnumSet.of(Face.LATO_LIGHT); break;
+            case LEVEL          : FACES = EnumSet.of(Face.LATO_REGULAR, Face.ROBOTO_REGULAR); break;
+            case LINEAR         : FACES = EnumSet.of(Face.ROBOTO_LIGHT, Face.ROBOTO_MEDIUM, Face.ROBOTO_REGULAR); FACES.addAll(LCD_FACES); break;
+            case DIGITAL        : FACES = EnumSet.of(Face.DIGITAL, Face.DIGITAL_READOUT_BOLD, Face.ROBOTO_CONDENSED_BOLD, Face.ROBOTO_CONDENSED_REGULAR); break;
+            case SIMPLE_DIGITAL : FACES = EnumSet.of(Face.DIGITAL_READOUT_BOLD, Face.LATO_BOLD, Face.ROBOTO_BOLD); break;
+            case SECTION        : FACES = EnumSet.of(Face.ROBOTO_CONDENSED_LIGHT, Face.ROBOTO_MEDIUM); break;
+            case WHITE          : FACES = EnumSet.of(Face.ROBOTO_BOLD); break;
+            case NASA           : FACES = EnumSet.of(Face.ESTRICTA_MEDIUM, Face.ESTRICTA_REGULAR_ITALIC); break;
+            case GAUGE          :
+            case HORIZONTAL     :
+            case VERTICAL       :
+            default             : FACES = EnumSet.of(Face.ROBOTO_MEDIUM, Face.ROBOTO_REGULAR); FACES.addAll(LCD_FACES); break;
+        }
+        return FACES;
+    }
+
+    /**
+     * Returns the faces that the skin of the given clock skin type might
+     * use.
+     * @param SKIN_TYPE the clock skin type
+     * @return the faces that the skin might use
+     */
+    public static Set<Face> getFaces(final ClockSkinType SKIN_TYPE) {
+        final EnumSet<Face> FACES;
+        switch(SKIN_TYPE) {
+            case LCD       : FACES = EnumSet.of(Face.LATO_BOLD, Face.ROBOTO_MEDIUM); FACES.addAll(LCD_FACES); break;
+            case PEAR      : FACES = EnumSet.of(Face.LATO_LIGHT, Face.ROBOTO_LIGHT); break;
+            case FAT       : FACES = EnumSet.of(Face.LATO_LIGHT, Face.ROBOTO_CONDENSED_REGULAR); break;
+            case ROUND_LCD : FACES = EnumSet.of(Face.DIGITAL, Face.DIGITAL_READOUT_BOLD); break;
+            case SLIM      : FACES = EnumSet.of(Face.ROBOTO_LIGHT, Face.ROBOTO_MEDIUM, Face.ROBOTO_THIN); break;
+            case MINIMAL   : FACES = EnumSet.of(Face.ROBOTO_LIGHT, Face.ROBOTO_REGULAR, Face.ROBOTO_THIN); break;
+            case DIGITAL   :
+            case DIGI      : FACES = EnumSet.of(Face.DIGITAL); break;
+            case TEXT      : FACES = EnumSet.of(Face.ROBOTO_LIGHT); break;
+            case DESIGN    : FACES = EnumSet.of(Face.ROBOTO_REGULAR); break;
+            case TILE      : FACES = EnumSet.of(Face.LATO_REGULAR); break;
+            case MORPHING  : FACES = EnumSet.noneOf(Face.class); break;
+            case YOTA2     :
+            case PLAIN     :
+            case DB        :
+            case INDUSTRIAL:
+            case CLOCK     :
+            default        : FACES = EnumSet.of(Face.LATO_LIGHT); break;
+        }
+        return FACES;
+    }
 
-    public static Font elektra(final double SIZE) { return new Font(ELEKTRA_NAME, SIZE); }
 
-    public static Font robotoThin(final double SIZE) { return new Font(ROBOTO_THIN_NAME, SIZE); }
-    public static Font robotoLight(final double SIZE) { return new Font(ROBOTO_LIGHT_NAME, SIZE); }
-    public static Font robotoRegular(final double SIZE) { return new Font(ROBOTO_REGULAR_NAME, SIZE); }
-    public static Font robotoMedium(final double SIZE) { return new Font(ROBOTO_MEDIUM_NAME, SIZE); }
-    public static Font robotoBold(final double SIZE) { return new Font(ROBOTO_BOLD_NAME, SIZE); }
+    // ******************** Inner Classes *************************************
+    /**
+     * The font faces that come with Medusa. A face will be loaded the first
+     * time its name is requested, if it could not be loaded the name of the
+     * default font will be used.
+     */
+    public enum Face {
+        DIGITAL("digital.ttf"),
+        DIGITAL_READOUT("digitalreadout.ttf"),
+        DIGITAL_READOUT_BOLD("digitalreadoutb.ttf"),
+        ELEKTRA("elektra.ttf"),
+        ROBOTO_THIN("Roboto-Thin.ttf"),
+        ROBOTO_LIGHT("Roboto-Light.ttf"),
+        ROBOTO_REGULAR("Roboto-Regular.ttf"),
+        ROBOTO_MEDIUM("Roboto-Medium.ttf"),
+        ROBOTO_BOLD("Roboto-Bold.ttf"),
+        ROBOTO_CONDENSED_LIGHT("RobotoCondensed-Light.ttf"),
+        ROBOTO_CONDENSED_REGULAR("RobotoCondensed-Regular.ttf"),
+        ROBOTO_CONDENSED_BOLD("RobotoCondensed-Bold.ttf"),
+        LATO_LIGHT("Lato-Lig.otf"),
+        LATO_REGULAR("Lato-Reg.otf"),
+        LATO_BOLD("Lato-Bol.otf"),
+        ESTRICTA_REGULAR("Estricta-Regular.otf"),
+        ESTRICTA_REGULAR_ITALIC("Estricta-RegularItalic.otf"),
+        ESTRICTA_MEDIUM("Estricta-Medium.otf"),
+        ESTRICTA_MEDIUM_ITALIC("Estricta-MediumItalic.otf");
 
-    public static Font robotoCondensedLight(final double SIZE) { return new Font(ROBOTO_LIGHT_CONDENSED_NAME, SIZE); }
-    public static Font robotoCondensedRegular(final double SIZE) { return new Font(ROBOTO_REGULAR_CONDENSED_NAME, SIZE); }
-    public static Font robotoCondensedBold(final double SIZE) { return new Font(ROBOTO_BOLD_CONDENSED_NAME, SIZE); }
+        private final    String resource;
+        private volatile String name;
 
-    public static Font latoLight(final double SIZE) { return new Font(LATO_LIGHT_NAME, SIZE); }
-    public static Font latoRegular(final double SIZE) { return new Font(LATO_REGULAR_NAME, SIZE); }
-    public static Font latoBold(final double SIZE) { return new Font(LATO_BOLD_NAME, SIZE); }
 
-    public static Font estrictaRegular(final double SIZE) { return new Font(ESTRICTA_REGULAR_NAME, SIZE); }
-    public static Font estrictaRegularItalic(final double SIZE) { return new Font(ESTRICTA_REGULAR_ITALIC_NAME, SIZE); }
-    public static Font estrictaMedium(final double SIZE) { return new Font(ESTRICTA_MEDIUM_NAME, SIZE); }
-    public static Font estrictaMediumItalic(final double SIZE) { return new Font(ESTRICTA_MEDIUM_ITALIC_NAME, SIZE); }
+        // ******************** Constructors **********************************
+        Face(final String FILE_NAME) {
+            resource = "/eu/hansolo/medusa/" + FILE_NAME;
+        }
+
+
+        // ******************** Methods ***************************************
+        /**
+         * @return the name of the font, loads the font on first call
+         */
+        public String getName() {
+            String fontName = name;
+            if (null == fontName) {
+                synchronized (this) {
+                    fontName = name;
+                    if (null == fontName) {
+                        fontName = load();
+                        name     = fontName;
+                    }
+                }
+            }
+            return fontName;
+        }
+
+        /**
+         * @return true if the font has been loaded already
+         */
+        public boolean isLoaded() { return null != name; }
+
+        private String load() {
+            try (InputStream stream = Fonts.class.getResourceAsStream(resource)) {
+                final Font FONT = null == stream ? null : Font.loadFont(stream, 10);
+                if (null != FONT) { return FONT.getName(); }
+            } catch (Exception exception) { }
+            return Font.getDefault().getName();
+        }
+    }
 }
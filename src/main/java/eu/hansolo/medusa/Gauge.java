@@ -19,19 +19,17 @@ package eu.hansolo.medusa;
 
 import eu.hansolo.medusa.events.UpdateEvent;
 import eu.hansolo.medusa.events.UpdateEventListener;
+import eu.hansolo.medusa.jfr.FlightRecorderEvents;
 import eu.hansolo.medusa.skins.*;
+import eu.hansolo.medusa.tools.AnimationEngine;
+import eu.hansolo.medusa.tools.BlinkCoordinator;
 import eu.hansolo.medusa.tools.Data;
 import eu.hansolo.medusa.tools.GradientLookup;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.Instrumentation;
 import eu.hansolo.medusa.tools.MarkerComparator;
 import eu.hansolo.medusa.tools.MovingAverage;
 import eu.hansolo.medusa.tools.SectionComparator;
-import javafx.animation.Animation.Status;
-import javafx.animation.Interpolator;
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.Timeline;
-import javafx.application.Platform;
 import javafx.beans.NamedArg;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
@@ -63,22 +61,19 @@ import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.paint.Stop;
 import javafx.scene.text.Font;
-import javafx.util.Duration;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Queue;
 import java.util.UUID;
-import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -103,6 +98,8 @@ public class Gauge extends Control {
 
     public enum NeedleBehavior { STANDARD, OPTIMIZED }
 
+    public enum AnimationMode { STANDARD, SPRING }
+
     public enum KnobType { STANDARD, PLAIN, METAL, FLAT }
 
     public enum LedType { STANDARD, FLAT }
@@ -119,7 +116,6 @@ public class Gauge extends Control {
 
     public  static final Color   DARK_COLOR          = Color.rgb(36, 36, 36);    // #242424
     public  static final Color   BRIGHT_COLOR        = Color.rgb(223, 223, 223); // #dfdfdf
-    private static final long    LED_BLINK_INTERVAL  = 500l;
     private static final int     MAX_NO_OF_DECIMALS  = 3;
 
     public  final ButtonEvent    BTN_PRESSED_EVENT   = new ButtonEvent(ButtonEvent.BTN_PRESSED);
@@ -138,10 +134,6 @@ public class Gauge extends Control {
     private final UpdateEvent    ALERT_EVENT         = new UpdateEvent(Gauge.this, UpdateEvent.EventType.ALERT);
     private final UpdateEvent    VALUE_EVENT         = new UpdateEvent(Gauge.this, UpdateEvent.EventType.VALUE);
 
-    private        volatile Future               blinkFuture;
-    private static ScheduledExecutorService      blinkService = new ScheduledThreadPoolExecutor(2, Helper.getThreadFactory("BlinkTask", true));
-    private        volatile Callable<Void>       blinkTask;
-
     private static          String               userAgentStyleSheet;
 
     private                 BooleanBinding       showing;
@@ -149,6 +141,8 @@ public class Gauge extends Control {
     // Update events
     private              Queue<UpdateEvent>      updateEventQueue = new LinkedBlockingQueue<>();
     private List<UpdateEventListener>            listenerList     = new CopyOnWriteArrayList<>();
+    private Map<UpdateEvent.EventType, UpdateEvent> batchedEvents = new EnumMap<>(UpdateEvent.EventType.class);
+    private              int                     updateDepth;
 
     // Data related
     private DoubleProperty                       value;
@@ -169,11 +163,9 @@ public class Gauge extends Control {
     private StringProperty                       subTitle;
     private String                               _unit;
     private StringProperty                       unit;
-    private boolean                              _averagingEnabled;
     private BooleanProperty                      averagingEnabled;
-    private int                                  _averagingPeriod;
     private IntegerProperty                      averagingPeriod;
-    private MovingAverage                        movingAverage;
+    private GaugeModel                           model;
     private ObservableList<Section>              sections;
     private ObservableList<Section>              areas;
     private ObservableList<Section>              tickMarkSections;
@@ -187,9 +179,7 @@ public class Gauge extends Control {
     private BooleanProperty                      returnToZero;
     private Color                                _zeroColor;
     private ObjectProperty<Color>                zeroColor;
-    private double                               _minMeasuredValue;
     private DoubleProperty                       minMeasuredValue;
-    private double                               _maxMeasuredValue;
     private DoubleProperty                       maxMeasuredValue;
     private boolean                              _minMeasuredValueVisible;
     private BooleanProperty                      minMeasuredValueVisible;
@@ -218,6 +208,7 @@ public class Gauge extends Control {
     private boolean                              _animated;
     private BooleanProperty                      animated;
     private long                                 animationDuration;
+    private AnimationMode                        animationMode;
     private double                               _startAngle;
     private DoubleProperty                       startAngle;
     private double                               _angleRange;
@@ -314,7 +305,6 @@ public class Gauge extends Control {
     private BooleanProperty                      checkSectionsForValue;
     private boolean                              _checkAreasForValue;
     private BooleanProperty                      checkAreasForValue;
-    private boolean                              _checkThreshold;
     private BooleanProperty                      checkThreshold;
     private boolean                              _innerShadowEnabled;
     private BooleanProperty                      innerShadowEnabled;
@@ -403,12 +393,14 @@ public class Gauge extends Control {
     private String                               formatString;
 
     // others
-    private double   originalMinValue;
-    private double   originalMaxValue;
-    private double   originalThreshold;
-    private Timeline timeline;
-    private Instant  lastCall;
-    private boolean  withinSpeedLimit;
+    private double                 originalMinValue;
+    private double                 originalMaxValue;
+    private double                 originalThreshold;
+    private AnimationEngine.Target currentValueAnimation;
+    private AnimationEngine.Target returnToZeroAnimation;
+    private Instant                lastCall;
+    private boolean                withinSpeedLimit;
+    private boolean                returningToZero;
 
 
     // ******************** Constructors **************************************
@@ -541,23 +533,69 @@ public class Gauge extends Control {
         setSkinType(skinType);
     }
 
+    /**
+     * Creates a gauge with the state of the given prototype. The state is
+     * copied field by field before the skin is created, so the skin will be
+     * built once from the final state and no setters or update events are
+     * involved. Sections, areas and markers are copied, event handlers and
+     * listeners of the prototype are not.
+     * @param PROTOTYPE the gauge to copy
+     * @param CREATE_SKIN if false the copy will get its skin on first use
+     */
+    Gauge(final Gauge PROTOTYPE, final boolean CREATE_SKIN) {
+        setNodeOrientation(PROTOTYPE.getNodeOrientation());
+        skinType = PROTOTYPE.getSkinType();
+        getStyleClass().setAll(PROTOTYPE.getStyleClass());
+
+        init();
+        copyState(PROTOTYPE);
+        registerListeners();
+
+        if (CREATE_SKIN) {
+            if (isLedBlinking()) { BlinkCoordinator.register(Gauge.this); }
+            super.setSkin(createDefaultSkin());
+            fireUpdateEvent(RESIZE_EVENT);
+        }
+    }
+
+
+    /**
+     * Creates a new gauge with the current state of the given gauge. Sections,
+     * areas and markers will be copied, event handlers and listeners not.
+     * @param GAUGE the gauge to copy
+     * @return a new gauge with the state of the given gauge
+     */
+    public static Gauge copyOf(final Gauge GAUGE) { return new Gauge(GAUGE, true); }
+
 
     // ******************** Initialization ************************************
     private void init() {
         _minValue                           = 0;
         _maxValue                           = 100;
+        model                               = new GaugeModel(_minValue, _maxValue);
         value                               = new DoublePropertyBase(_minValue) {
             @Override protected void invalidated() {
                 final double VALUE = get();
+                if (returningToZero) {
+                    // Value was set by the return to zero animation which must keep running
+                    currentValue.set(VALUE);
+                    fireUpdateEvent(FINISHED_EVENT);
+                    model.recordValue(VALUE);
+                    return;
+                }
                 withinSpeedLimit = !(Instant.now().minusMillis(getAnimationDuration()).isBefore(lastCall));
                 lastCall = Instant.now();
-                if (isAnimated() && withinSpeedLimit) {
+                if (isAnimated() && AnimationMode.SPRING == getAnimationMode()) {
+                    // Retarget the running spring, works for any data rate
+                    AnimationEngine.stop(returnToZeroAnimation);
+                    AnimationEngine.spring(currentValueAnimation, currentValue.get(), VALUE, getAnimationDuration());
+                } else if (isAnimated() && withinSpeedLimit) {
                     long animationDuration = isReturnToZero() ? (long) (0.2 * getAnimationDuration()) : getAnimationDuration();
-                    timeline.stop();
+                    AnimationEngine.stop(returnToZeroAnimation);
 
-                    final KeyValue KEY_VALUE;
+                    final double TARGET_VALUE;
                     if (NeedleBehavior.STANDARD == getNeedleBehavior()) {
-                        KEY_VALUE = new KeyValue(currentValue, VALUE, Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0));
+                        TARGET_VALUE = VALUE;
                     } else { // Optimized only useful in a gauge where the angle range is 360 deg and the shorter way has to be calculated.
                         double ov         = getOldValue();
                         double min        = getMinValue();
@@ -581,24 +619,27 @@ public class Gauge extends Control {
                             } else {
                                 tmpValue = ov + max - ov + min + VALUE - getRange();
                             }
-                            KEY_VALUE = new KeyValue(currentValue, tmpValue, Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0));
+                            TARGET_VALUE = tmpValue;
                         } else {
                             if (cv < min) currentValue.set(max + cv);
-                            KEY_VALUE = new KeyValue(currentValue, VALUE, Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0));
+                            TARGET_VALUE = VALUE;
                         }
                     }
-                    final KeyFrame KEY_FRAME = new KeyFrame(Duration.millis(animationDuration), KEY_VALUE);
-                    timeline.getKeyFrames().setAll(KEY_FRAME);
-                    timeline.play();
+                    AnimationEngine.start(currentValueAnimation, currentValue.get(), TARGET_VALUE, animationDuration, AnimationEngine.SPLINE);
                 } else {
+                    if (isAnimated() && Instrumentation.isEnabled() && getSkin() instanceof GaugeSkinBase) { ((GaugeSkinBase) getSkin()).getMetrics().countSpeedLimitedUpdate(); }
+                    AnimationEngine.stop(currentValueAnimation);
+                    AnimationEngine.stop(returnToZeroAnimation);
                     currentValue.set(VALUE);
                     fireUpdateEvent(FINISHED_EVENT);
                 }
-                if (isAveragingEnabled()) { movingAverage.addData(new Data(VALUE)); }
+                model.recordValue(VALUE);
             }
             @Override public void set(final double VALUE) {
+                final Object EVENT = FlightRecorderEvents.beginValueUpdate(Gauge.this, VALUE);
                 super.set(VALUE);
                 fireUpdateEvent(VALUE_EVENT);
+                FlightRecorderEvents.commit(EVENT);
             }
             @Override public Object getBean() { return Gauge.this; }
             @Override public String getName() { return "value"; }
@@ -607,19 +648,9 @@ public class Gauge extends Control {
         currentValue                        = new DoublePropertyBase(value.get()) {
             @Override protected void invalidated() {
                 final double VALUE = get();
-                if (isCheckThreshold()) {
-                    double thrshld = getThreshold();
-                    if (formerValue.get() < thrshld && VALUE > thrshld) {
-                        fireEvent(EXCEEDED_EVENT);
-                    } else if (formerValue.get() > thrshld && VALUE < thrshld) {
-                        fireEvent(UNDERRUN_EVENT);
-                    }
-                }
-                if (VALUE < getMinMeasuredValue()) {
-                    setMinMeasuredValue(VALUE);
-                } else if (VALUE > getMaxMeasuredValue()) {
-                    setMaxMeasuredValue(VALUE);
-                }
+                model.setCurrentValue(VALUE);
+                if (null != minMeasuredValue) { minMeasuredValue.set(model.getMinMeasuredValue()); }
+                if (null != maxMeasuredValue) { maxMeasuredValue.set(model.getMaxMeasuredValue()); }
                 formerValue.set(VALUE);
             }
             @Override public void set(final double VALUE) { super.set(VALUE); }
@@ -632,9 +663,12 @@ public class Gauge extends Control {
         _title                              = "";
         _subTitle                           = "";
         _unit                               = "";
-        _averagingEnabled                   = false;
-        _averagingPeriod                    = 10;
-        movingAverage                       = new MovingAverage(_averagingPeriod);
+        model.addGaugeModelEventListener(e -> {
+            switch(e.eventType) {
+                case THRESHOLD_EXCEEDED: fireEvent(EXCEEDED_EVENT); break;
+                case THRESHOLD_UNDERRUN: fireEvent(UNDERRUN_EVENT); break;
+            }
+        });
         sections                            = FXCollections.observableArrayList();
         areas                               = FXCollections.observableArrayList();
         tickMarkSections                    = FXCollections.observableArrayList();
@@ -644,8 +678,6 @@ public class Gauge extends Control {
         _startFromZero                      = false;
         _returnToZero                       = false;
         _zeroColor                          = DARK_COLOR;
-        _minMeasuredValue                   = _maxValue;
-        _maxMeasuredValue                   = _minValue;
         _minMeasuredValueVisible            = false;
         _maxMeasuredValueVisible            = false;
         _oldValueVisible                    = false;
@@ -660,6 +692,7 @@ public class Gauge extends Control {
         _knobVisible                        = true;
         _animated                           = false;
         animationDuration                   = 800;
+        animationMode                       = AnimationMode.STANDARD;
         _startAngle                         = 320;
         _angleRange                         = 280;
         _angleStep                          = _angleRange / _range;
@@ -708,7 +741,6 @@ public class Gauge extends Control {
         _averageColor                       = Color.MAGENTA;
         _checkSectionsForValue              = false;
         _checkAreasForValue                 = false;
-        _checkThreshold                     = false;
         _innerShadowEnabled                 = false;
         _thresholdVisible                   = false;
         _averageVisible                     = false;
@@ -757,16 +789,191 @@ public class Gauge extends Control {
         originalMaxValue                    = Double.MAX_VALUE;
         originalThreshold                   = Double.MAX_VALUE;
         lastCall                            = Instant.now();
-        timeline                            = new Timeline();
-        timeline.setOnFinished(e -> {
-            if (isReturnToZero() && Double.compare(currentValue.get(), 0.0) != 0.0) {
-                final KeyValue KEY_VALUE2 = new KeyValue(value, 0, Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0));
-                final KeyFrame KEY_FRAME2 = new KeyFrame(Duration.millis((long) (0.8 * getAnimationDuration())), KEY_VALUE2);
-                timeline.getKeyFrames().setAll(KEY_FRAME2);
-                timeline.play();
+        currentValueAnimation               = new AnimationEngine.Target() {
+            @Override protected void apply(final double VALUE) { currentValue.set(VALUE); }
+            @Override protected void finished() {
+                if (isReturnToZero() && Double.compare(currentValue.get(), 0.0) != 0.0) {
+                    if (AnimationMode.SPRING == getAnimationMode()) {
+                        setValue(0);
+                    } else {
+                        AnimationEngine.start(returnToZeroAnimation, value.get(), 0, (long) (0.8 * getAnimationDuration()), AnimationEngine.SPLINE);
+                    }
+                }
+                fireUpdateEvent(FINISHED_EVENT);
             }
-            fireUpdateEvent(FINISHED_EVENT);
-        });
+        };
+        returnToZeroAnimation               = new AnimationEngine.Target() {
+            @Override protected void apply(final double VALUE) {
+                returningToZero = true;
+                try {
+                    value.set(VALUE);
+                } finally {
+                    returningToZero = false;
+                }
+            }
+            @Override protected void finished() { fireUpdateEvent(FINISHED_EVENT); }
+        };
+    }
+
+    private void copyState(final Gauge PROTOTYPE) {
+        _minValue                           = PROTOTYPE.getMinValue();
+        _maxValue                           = PROTOTYPE.getMaxValue();
+        _range                              = PROTOTYPE.getRange();
+        _threshold                          = PROTOTYPE.getThreshold();
+        _title                              = PROTOTYPE.getTitle();
+        _subTitle                           = PROTOTYPE.getSubTitle();
+        _unit                               = PROTOTYPE.getUnit();
+        _startFromZero                      = PROTOTYPE.isStartFromZero();
+        _returnToZero                       = PROTOTYPE.isReturnToZero();
+        _zeroColor                          = PROTOTYPE.getZeroColor();
+        _minMeasuredValueVisible            = PROTOTYPE.isMinMeasuredValueVisible();
+        _maxMeasuredValueVisible            = PROTOTYPE.isMaxMeasuredValueVisible();
+        _oldValueVisible                    = PROTOTYPE.isOldValueVisible();
+        _valueVisible                       = PROTOTYPE.isValueVisible();
+        _backgroundPaint                    = PROTOTYPE.getBackgroundPaint();
+        _borderPaint                        = PROTOTYPE.getBorderPaint();
+        _borderWidth                        = PROTOTYPE.getBorderWidth();
+        _foregroundPaint                    = PROTOTYPE.getForegroundPaint();
+        _knobColor                          = PROTOTYPE.getKnobColor();
+        _knobType                           = PROTOTYPE.getKnobType();
+        _knobPosition                       = PROTOTYPE.getKnobPosition();
+        _knobVisible                        = PROTOTYPE.isKnobVisible();
+        _animated                           = PROTOTYPE.isAnimated();
+        _startAngle                         = PROTOTYPE.getStartAngle();
+        _angleRange                         = PROTOTYPE.getAngleRange();
+        _angleStep                          = PROTOTYPE.getAngleStep();
+        _arcExtend                          = PROTOTYPE.getArcExtend();
+        _autoScale                          = PROTOTYPE.isAutoScale();
+        _shadowsEnabled                     = PROTOTYPE.isShadowsEnabled();
+        _barEffectEnabled                   = PROTOTYPE.isBarEffectEnabled();
+        _scaleDirection                     = PROTOTYPE.getScaleDirection();
+        _tickLabelLocation                  = PROTOTYPE.getTickLabelLocation();
+        _tickLabelOrientation               = PROTOTYPE.getTickLabelOrientation();
+        _tickLabelColor                     = PROTOTYPE.getTickLabelColor();
+        _tickMarkColor                      = PROTOTYPE.getTickMarkColor();
+        _majorTickMarkColor                 = PROTOTYPE.getMajorTickMarkColor();
+        _majorTickMarkLengthFactor          = PROTOTYPE.getMajorTickMarkLengthFactor();
+        _majorTickMarkWidthFactor           = PROTOTYPE.getMajorTickMarkWidthFactor();
+        _mediumTickMarkColor                = PROTOTYPE.getMediumTickMarkColor();
+        _mediumTickMarkLengthFactor         = PROTOTYPE.getMediumTickMarkLengthFactor();
+        _mediumTickMarkWidthFactor          = PROTOTYPE.getMediumTickMarkWidthFactor();
+        _minorTickMarkColor                 = PROTOTYPE.getMinorTickMarkColor();
+        _minorTickMarkLengthFactor          = PROTOTYPE.getMinorTickMarkLengthFactor();
+        _minorTickMarkWidthFactor           = PROTOTYPE.getMinorTickMarkWidthFactor();
+        _majorTickMarkType                  = PROTOTYPE.getMajorTickMarkType();
+        _mediumTickMarkType                 = PROTOTYPE.getMediumTickMarkType();
+        _minorTickMarkType                  = PROTOTYPE.getMinorTickMarkType();
+        _locale                             = PROTOTYPE.getLocale();
+        _decimals                           = PROTOTYPE.getDecimals();
+        _tickLabelDecimals                  = PROTOTYPE.getTickLabelDecimals();
+        _needleType                         = PROTOTYPE.getNeedleType();
+        _needleShape                        = PROTOTYPE.getNeedleShape();
+        _needleSize                         = PROTOTYPE.getNeedleSize();
+        _needleBehavior                     = PROTOTYPE.getNeedleBehavior();
+        _needleColor                        = PROTOTYPE.getNeedleColor();
+        _needleBorderColor                  = PROTOTYPE.getNeedleBorderColor();
+        _barColor                           = PROTOTYPE.getBarColor();
+        _barBorderColor                     = PROTOTYPE.getBarBorderColor();
+        _barBackgroundColor                 = PROTOTYPE.getBarBackgroundColor();
+        _lcdDesign                          = PROTOTYPE.getLcdDesign();
+        _lcdFont                            = PROTOTYPE.getLcdFont();
+        _ledColor                           = PROTOTYPE.getLedColor();
+        _ledType                            = PROTOTYPE.getLedType();
+        _titleColor                         = PROTOTYPE.getTitleColor();
+        _subTitleColor                      = PROTOTYPE.getSubTitleColor();
+        _unitColor                          = PROTOTYPE.getUnitColor();
+        _valueColor                         = PROTOTYPE.getValueColor();
+        _thresholdColor                     = PROTOTYPE.getThresholdColor();
+        _averageColor                       = PROTOTYPE.getAverageColor();
+        _checkSectionsForValue              = PROTOTYPE.getCheckSectionsForValue();
+        _checkAreasForValue                 = PROTOTYPE.getCheckAreasForValue();
+        _innerShadowEnabled                 = PROTOTYPE.isInnerShadowEnabled();
+        _thresholdVisible                   = PROTOTYPE.isThresholdVisible();
+        _averageVisible                     = PROTOTYPE.isAverageVisible();
+        _sectionsVisible                    = PROTOTYPE.getSectionsVisible();
+        _sectionsAlwaysVisible              = PROTOTYPE.getSectionsAlwaysVisible();
+        _sectionTextVisible                 = PROTOTYPE.isSectionTextVisible();
+        _sectionIconsVisible                = PROTOTYPE.getSectionIconsVisible();
+        _highlightSections                  = PROTOTYPE.isHighlightSections();
+        _areasVisible                       = PROTOTYPE.getAreasVisible();
+        _areaTextVisible                    = PROTOTYPE.isAreaTextVisible();
+        _areaIconsVisible                   = PROTOTYPE.getAreaIconsVisible();
+        _highlightAreas                     = PROTOTYPE.isHighlightAreas();
+        _tickMarkSectionsVisible            = PROTOTYPE.getTickMarkSectionsVisible();
+        _tickLabelSectionsVisible           = PROTOTYPE.getTickLabelSectionsVisible();
+        _markersVisible                     = PROTOTYPE.getMarkersVisible();
+        _majorTickMarksVisible              = PROTOTYPE.getMajorTickMarksVisible();
+        _mediumTickMarksVisible             = PROTOTYPE.getMediumTickMarksVisible();
+        _minorTickMarksVisible              = PROTOTYPE.getMinorTickMarksVisible();
+        _tickMarkRingVisible                = PROTOTYPE.isTickMarkRingVisible();
+        _tickLabelsVisible                  = PROTOTYPE.getTickLabelsVisible();
+        _onlyFirstAndLastTickLabelVisible   = PROTOTYPE.isOnlyFirstAndLastTickLabelVisible();
+        _majorTickSpace                     = PROTOTYPE.getMajorTickSpace();
+        _minorTickSpace                     = PROTOTYPE.getMinorTickSpace();
+        _lcdVisible                         = PROTOTYPE.isLcdVisible();
+        _lcdCrystalEnabled                  = PROTOTYPE.isLcdCrystalEnabled();
+        _ledVisible                         = PROTOTYPE.isLedVisible();
+        _ledOn                              = PROTOTYPE.isLedOn();
+        _ledBlinking                        = PROTOTYPE.isLedBlinking();
+        _orientation                        = PROTOTYPE.getOrientation();
+        _gradientBarEnabled                 = PROTOTYPE.isGradientBarEnabled();
+        _customTickLabelsEnabled            = PROTOTYPE.getCustomTickLabelsEnabled();
+        _customTickLabelFontSizeEnabled     = PROTOTYPE.getCustomTickLabelFontSizeEnabled();
+        _customTickLabelFontSize            = PROTOTYPE.getCustomTickLabelFontSize();
+        _interactive                        = PROTOTYPE.isInteractive();
+        _buttonTooltipText                  = PROTOTYPE.getButtonTooltipText();
+        _keepAspect                         = PROTOTYPE.isKeepAspect();
+        _customFontEnabled                  = PROTOTYPE.isCustomFontEnabled();
+        _customFont                         = PROTOTYPE.getCustomFont();
+        _alert                              = PROTOTYPE.isAlert();
+        _alertMessage                       = PROTOTYPE.getAlertMessage();
+        _smoothing                          = PROTOTYPE.isSmoothing();
+        animationDuration                   = PROTOTYPE.getAnimationDuration();
+        animationMode                       = PROTOTYPE.getAnimationMode();
+        formatString                        = PROTOTYPE.getFormatString();
+        originalMinValue                    = PROTOTYPE.originalMinValue;
+        originalMaxValue                    = PROTOTYPE.originalMaxValue;
+        originalThreshold                   = PROTOTYPE.originalThreshold;
+
+        if (null != PROTOTYPE.gradientLookup) { getGradientLookup().setStops(PROTOTYPE.gradientLookup.getStops()); }
+        customTickLabels.setAll(PROTOTYPE.getCustomTickLabels());
+        sections.setAll(copySections(PROTOTYPE.getSections()));
+        areas.setAll(copySections(PROTOTYPE.getAreas()));
+        tickMarkSections.setAll(copySections(PROTOTYPE.getTickMarkSections()));
+        tickLabelSections.setAll(copySections(PROTOTYPE.getTickLabelSections()));
+        for (Marker marker : PROTOTYPE.getMarkers()) {
+            markers.add(new Marker(marker.getValue(), marker.getText(), marker.getColor(), marker.getMarkerType(), marker.getStyleClass()));
+        }
+
+        model.setMaxValue(_maxValue);
+        model.setMinValue(_minValue);
+        model.setThreshold(_threshold);
+        model.setCheckThreshold(PROTOTYPE.isCheckThreshold());
+        model.setAveragingPeriod(PROTOTYPE.getAveragingPeriod());
+        model.setAveragingEnabled(PROTOTYPE.isAveragingEnabled());
+
+        // Set the value directly, the copy starts at rest
+        final boolean ANIMATED = _animated;
+        _animated = false;
+        value.set(PROTOTYPE.getValue());
+        oldValue.set(value.get());
+        _animated = ANIMATED;
+        // Drop the events of the value change, the skin will be created from the copied state
+        updateEventQueue.clear();
+
+        setPrefSize(PROTOTYPE.getPrefWidth(), PROTOTYPE.getPrefHeight());
+        setMinSize(PROTOTYPE.getMinWidth(), PROTOTYPE.getMinHeight());
+        setMaxSize(PROTOTYPE.getMaxWidth(), PROTOTYPE.getMaxHeight());
+        setPadding(PROTOTYPE.getPadding());
+        setStyle(PROTOTYPE.getStyle());
+    }
+
+    private static List<Section> copySections(final List<Section> SECTIONS) {
+        List<Section> copies = new ArrayList<>(SECTIONS.size());
+        for (Section section : SECTIONS) {
+            copies.add(new Section(section.getStart(), section.getStop(), section.getText(), section.getImage(), section.getColor(), section.getHighlightColor(), section.getTextColor(), section.getStyleClass()));
+        }
+        return copies;
     }
 
     public void reInit() {
@@ -923,6 +1130,11 @@ public class Gauge extends Control {
      */
     public double getOldValue() { return oldValue.get(); }
     public ReadOnlyDoubleProperty oldValueProperty() { return oldValue; }
+    /**
+     * Sets the oldValue to the current value, e.g. if a pooled gauge
+     * will be reused for an unrelated value.
+     */
+    public void resetOldValue() { oldValue.set(getValue()); }
 
     /**
      * Returns the last value of the Gauge. This will be the last value during
@@ -949,7 +1161,7 @@ public class Gauge extends Control {
      * @param VALUE
      */
     public void setMinValue(final double VALUE) {
-        if (Status.RUNNING == timeline.getStatus()) { timeline.jumpTo(Duration.ONE); }
+        restartAnimations();
         if (null == minValue) {
             if (VALUE > getMaxValue()) { setMaxValue(VALUE); }
             _minValue = Helper.clamp(-Double.MAX_VALUE, getMaxValue(), VALUE);
@@ -998,7 +1210,7 @@ public class Gauge extends Control {
      * @param VALUE
      */
     public void setMaxValue(final double VALUE) {
-        if (Status.RUNNING == timeline.getStatus()) { timeline.jumpTo(Duration.ONE); }
+        restartAnimations();
         if (null == maxValue) {
             if (VALUE < getMinValue()) { setMinValue(VALUE); }
             _maxValue = Helper.clamp(getMinValue(), Double.MAX_VALUE, VALUE);
@@ -1048,6 +1260,18 @@ public class Gauge extends Control {
      * @param RANGE
      */
     private void setRange(final double RANGE) {
+        model.setMaxValue(getMaxValue());
+        model.setMinValue(getMinValue());
+        // The model clamps its threshold to the new range, the gauge has to do the same
+        final double THRESHOLD = model.getThreshold();
+        if (Double.compare(THRESHOLD, getThreshold()) != 0) {
+            if (null == threshold) {
+                _threshold = THRESHOLD;
+                fireUpdateEvent(RESIZE_EVENT);
+            } else {
+                threshold.set(THRESHOLD);
+            }
+        }
         if (null == range) {
             _range = RANGE;
             setAngleStep(getAngleRange() / RANGE);
@@ -1055,6 +1279,11 @@ public class Gauge extends Control {
             range.set(RANGE);
         }
     }
+
+    private void restartAnimations() {
+        AnimationEngine.restart(currentValueAnimation);
+        AnimationEngine.restart(returnToZeroAnimation);
+    }
     public ReadOnlyDoubleProperty rangeProperty() {
         if (null == range) {
             range = new DoublePropertyBase((getMaxValue() - getMinValue())) {
@@ -1085,6 +1314,7 @@ public class Gauge extends Control {
         originalThreshold = THRESHOLD;
         if (null == threshold) {
             _threshold = Helper.clamp(getMinValue(), getMaxValue(), THRESHOLD);
+            model.setThreshold(_threshold);
             fireUpdateEvent(RESIZE_EVENT);
         } else {
             threshold.set(THRESHOLD);
@@ -1096,6 +1326,7 @@ public class Gauge extends Control {
                 @Override protected void invalidated() {
                     final double THRESHOLD = get();
                     if (THRESHOLD < getMinValue() || THRESHOLD > getMaxValue()) set(Helper.clamp(getMinValue(), getMaxValue(), THRESHOLD));
+                    model.setThreshold(get());
                     fireUpdateEvent(RESIZE_EVENT);
                 }
                 @Override public Object getBean() { return Gauge.this; }
@@ -1220,22 +1451,19 @@ public class Gauge extends Control {
      * Returns the moving average object
      * @return the moving average object
      */
-    public MovingAverage getMovingAverage() {
-        if (null == movingAverage) { movingAverage = new MovingAverage(getAveragingPeriod()); }
-        return movingAverage;
-    }
+    public MovingAverage getMovingAverage() { return model.getMovingAverage(); }
 
     /**
      * Returns true if the averaging functionality is enabled.
      * @return true if the averaging functionality is enabled
      */
-    public boolean isAveragingEnabled() { return null == averagingEnabled ? _averagingEnabled : averagingEnabled.get(); }
+    public boolean isAveragingEnabled() { return null == averagingEnabled ? model.isAveragingEnabled() : averagingEnabled.get(); }
     /**
      * Defines if the averaging functionality will be enabled.
      */
     public void setAveragingEnabled(final boolean ENABLED) {
         if (null == averagingEnabled) {
-            _averagingEnabled = ENABLED;
+            model.setAveragingEnabled(ENABLED);
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             averagingEnabled.set(ENABLED);
@@ -1243,8 +1471,11 @@ public class Gauge extends Control {
     }
     public BooleanProperty averagingEnabledProperty() {
         if (null == averagingEnabled) {
-            averagingEnabled = new BooleanPropertyBase(_averagingEnabled) {
-                @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
+            averagingEnabled = new BooleanPropertyBase(model.isAveragingEnabled()) {
+                @Override protected void invalidated() {
+                    model.setAveragingEnabled(get());
+                    fireUpdateEvent(REDRAW_EVENT);
+                }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "averagingEnabled"; }
             };
@@ -1258,7 +1489,7 @@ public class Gauge extends Control {
      * range of 1 - 1000.
      * @return the number of values used for averaging
      */
-    public int getAveragingPeriod() { return null == averagingPeriod ? _averagingPeriod : averagingPeriod.get(); }
+    public int getAveragingPeriod() { return null == averagingPeriod ? model.getAveragingPeriod() : averagingPeriod.get(); }
     /**
      * Defines the number values that should be used for
      * the averaging of values. The value must be in the
@@ -1267,8 +1498,7 @@ public class Gauge extends Control {
      */
     public void setAveragingPeriod(final int PERIOD) {
         if (null == averagingPeriod) {
-            _averagingPeriod = PERIOD;
-            getMovingAverage().setPeriod(_averagingPeriod); // MAX 1000 values
+            model.setAveragingPeriod(PERIOD); // MAX 1000 values
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             averagingPeriod.set(PERIOD);
@@ -1276,9 +1506,9 @@ public class Gauge extends Control {
     }
     public IntegerProperty averagingPeriodProperty() {
         if (null == averagingPeriod) {
-            averagingPeriod = new IntegerPropertyBase(_averagingPeriod) {
+            averagingPeriod = new IntegerPropertyBase(model.getAveragingPeriod()) {
                 @Override protected void invalidated() {
-                    getMovingAverage().setPeriod(_averagingPeriod); // MAX 1000 values
+                    model.setAveragingPeriod(get()); // MAX 1000 values
                     fireUpdateEvent(REDRAW_EVENT);
                 }
                 @Override public Object getBean() { return Gauge.this; }
@@ -1293,20 +1523,20 @@ public class Gauge extends Control {
      * be used to calculate the moving average.
      * @return the current list of Data objects used for the moving average
      */
-    public Queue<Data> getAveragingWindow() { return movingAverage.getWindow(); }
+    public Queue<Data> getAveragingWindow() { return model.getMovingAverage().getWindow(); }
 
     /**
      * Returns the moving average over the number of values
      * defined by averagingPeriod.
      * @return the moving the average over the number of values defined by averagingPeriod
      */
-    public double getAverage() { return movingAverage.getAverage(); }
+    public double getAverage() { return model.getAverage(); }
     /**
      * Returns the moving average over the given duration.
      * @param DURATION
      * @return the moving average over the given duration
      */
-    public double getTimeBasedAverageOf(final java.time.Duration DURATION) { return movingAverage.getTimeBasedAverageOf(DURATION); }
+    public double getTimeBasedAverageOf(final java.time.Duration DURATION) { return model.getMovingAverage().getTimeBasedAverageOf(DURATION); }
 
     /**
      * Returns an observable list of Section objects. The sections
@@ -1746,21 +1976,18 @@ public class Gauge extends Control {
      *
      * @return the smallest value that was measured after the last reset
      */
-    public double getMinMeasuredValue() { return null == minMeasuredValue ? _minMeasuredValue : minMeasuredValue.get(); }
+    public double getMinMeasuredValue() { return null == minMeasuredValue ? model.getMinMeasuredValue() : minMeasuredValue.get(); }
     /**
      * Sets the minMeasuredValue to the given value.
      *
      * @param MIN_MEASURED_VALUE
      */
     public void setMinMeasuredValue(final double MIN_MEASURED_VALUE) {
-        if (null == minMeasuredValue) {
-            _minMeasuredValue = MIN_MEASURED_VALUE;
-        } else {
-            minMeasuredValue.set(MIN_MEASURED_VALUE);
-        }
+        model.setMinMeasuredValue(MIN_MEASURED_VALUE);
+        if (null != minMeasuredValue) { minMeasuredValue.set(MIN_MEASURED_VALUE); }
     }
     public ReadOnlyDoubleProperty minMeasuredValueProperty() {
-        if (null == minMeasuredValue) { minMeasuredValue = new SimpleDoubleProperty(this, "minMeasuredValue", _minMeasuredValue); }
+        if (null == minMeasuredValue) { minMeasuredValue = new SimpleDoubleProperty(this, "minMeasuredValue", model.getMinMeasuredValue()); }
         return minMeasuredValue;
     }
 
@@ -1771,7 +1998,7 @@ public class Gauge extends Control {
      * @return the biggest value that was measured after the last reset
      */
     public double getMaxMeasuredValue() {
-        return null == maxMeasuredValue ? _maxMeasuredValue : maxMeasuredValue.get();
+        return null == maxMeasuredValue ? model.getMaxMeasuredValue() : maxMeasuredValue.get();
     }
     /**
      * Sets the maxMeasuredVAlue to the given value.
@@ -1779,14 +2006,11 @@ public class Gauge extends Control {
      * @param MAX_MEASURED_VALUE
      */
     public void setMaxMeasuredValue(final double MAX_MEASURED_VALUE) {
-        if (null == maxMeasuredValue) {
-            _maxMeasuredValue = MAX_MEASURED_VALUE;
-        } else {
-            maxMeasuredValue.set(MAX_MEASURED_VALUE);
-        }
+        model.setMaxMeasuredValue(MAX_MEASURED_VALUE);
+        if (null != maxMeasuredValue) { maxMeasuredValue.set(MAX_MEASURED_VALUE); }
     }
     public ReadOnlyDoubleProperty maxMeasuredValueProperty() {
-        if (null == maxMeasuredValue) { maxMeasuredValue = new SimpleDoubleProperty(this, "maxMeasuredValue", _maxMeasuredValue); }
+        if (null == maxMeasuredValue) { maxMeasuredValue = new SimpleDoubleProperty(this, "maxMeasuredValue", model.getMaxMeasuredValue()); }
         return maxMeasuredValue;
     }
 
@@ -2255,6 +2479,29 @@ public class Gauge extends Control {
      */
     public void setAnimationDuration(final long ANIMATION_DURATION) { animationDuration = Helper.clamp(10, 10000, ANIMATION_DURATION); }
 
+    /**
+     * Returns the mode that will be used to animate the needle/bar of the
+     * gauge if animated == true.
+     * STANDARD: Every new value starts a new animation with the duration
+     * defined in animationDuration. Values that arrive faster than the
+     * animationDuration will be set without animation.
+     * SPRING: The needle/bar follows the value with a critically damped
+     * spring that settles within animationDuration. A new value retargets
+     * the running spring without a jump in position or speed which makes
+     * this mode useful for high data rates.
+     *
+     * @return the mode that will be used to animate the needle/bar
+     */
+    public AnimationMode getAnimationMode() { return animationMode; }
+    /**
+     * Defines the mode that will be used to animate the needle/bar of the
+     * gauge if animated == true. In SPRING mode the NeedleBehavior will
+     * not be taken into account.
+     *
+     * @param MODE
+     */
+    public void setAnimationMode(final AnimationMode MODE) { animationMode = null == MODE ? AnimationMode.STANDARD : MODE; }
+
     /**
      * Returns the angle in degree that defines the start of the scale with
      * it's minValue in a radial gauge. If set to 0 the scale will start at
@@ -3993,7 +4240,7 @@ public class Gauge extends Control {
      *
      * @return true if the value of the gauge should be checked against the threshold
      */
-    public boolean isCheckThreshold() { return null == checkThreshold ? _checkThreshold : checkThreshold.get(); }
+    public boolean isCheckThreshold() { return null == checkThreshold ? model.isCheckThreshold() : checkThreshold.get(); }
     /**
      * Defines if the value of the gauge should be checked against
      * the threshold. If a value crosses the threshold it will fire an
@@ -4004,13 +4251,19 @@ public class Gauge extends Control {
      */
     public void setCheckThreshold(final boolean CHECK) {
         if (null == checkThreshold) {
-            _checkThreshold = CHECK;
+            model.setCheckThreshold(CHECK);
         } else {
             checkThreshold.set(CHECK);
         }
     }
     public BooleanProperty checkThresholdProperty() {
-        if (null == checkThreshold) { checkThreshold = new SimpleBooleanProperty(Gauge.this, "checkThreshold", _checkThreshold); }
+        if (null == checkThreshold) {
+            checkThreshold = new BooleanPropertyBase(model.isCheckThreshold()) {
+                @Override protected void invalidated() { model.setCheckThreshold(get()); }
+                @Override public Object getBean() { return Gauge.this; }
+                @Override public String getName() { return "checkThreshold"; }
+            };
+        }
         return checkThreshold;
     }
 
@@ -4881,9 +5134,9 @@ public class Gauge extends Control {
         if (null == ledBlinking) {
             _ledBlinking = BLINKING;
             if (_ledBlinking) {
-                startBlinkExecutorService();
+                BlinkCoordinator.register(Gauge.this);
             } else {
-                if (null != blinkFuture) blinkFuture.cancel(true);
+                BlinkCoordinator.unregister(Gauge.this);
                 setLedOn(false);
             }
         } else {
@@ -4895,9 +5148,9 @@ public class Gauge extends Control {
             ledBlinking = new BooleanPropertyBase(_ledBlinking) {
                 @Override protected void invalidated() {
                     if (get()) {
-                        startBlinkExecutorService();
+                        BlinkCoordinator.register(Gauge.this);
                     } else {
-                        if (null != blinkFuture) blinkFuture.cancel(true);
+                        BlinkCoordinator.unregister(Gauge.this);
                         setLedOn(false);
                     }
                 }
@@ -5443,51 +5696,22 @@ public class Gauge extends Control {
      * Calling this method will lead to a recalculation of the scale
      */
     public void calcAutoScale() {
-        double maxNoOfMajorTicks = 10;
-        double maxNoOfMinorTicks = 10;
-        double minValue          = getMinValue();
-        double maxValue          = getMaxValue();
-        double range             = maxValue - minValue;
-        double niceRange         = (Helper.calcNiceNumber(range, false));
-        setMajorTickSpace(Helper.calcNiceNumber(niceRange / (maxNoOfMajorTicks - 1), true));
-        double niceMinValue      = (Math.floor(minValue / getMajorTickSpace()) * getMajorTickSpace());
-        double niceMaxValue      = (Math.ceil(maxValue / getMajorTickSpace()) * getMajorTickSpace());
-        setMinorTickSpace(Helper.calcNiceNumber(getMajorTickSpace() / (maxNoOfMinorTicks - 1), true));
-        setMinValue(niceMinValue);
-        setMaxValue(niceMaxValue);
+        final double[] SCALE = GaugeModel.calcAutoScale(getMinValue(), getMaxValue());
+        setMajorTickSpace(SCALE[2]);
+        setMinorTickSpace(SCALE[3]);
+        setMinValue(SCALE[0]);
+        setMaxValue(SCALE[1]);
     }
 
 
     // ******************** Misc **********************************************
-    private synchronized void createBlinkTask() {
-        blinkTask = new Callable<Void>() {
-            @Override public Void call() throws Exception {
-                try {
-                    Platform.runLater(() -> setLedOn(!isLedOn()));
-                } finally {
-                    if (!Thread.currentThread().isInterrupted()) {
-                        // Schedule the same Callable with the current updateInterval
-                        blinkFuture = blinkService.schedule(this, LED_BLINK_INTERVAL, TimeUnit.MILLISECONDS);
-                    }
-                }
-                return null;
-            }
-        };
-    }
-    private synchronized void startBlinkExecutorService() {
-        if (null == blinkTask) { createBlinkTask(); }
-        if (null == blinkService) { blinkService = new ScheduledThreadPoolExecutor(2, Helper.getThreadFactory("BlinkTask", true)); }
-        blinkFuture = blinkService.schedule(blinkTask, LED_BLINK_INTERVAL, TimeUnit.MILLISECONDS);
-    }
-
     /**
      * Calling this method will stop all threads. This is needed when using
      * JavaFX on mobile devices when the device goes to sleep mode.
      */
     public void stop() {
         setLedOn(false);
-        if (null != blinkFuture) { blinkFuture.cancel(true); }
-        if (null != blinkService) { blinkService.shutdownNow(); }
+        BlinkCoordinator.unregister(Gauge.this);
     }
 
     private void createShutdownHook() { Runtime.getRuntime().addShutdownHook(new Thread(() -> stop())); }
@@ -5576,46 +5800,60 @@ public class Gauge extends Control {
 
     public SkinType getSkinType() { return skinType; }
     public void setSkinType(final SkinType SKIN_TYPE) {
-        skinType = SKIN_TYPE;
-        presetGaugeParameters(skinType);
-        switch (SKIN_TYPE) {
-            case AMP            : super.setSkin(new AmpSkin(Gauge.this)); break;
-            case PLAIN_AMP      : super.setSkin(new PlainAmpSkin(Gauge.this)); break;
-            case BULLET_CHART   : super.setSkin(new BulletChartSkin(Gauge.this)); break;
-            case DASHBOARD      : super.setSkin(new DashboardSkin(Gauge.this)); break;
-            case FLAT           : super.setSkin(new FlatSkin(Gauge.this)); break;
-            case INDICATOR      : super.setSkin(new IndicatorSkin(Gauge.this)); break;
-            case KPI            : super.setSkin(new KpiSkin(Gauge.this)); break;
-            case MODERN         : super.setSkin(new ModernSkin(Gauge.this)); break;
-            case SIMPLE         : super.setSkin(new SimpleSkin(Gauge.this)); break;
-            case SLIM           : super.setSkin(new SlimSkin(Gauge.this)); break;
-            case SPACE_X        : super.setSkin(new SpaceXSkin(Gauge.this)); break;
-            case QUARTER        : super.setSkin(new QuarterSkin(Gauge.this)); break;
-            case HORIZONTAL     : super.setSkin(new HSkin(Gauge.this)); break;
-            case VERTICAL       : super.setSkin(new VSkin(Gauge.this)); break;
-            case LCD            : super.setSkin(new LcdSkin(Gauge.this)); break;
-            case TINY           : super.setSkin(new TinySkin(Gauge.this)); break;
-            case BATTERY        : super.setSkin(new BatterySkin(Gauge.this)); break;
-            case LEVEL          : super.setSkin(new LevelSkin(Gauge.this)); break;
-            case LINEAR         : super.setSkin(new LinearSkin(Gauge.this)); break;
-            case DIGITAL        : super.setSkin(new DigitalSkin(Gauge.this)); break;
-            case SIMPLE_DIGITAL : super.setSkin(new SimpleDigitalSkin(Gauge.this)); break;
-            case SECTION        : super.setSkin(new SectionSkin(Gauge.this)); break;
-            case BAR            : super.setSkin(new BarSkin(Gauge.this)); break;
-            case WHITE          : super.setSkin(new WhiteSkin(Gauge.this)); break;
-            case CHARGE         : super.setSkin(new ChargeSkin(Gauge.this)); break;
-            case SIMPLE_SECTION : super.setSkin(new SimpleSectionSkin(Gauge.this)); break;
-            case TILE_KPI       : super.setSkin(new TileKpiSkin(Gauge.this)); break;
-            case TILE_TEXT_KPI  : super.setSkin(new TileTextKpiSkin(Gauge.this)); break;
-            case TILE_SPARK_LINE: super.setSkin(new TileSparklineSkin(Gauge.this)); break;
-            case NASA           : super.setSkin(new NasaSkin(Gauge.this)); break;
-            case GAUGE          :
-            default             : super.setSkin(new GaugeSkin(Gauge.this)); break;
+        beginUpdate();
+        try {
+            skinType = SKIN_TYPE;
+            presetGaugeParameters(skinType);
+            switch (SKIN_TYPE) {
+                case AMP            : super.setSkin(new AmpSkin(Gauge.this)); break;
+                case PLAIN_AMP      : super.setSkin(new PlainAmpSkin(Gauge.this)); break;
+                case BULLET_CHART   : super.setSkin(new BulletChartSkin(Gauge.this)); break;
+                case DASHBOARD      : super.setSkin(new DashboardSkin(Gauge.this)); break;
+                case FLAT           : super.setSkin(new FlatSkin(Gauge.this)); break;
+                case INDICATOR      : super.setSkin(new IndicatorSkin(Gauge.this)); break;
+                case KPI            : super.setSkin(new KpiSkin(Gauge.this)); break;
+                case MODERN         : super.setSkin(new ModernSkin(Gauge.this)); break;
+                case SIMPLE         : super.setSkin(new SimpleSkin(Gauge.this)); break;
+                case SLIM           : super.setSkin(new SlimSkin(Gauge.this)); break;
+                case SPACE_X        : super.setSkin(new SpaceXSkin(Gauge.this)); break;
+                case QUARTER        : super.setSkin(new QuarterSkin(Gauge.this)); break;
+                case HORIZONTAL     : super.setSkin(new HSkin(Gauge.this)); break;
+                case VERTICAL       : super.setSkin(new VSkin(Gauge.this)); break;
+                case LCD            : super.setSkin(new LcdSkin(Gauge.this)); break;
+                case TINY           : super.setSkin(new TinySkin(Gauge.this)); break;
+                case BATTERY        : super.setSkin(new BatterySkin(Gauge.this)); break;
+                case LEVEL          : super.setSkin(new LevelSkin(Gauge.this)); break;
+                case LINEAR         : super.setSkin(new LinearSkin(Gauge.this)); break;
+                case DIGITAL        : super.setSkin(new DigitalSkin(Gauge.this)); break;
+                case SIMPLE_DIGITAL : super.setSkin(new SimpleDigitalSkin(Gauge.this)); break;
+                case SECTION        : super.setSkin(new SectionSkin(Gauge.this)); break;
+                case BAR            : super.setSkin(new BarSkin(Gauge.this)); break;
+                case WHITE          : super.setSkin(new WhiteSkin(Gauge.this)); break;
+                case CHARGE         : super.setSkin(new ChargeSkin(Gauge.this)); break;
+                case SIMPLE_SECTION : super.setSkin(new SimpleSectionSkin(Gauge.this)); break;
+                case TILE_KPI       : super.setSkin(new TileKpiSkin(Gauge.this)); break;
+                case TILE_TEXT_KPI  : super.setSkin(new TileTextKpiSkin(Gauge.this)); break;
+                case TILE_SPARK_LINE: super.setSkin(new TileSparklineSkin(Gauge.this)); break;
+                case NASA           : super.setSkin(new NasaSkin(Gauge.this)); break;
+                case GAUGE          :
+                default             : super.setSkin(new GaugeSkin(Gauge.this)); break;
+            }
+            fireUpdateEvent(RESIZE_EVENT);
+        } finally {
+            endUpdate();
         }
-        fireUpdateEvent(RESIZE_EVENT);
     }
 
     public void presetGaugeParameters(final SkinType SKIN_TYPE) {
+        beginUpdate();
+        try {
+            applyGaugeParameters(SKIN_TYPE);
+        } finally {
+            endUpdate();
+        }
+    }
+
+    private void applyGaugeParameters(final SkinType SKIN_TYPE) {
         reInit();
         switch (SKIN_TYPE) {
             case AMP:
@@ -5882,8 +6120,41 @@ public class Gauge extends Control {
     public void addUpdateEventListener(final UpdateEventListener LISTENER) { if (!listenerList.contains(LISTENER)) listenerList.add(LISTENER); }
     public void removeUpdateEventListener(final UpdateEventListener LISTENER) { if (listenerList.contains(LISTENER)) listenerList.remove(LISTENER); }
 
+    /**
+     * Starts a batch update. All update events that are fired until the
+     * matching call of endUpdate() will be collected and fired only once
+     * (per event type) when the batch ends instead of forcing the skin to
+     * recalculate and redraw after each single property change.
+     * Calls to beginUpdate() / endUpdate() can be nested.
+     */
+    public void beginUpdate() { updateDepth++; }
+
+    /**
+     * Ends a batch update started with beginUpdate(). If this was the
+     * outermost batch, a single RECALC and REDRAW event plus every other
+     * event type that was fired during the batch will be fired once.
+     */
+    public void endUpdate() {
+        if (updateDepth == 0) { throw new IllegalStateException("endUpdate() called without beginUpdate()"); }
+        updateDepth--;
+        if (updateDepth > 0 || batchedEvents.isEmpty()) { return; }
+        batchedEvents.put(UpdateEvent.EventType.RECALC, RECALC_EVENT);
+        batchedEvents.put(UpdateEvent.EventType.REDRAW, REDRAW_EVENT);
+        UpdateEvent[] events = new UpdateEvent[UpdateEvent.BATCH_ORDER.size()];
+        for (int i = 0 ; i < events.length ; i++) { events[i] = batchedEvents.get(UpdateEvent.BATCH_ORDER.get(i)); }
+        batchedEvents.clear();
+        for (UpdateEvent event : events) { if (null != event) { fireUpdateEvent(event); } }
+    }
+
+    /**
+     * @return true if a batch update is in progress
+     */
+    public boolean isUpdating() { return updateDepth > 0; }
+
     public void fireUpdateEvent(final UpdateEvent EVENT) {
-        if (null != showing && showing.get()) {
+        if (updateDepth > 0) {
+            batchedEvents.put(EVENT.eventType, EVENT);
+        } else if (null != showing && showing.get()) {
             for (UpdateEventListener listener : listenerList) { listener.onUpdateEvent(EVENT); }
         } else {
             updateEventQueue.add(EVENT);
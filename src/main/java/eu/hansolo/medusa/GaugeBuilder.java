@@ -17,6 +17,7 @@
  */
 package eu.hansolo.medusa;
 
+import eu.hansolo.medusa.Gauge.AnimationMode;
 import eu.hansolo.medusa.Gauge.KnobType;
 import eu.hansolo.medusa.Gauge.LedType;
 import eu.hansolo.medusa.Gauge.NeedleBehavior;
@@ -25,27 +26,14 @@ import eu.hansolo.medusa.Gauge.NeedleSize;
 import eu.hansolo.medusa.Gauge.NeedleType;
 import eu.hansolo.medusa.Gauge.ScaleDirection;
 import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.GaugeSettings.Key;
 import eu.hansolo.medusa.tools.GradientLookup;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 
 import eu.hansolo.medusa.tools.Helper;
 import javafx.beans.InvalidationListener;
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.LongProperty;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.Property;
-import javafx.beans.property.SimpleBooleanProperty;
-import javafx.beans.property.SimpleDoubleProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-import javafx.beans.property.SimpleLongProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.property.StringProperty;
 import javafx.event.EventHandler;
 import javafx.geometry.Dimension2D;
 import javafx.geometry.Insets;
@@ -61,7 +49,7 @@ import javafx.scene.text.Font;
  * Created by hansolo on 13.12.15.
  */
 public class GaugeBuilder<B extends GaugeBuilder<B>> {
-    private HashMap<String, Property> properties = new HashMap<>();
+    private final GaugeSettings settings = new GaugeSettings();
 
 
     // ******************** Constructors **************************************
@@ -74,772 +62,801 @@ public class GaugeBuilder<B extends GaugeBuilder<B>> {
     }
 
     public final B skinType(final SkinType TYPE) {
-        properties.put("skinType", new SimpleObjectProperty<>(TYPE));
+        settings.setObject(Key.SKIN_TYPE, TYPE);
         return (B)this;
     }
 
     public final B value(final double VALUE) {
-        properties.put("value", new SimpleDoubleProperty(VALUE));
+        settings.setDouble(Key.VALUE, VALUE);
         return (B) this;
     }
 
     public final B minValue(final double VALUE) {
-        properties.put("minValue", new SimpleDoubleProperty(VALUE));
+        settings.setDouble(Key.MIN_VALUE, VALUE);
         return (B) this;
     }
 
     public final B maxValue(final double VALUE) {
-        properties.put("maxValue", new SimpleDoubleProperty(VALUE));
+        settings.setDouble(Key.MAX_VALUE, VALUE);
         return (B) this;
     }
 
     public final B threshold(final double VALUE) {
-        properties.put("threshold", new SimpleDoubleProperty(VALUE));
+        settings.setDouble(Key.THRESHOLD, VALUE);
         return (B)this;
     }
 
     public final B decimals(final int DECIMALS) {
-        properties.put("decimals", new SimpleIntegerProperty(DECIMALS));
+        settings.setInt(Key.DECIMALS, DECIMALS);
         return (B) this;
     }
 
     public final B tickLabelDecimals(final int DECIMALS) {
-        properties.put("tickLabelDecimals", new SimpleIntegerProperty(DECIMALS));
+        settings.setInt(Key.TICK_LABEL_DECIMALS, DECIMALS);
         return (B)this;
     }
 
     public final B title(final String TITLE) {
-        properties.put("title", new SimpleStringProperty(TITLE));
+        settings.setObject(Key.TITLE, TITLE);
         return (B)this;
     }
 
     public final B subTitle(final String SUBTITLE) {
-        properties.put("subTitle", new SimpleStringProperty(SUBTITLE));
+        settings.setObject(Key.SUB_TITLE, SUBTITLE);
         return (B)this;
     }
 
     public final B unit(final String UNIT) {
-        properties.put("unit", new SimpleStringProperty(UNIT));
+        settings.setObject(Key.UNIT, UNIT);
         return (B)this;
     }
 
     public final B averagingEnabled(final boolean ENABLED) {
-        properties.put("averagingEnabled", new SimpleBooleanProperty(ENABLED));
+        settings.setBoolean(Key.AVERAGING_ENABLED, ENABLED);
         return (B)this;
     }
 
     public final B averagingPeriod(final int PERIOD) {
-        properties.put("averagingPeriod", new SimpleIntegerProperty(PERIOD));
+        settings.setInt(Key.AVERAGING_PERIOD, PERIOD);
         return (B)this;
     }
 
     public final B foregroundBaseColor(final Color COLOR) {
-        properties.put("foregroundBaseColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.FOREGROUND_BASE_COLOR, COLOR);
         return (B)this;
     }
 
     public final B startFromZero(final boolean START) {
-        properties.put("startFromZero", new SimpleBooleanProperty(START));
+        settings.setBoolean(Key.START_FROM_ZERO, START);
         return (B)this;
     }
 
     public final B returnToZero(final boolean RETURN) {
-        properties.put("returnToZero", new SimpleBooleanProperty(RETURN));
+        settings.setBoolean(Key.RETURN_TO_ZERO, RETURN);
         return (B)this;
     }
 
     public final B zeroColor(final Color COLOR) {
-        properties.put("zeroColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.ZERO_COLOR, COLOR);
         return (B)this;
     }
 
     public final B minMeasuredValueVisible(final boolean VISIBLE) {
-        properties.put("minMeasuredValueVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.MIN_MEASURED_VALUE_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B maxMeasuredValueVisible(final boolean VISIBLE) {
-        properties.put("maxMeasuredValueVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.MAX_MEASURED_VALUE_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B oldValueVisible(final boolean VISIBLE) {
-        properties.put("oldValueVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.OLD_VALUE_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B valueVisible(final boolean VISIBLE) {
-        properties.put("valueVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.VALUE_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B backgroundPaint(final Paint PAINT) {
-        properties.put("backgroundPaint", new SimpleObjectProperty<>(PAINT));
+        settings.setObject(Key.BACKGROUND_PAINT, PAINT);
         return (B)this;
     }
 
     public final B borderPaint(final Paint PAINT) {
-        properties.put("borderPaint", new SimpleObjectProperty<>(PAINT));
+        settings.setObject(Key.BORDER_PAINT, PAINT);
         return (B)this;
     }
 
     public final B borderWidth(final double WIDTH) {
-        properties.put("borderWidth", new SimpleDoubleProperty(WIDTH));
+        settings.setDouble(Key.BORDER_WIDTH, WIDTH);
         return (B)this;
     }
 
     public final B foregroundPaint(final Paint PAINT) {
-        properties.put("foregroundPaint", new SimpleObjectProperty<>(PAINT));
+        settings.setObject(Key.FOREGROUND_PAINT, PAINT);
         return (B)this;
     }
 
     public final B knobColor(final Color COLOR) {
-        properties.put("knobColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.KNOB_COLOR, COLOR);
         return (B)this;
     }
 
     public final B knobType(final KnobType TYPE) {
-        properties.put("knobType", new SimpleObjectProperty<>(TYPE));
+        settings.setObject(Key.KNOB_TYPE, TYPE);
         return (B)this;
     }
 
     public final B knobVisible(final boolean VISIBLE) {
-        properties.put("knobVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.KNOB_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B knobPosition(final Pos POSITION) {
-        properties.put("knobPosition", new SimpleObjectProperty<>(POSITION));
+        settings.setObject(Key.KNOB_POSITION, POSITION);
         return (B)this;
     }
 
     public final B animated(final boolean ANIMATED) {
-        properties.put("animated", new SimpleBooleanProperty(ANIMATED));
+        settings.setBoolean(Key.ANIMATED, ANIMATED);
         return (B)this;
     }
 
     public final B animationDuration(final long DURATION) {
-        properties.put("animationDuration", new SimpleLongProperty(DURATION));
+        settings.setLong(Key.ANIMATION_DURATION, DURATION);
+        return (B)this;
+    }
+
+    public final B animationMode(final AnimationMode MODE) {
+        settings.setObject(Key.ANIMATION_MODE, MODE);
         return (B)this;
     }
 
     public final B startAngle(final double ANGLE) {
-        properties.put("startAngle", new SimpleDoubleProperty(ANGLE));
+        settings.setDouble(Key.START_ANGLE, ANGLE);
         return (B)this;
     }
 
     public final B angleRange(final double RANGE) {
-        properties.put("angleRange", new SimpleDoubleProperty(RANGE));
+        settings.setDouble(Key.ANGLE_RANGE, RANGE);
         return (B)this;
     }
 
     public final B arcExtend(final double ARC_EXTEND) {
-        properties.put("arcExtend", new SimpleDoubleProperty(ARC_EXTEND));
+        settings.setDouble(Key.ARC_EXTEND, ARC_EXTEND);
         return (B)this;
     }
 
     public final B autoScale(final boolean AUTO_SCALE) {
-        properties.put("autoScale", new SimpleBooleanProperty(AUTO_SCALE));
+        settings.setBoolean(Key.AUTO_SCALE, AUTO_SCALE);
         return (B)this;
     }
 
     public final B needleType(final NeedleType TYPE) {
-        properties.put("needleType", new SimpleObjectProperty<>(TYPE));
+        settings.setObject(Key.NEEDLE_TYPE, TYPE);
         return (B)this;
     }
 
     public final B needleShape(final NeedleShape SHAPE) {
-        properties.put("needleShape", new SimpleObjectProperty<>(SHAPE));
+        settings.setObject(Key.NEEDLE_SHAPE, SHAPE);
         return (B)this;
     }
 
     public final B needleSize(final NeedleSize SIZE) {
-        properties.put("needleSize", new SimpleObjectProperty<>(SIZE));
+        settings.setObject(Key.NEEDLE_SIZE, SIZE);
         return (B)this;
     }
 
     public final B needleBehavior(final NeedleBehavior BEHAVIOR) {
-        properties.put("needleBehavior", new SimpleObjectProperty<>(BEHAVIOR));
+        settings.setObject(Key.NEEDLE_BEHAVIOR, BEHAVIOR);
         return (B)this;
     }
 
     public final B needleColor(final Color COLOR) {
-        properties.put("needleColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.NEEDLE_COLOR, COLOR);
         return (B)this;
     }
 
     public final B needleBorderColor(final Color COLOR) {
-        properties.put("needleBorderColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.NEEDLE_BORDER_COLOR, COLOR);
         return (B)this;
     }
 
     public final B barColor(final Color COLOR) {
-        properties.put("barColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.BAR_COLOR, COLOR);
         return (B)this;
     }
 
     public final B barBorderColor(final Color COLOR) {
-        properties.put("barBorderColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.BAR_BORDER_COLOR, COLOR);
         return (B)this;
     }
 
     public final B barBackgroundColor(final Color COLOR) {
-        properties.put("barBackgroundColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.BAR_BACKGROUND_COLOR, COLOR);
         return (B)this;
     }
 
     public final B tickLabelOrientation(final TickLabelOrientation ORIENTATION) {
-        properties.put("tickLabelOrientation", new SimpleObjectProperty<>(ORIENTATION));
+        settings.setObject(Key.TICK_LABEL_ORIENTATION, ORIENTATION);
         return (B)this;
     }
 
     public final B tickLabelLocation(final TickLabelLocation LOCATION) {
-        properties.put("tickLabelLocation", new SimpleObjectProperty<>(LOCATION));
+        settings.setObject(Key.TICK_LABEL_LOCATION, LOCATION);
         return (B)this;
     }
 
     public final B locale(final Locale LOCALE) {
-        properties.put("locale", new SimpleObjectProperty<>(LOCALE));
+        settings.setObject(Key.LOCALE, LOCALE);
         return (B)this;
     }
 
     public final B majorTickSpace(final double SPACE) {
-        properties.put("majorTickSpace", new SimpleDoubleProperty(SPACE));
+        settings.setDouble(Key.MAJOR_TICK_SPACE, SPACE);
         return (B)this;
     }
 
     public final B minorTickSpace(final double SPACE) {
-        properties.put("minorTickSpace", new SimpleDoubleProperty(SPACE));
+        settings.setDouble(Key.MINOR_TICK_SPACE, SPACE);
         return (B)this;
     }
 
     public final B shadowsEnabled(final boolean ENABLED) {
-        properties.put("shadowsEnabled", new SimpleBooleanProperty(ENABLED));
+        settings.setBoolean(Key.SHADOWS_ENABLED, ENABLED);
         return (B)this;
     }
 
     public final B barEffectEnabled(final boolean ENABLED) {
-        properties.put("barEffectEnabled", new SimpleBooleanProperty(ENABLED));
+        settings.setBoolean(Key.BAR_EFFECT_ENABLED, ENABLED);
         return (B)this;
     }
 
     public final B scaleDirection(final ScaleDirection DIRECTION) {
-        properties.put("scaleDirection", new SimpleObjectProperty<>(DIRECTION));
+        settings.setObject(Key.SCALE_DIRECTION, DIRECTION);
         return (B)this;
     }
 
     public final B tickLabelColor(final Color COLOR) {
-        properties.put("tickLabelColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.TICK_LABEL_COLOR, COLOR);
         return (B)this;
     }
 
     public final B tickMarkColor(final Color COLOR) {
-        properties.put("tickMarkColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.TICK_MARK_COLOR, COLOR);
         return (B)this;
     }
 
     public final B majorTickMarkColor(final Color COLOR) {
-        properties.put("majorTickMarkColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.MAJOR_TICK_MARK_COLOR, COLOR);
         return (B)this;
     }
 
     public final B majorTickMarkLengthFactor(final double FACTOR) {
-        properties.put("majorTickMarkLengthFactor", new SimpleDoubleProperty(FACTOR));
+        settings.setDouble(Key.MAJOR_TICK_MARK_LENGTH_FACTOR, FACTOR);
         return (B)this;
     }
     
     public final B majorTickMarkWidthFactor(final double FACTOR) {
-        properties.put("majorTickMarkWidthFactor", new SimpleDoubleProperty(FACTOR));
+        settings.setDouble(Key.MAJOR_TICK_MARK_WIDTH_FACTOR, FACTOR);
         return (B)this;
     }
     
     public final B mediumTickMarkColor(final Color COLOR) {
-        properties.put("mediumTickMarkColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.MEDIUM_TICK_MARK_COLOR, COLOR);
         return (B)this;
     }
 
     public final B mediumTickMarkLengthFactor(final double FACTOR) {
-        properties.put("mediumTickMarkLengthFactor", new SimpleDoubleProperty(FACTOR));
+        settings.setDouble(Key.MEDIUM_TICK_MARK_LENGTH_FACTOR, FACTOR);
         return (B)this;
     }
 
     public final B mediumTickMarkWidthFactor(final double FACTOR) {
-        properties.put("mediumTickMarkWidthFactor", new SimpleDoubleProperty(FACTOR));
+        settings.setDouble(Key.MEDIUM_TICK_MARK_WIDTH_FACTOR, FACTOR);
         return (B)this;
     }
     
     public final B minorTickMarkColor(final Color COLOR) {
-        properties.put("minorTickMarkColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.MINOR_TICK_MARK_COLOR, COLOR);
         return (B)this;
     }
 
     public final B minorTickMarkLengthFactor(final double FACTOR) {
-        properties.put("minorTickMarkLengthFactor", new SimpleDoubleProperty(FACTOR));
+        settings.setDouble(Key.MINOR_TICK_MARK_LENGTH_FACTOR, FACTOR);
         return (B)this;
     }
 
     public final B minorTickMarkWidthFactor(final double FACTOR) {
-        properties.put("minorTickMarkWidthFactor", new SimpleDoubleProperty(FACTOR));
+        settings.setDouble(Key.MINOR_TICK_MARK_WIDTH_FACTOR, FACTOR);
         return (B)this;
     }
     
     public final B majorTickMarkType(final TickMarkType TYPE) {
-        properties.put("majorTickMarkType", new SimpleObjectProperty<>(TYPE));
+        settings.setObject(Key.MAJOR_TICK_MARK_TYPE, TYPE);
         return (B)this;
     }
 
     public final B mediumTickMarkType(final TickMarkType TYPE) {
-        properties.put("mediumTickMarkType", new SimpleObjectProperty<>(TYPE));
+        settings.setObject(Key.MEDIUM_TICK_MARK_TYPE, TYPE);
         return (B)this;
     }
 
     public final B minorTickMarkType(final TickMarkType TYPE) {
-        properties.put("minorTickMarkType", new SimpleObjectProperty<>(TYPE));
+        settings.setObject(Key.MINOR_TICK_MARK_TYPE, TYPE);
         return (B)this;
     }
 
     public final B style(final String STYLE) {
-        properties.put("style", new SimpleStringProperty(STYLE));
+        settings.setObject(Key.STYLE, STYLE);
         return (B)this;
     }
 
     public final B styleClass(final String... STYLES) {
-        properties.put("styleClass", new SimpleObjectProperty<>(STYLES));
+        settings.setObject(Key.STYLE_CLASS, STYLES);
         return (B)this;
     }
 
     public final B ledColor(final Color COLOR) {
-        properties.put("ledColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.LED_COLOR, COLOR);
         return (B)this;
     }
 
     public final B ledType(final LedType TYPE) {
-        properties.put("ledType", new SimpleObjectProperty<>(TYPE));
+        settings.setObject(Key.LED_TYPE, TYPE);
         return (B)this;
     }
 
     public final B ledVisible(final boolean VISIBLE) {
-        properties.put("ledVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.LED_VISIBLE, VISIBLE);
         return (B) this;
     }
 
     public final B lcdVisible(final boolean VISIBLE) {
-        properties.put("lcdVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.LCD_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B lcdCrystalEnabled(final boolean ENABLED) {
-        properties.put("lcdCrystalEnabled", new SimpleBooleanProperty(ENABLED));
+        settings.setBoolean(Key.LCD_CRYSTAL_ENABLED, ENABLED);
         return (B)this;
     }
 
     public final B lcdDesign(final LcdDesign DESIGN) {
-        properties.put("lcdDesign", new SimpleObjectProperty<>(DESIGN));
+        settings.setObject(Key.LCD_DESIGN, DESIGN);
         return (B)this;
     }
 
     public final B lcdFont(final LcdFont FONT) {
-        properties.put("lcdFont", new SimpleObjectProperty<>(FONT));
+        settings.setObject(Key.LCD_FONT, FONT);
         return (B)this;
     }
 
     public final B sections(final Section... SECTIONS) {
-        properties.put("sectionsArray", new SimpleObjectProperty<>(SECTIONS));
+        settings.setObject(Key.SECTIONS_ARRAY, SECTIONS);
         return (B)this;
     }
 
     public final B sections(final List<Section> SECTIONS) {
-        properties.put("sectionsList", new SimpleObjectProperty<>(SECTIONS));
+        settings.setObject(Key.SECTIONS_LIST, SECTIONS);
         return (B)this;
     }
 
     public final B areas(final Section... AREAS) {
-        properties.put("areasArray", new SimpleObjectProperty<>(AREAS));
+        settings.setObject(Key.AREAS_ARRAY, AREAS);
         return (B)this;
     }
 
     public final B areas(final List<Section> AREAS) {
-        properties.put("areasList", new SimpleObjectProperty<>(AREAS));
+        settings.setObject(Key.AREAS_LIST, AREAS);
         return (B)this;
     }
 
     public final B tickMarkSections(final Section... SECTIONS) {
-        properties.put("tickMarkSectionsArray", new SimpleObjectProperty<>(SECTIONS));
+        settings.setObject(Key.TICK_MARK_SECTIONS_ARRAY, SECTIONS);
         return (B)this;
     }
 
     public final B tickMarkSections(final List<Section> SECTIONS) {
-        properties.put("tickMarkSectionsList", new SimpleObjectProperty<>(SECTIONS));
+        settings.setObject(Key.TICK_MARK_SECTIONS_LIST, SECTIONS);
         return (B)this;
     }
 
     public final B tickLabelSections(final Section... SECTIONS) {
-        properties.put("tickLabelSectionsArray", new SimpleObjectProperty<>(SECTIONS));
+        settings.setObject(Key.TICK_LABEL_SECTIONS_ARRAY, SECTIONS);
         return (B)this;
     }
 
     public final B tickLabelSections(final List<Section> SECTIONS) {
-        properties.put("tickLabelSectionsList", new SimpleObjectProperty<>(SECTIONS));
+        settings.setObject(Key.TICK_LABEL_SECTIONS_LIST, SECTIONS);
         return (B)this;
     }
 
     public final B markers(final Marker... MARKERS) {
-        properties.put("markersArray", new SimpleObjectProperty<>(MARKERS));
+        settings.setObject(Key.MARKERS_ARRAY, MARKERS);
         return (B)this;
     }
 
     public final B markers(final List<Marker> MARKERS) {
-        properties.put("markersList", new SimpleObjectProperty<>(MARKERS));
+        settings.setObject(Key.MARKERS_LIST, MARKERS);
         return (B)this;
     }
 
     public final B titleColor(final Color COLOR) {
-        properties.put("titleColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.TITLE_COLOR, COLOR);
         return (B)this;
     }
 
     public final B subTitleColor(final Color COLOR) {
-        properties.put("subTitleColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.SUB_TITLE_COLOR, COLOR);
         return (B)this;
     }
 
     public B unitColor(final Color COLOR) {
-        properties.put("unitColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.UNIT_COLOR, COLOR);
         return (B)this;
     }
 
     public B valueColor(final Color COLOR) {
-        properties.put("valueColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.VALUE_COLOR, COLOR);
         return (B)this;
     }
 
     public B thresholdColor(final Color COLOR) {
-        properties.put("thresholdColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.THRESHOLD_COLOR, COLOR);
         return (B)this;
     }
 
     public B averageColor(final Color COLOR) {
-        properties.put("averageColor", new SimpleObjectProperty<>(COLOR));
+        settings.setObject(Key.AVERAGE_COLOR, COLOR);
         return (B)this;
     }
 
     public final B checkSectionsForValue(final boolean CHECK) {
-        properties.put("checkSectionsForValue", new SimpleBooleanProperty(CHECK));
+        settings.setBoolean(Key.CHECK_SECTIONS_FOR_VALUE, CHECK);
         return (B)this;
     }
 
     public final B checkAreasForValue(final boolean CHECK) {
-        properties.put("checkAreasForValue", new SimpleBooleanProperty(CHECK));
+        settings.setBoolean(Key.CHECK_AREAS_FOR_VALUE, CHECK);
         return (B)this;
     }
 
     public final B checkThreshold(final boolean CHECK) {
-        properties.put("checkThreshold", new SimpleBooleanProperty(CHECK));
+        settings.setBoolean(Key.CHECK_THRESHOLD, CHECK);
         return (B)this;
     }
 
     public final B innerShadowEnabled(final boolean ENABLED) {
-        properties.put("innerShadowEnabled", new SimpleBooleanProperty(ENABLED));
+        settings.setBoolean(Key.INNER_SHADOW_ENABLED, ENABLED);
         return (B)this;
     }
 
     public final B thresholdVisible(final boolean VISIBLE) {
-        properties.put("thresholdVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.THRESHOLD_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B averageVisible(final boolean VISIBLE) {
-        properties.put("averageVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.AVERAGE_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B sectionsVisible(final boolean VISIBLE) {
-        properties.put("sectionsVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.SECTIONS_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B sectionsAlwaysVisible(final boolean VISIBLE) {
-        properties.put("sectionsAlwaysVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.SECTIONS_ALWAYS_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B sectionTextVisible(final boolean VISIBLE) {
-        properties.put("sectionTextVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.SECTION_TEXT_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B sectionIconsVisible(final boolean VISIBLE) {
-        properties.put("sectionIconsVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.SECTION_ICONS_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B highlightSections(final boolean HIGHLIGHT) {
-        properties.put("highlightSections", new SimpleBooleanProperty(HIGHLIGHT));
+        settings.setBoolean(Key.HIGHLIGHT_SECTIONS, HIGHLIGHT);
         return (B)this;
     }
 
     public final B areasVisible(final boolean VISIBLE) {
-        properties.put("areasVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.AREAS_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B areaTextVisible(final boolean VISIBLE) {
-        properties.put("areaTextVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.AREA_TEXT_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B areaIconsVisible(final boolean VISIBLE) {
-        properties.put("areaIconsVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.AREA_ICONS_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B highlightAreas(final boolean HIGHLIGHT) {
-        properties.put("highlightAreas", new SimpleBooleanProperty(HIGHLIGHT));
+        settings.setBoolean(Key.HIGHLIGHT_AREAS, HIGHLIGHT);
         return (B)this;
     }
 
     public final B tickMarkSectionsVisible(final boolean VISIBLE) {
-        properties.put("tickMarkSectionsVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.TICK_MARK_SECTIONS_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B tickLabelSectionsVisible(final boolean VISIBLE) {
-        properties.put("tickLabelSectionsVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.TICK_LABEL_SECTIONS_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B markersVisible(final boolean VISIBLE) {
-        properties.put("markersVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.MARKERS_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B tickLabelsVisible(final boolean VISIBLE) {
-        properties.put("tickLabelsVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.TICK_LABELS_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B onlyFirstAndLastTickLabelVisible(final boolean VISIBLE) {
-        properties.put("onlyFirstAndLastTickLabelVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.ONLY_FIRST_AND_LAST_TICK_LABEL_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B majorTickMarksVisible(final boolean VISIBLE) {
-        properties.put("majorTickMarksVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.MAJOR_TICK_MARKS_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B mediumTickMarksVisible(final boolean VISIBLE) {
-        properties.put("mediumTickMarksVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.MEDIUM_TICK_MARKS_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B minorTickMarksVisible(final boolean VISIBLE) {
-        properties.put("minorTickMarksVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.MINOR_TICK_MARKS_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B tickMarkRingVisible(final boolean VISIBLE) {
-        properties.put("tickMarkRingVisible", new SimpleBooleanProperty(VISIBLE));
+        settings.setBoolean(Key.TICK_MARK_RING_VISIBLE, VISIBLE);
         return (B)this;
     }
 
     public final B ledOn(final boolean ON) {
-        properties.put("ledOn", new SimpleBooleanProperty(ON));
+        settings.setBoolean(Key.LED_ON, ON);
         return (B)this;
     }
 
     public final B ledBlinking(final boolean BLINKING) {
-        properties.put("ledBlinking", new SimpleBooleanProperty(BLINKING));
+        settings.setBoolean(Key.LED_BLINKING, BLINKING);
         return (B)this;
     }
 
     public final B orientation(final Orientation ORIENTATION) {
-        properties.put("orientation", new SimpleObjectProperty<>(ORIENTATION));
+        settings.setObject(Key.ORIENTATION, ORIENTATION);
         return (B)this;
     }
 
     public final B gradientBarEnabled(final boolean ENABLED) {
-        properties.put("gradientBarEnabled", new SimpleBooleanProperty(ENABLED));
+        settings.setBoolean(Key.GRADIENT_BAR_ENABLED, ENABLED);
         return (B)this;
     }
 
     public final B gradientLookup(final GradientLookup GRADIENT_LOOKUP) {
-        properties.put("gradientLookup", new SimpleObjectProperty<>(GRADIENT_LOOKUP));
+        settings.setObject(Key.GRADIENT_LOOKUP, GRADIENT_LOOKUP);
         return (B)this;
     }
 
     public final B gradientBarStops(final Stop... STOPS) {
-        properties.put("gradientBarStopsArray", new SimpleObjectProperty<>(STOPS));
+        settings.setObject(Key.GRADIENT_BAR_STOPS_ARRAY, STOPS);
         return (B)this;
     }
 
     public final B gradientBarStops(final List<Stop> STOPS) {
-        properties.put("gradientBarStopsList", new SimpleObjectProperty<>(STOPS));
+        settings.setObject(Key.GRADIENT_BAR_STOPS_LIST, STOPS);
         return (B)this;
     }
 
     public final B customTickLabelsEnabled(final boolean ENABLED) {
-        properties.put("customTickLabelsEnabled", new SimpleBooleanProperty(ENABLED));
+        settings.setBoolean(Key.CUSTOM_TICK_LABELS_ENABLED, ENABLED);
         return (B)this;
     }
 
     public final B customTickLabelFontSizeEnabled(final boolean ENABLED) {
-        properties.put("customTickLabelFontSizeEnabled", new SimpleBooleanProperty(ENABLED));
+        settings.setBoolean(Key.CUSTOM_TICK_LABEL_FONT_SIZE_ENABLED, ENABLED);
         return (B)this;
     }
 
     public final B customTickLabels(final String... TICK_LABELS) {
-        properties.put("customTickLabelsArray", new SimpleObjectProperty<>(TICK_LABELS));
+        settings.setObject(Key.CUSTOM_TICK_LABELS_ARRAY, TICK_LABELS);
         return (B)this;
     }
 
     public final B customTickLabels(final List<String> TICK_LABELS) {
-        properties.put("customTickLabelsList", new SimpleObjectProperty<>(TICK_LABELS));
+        settings.setObject(Key.CUSTOM_TICK_LABELS_LIST, TICK_LABELS);
         return (B)this;
     }
 
     public final B customTickLabelFontSize(final double SIZE) {
-        properties.put("customTickLabelFontSize", new SimpleDoubleProperty(SIZE));
+        settings.setDouble(Key.CUSTOM_TICK_LABEL_FONT_SIZE, SIZE);
         return (B)this;
     }
 
     public final B interactive(final boolean INTERACTIVE) {
-        properties.put("interactive", new SimpleBooleanProperty(INTERACTIVE));
+        settings.setBoolean(Key.INTERACTIVE, INTERACTIVE);
         return (B)this;
     }
 
     public final B buttonTooltipText(final String TEXT) {
-        properties.put("buttonTooltipText", new SimpleStringProperty(TEXT));
+        settings.setObject(Key.BUTTON_TOOLTIP_TEXT, TEXT);
         return (B)this;
     }
 
     public final B keepAspect(final boolean KEEP) {
-        properties.put("keepAspect", new SimpleBooleanProperty(KEEP));
+        settings.setBoolean(Key.KEEP_ASPECT, KEEP);
         return (B)this;
     }
 
     public final B customFontEnabled(final boolean ENABLED) {
-        properties.put("customFontEnabled", new SimpleBooleanProperty(ENABLED));
+        settings.setBoolean(Key.CUSTOM_FONT_ENABLED, ENABLED);
         return (B)this;
     }
 
     public final B customFont(final Font FONT) {
-        properties.put("customFont", new SimpleObjectProperty(FONT));
+        settings.setObject(Key.CUSTOM_FONT, FONT);
         return (B)this;
     }
 
     public final B alertMessage(final String MESSAGE) {
-        properties.put("alertMessage", new SimpleStringProperty(MESSAGE));
+        settings.setObject(Key.ALERT_MESSAGE, MESSAGE);
         return (B)this;
     }
 
     public final B smoothing(final boolean SMOOTHING) {
-        properties.put("smoothing", new SimpleBooleanProperty(SMOOTHING));
+        settings.setBoolean(Key.SMOOTHING, SMOOTHING);
         return (B)this;
     }
 
     public final B onValueChanged(final InvalidationListener LISTENER) {
-        properties.put("onValueChanged", new SimpleObjectProperty<>(LISTENER));
+        settings.setObject(Key.ON_VALUE_CHANGED, LISTENER);
         return (B)this;
     }
 
     public final B onButtonPressed(final EventHandler<Gauge.ButtonEvent> HANDLER) {
-        properties.put("onButtonPressed", new SimpleObjectProperty<>(HANDLER));
+        settings.setObject(Key.ON_BUTTON_PRESSED, HANDLER);
         return (B)this;
     }
 
     public final B onButtonReleased(final EventHandler<Gauge.ButtonEvent> HANDLER) {
-        properties.put("onButtonReleased", new SimpleObjectProperty<>(HANDLER));
+        settings.setObject(Key.ON_BUTTON_RELEASED, HANDLER);
         return (B)this;
     }
 
     public final B onThresholdExceeded(final EventHandler<Gauge.ThresholdEvent> HANDLER) {
-        properties.put("onThresholdExceeded", new SimpleObjectProperty<>(HANDLER));
+        settings.setObject(Key.ON_THRESHOLD_EXCEEDED, HANDLER);
         return (B)this;
     }
 
     public final B onThresholdUnderrun(final EventHandler<Gauge.ThresholdEvent> HANDLER) {
-        properties.put("onThresholdUnderrun", new SimpleObjectProperty<>(HANDLER));
+        settings.setObject(Key.ON_THRESHOLD_UNDERRUN, HANDLER);
         return (B)this;
     }
 
     public final B prefSize(final double WIDTH, final double HEIGHT) {
-        properties.put("prefSize", new SimpleObjectProperty<>(new Dimension2D(WIDTH, HEIGHT)));
+        settings.setObject(Key.PREF_SIZE, new Dimension2D(WIDTH, HEIGHT));
         return (B)this;
     }
     public final B minSize(final double WIDTH, final double HEIGHT) {
-        properties.put("minSize", new SimpleObjectProperty<>(new Dimension2D(WIDTH, HEIGHT)));
+        settings.setObject(Key.MIN_SIZE, new Dimension2D(WIDTH, HEIGHT));
         return (B)this;
     }
     public final B maxSize(final double WIDTH, final double HEIGHT) {
-        properties.put("maxSize", new SimpleObjectProperty<>(new Dimension2D(WIDTH, HEIGHT)));
+        settings.setObject(Key.MAX_SIZE, new Dimension2D(WIDTH, HEIGHT));
         return (B)this;
     }
 
     public final B prefWidth(final double PREF_WIDTH) {
-        properties.put("prefWidth", new SimpleDoubleProperty(PREF_WIDTH));
+        settings.setDouble(Key.PREF_WIDTH, PREF_WIDTH);
         return (B)this;
     }
     public final B prefHeight(final double PREF_HEIGHT) {
-        properties.put("prefHeight", new SimpleDoubleProperty(PREF_HEIGHT));
+        settings.setDouble(Key.PREF_HEIGHT, PREF_HEIGHT);
         return (B)this;
     }
 
     public final B minWidth(final double MIN_WIDTH) {
-        properties.put("minWidth", new SimpleDoubleProperty(MIN_WIDTH));
+        settings.setDouble(Key.MIN_WIDTH, MIN_WIDTH);
         return (B)this;
     }
     public final B minHeight(final double MIN_HEIGHT) {
-        properties.put("minHeight", new SimpleDoubleProperty(MIN_HEIGHT));
+        settings.setDouble(Key.MIN_HEIGHT, MIN_HEIGHT);
         return (B)this;
     }
 
     public final B maxWidth(final double MAX_WIDTH) {
-        properties.put("maxWidth", new SimpleDoubleProperty(MAX_WIDTH));
+        settings.setDouble(Key.MAX_WIDTH, MAX_WIDTH);
         return (B)this;
     }
     public final B maxHeight(final double MAX_HEIGHT) {
-        properties.put("maxHeight", new SimpleDoubleProperty(MAX_HEIGHT));
+        settings.setDouble(Key.MAX_HEIGHT, MAX_HEIGHT);
         return (B)this;
     }
 
     public final B scaleX(final double SCALE_X) {
-        properties.put("scaleX", new SimpleDoubleProperty(SCALE_X));
+        settings.setDouble(Key.SCALE_X, SCALE_X);
         return (B)this;
     }
     public final B scaleY(final double SCALE_Y) {
-        properties.put("scaleY", new SimpleDoubleProperty(SCALE_Y));
+        settings.setDouble(Key.SCALE_Y, SCALE_Y);
         return (B)this;
     }
 
     public final B layoutX(final double LAYOUT_X) {
-        properties.put("layoutX", new SimpleDoubleProperty(LAYOUT_X));
+        settings.setDouble(Key.LAYOUT_X, LAYOUT_X);
         return (B)this;
     }
     public final B layoutY(final double LAYOUT_Y) {
-        properties.put("layoutY", new SimpleDoubleProperty(LAYOUT_Y));
+        settings.setDouble(Key.LAYOUT_Y, LAYOUT_Y);
         return (B)this;
     }
 
     public final B translateX(final double TRANSLATE_X) {
-        properties.put("translateX", new SimpleDoubleProperty(TRANSLATE_X));
+        settings.setDouble(Key.TRANSLATE_X, TRANSLATE_X);
         return (B)this;
     }
     public final B translateY(final double TRANSLATE_Y) {
-        properties.put("translateY", new SimpleDoubleProperty(TRANSLATE_Y));
+        settings.setDouble(Key.TRANSLATE_Y, TRANSLATE_Y);
         return (B)this;
     }
 
     public final B padding(final Insets INSETS) {
-        properties.put("padding", new SimpleObjectProperty<>(INSETS));
+        settings.setObject(Key.PADDING, INSETS);
         return (B)this;
     }
 
+    /**
+     * Builds a gauge with the current settings of this builder and keeps it
+     * as prototype of a template that can be used to create any number of
+     * identical gauges. Later changes of the builder do not affect the
+     * template (see GaugeTemplate).
+     * @return a template with the current settings of this builder
+     */
+    public final GaugeTemplate freeze() {
+        return GaugeTemplate.of(build());
+    }
+
     public final Gauge build() {
-        final Gauge CONTROL;
-        if (properties.containsKey("skinType")) {
-            SkinType skinType = ((ObjectProperty<SkinType>) properties.get("skinType")).get();
-            CONTROL = new Gauge(skinType);
+        return build(settings, settings.getKeys());
+    }
+
+    private static Gauge build(final GaugeSettings SETTINGS, final Key[] KEYS) {
+        final Gauge CONTROL = SETTINGS.isSet(Key.SKIN_TYPE) ? new Gauge((SkinType) SETTINGS.getObject(Key.SKIN_TYPE)) : new Gauge();
+        CONTROL.beginUpdate();
+        try {
+            apply(SETTINGS, KEYS, CONTROL);
+        } finally {
+            CONTROL.endUpdate();
+        }
+        return CONTROL;
+    }
+
+    private static void apply(final GaugeSettings SETTINGS, final Key[] KEYS, final Gauge CONTROL) {
+        if (SETTINGS.isSet(Key.SKIN_TYPE)) {
+            SkinType skinType = (SkinType) SETTINGS.getObject(Key.SKIN_TYPE);
             switch(skinType) {
                 case AMP:
                     CONTROL.setKnobPosition(Pos.BOTTOM_CENTER);
@@ -1102,359 +1119,500 @@ public class GaugeBuilder<B extends GaugeBuilder<B>> {
                     CONTROL.setAngleRange(280);
                     break;
             }
-        } else {
-            CONTROL = new Gauge();
         }
 
         // Make sure that sections, areas and markers will be added first
-        if (properties.keySet().contains("sectionsArray")) {
-            CONTROL.setSections(((ObjectProperty<Section[]>) properties.get("sectionsArray")).get());
+        if (SETTINGS.isSet(Key.SECTIONS_ARRAY)) {
+            CONTROL.setSections((Section[]) SETTINGS.getObject(Key.SECTIONS_ARRAY));
         }
-        if(properties.keySet().contains("sectionsList")) {
-            CONTROL.setSections(((ObjectProperty<List<Section>>) properties.get("sectionsList")).get());
+        if(SETTINGS.isSet(Key.SECTIONS_LIST)) {
+            CONTROL.setSections((List<Section>) SETTINGS.getObject(Key.SECTIONS_LIST));
         }
 
-        if (properties.keySet().contains("areasArray")) {
-            CONTROL.setAreas(((ObjectProperty<Section[]>) properties.get("areasArray")).get());
+        if (SETTINGS.isSet(Key.AREAS_ARRAY)) {
+            CONTROL.setAreas((Section[]) SETTINGS.getObject(Key.AREAS_ARRAY));
         }
-        if(properties.keySet().contains("areasList")) {
-            CONTROL.setAreas(((ObjectProperty<List<Section>>) properties.get("areasList")).get());
+        if(SETTINGS.isSet(Key.AREAS_LIST)) {
+            CONTROL.setAreas((List<Section>) SETTINGS.getObject(Key.AREAS_LIST));
         }
 
-        if (properties.keySet().contains("tickMarkSectionsArray")) {
-            CONTROL.setTickMarkSections(((ObjectProperty<Section[]>) properties.get("tickMarkSectionsArray")).get());
+        if (SETTINGS.isSet(Key.TICK_MARK_SECTIONS_ARRAY)) {
+            CONTROL.setTickMarkSections((Section[]) SETTINGS.getObject(Key.TICK_MARK_SECTIONS_ARRAY));
         }
-        if(properties.keySet().contains("tickMarkSectionsList")) {
-            CONTROL.setTickMarkSections(((ObjectProperty<List<Section>>) properties.get("tickMarkSectionsList")).get());
+        if(SETTINGS.isSet(Key.TICK_MARK_SECTIONS_LIST)) {
+            CONTROL.setTickMarkSections((List<Section>) SETTINGS.getObject(Key.TICK_MARK_SECTIONS_LIST));
         }
 
-        if (properties.keySet().contains("tickLabelSectionsArray")) {
-            CONTROL.setTickLabelSections(((ObjectProperty<Section[]>) properties.get("tickLabelSectionsArray")).get());
+        if (SETTINGS.isSet(Key.TICK_LABEL_SECTIONS_ARRAY)) {
+            CONTROL.setTickLabelSections((Section[]) SETTINGS.getObject(Key.TICK_LABEL_SECTIONS_ARRAY));
         }
-        if(properties.keySet().contains("tickLabelSectionsList")) {
-            CONTROL.setTickLabelSections(((ObjectProperty<List<Section>>) properties.get("tickLabelSectionsList")).get());
+        if(SETTINGS.isSet(Key.TICK_LABEL_SECTIONS_LIST)) {
+            CONTROL.setTickLabelSections((List<Section>) SETTINGS.getObject(Key.TICK_LABEL_SECTIONS_LIST));
         }
 
-        if (properties.keySet().contains("markersArray")) {
-            CONTROL.setMarkers(((ObjectProperty<Marker[]>) properties.get("markersArray")).get());
+        if (SETTINGS.isSet(Key.MARKERS_ARRAY)) {
+            CONTROL.setMarkers((Marker[]) SETTINGS.getObject(Key.MARKERS_ARRAY));
         }
-        if (properties.keySet().contains("markersList")) {
-            CONTROL.setMarkers(((ObjectProperty<List<Marker>>) properties.get("markersList")).get());
+        if (SETTINGS.isSet(Key.MARKERS_LIST)) {
+            CONTROL.setMarkers((List<Marker>) SETTINGS.getObject(Key.MARKERS_LIST));
         }
 
-        if (properties.keySet().contains("gradientBarStopsArray")) {
-            CONTROL.setGradientBarStops(((ObjectProperty<Stop[]>) properties.get("gradientBarStopsArray")).get());
+        if (SETTINGS.isSet(Key.GRADIENT_BAR_STOPS_ARRAY)) {
+            CONTROL.setGradientBarStops((Stop[]) SETTINGS.getObject(Key.GRADIENT_BAR_STOPS_ARRAY));
         }
-        if (properties.keySet().contains("gradientBarStopsList")) {
-            CONTROL.setGradientBarStops(((ObjectProperty<List<Stop>>) properties.get("gradientBarStopsList")).get());
+        if (SETTINGS.isSet(Key.GRADIENT_BAR_STOPS_LIST)) {
+            CONTROL.setGradientBarStops((List<Stop>) SETTINGS.getObject(Key.GRADIENT_BAR_STOPS_LIST));
         }
 
-        if (properties.keySet().contains("customTickLabelsArray")) {
-            CONTROL.setCustomTickLabels(((ObjectProperty<String[]>) properties.get("customTickLabelsArray")).get());
+        if (SETTINGS.isSet(Key.CUSTOM_TICK_LABELS_ARRAY)) {
+            CONTROL.setCustomTickLabels((String[]) SETTINGS.getObject(Key.CUSTOM_TICK_LABELS_ARRAY));
         }
-        if (properties.keySet().contains("customTickLabelsList")) {
-            CONTROL.setCustomTickLabels(((ObjectProperty<List<String>>) properties.get("customTickLabelsList")).get());
+        if (SETTINGS.isSet(Key.CUSTOM_TICK_LABELS_LIST)) {
+            CONTROL.setCustomTickLabels((List<String>) SETTINGS.getObject(Key.CUSTOM_TICK_LABELS_LIST));
         }
-        if(properties.keySet().contains("foregroundBaseColor")) {
-            CONTROL.setForegroundBaseColor(((ObjectProperty<Color>) properties.get("foregroundBaseColor")).get());
+        if(SETTINGS.isSet(Key.FOREGROUND_BASE_COLOR)) {
+            CONTROL.setForegroundBaseColor((Color) SETTINGS.getObject(Key.FOREGROUND_BASE_COLOR));
         }
-        if (properties.keySet().contains("autoScale")) {
-            CONTROL.setAutoScale(((BooleanProperty) properties.get("autoScale")).get());
+        if (SETTINGS.isSet(Key.AUTO_SCALE)) {
+            CONTROL.setAutoScale(SETTINGS.getBoolean(Key.AUTO_SCALE));
         }
 
-        setMinMaxValues(CONTROL);
-
-        for (String key : properties.keySet()) {
-            if ("prefSize".equals(key)) {
-                Dimension2D dim = ((ObjectProperty<Dimension2D>) properties.get(key)).get();
-                CONTROL.setPrefSize(dim.getWidth(), dim.getHeight());
-            } else if("minSize".equals(key)) {
-                Dimension2D dim = ((ObjectProperty<Dimension2D>) properties.get(key)).get();
-                CONTROL.setMinSize(dim.getWidth(), dim.getHeight());
-            } else if("maxSize".equals(key)) {
-                Dimension2D dim = ((ObjectProperty<Dimension2D>) properties.get(key)).get();
-                CONTROL.setMaxSize(dim.getWidth(), dim.getHeight());
-            } else if("prefWidth".equals(key)) {
-                CONTROL.setPrefWidth(((DoubleProperty) properties.get(key)).get());
-            } else if("prefHeight".equals(key)) {
-                CONTROL.setPrefHeight(((DoubleProperty) properties.get(key)).get());
-            } else if("minWidth".equals(key)) {
-                CONTROL.setMinWidth(((DoubleProperty) properties.get(key)).get());
-            } else if("minHeight".equals(key)) {
-                CONTROL.setMinHeight(((DoubleProperty) properties.get(key)).get());
-            } else if("maxWidth".equals(key)) {
-                CONTROL.setMaxWidth(((DoubleProperty) properties.get(key)).get());
-            } else if("maxHeight".equals(key)) {
-                CONTROL.setMaxHeight(((DoubleProperty) properties.get(key)).get());
-            } else if("scaleX".equals(key)) {
-                CONTROL.setScaleX(((DoubleProperty) properties.get(key)).get());
-            } else if("scaleY".equals(key)) {
-                CONTROL.setScaleY(((DoubleProperty) properties.get(key)).get());
-            } else if ("layoutX".equals(key)) {
-                CONTROL.setLayoutX(((DoubleProperty) properties.get(key)).get());
-            } else if ("layoutY".equals(key)) {
-                CONTROL.setLayoutY(((DoubleProperty) properties.get(key)).get());
-            } else if ("translateX".equals(key)) {
-                CONTROL.setTranslateX(((DoubleProperty) properties.get(key)).get());
-            } else if ("translateY".equals(key)) {
-                CONTROL.setTranslateY(((DoubleProperty) properties.get(key)).get());
-            } else if ("padding".equals(key)) {
-                CONTROL.setPadding(((ObjectProperty<Insets>) properties.get(key)).get());
-            } else if("styleClass".equals(key)) {
-                CONTROL.getStyleClass().setAll("gauge");
-                CONTROL.getStyleClass().addAll(((ObjectProperty<String[]>) properties.get(key)).get());
-            } else if("decimals".equals(key)) {
-                CONTROL.setDecimals(((IntegerProperty) properties.get(key)).get());
-            } else if ("tickLabelDecimals".equals(key)) {
-                CONTROL.setTickLabelDecimals(((IntegerProperty) properties.get(key)).get());
-            } else if("title".equals(key)) {
-                CONTROL.setTitle(((StringProperty) properties.get(key)).get());
-            } else if("subTitle".equals(key)) {
-                CONTROL.setSubTitle(((StringProperty) properties.get(key)).get());
-            } else if("unit".equals(key)) {
-                CONTROL.setUnit(((StringProperty) properties.get(key)).get());
-            } else if("averagingEnabled".equals(key)) {
-                CONTROL.setAveragingEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if("averagingPeriod".equals(key)) {
-                CONTROL.setAveragingPeriod(((IntegerProperty) properties.get(key)).get());
-            } else if("startFromZero".equals(key)) {
-                CONTROL.setStartFromZero(((BooleanProperty) properties.get(key)).get());
-            } else if("returnToZero".equals(key)) {
-                CONTROL.setReturnToZero(((BooleanProperty) properties.get(key)).get());
-            } else if("zeroColor".equals(key)) {
-                CONTROL.setZeroColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("minMeasuredValueVisible".equals(key)) {
-                CONTROL.setMinMeasuredValueVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("maxMeasuredValueVisible".equals(key)) {
-                CONTROL.setMaxMeasuredValueVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("oldValueVisible".equals(key)) {
-                CONTROL.setOldValueVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("valueVisible".equals(key)) {
-                CONTROL.setValueVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("backgroundPaint".equals(key)) {
-                CONTROL.setBackgroundPaint(((ObjectProperty<Paint>) properties.get(key)).get());
-            } else if ("borderPaint".equals(key)) {
-                CONTROL.setBorderPaint(((ObjectProperty<Paint>) properties.get(key)).get());
-            } else if ("borderWidth".equals(key)) {
-                CONTROL.setBorderWidth(((DoubleProperty) properties.get(key)).get());
-            } else if ("foregroundPaint".equals(key)) {
-                CONTROL.setForegroundPaint(((ObjectProperty<Paint>) properties.get(key)).get());
-            } else if ("knobColor".equals(key)) {
-                CONTROL.setKnobColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("knobType".equals(key)) {
-                CONTROL.setKnobType(((ObjectProperty<KnobType>) properties.get(key)).get());
-            } else if ("knobPosition".equals(key)) {
-                CONTROL.setKnobPosition(((ObjectProperty<Pos>) properties.get(key)).get());
-            } else if ("knobVisible".equals(key)) {
-                CONTROL.setKnobVisible(((BooleanProperty) properties.get(key)).get());
-            } else if("animated".equals(key)) {
-                CONTROL.setAnimated(((BooleanProperty) properties.get(key)).get());
-            } else if("animationDuration".equals(key)) {
-                CONTROL.setAnimationDuration(((LongProperty) properties.get(key)).get());
-            } else if("startAngle".equals(key)) {
-                CONTROL.setStartAngle(((DoubleProperty) properties.get(key)).get());
-            } else if("angleRange".equals(key)) {
-                CONTROL.setAngleRange(((DoubleProperty) properties.get(key)).get());
-            } else if ("arcExtend".equals(key)) {
-                CONTROL.setArcExtend(((DoubleProperty) properties.get(key)).get());
-            } else if("needleType".equals(key)) {
-                CONTROL.setNeedleType(((ObjectProperty<NeedleType>) properties.get(key)).get());
-            } else if("needleShape".equals(key)) {
-                CONTROL.setNeedleShape(((ObjectProperty<NeedleShape>) properties.get(key)).get());
-            } else if("needleSize".equals(key)) {
-                CONTROL.setNeedleSize(((ObjectProperty<NeedleSize>) properties.get(key)).get());
-            } else if("needleBehavior".equals(key)) {
-                CONTROL.setNeedleBehavior(((ObjectProperty<NeedleBehavior>) properties.get(key)).get());
-            } else if("needleColor".equals(key)) {
-                CONTROL.setNeedleColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if("needleBorderColor".equals(key)) {
-                CONTROL.setNeedleBorderColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if("barColor".equals(key)) {
-                CONTROL.setBarColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if("barBorderColor".equals(key)) {
-                CONTROL.setBarBorderColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("barBackgroundColor".equals(key)) {
-                CONTROL.setBarBackgroundColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if("tickLabelOrientation".equals(key)) {
-                CONTROL.setTickLabelOrientation(((ObjectProperty<TickLabelOrientation>) properties.get(key)).get());
-            } else if("tickLabelLocation".equals(key)) {
-                CONTROL.setTickLabelLocation(((ObjectProperty<TickLabelLocation>) properties.get(key)).get());
-            } else if("locale".equals(key)) {
-                CONTROL.setLocale(((ObjectProperty<Locale>) properties.get(key)).get());
-            } else if("majorTickSpace".equals(key)) {
-                CONTROL.setMajorTickSpace(((DoubleProperty) properties.get(key)).get());
-            } else if("minorTickSpace".equals(key)) {
-                CONTROL.setMinorTickSpace(((DoubleProperty) properties.get(key)).get());
-            } else if("shadowsEnabled".equals(key)) {
-                CONTROL.setShadowsEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("barEffectEnabled".equals(key)) {
-                CONTROL.setBarEffectEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("scaleDirection".equals(key)) {
-                CONTROL.setScaleDirection(((ObjectProperty<ScaleDirection>) properties.get(key)).get());
-            } else if("tickLabelColor".equals(key)) {
-                CONTROL.setTickLabelColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("tickMarkColor".equals(key)) {
-                CONTROL.setTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("majorTickMarkColor".equals(key)) {
-                CONTROL.setMajorTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("majorTickMarkLengthFactor".equals(key)) {
-                CONTROL.setMajorTickMarkLengthFactor(((DoubleProperty) properties.get(key)).get());
-            } else if ("majorTickMarkWidthFactor".equals(key)) {
-                CONTROL.setMajorTickMarkWidthFactor(((DoubleProperty) properties.get(key)).get());
-            } else if ("mediumTickMarkColor".equals(key)) {
-                CONTROL.setMediumTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("mediumTickMarkLengthFactor".equals(key)) {
-                CONTROL.setMediumTickMarkLengthFactor(((DoubleProperty) properties.get(key)).get());
-            } else if ("mediumTickMarkWidthFactor".equals(key)) {
-                CONTROL.setMediumTickMarkWidthFactor(((DoubleProperty) properties.get(key)).get());
-            } else if ("minorTickMarkColor".equals(key)) {
-                CONTROL.setMinorTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("minorTickMarkLengthFactor".equals(key)) {
-                CONTROL.setMinorTickMarkLengthFactor(((DoubleProperty) properties.get(key)).get());
-            } else if ("minorTickMarkWidthFactor".equals(key)) {
-                CONTROL.setMinorTickMarkWidthFactor(((DoubleProperty) properties.get(key)).get());
-            } else if ("style".equals(key)) {
-                CONTROL.setStyle(((StringProperty) properties.get(key)).get());
-            } else if("ledColor".equals(key)) {
-                CONTROL.setLedColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if("ledType".equals(key)) {
-                CONTROL.setLedType(((ObjectProperty<LedType>) properties.get(key)).get());
-            } else if ("ledVisible".equals(key)) {
-                CONTROL.setLedVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("lcdVisible".equals(key)) {
-                CONTROL.setLcdVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("lcdCrystalEnabled".equals(key)) {
-                CONTROL.setLcdCrystalEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("lcdDesign".equals(key)) {
-                CONTROL.setLcdDesign(((ObjectProperty<LcdDesign>) properties.get(key)).get());
-            } else if ("lcdFont".equals(key)) {
-                CONTROL.setLcdFont(((ObjectProperty<LcdFont>) properties.get(key)).get());
-            } else if ("innerShadowEnabled".equals(key)) {
-                CONTROL.setInnerShadowEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("thresholdVisible".equals(key)) {
-                CONTROL.setThresholdVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("averageVisible".equals(key)) {
-                CONTROL.setAverageVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("sectionsVisible".equals(key)) {
-                CONTROL.setSectionsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("sectionsAlwaysVisible".equals(key)) {
-                CONTROL.setSectionsAlwaysVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("sectionTextVisible".equals(key)) {
-                CONTROL.setSectionTextVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("sectionIconsVisible".equals(key)) {
-                CONTROL.setSectionIconsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("highlightSections".equals(key)) {
-                CONTROL.setHighlightSections(((BooleanProperty) properties.get(key)).get());
-            } else if ("areasVisible".equals(key)) {
-                CONTROL.setAreasVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("areaTextVisible".equals(key)) {
-                CONTROL.setAreaTextVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("areaIconsVisible".equals(key)) {
-                CONTROL.setAreaIconsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("highlightAreas".equals(key)) {
-                CONTROL.setHighlightAreas(((BooleanProperty) properties.get(key)).get());
-            } else if ("tickMarkSectionsVisible".equals(key)) {
-                CONTROL.setTickMarkSectionsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("tickLabelSectionsVisible".equals(key)) {
-                CONTROL.setTickLabelSectionsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("markersVisible".equals(key)) {
-                CONTROL.setMarkersVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("majorTickMarkType".equals(key)) {
-                CONTROL.setMajorTickMarkType(((ObjectProperty<TickMarkType>) properties.get(key)).get());
-            } else if ("mediumTickMarkType".equals(key)) {
-                CONTROL.setMediumTickMarkType(((ObjectProperty<TickMarkType>) properties.get(key)).get());
-            } else if ("minorTickMarkType".equals(key)) {
-                CONTROL.setMinorTickMarkType(((ObjectProperty<TickMarkType>) properties.get(key)).get());
-            } else if ("titleColor".equals(key)) {
-                CONTROL.setTitleColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("subTitleColor".equals(key)) {
-                CONTROL.setSubTitleColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("unitColor".equals(key)) {
-                CONTROL.setUnitColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("valueColor".equals(key)) {
-                CONTROL.setValueColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("thresholdColor".equals(key)) {
-                CONTROL.setThresholdColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("averageColor".equals(key)) {
-                CONTROL.setAverageColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("tickLabelsVisible".equals(key)) {
-                CONTROL.setTickLabelsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("onlyFirstAndLastTickLabelVisible".equals(key)) {
-                CONTROL.setOnlyFirstAndLastTickLabelVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("majorTickMarksVisible".equals(key)) {
-                CONTROL.setMajorTickMarksVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("mediumTickMarksVisible".equals(key)) {
-                CONTROL.setMediumTickMarksVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("minorTickMarksVisible".equals(key)) {
-                CONTROL.setMinorTickMarksVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("tickMarkRingVisible".equals(key)) {
-                CONTROL.setTickMarkRingVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("ledBlinking".equals(key)) {
-                CONTROL.setLedBlinking(((BooleanProperty) properties.get(key)).get());
-            } else if ("ledOn".equals(key)) {
-                CONTROL.setLedOn(((BooleanProperty) properties.get(key)).get());
-            } else if ("orientation".equals(key)) {
-                CONTROL.setOrientation(((ObjectProperty<Orientation>) properties.get(key)).get());
-            } else if("gradientBarEnabled".equals(key)) {
-                CONTROL.setGradientBarEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("gradientLookup".equals(key)) {
-                CONTROL.setGradientLookup(((ObjectProperty<GradientLookup>) properties.get(key)).get());
-            } else if ("customTickLabelsEnabled".equals(key)) {
-                CONTROL.setCustomTickLabelsEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("customTickLabelFontSize".equals(key)) {
-                CONTROL.setCustomTickLabelFontSize(((DoubleProperty) properties.get(key)).get());
-            } else if ("customTickLabelFontSizeEnabled".equals(key)) {
-                CONTROL.setCustomTickLabelFontSizeEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("interactive".equals(key)) {
-                CONTROL.setInteractive(((BooleanProperty) properties.get(key)).get());
-            } else if ("checkSectionsForValue".equals(key)) {
-                CONTROL.setCheckSectionsForValue(((BooleanProperty) properties.get(key)).get());
-            } else if ("checkAreasForValue".equals(key)) {
-                CONTROL.setCheckAreasForValue(((BooleanProperty) properties.get(key)).get());
-            } else if ("checkThreshold".equals(key)) {
-                CONTROL.setCheckThreshold(((BooleanProperty) properties.get(key)).get());
-            } else if ("onValueChanged".equals(key)) {
-                CONTROL.currentValueProperty().addListener(((ObjectProperty<InvalidationListener>) properties.get(key)).get());
-            } else if ("onButtonPressed".equals(key)) {
-                CONTROL.setOnButtonPressed(((ObjectProperty<EventHandler>) properties.get(key)).get());
-            } else if ("onButtonReleased".equals(key)) {
-                CONTROL.setOnButtonReleased(((ObjectProperty<EventHandler>) properties.get(key)).get());
-            } else if ("onThresholdExceeded".equals(key)) {
-                CONTROL.setOnThresholdExceeded(((ObjectProperty<EventHandler>) properties.get(key)).get());
-            } else if ("onThresholdUnderrun".equals(key)) {
-                CONTROL.setOnThresholdUnderrun(((ObjectProperty<EventHandler>) properties.get(key)).get());
-            } else if ("buttonTooltipText".equals(key)) {
-                CONTROL.setButtonTooltipText(((StringProperty) properties.get(key)).get());
-            } else if ("keepAspect".equals(key)) {
-                CONTROL.setKeepAspect(((BooleanProperty) properties.get(key)).get());
-            } else if ("threshold".equals(key)) {
-                CONTROL.setThreshold(((DoubleProperty) properties.get(key)).get());
-            } else if ("customFontEnabled".equals(key)) {
-                CONTROL.setCustomFontEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("customFont".equals(key)) {
-                CONTROL.setCustomFont(((ObjectProperty<Font>) properties.get(key)).get());
-            } else if ("alertMessage".equals(key)) {
-                CONTROL.setAlertMessage(((StringProperty) properties.get(key)).get());
-            } else if ("smoothing".equals(key)) {
-                CONTROL.setSmoothing(((BooleanProperty) properties.get(key)).get());
-            } else if("value".equals(key)) {
-                CONTROL.setValue(((DoubleProperty) properties.get(key)).get());
+        setMinMaxValues(SETTINGS, CONTROL);
+
+        for (Key key : KEYS) {
+            switch (key) {
+                case PREF_SIZE: {
+                    Dimension2D dim = (Dimension2D) SETTINGS.getObject(key);
+                    CONTROL.setPrefSize(dim.getWidth(), dim.getHeight());
+                    break;
+                }
+                case MIN_SIZE: {
+                    Dimension2D dim = (Dimension2D) SETTINGS.getObject(key);
+                    CONTROL.setMinSize(dim.getWidth(), dim.getHeight());
+                    break;
+                }
+                case MAX_SIZE: {
+                    Dimension2D dim = (Dimension2D) SETTINGS.getObject(key);
+                    CONTROL.setMaxSize(dim.getWidth(), dim.getHeight());
+                    break;
+                }
+                case PREF_WIDTH:
+                    CONTROL.setPrefWidth(SETTINGS.getDouble(key));
+                    break;
+                case PREF_HEIGHT:
+                    CONTROL.setPrefHeight(SETTINGS.getDouble(key));
+                    break;
+                case MIN_WIDTH:
+                    CONTROL.setMinWidth(SETTINGS.getDouble(key));
+                    break;
+                case MIN_HEIGHT:
+                    CONTROL.setMinHeight(SETTINGS.getDouble(key));
+                    break;
+                case MAX_WIDTH:
+                    CONTROL.setMaxWidth(SETTINGS.getDouble(key));
+                    break;
+                case MAX_HEIGHT:
+                    CONTROL.setMaxHeight(SETTINGS.getDouble(key));
+                    break;
+                case SCALE_X:
+                    CONTROL.setScaleX(SETTINGS.getDouble(key));
+                    break;
+                case SCALE_Y:
+                    CONTROL.setScaleY(SETTINGS.getDouble(key));
+                    break;
+                case LAYOUT_X:
+                    CONTROL.setLayoutX(SETTINGS.getDouble(key));
+                    break;
+                case LAYOUT_Y:
+                    CONTROL.setLayoutY(SETTINGS.getDouble(key));
+                    break;
+                case TRANSLATE_X:
+                    CONTROL.setTranslateX(SETTINGS.getDouble(key));
+                    break;
+                case TRANSLATE_Y:
+                    CONTROL.setTranslateY(SETTINGS.getDouble(key));
+                    break;
+                case PADDING:
+                    CONTROL.setPadding((Insets) SETTINGS.getObject(key));
+                    break;
+                case STYLE_CLASS:
+                    CONTROL.getStyleClass().setAll("gauge");
+                    CONTROL.getStyleClass().addAll((String[]) SETTINGS.getObject(key));
+                    break;
+                case DECIMALS:
+                    CONTROL.setDecimals(SETTINGS.getInt(key));
+                    break;
+                case TICK_LABEL_DECIMALS:
+                    CONTROL.setTickLabelDecimals(SETTINGS.getInt(key));
+                    break;
+                case TITLE:
+                    CONTROL.setTitle((String) SETTINGS.getObject(key));
+                    break;
+                case SUB_TITLE:
+                    CONTROL.setSubTitle((String) SETTINGS.getObject(key));
+                    break;
+                case UNIT:
+                    CONTROL.setUnit((String) SETTINGS.getObject(key));
+                    break;
+                case AVERAGING_ENABLED:
+                    CONTROL.setAveragingEnabled(SETTINGS.getBoolean(key));
+                    break;
+                case AVERAGING_PERIOD:
+                    CONTROL.setAveragingPeriod(SETTINGS.getInt(key));
+                    break;
+                case START_FROM_ZERO:
+                    CONTROL.setStartFromZero(SETTINGS.getBoolean(key));
+                    break;
+                case RETURN_TO_ZERO:
+                    CONTROL.setReturnToZero(SETTINGS.getBoolean(key));
+                    break;
+                case ZERO_COLOR:
+                    CONTROL.setZeroColor((Color) SETTINGS.getObject(key));
+                    break;
+                case MIN_MEASURED_VALUE_VISIBLE:
+                    CONTROL.setMinMeasuredValueVisible(SETTINGS.getBoolean(key));
+                    break;
+                case MAX_MEASURED_VALUE_VISIBLE:
+                    CONTROL.setMaxMeasuredValueVisible(SETTINGS.getBoolean(key));
+                    break;
+                case OLD_VALUE_VISIBLE:
+                    CONTROL.setOldValueVisible(SETTINGS.getBoolean(key));
+                    break;
+                case VALUE_VISIBLE:
+                    CONTROL.setValueVisible(SETTINGS.getBoolean(key));
+                    break;
+                case BACKGROUND_PAINT:
+                    CONTROL.setBackgroundPaint((Paint) SETTINGS.getObject(key));
+                    break;
+                case BORDER_PAINT:
+                    CONTROL.setBorderPaint((Paint) SETTINGS.getObject(key));
+                    break;
+                case BORDER_WIDTH:
+                    CONTROL.setBorderWidth(SETTINGS.getDouble(key));
+                    break;
+                case FOREGROUND_PAINT:
+                    CONTROL.setForegroundPaint((Paint) SETTINGS.getObject(key));
+                    break;
+                case KNOB_COLOR:
+                    CONTROL.setKnobColor((Color) SETTINGS.getObject(key));
+                    break;
+                case KNOB_TYPE:
+                    CONTROL.setKnobType((KnobType) SETTINGS.getObject(key));
+                    break;
+                case KNOB_POSITION:
+                    CONTROL.setKnobPosition((Pos) SETTINGS.getObject(key));
+                    break;
+                case KNOB_VISIBLE:
+                    CONTROL.setKnobVisible(SETTINGS.getBoolean(key));
+                    break;
+                case ANIMATED:
+                    CONTROL.setAnimated(SETTINGS.getBoolean(key));
+                    break;
+                case ANIMATION_DURATION:
+                    CONTROL.setAnimationDuration(SETTINGS.getLong(key));
+                    break;
+                case ANIMATION_MODE:
+                    CONTROL.setAnimationMode((AnimationMode) SETTINGS.getObject(key));
+                    break;
+                case START_ANGLE:
+                    CONTROL.setStartAngle(SETTINGS.getDouble(key));
+                    break;
+                case ANGLE_RANGE:
+                    CONTROL.setAngleRange(SETTINGS.getDouble(key));
+                    break;
+                case ARC_EXTEND:
+                    CONTROL.setArcExtend(SETTINGS.getDouble(key));
+                    break;
+                case NEEDLE_TYPE:
+                    CONTROL.setNeedleType((NeedleType) SETTINGS.getObject(key));
+                    break;
+                case NEEDLE_SHAPE:
+                    CONTROL.setNeedleShape((NeedleShape) SETTINGS.getObject(key));
+                    break;
+                case NEEDLE_SIZE:
+                    CONTROL.setNeedleSize((NeedleSize) SETTINGS.getObject(key));
+                    break;
+                case NEEDLE_BEHAVIOR:
+                    CONTROL.setNeedleBehavior((NeedleBehavior) SETTINGS.getObject(key));
+                    break;
+                case NEEDLE_COLOR:
+                    CONTROL.setNeedleColor((Color) SETTINGS.getObject(key));
+                    break;
+                case NEEDLE_BORDER_COLOR:
+                    CONTROL.setNeedleBorderColor((Color) SETTINGS.getObject(key));
+                    break;
+                case BAR_COLOR:
+                    CONTROL.setBarColor((Color) SETTINGS.getObject(key));
+                    break;
+                case BAR_BORDER_COLOR:
+                    CONTROL.setBarBorderColor((Color) SETTINGS.getObject(key));
+                    break;
+                case BAR_BACKGROUND_COLOR:
+                    CONTROL.setBarBackgroundColor((Color) SETTINGS.getObject(key));
+                    break;
+                case TICK_LABEL_ORIENTATION:
+                    CONTROL.setTickLabelOrientation((TickLabelOrientation) SETTINGS.getObject(key));
+                    break;
+                case TICK_LABEL_LOCATION:
+                    CONTROL.setTickLabelLocation((TickLabelLocation) SETTINGS.getObject(key));
+                    break;
+                case LOCALE:
+                    CONTROL.setLocale((Locale) SETTINGS.getObject(key));
+                    break;
+                case MAJOR_TICK_SPACE:
+                    CONTROL.setMajorTickSpace(SETTINGS.getDouble(key));
+                    break;
+                case MINOR_TICK_SPACE:
+                    CONTROL.setMinorTickSpace(SETTINGS.getDouble(key));
+                    break;
+                case SHADOWS_ENABLED:
+                    CONTROL.setShadowsEnabled(SETTINGS.getBoolean(key));
+                    break;
+                case BAR_EFFECT_ENABLED:
+                    CONTROL.setBarEffectEnabled(SETTINGS.getBoolean(key));
+                    break;
+                case SCALE_DIRECTION:
+                    CONTROL.setScaleDirection((ScaleDirection) SETTINGS.getObject(key));
+                    break;
+                case TICK_LABEL_COLOR:
+                    CONTROL.setTickLabelColor((Color) SETTINGS.getObject(key));
+                    break;
+                case TICK_MARK_COLOR:
+                    CONTROL.setTickMarkColor((Color) SETTINGS.getObject(key));
+                    break;
+                case MAJOR_TICK_MARK_COLOR:
+                    CONTROL.setMajorTickMarkColor((Color) SETTINGS.getObject(key));
+                    break;
+                case MAJOR_TICK_MARK_LENGTH_FACTOR:
+                    CONTROL.setMajorTickMarkLengthFactor(SETTINGS.getDouble(key));
+                    break;
+                case MAJOR_TICK_MARK_WIDTH_FACTOR:
+                    CONTROL.setMajorTickMarkWidthFactor(SETTINGS.getDouble(key));
+                    break;
+                case MEDIUM_TICK_MARK_COLOR:
+                    CONTROL.setMediumTickMarkColor((Color) SETTINGS.getObject(key));
+                    break;
+                case MEDIUM_TICK_MARK_LENGTH_FACTOR:
+                    CONTROL.setMediumTickMarkLengthFactor(SETTINGS.getDouble(key));
+                    break;
+                case MEDIUM_TICK_MARK_WIDTH_FACTOR:
+                    CONTROL.setMediumTickMarkWidthFactor(SETTINGS.getDouble(key));
+                    break;
+                case MINOR_TICK_MARK_COLOR:
+                    CONTROL.setMinorTickMarkColor((Color) SETTINGS.getObject(key));
+                    break;
+                case MINOR_TICK_MARK_LENGTH_FACTOR:
+                    CONTROL.setMinorTickMarkLengthFactor(SETTINGS.getDouble(key));
+                    break;
+                case MINOR_TICK_MARK_WIDTH_FACTOR:
+                    CONTROL.setMinorTickMarkWidthFactor(SETTINGS.getDouble(key));
+                    break;
+                case STYLE:
+                    CONTROL.setStyle((String) SETTINGS.getObject(key));
+                    break;
+                case LED_COLOR:
+                    CONTROL.setLedColor((Color) SETTINGS.getObject(key));
+                    break;
+                case LED_TYPE:
+                    CONTROL.setLedType((LedType) SETTINGS.getObject(key));
+                    break;
+                case LED_VISIBLE:
+                    CONTROL.setLedVisible(SETTINGS.getBoolean(key));
+                    break;
+                case LCD_VISIBLE:
+                    CONTROL.setLcdVisible(SETTINGS.getBoolean(key));
+                    break;
+                case LCD_CRYSTAL_ENABLED:
+                    CONTROL.setLcdCrystalEnabled(SETTINGS.getBoolean(key));
+                    break;
+                case LCD_DESIGN:
+                    CONTROL.setLcdDesign((LcdDesign) SETTINGS.getObject(key));
+                    break;
+                case LCD_FONT:
+                    CONTROL.setLcdFont((LcdFont) SETTINGS.getObject(key));
+                    break;
+                case INNER_SHADOW_ENABLED:
+                    CONTROL.setInnerShadowEnabled(SETTINGS.getBoolean(key));
+                    break;
+                case THRESHOLD_VISIBLE:
+                    CONTROL.setThresholdVisible(SETTINGS.getBoolean(key));
+                    break;
+                case AVERAGE_VISIBLE:
+                    CONTROL.setAverageVisible(SETTINGS.getBoolean(key));
+                    break;
+                case SECTIONS_VISIBLE:
+                    CONTROL.setSectionsVisible(SETTINGS.getBoolean(key));
+                    break;
+                case SECTIONS_ALWAYS_VISIBLE:
+                    CONTROL.setSectionsAlwaysVisible(SETTINGS.getBoolean(key));
+                    break;
+                case SECTION_TEXT_VISIBLE:
+                    CONTROL.setSectionTextVisible(SETTINGS.getBoolean(key));
+                    break;
+                case SECTION_ICONS_VISIBLE:
+                    CONTROL.setSectionIconsVisible(SETTINGS.getBoolean(key));
+                    break;
+                case HIGHLIGHT_SECTIONS:
+                    CONTROL.setHighlightSections(SETTINGS.getBoolean(key));
+                    break;
+                case AREAS_VISIBLE:
+                    CONTROL.setAreasVisible(SETTINGS.getBoolean(key));
+                    break;
+                case AREA_TEXT_VISIBLE:
+                    CONTROL.setAreaTextVisible(SETTINGS.getBoolean(key));
+                    break;
+                case AREA_ICONS_VISIBLE:
+                    CONTROL.setAreaIconsVisible(SETTINGS.getBoolean(key));
+                    break;
+                case HIGHLIGHT_AREAS:
+                    CONTROL.setHighlightAreas(SETTINGS.getBoolean(key));
+                    break;
+                case TICK_MARK_SECTIONS_VISIBLE:
+                    CONTROL.setTickMarkSectionsVisible(SETTINGS.getBoolean(key));
+                    break;
+                case TICK_LABEL_SECTIONS_VISIBLE:
+                    CONTROL.setTickLabelSectionsVisible(SETTINGS.getBoolean(key));
+                    break;
+                case MARKERS_VISIBLE:
+                    CONTROL.setMarkersVisible(SETTINGS.getBoolean(key));
+                    break;
+                case MAJOR_TICK_MARK_TYPE:
+                    CONTROL.setMajorTickMarkType((TickMarkType) SETTINGS.getObject(key));
+                    break;
+                case MEDIUM_TICK_MARK_TYPE:
+                    CONTROL.setMediumTickMarkType((TickMarkType) SETTINGS.getObject(key));
+                    break;
+                case MINOR_TICK_MARK_TYPE:
+                    CONTROL.setMinorTickMarkType((TickMarkType) SETTINGS.getObject(key));
+                    break;
+                case TITLE_COLOR:
+                    CONTROL.setTitleColor((Color) SETTINGS.getObject(key));
+                    break;
+                case SUB_TITLE_COLOR:
+                    CONTROL.setSubTitleColor((Color) SETTINGS.getObject(key));
+                    break;
+                case UNIT_COLOR:
+                    CONTROL.setUnitColor((Color) SETTINGS.getObject(key));
+                    break;
+                case VALUE_COLOR:
+                    CONTROL.setValueColor((Color) SETTINGS.getObject(key));
+                    break;
+                case THRESHOLD_COLOR:
+                    CONTROL.setThresholdColor((Color) SETTINGS.getObject(key));
+                    break;
+                case AVERAGE_COLOR:
+                    CONTROL.setAverageColor((Color) SETTINGS.getObject(key));
+                    break;
+                case TICK_LABELS_VISIBLE:
+                    CONTROL.setTickLabelsVisible(SETTINGS.getBoolean(key));
+                    break;
+                case ONLY_FIRST_AND_LAST_TICK_LABEL_VISIBLE:
+                    CONTROL.setOnlyFirstAndLastTickLabelVisible(SETTINGS.getBoolean(key));
+                    break;
+                case MAJOR_TICK_MARKS_VISIBLE:
+                    CONTROL.setMajorTickMarksVisible(SETTINGS.getBoolean(key));
+                    break;
+                case MEDIUM_TICK_MARKS_VISIBLE:
+                    CONTROL.setMediumTickMarksVisible(SETTINGS.getBoolean(key));
+                    break;
+                case MINOR_TICK_MARKS_VISIBLE:
+                    CONTROL.setMinorTickMarksVisible(SETTINGS.getBoolean(key));
+                    break;
+                case TICK_MARK_RING_VISIBLE:
+                    CONTROL.setTickMarkRingVisible(SETTINGS.getBoolean(key));
+                    break;
+                case LED_BLINKING:
+                    CONTROL.setLedBlinking(SETTINGS.getBoolean(key));
+                    break;
+                case LED_ON:
+                    CONTROL.setLedOn(SETTINGS.getBoolean(key));
+                    break;
+                case ORIENTATION:
+                    CONTROL.setOrientation((Orientation) SETTINGS.getObject(key));
+                    break;
+                case GRADIENT_BAR_ENABLED:
+                    CONTROL.setGradientBarEnabled(SETTINGS.getBoolean(key));
+                    break;
+                case GRADIENT_LOOKUP:
+                    CONTROL.setGradientLookup((GradientLookup) SETTINGS.getObject(key));
+                    break;
+                case CUSTOM_TICK_LABELS_ENABLED:
+                    CONTROL.setCustomTickLabelsEnabled(SETTINGS.getBoolean(key));
+                    break;
+                case CUSTOM_TICK_LABEL_FONT_SIZE:
+                    CONTROL.setCustomTickLabelFontSize(SETTINGS.getDouble(key));
+                    break;
+                case CUSTOM_TICK_LABEL_FONT_SIZE_ENABLED:
+                    CONTROL.setCustomTickLabelFontSizeEnabled(SETTINGS.getBoolean(key));
+                    break;
+                case INTERACTIVE:
+                    CONTROL.setInteractive(SETTINGS.getBoolean(key));
+                    break;
+                case CHECK_SECTIONS_FOR_VALUE:
+                    CONTROL.setCheckSectionsForValue(SETTINGS.getBoolean(key));
+                    break;
+                case CHECK_AREAS_FOR_VALUE:
+                    CONTROL.setCheckAreasForValue(SETTINGS.getBoolean(key));
+                    break;
+                case CHECK_THRESHOLD:
+                    CONTROL.setCheckThreshold(SETTINGS.getBoolean(key));
+                    break;
+                case ON_VALUE_CHANGED:
+                    CONTROL.currentValueProperty().addListener((InvalidationListener) SETTINGS.getObject(key));
+                    break;
+                case ON_BUTTON_PRESSED:
+                    CONTROL.setOnButtonPressed((EventHandler) SETTINGS.getObject(key));
+                    break;
+                case ON_BUTTON_RELEASED:
+                    CONTROL.setOnButtonReleased((EventHandler) SETTINGS.getObject(key));
+                    break;
+                case ON_THRESHOLD_EXCEEDED:
+                    CONTROL.setOnThresholdExceeded((EventHandler) SETTINGS.getObject(key));
+                    break;
+                case ON_THRESHOLD_UNDERRUN:
+                    CONTROL.setOnThresholdUnderrun((EventHandler) SETTINGS.getObject(key));
+                    break;
+                case BUTTON_TOOLTIP_TEXT:
+                    CONTROL.setButtonTooltipText((String) SETTINGS.getObject(key));
+                    break;
+                case KEEP_ASPECT:
+                    CONTROL.setKeepAspect(SETTINGS.getBoolean(key));
+                    break;
+                case THRESHOLD:
+                    CONTROL.setThreshold(SETTINGS.getDouble(key));
+                    break;
+                case CUSTOM_FONT_ENABLED:
+                    CONTROL.setCustomFontEnabled(SETTINGS.getBoolean(key));
+                    break;
+                case CUSTOM_FONT:
+                    CONTROL.setCustomFont((Font) SETTINGS.getObject(key));
+                    break;
+                case ALERT_MESSAGE:
+                    CONTROL.setAlertMessage((String) SETTINGS.getObject(key));
+                    break;
+                case SMOOTHING:
+                    CONTROL.setSmoothing(SETTINGS.getBoolean(key));
+                    break;
+                case VALUE:
+                    CONTROL.setValue(SETTINGS.getDouble(key));
+                    break;
+                default:
+                    break;
             }
         }
 
         // Adjust tick mark colors
-        if (properties.containsKey("tickMarkColor")) {
-            Color tickMarkColor = ((ObjectProperty<Color>) properties.get("tickMarkColor")).get();
-            if (!properties.containsKey("majorTickMarkColor")) CONTROL.setMajorTickMarkColor(tickMarkColor);
-            if (!properties.containsKey("mediumTickMarkColor")) CONTROL.setMediumTickMarkColor(tickMarkColor);
-            if (!properties.containsKey("minorTickMarkColor")) CONTROL.setMinorTickMarkColor(tickMarkColor);
+        if (SETTINGS.isSet(Key.TICK_MARK_COLOR)) {
+            Color tickMarkColor = (Color) SETTINGS.getObject(Key.TICK_MARK_COLOR);
+            if (!SETTINGS.isSet(Key.MAJOR_TICK_MARK_COLOR)) CONTROL.setMajorTickMarkColor(tickMarkColor);
+            if (!SETTINGS.isSet(Key.MEDIUM_TICK_MARK_COLOR)) CONTROL.setMediumTickMarkColor(tickMarkColor);
+            if (!SETTINGS.isSet(Key.MINOR_TICK_MARK_COLOR)) CONTROL.setMinorTickMarkColor(tickMarkColor);
         }
 
-        return CONTROL;
     }
 
-    private void setMinMaxValues(final Gauge CONTROL) {
-        if (properties.keySet().contains("minValue")) { CONTROL.setMinValue(((DoubleProperty) properties.get("minValue")).get()); }
-        if (properties.keySet().contains("maxValue")) { CONTROL.setMaxValue(((DoubleProperty) properties.get("maxValue")).get()); }
+    private static void setMinMaxValues(final GaugeSettings SETTINGS, final Gauge CONTROL) {
+        if (SETTINGS.isSet(Key.MIN_VALUE)) { CONTROL.setMinValue(SETTINGS.getDouble(Key.MIN_VALUE)); }
+        if (SETTINGS.isSet(Key.MAX_VALUE)) { CONTROL.setMaxValue(SETTINGS.getDouble(Key.MAX_VALUE)); }
     }
 }
@@ -0,0 +1,413 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.events.GaugeModelEvent;
+import eu.hansolo.medusa.events.GaugeModelEvent.EventType;
+import eu.hansolo.medusa.events.GaugeModelEventListener;
+import eu.hansolo.medusa.tools.Data;
+import eu.hansolo.medusa.tools.MovingAverage;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * The value pipeline of a gauge without any dependency to JavaFX. Holds
+ * the range, the threshold, the measured min and max values and the moving
+ * average and checks new values against the threshold, the markers and
+ * the sections and areas. The Gauge control delegates to a GaugeModel,
+ * on the server side a GaugeModel can be used on its own to evaluate
+ * values with the same semantics as the UI.
+ * A GaugeModel is not thread safe, each model should only be used by one
+ * thread at a time. Events will be fired on the thread that set the value.
+ */
+public class GaugeModel {
+    private static final Range[]                       NO_RANGES    = new Range[0];
+    private static final double[]                      NO_MARKERS   = new double[0];
+    private              List<GaugeModelEventListener> listenerList;
+    private              double                        minValue;
+    private              double                        maxValue;
+    private              double                        value;
+    private              double                        currentValue;
+    private              double                        formerValue;
+    private              double                        threshold;
+    private              double                        minMeasuredValue;
+    private              double                        maxMeasuredValue;
+    private              double                        majorTickSpace;
+    private              double                        minorTickSpace;
+    private              boolean                       checkThreshold;
+    private              boolean                       checkSectionsForValue;
+    private              boolean                       checkAreasForValue;
+    private              boolean                       checkMarkers;
+    private              boolean                       averagingEnabled;
+    private              int                           averagingPeriod;
+    private              MovingAverage                 movingAverage;
+    private              Range[]                       sections;
+    private              Range[]                       areas;
+    private              double[]                      markers;
+
+
+    // ******************** Constructors **************************************
+    public GaugeModel() {
+        this(0, 100);
+    }
+    public GaugeModel(final double MIN_VALUE, final double MAX_VALUE) {
+        minValue         = MIN_VALUE;
+        maxValue         = Math.max(MIN_VALUE, MAX_VALUE);
+        value            = minValue;
+        currentValue     = minValue;
+        formerValue      = minValue;
+        threshold        = maxValue;
+        minMeasuredValue = maxValue;
+        maxMeasuredValue = minValue;
+        majorTickSpace   = 10;
+        minorTickSpace   = 1;
+        averagingPeriod  = 10;
+        sections         = NO_RANGES;
+        areas            = NO_RANGES;
+        markers          = NO_MARKERS;
+    }
+
+
+    // ******************** Methods *******************************************
+    public double getMinValue() { return minValue; }
+    /**
+     * Defines the minimum value of the scale, the maximum value and the
+     * threshold will be adjusted if needed
+     * @param VALUE
+     */
+    public void setMinValue(final double VALUE) {
+        minValue = VALUE;
+        if (maxValue < minValue) { maxValue = minValue; }
+        threshold = clamp(minValue, maxValue, threshold);
+    }
+
+    public double getMaxValue() { return maxValue; }
+    /**
+     * Defines the maximum value of the scale, the minimum value and the
+     * threshold will be adjusted if needed
+     * @param VALUE
+     */
+    public void setMaxValue(final double VALUE) {
+        maxValue = VALUE;
+        if (minValue > maxValue) { minValue = maxValue; }
+        threshold = clamp(minValue, maxValue, threshold);
+    }
+
+    public double getRange() { return maxValue - minValue; }
+
+    /**
+     * Returns the last value that was set. In a Gauge this is the target
+     * value of the animation.
+     * @return the last value that was set
+     */
+    public double getValue() { return value; }
+    /**
+     * Sets the value and evaluates it immediately (see setCurrentValue()).
+     * @param VALUE
+     */
+    public void setValue(final double VALUE) {
+        recordValue(VALUE);
+        setCurrentValue(VALUE);
+    }
+    /**
+     * Sets the value and evaluates it immediately, the events will be fired
+     * to the registered listeners and to the given sink. Used by the
+     * AlertEngine to collect the events without a listener per model.
+     * @param VALUE
+     * @param SINK
+     */
+    void setValue(final double VALUE, final GaugeModelEventListener SINK) {
+        recordValue(VALUE);
+        setCurrentValue(VALUE, SINK);
+    }
+
+    /**
+     * Stores the given value as target value and adds it to the moving
+     * average without evaluating it
+     * @param VALUE
+     */
+    void recordValue(final double VALUE) {
+        value = VALUE;
+        if (averagingEnabled) { getMovingAverage().addData(new Data(VALUE)); }
+    }
+
+    /**
+     * Returns the value that was evaluated last. In a Gauge this is the
+     * current value of the animation.
+     * @return the value that was evaluated last
+     */
+    public double getCurrentValue() { return currentValue; }
+    /**
+     * Evaluates the given value. Checks it against the threshold, the markers,
+     * the sections and areas (if enabled), fires the events of all crossed
+     * borders and updates the min and max measured values.
+     * @param VALUE
+     */
+    public void setCurrentValue(final double VALUE) { setCurrentValue(VALUE, null); }
+    private void setCurrentValue(final double VALUE, final GaugeModelEventListener SINK) {
+        final double FORMER_VALUE = formerValue;
+        currentValue = VALUE;
+        formerValue  = VALUE;
+        if (VALUE < minMeasuredValue) {
+            minMeasuredValue = VALUE;
+        } else if (VALUE > maxMeasuredValue) {
+            maxMeasuredValue = VALUE;
+        }
+        if (null == listenerList && null == SINK) { return; }
+
+        if (checkThreshold) {
+            if (FORMER_VALUE < threshold && VALUE > threshold) {
+                fireGaugeModelEvent(EventType.THRESHOLD_EXCEEDED, -1, VALUE, SINK);
+            } else if (FORMER_VALUE > threshold && VALUE < threshold) {
+                fireGaugeModelEvent(EventType.THRESHOLD_UNDERRUN, -1, VALUE, SINK);
+            }
+        }
+        if (checkMarkers) {
+            for (int i = 0 ; i < markers.length ; i++) {
+                final double MARKER = markers[i];
+                if (FORMER_VALUE < MARKER && VALUE > MARKER) {
+                    fireGaugeModelEvent(EventType.MARKER_EXCEEDED, i, VALUE, SINK);
+                } else if (FORMER_VALUE > MARKER && VALUE < MARKER) {
+                    fireGaugeModelEvent(EventType.MARKER_UNDERRUN, i, VALUE, SINK);
+                }
+            }
+        }
+        if (checkSectionsForValue) { checkRanges(sections, FORMER_VALUE, VALUE, EventType.SECTION_ENTERED, EventType.SECTION_LEFT, SINK); }
+        if (checkAreasForValue) { checkRanges(areas, FORMER_VALUE, VALUE, EventType.AREA_ENTERED, EventType.AREA_LEFT, SINK); }
+    }
+
+    private void checkRanges(final Range[] RANGES, final double FORMER_VALUE, final double VALUE, final EventType ENTERED, final EventType LEFT, final GaugeModelEventListener SINK) {
+        for (int i = 0 ; i < RANGES.length ; i++) {
+            final boolean WAS_INSIDE = RANGES[i].contains(FORMER_VALUE);
+            final boolean IS_INSIDE  = RANGES[i].contains(VALUE);
+            if (!WAS_INSIDE && IS_INSIDE) {
+                fireGaugeModelEvent(ENTERED, i, VALUE, SINK);
+            } else if (WAS_INSIDE && !IS_INSIDE) {
+                fireGaugeModelEvent(LEFT, i, VALUE, SINK);
+            }
+        }
+    }
+
+    public double getThreshold() { return threshold; }
+    /**
+     * Defines the threshold, the value will be clamped to the range
+     * @param THRESHOLD
+     */
+    public void setThreshold(final double THRESHOLD) { threshold = clamp(minValue, maxValue, THRESHOLD); }
+
+    public boolean isCheckThreshold() { return checkThreshold; }
+    public void setCheckThreshold(final boolean CHECK) { checkThreshold = CHECK; }
+
+    public boolean getCheckSectionsForValue() { return checkSectionsForValue; }
+    public void setCheckSectionsForValue(final boolean CHECK) { checkSectionsForValue = CHECK; }
+
+    public boolean getCheckAreasForValue() { return checkAreasForValue; }
+    public void setCheckAreasForValue(final boolean CHECK) { checkAreasForValue = CHECK; }
+
+    public boolean isCheckMarkers() { return checkMarkers; }
+    public void setCheckMarkers(final boolean CHECK) { checkMarkers = CHECK; }
+
+    public double getMinMeasuredValue() { return minMeasuredValue; }
+    public void setMinMeasuredValue(final double VALUE) { minMeasuredValue = VALUE; }
+
+    public double getMaxMeasuredValue() { return maxMeasuredValue; }
+    public void setMaxMeasuredValue(final double VALUE) { maxMeasuredValue = VALUE; }
+
+    /**
+     * Resets the min and max measured values to the current value
+     */
+    public void resetMeasuredValues() {
+        minMeasuredValue = value;
+        maxMeasuredValue = value;
+    }
+
+    public boolean isAveragingEnabled() { return averagingEnabled; }
+    public void setAveragingEnabled(final boolean ENABLED) { averagingEnabled = ENABLED; }
+
+    public int getAveragingPeriod() { return averagingPeriod; }
+    public void setAveragingPeriod(final int PERIOD) {
+        averagingPeriod = Math.max(0, Math.min(MovingAverage.MAX_PERIOD, PERIOD));
+        if (null != movingAverage) { movingAverage.setPeriod(averagingPeriod); }
+    }
+
+    /**
+     * Returns the moving average, it will be created on first use to keep
+     * models without averaging small
+     * @return the moving average
+     */
+    public MovingAverage getMovingAverage() {
+        if (null == movingAverage) { movingAverage = new MovingAverage(averagingPeriod); }
+        return movingAverage;
+    }
+
+    public double getAverage() { return null == movingAverage ? 0 : movingAverage.getAverage(); }
+
+    public Range[] getSections() { return sections.clone(); }
+    /**
+     * Defines the sections the value will be checked against if
+     * checkSectionsForValue is enabled
+     * @param SECTIONS
+     */
+    public void setSections(final Range... SECTIONS) { sections = null == SECTIONS ? NO_RANGES : SECTIONS.clone(); }
+
+    public Range[] getAreas() { return areas.clone(); }
+    /**
+     * Defines the areas the value will be checked against if
+     * checkAreasForValue is enabled
+     * @param AREAS
+     */
+    public void setAreas(final Range... AREAS) { areas = null == AREAS ? NO_RANGES : AREAS.clone(); }
+
+    public double[] getMarkers() { return markers.clone(); }
+    /**
+     * Defines the values of the markers the value will be checked against
+     * if checkMarkers is enabled
+     * @param MARKERS
+     */
+    public void setMarkers(final double... MARKERS) { markers = null == MARKERS ? NO_MARKERS : MARKERS.clone(); }
+
+    public double getMajorTickSpace() { return majorTickSpace; }
+    public void setMajorTickSpace(final double SPACE) { majorTickSpace = SPACE; }
+
+    public double getMinorTickSpace() { return minorTickSpace; }
+    public void setMinorTickSpace(final double SPACE) { minorTickSpace = SPACE; }
+
+    /**
+     * Calculates nice values for the min and max value and the major and
+     * minor tick space of the current range
+     */
+    public void calcAutoScale() {
+        final double[] SCALE = calcAutoScale(minValue, maxValue);
+        majorTickSpace = SCALE[2];
+        minorTickSpace = SCALE[3];
+        setMinValue(SCALE[0]);
+        setMaxValue(SCALE[1]);
+    }
+
+    /**
+     * Calculates nice values for the given range (same as used by
+     * Gauge.calcAutoScale())
+     * @param MIN_VALUE
+     * @param MAX_VALUE
+     * @return array of doubles with [niceMinValue, niceMaxValue, majorTickSpace, minorTickSpace]
+     */
+    public static double[] calcAutoScale(final double MIN_VALUE, final double MAX_VALUE) {
+        final double MAX_NO_OF_MAJOR_TICKS = 10;
+        final double MAX_NO_OF_MINOR_TICKS = 10;
+        final double NICE_RANGE            = calcNiceNumber(MAX_VALUE - MIN_VALUE, false);
+        final double MAJOR_TICK_SPACE      = calcNiceNumber(NICE_RANGE / (MAX_NO_OF_MAJOR_TICKS - 1), true);
+        final double NICE_MIN_VALUE        = Math.floor(MIN_VALUE / MAJOR_TICK_SPACE) * MAJOR_TICK_SPACE;
+        final double NICE_MAX_VALUE        = Math.ceil(MAX_VALUE / MAJOR_TICK_SPACE) * MAJOR_TICK_SPACE;
+        final double MINOR_TICK_SPACE      = calcNiceNumber(MAJOR_TICK_SPACE / (MAX_NO_OF_MINOR_TICKS - 1), true);
+        return new double[] { NICE_MIN_VALUE, NICE_MAX_VALUE, MAJOR_TICK_SPACE, MINOR_TICK_SPACE };
+    }
+
+    /**
+     * Returns a "nice" number approximately equal to the range.
+     * Rounds the number if ROUND == true.
+     * Takes the ceiling if ROUND = false.
+     * @param RANGE the value range (maxValue - minValue)
+     * @param ROUND whether to round the result or ceil
+     * @return a "nice" number to be used for the value range
+     */
+    public static double calcNiceNumber(final double RANGE, final boolean ROUND) {
+        double niceFraction;
+        double exponent = Math.floor(Math.log10(RANGE));   // exponent of range
+        double fraction = RANGE / Math.pow(10, exponent);  // fractional part of range
+
+        if (ROUND) {
+            if (fraction < 1.5) {
+                niceFraction = 1;
+            } else if (fraction < 3) {
+                niceFraction = 2;
+            } else if (fraction < 7) {
+                niceFraction = 5;
+            } else {
+                niceFraction = 10;
+            }
+        } else {
+            if (fraction <= 1) {
+                niceFraction = 1;
+            } else if (fraction <= 2) {
+                niceFraction = 2;
+            } else if (fraction <= 5) {
+                niceFraction = 5;
+            } else {
+                niceFraction = 10;
+            }
+        }
+        return niceFraction * Math.pow(10, exponent);
+    }
+
+    private static double clamp(final double MIN, final double MAX, final double VALUE) {
+        if (VALUE < MIN) return MIN;
+        if (VALUE > MAX) return MAX;
+        return VALUE;
+    }
+
+
+    // ******************** Event handling ************************************
+    public void addGaugeModelEventListener(final GaugeModelEventListener LISTENER) {
+        if (null == listenerList) { listenerList = new CopyOnWriteArrayList<>(); }
+        if (!listenerList.contains(LISTENER)) { listenerList.add(LISTENER); }
+    }
+    public void removeGaugeModelEventListener(final GaugeModelEventListener LISTENER) {
+        if (null == listenerList) { return; }
+        listenerList.remove(LISTENER);
+        if (listenerList.isEmpty()) { listenerList = null; }
+    }
+    public void removeAllGaugeModelEventListeners() { listenerList = null; }
+
+    private void fireGaugeModelEvent(final EventType TYPE, final int INDEX, final double VALUE, final GaugeModelEventListener SINK) {
+        final GaugeModelEvent EVENT = new GaugeModelEvent(GaugeModel.this, TYPE, INDEX, VALUE);
+        final List<GaugeModelEventListener> LISTENERS = listenerList;
+        if (null != SINK) { SINK.onGaugeModelEvent(EVENT); }
+        if (null == LISTENERS) { return; }
+        for (GaugeModelEventListener listener : LISTENERS) { listener.onGaugeModelEvent(EVENT); }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * An immutable range of values used for sections and areas
+     */
+    public static final class Range {
+        private final double start;
+        private final double stop;
+
+
+        // ******************** Constructors **********************************
+        public Range(final double START, final double STOP) {
+            start = Math.min(START, STOP);
+            stop  = Math.max(START, STOP);
+        }
+
+
+        // ******************** Methods ***************************************
+        public double getStart() { return start; }
+
+        public double getStop() { return stop; }
+
+        /**
+         * @return true if the given value is within the range (borders included)
+         */
+        public boolean contains(final double VALUE) { return Double.compare(VALUE, start) >= 0 && Double.compare(VALUE, stop) <= 0; }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa;
+
+import java.util.Arrays;
+
+
+/**
+ * Settings of a GaugeBuilder stored in typed slots indexed by the ordinal
+ * of the setting key. Primitive values are stored unboxed in a long array,
+ * objects in an object array and a bit mask keeps track of the keys that
+ * have been set. The keys are declared in the order in which they will be
+ * applied to the gauge (value last).
+ */
+final class GaugeSettings {
+    /**
+     * One constant per setting of the GaugeBuilder, maintained by hand. A new
+     * builder setting needs a constant here and a case in GaugeBuilder.apply().
+     */
+    enum Key {
+        SKIN_TYPE, MIN_VALUE, MAX_VALUE, THRESHOLD, DECIMALS, TICK_LABEL_DECIMALS, TITLE, SUB_TITLE, UNIT, AVERAGING_ENABLED,
+        AVERAGING_PERIOD, FOREGROUND_BASE_COLOR, START_FROM_ZERO, RETURN_TO_ZERO, ZERO_COLOR, MIN_MEASURED_VALUE_VISIBLE,
+        MAX_MEASURED_VALUE_VISIBLE, OLD_VALUE_VISIBLE, VALUE_VISIBLE, BACKGROUND_PAINT, BORDER_PAINT, BORDER_WIDTH,
+        FOREGROUND_PAINT, KNOB_COLOR, KNOB_TYPE, KNOB_VISIBLE, KNOB_POSITION, ANIMATED, ANIMATION_DURATION, ANIMATION_MODE,
+        START_ANGLE, ANGLE_RANGE, ARC_EXTEND, AUTO_SCALE, NEEDLE_TYPE, NEEDLE_SHAPE, NEEDLE_SIZE, NEEDLE_BEHAVIOR, NEEDLE_COLOR,
+        NEEDLE_BORDER_COLOR, BAR_COLOR, BAR_BORDER_COLOR, BAR_BACKGROUND_COLOR, TICK_LABEL_ORIENTATION, TICK_LABEL_LOCATION,
+        LOCALE, MAJOR_TICK_SPACE, MINOR_TICK_SPACE, SHADOWS_ENABLED, BAR_EFFECT_ENABLED, SCALE_DIRECTION, TICK_LABEL_COLOR,
+        TICK_MARK_COLOR, MAJOR_TICK_MARK_COLOR, MAJOR_TICK_MARK_LENGTH_FACTOR, MAJOR_TICK_MARK_WIDTH_FACTOR,
+        MEDIUM_TICK_MARK_COLOR, MEDIUM_TICK_MARK_LENGTH_FACTOR, MEDIUM_TICK_MARK_WIDTH_FACTOR, MINOR_TICK_MARK_COLOR,
+        MINOR_TICK_MARK_LENGTH_FACTOR, MINOR_TICK_MARK_WIDTH_FACTOR, MAJOR_TICK_MARK_TYPE, MEDIUM_TICK_MARK_TYPE,
+        MINOR_TICK_MARK_TYPE, STYLE, STYLE_CLASS, LED_COLOR, LED_TYPE, LED_VISIBLE, LCD_VISIBLE, LCD_CRYSTAL_ENABLED, LCD_DESIGN,
+        LCD_FONT, SECTIONS_ARRAY, SECTIONS_LIST, AREAS_ARRAY, AREAS_LIST, TICK_MARK_SECTIONS_ARRAY, TICK_MARK_SECTIONS_LIST,
+        TICK_LABEL_SECTIONS_ARRAY, TICK_LABEL_SECTIONS_LIST, MARKERS_ARRAY, MARKERS_LIST, TITLE_COLOR, SUB_TITLE_COLOR,
+        UNIT_COLOR, VALUE_COLOR, THRESHOLD_COLOR, AVERAGE_COLOR, CHECK_SECTIONS_FOR_VALUE, CHECK_AREAS_FOR_VALUE,
+        CHECK_THRESHOLD, INNER_SHADOW_ENABLED, THRESHOLD_VISIBLE, AVERAGE_VISIBLE, SECTIONS_VISIBLE, SECTIONS_ALWAYS_VISIBLE,
+        SECTION_TEXT_VISIBLE, SECTION_ICONS_VISIBLE, HIGHLIGHT_SECTIONS, AREAS_VISIBLE, AREA_TEXT_VISIBLE, AREA_ICONS_VISIBLE,
+        HIGHLIGHT_AREAS, TICK_MARK_SECTIONS_VISIBLE, TICK_LABEL_SECTIONS_VISIBLE, MARKERS_VISIBLE, TICK_LABELS_VISIBLE,
+        ONLY_FIRST_AND_LAST_TICK_LABEL_VISIBLE, MAJOR_TICK_MARKS_VISIBLE, MEDIUM_TICK_MARKS_VISIBLE, MINOR_TICK_MARKS_VISIBLE,
+        TICK_MARK_RING_VISIBLE, LED_ON, LED_BLINKING, ORIENTATION, GRADIENT_BAR_ENABLED, GRADIENT_LOOKUP,
+        GRADIENT_BAR_STOPS_ARRAY, GRADIENT_BAR_STOPS_LIST, CUSTOM_TICK_LABELS_ENABLED, CUSTOM_TICK_LABEL_FONT_SIZE_ENABLED,
+        CUSTOM_TICK_LABELS_ARRAY, CUSTOM_TICK_LABELS_LIST, CUSTOM_TICK_LABEL_FONT_SIZE, INTERACTIVE, BUTTON_TOOLTIP_TEXT,
+        KEEP_ASPECT, CUSTOM_FONT_ENABLED, CUSTOM_FONT, ALERT_MESSAGE, SMOOTHING, ON_VALUE_CHANGED, ON_BUTTON_PRESSED,
+        ON_BUTTON_RELEASED, ON_THRESHOLD_EXCEEDED, ON_THRESHOLD_UNDERRUN, PREF_SIZE, MIN_SIZE, MAX_SIZE, PREF_WIDTH, PREF_HEIGHT,
+        MIN_WIDTH, MIN_HEIGHT, MAX_WIDTH, MAX_HEIGHT, SCALE_X, SCALE_Y, LAYOUT_X, LAYOUT_Y, TRANSLATE_X, TRANSLATE_Y, PADDING,
+        VALUE;
+
+        static final Key[] VALUES = values();
+    }
+
+    private final long[]   mask;
+    private final long[]   primitives;
+    private final Object[] objects;
+
+
+    // ******************** Constructors **************************************
+    GaugeSettings() {
+        mask       = new long[(Key.VALUES.length + 63) >>> 6];
+        primitives = new long[Key.VALUES.length];
+        objects    = new Object[Key.VALUES.length];
+    }
+
+
+    // ******************** Methods *******************************************
+    void setBoolean(final Key KEY, final boolean VALUE) { setPrimitive(KEY, VALUE ? 1 : 0); }
+    boolean getBoolean(final Key KEY) { return primitives[KEY.ordinal()] != 0; }
+
+    void setInt(final Key KEY, final int VALUE) { setPrimitive(KEY, VALUE); }
+    int getInt(final Key KEY) { return (int) primitives[KEY.ordinal()]; }
+
+    void setLong(final Key KEY, final long VALUE) { setPrimitive(KEY, VALUE); }
+    long getLong(final Key KEY) { return primitives[KEY.ordinal()]; }
+
+    void setDouble(final Key KEY, final double VALUE) { setPrimitive(KEY, Double.doubleToRawLongBits(VALUE)); }
+    double getDouble(final Key KEY) { return Double.longBitsToDouble(primitives[KEY.ordinal()]); }
+
+    void setObject(final Key KEY, final Object VALUE) {
+        final int INDEX = KEY.ordinal();
+        objects[INDEX] = VALUE;
+        mask[INDEX >>> 6] |= 1L << INDEX;
+    }
+    Object getObject(final Key KEY) { return objects[KEY.ordinal()]; }
+
+    boolean isSet(final Key KEY) {
+        final int INDEX = KEY.ordinal();
+        return (mask[INDEX >>> 6] & (1L << INDEX)) != 0;
+    }
+
+    /**
+     * @return the keys that have been set in the order of their declaration
+     */
+    Key[] getKeys() {
+        Key[] keys  = new Key[Key.VALUES.length];
+        int   count = 0;
+        for (int word = 0 ; word < mask.length ; word++) {
+            long bits = mask[word];
+            while (bits != 0) {
+                keys[count++] = Key.VALUES[(word << 6) + Long.numberOfTrailingZeros(bits)];
+                bits &= bits - 1;
+            }
+        }
+        return Arrays.copyOf(keys, count);
+    }
+
+    private void setPrimitive(final Key KEY, final long VALUE) {
+        final int INDEX = KEY.ordinal();
+        primitives[INDEX] = VALUE;
+        mask[INDEX >>> 6] |= 1L << INDEX;
+    }
+}
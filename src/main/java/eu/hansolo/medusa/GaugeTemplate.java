@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa;
+
+
+/**
+ * Template that holds the resolved state of a prototype gauge and can
+ * be used to create any number of gauges with the same state e.g. for large
+ * dashboards with gauges that only differ in title, value or sections.
+ * The state is taken from the prototype once, new gauges copy it field by
+ * field before their skin is created, so no setters will be replayed and
+ * no intermediate update events will be fired.
+ * Immutable objects like paints and fonts are shared, sections, areas and
+ * markers are copied for each gauge. Tick marks and gradient rasters are not
+ * shared, the skin of each gauge renders them on its own canvases because
+ * they depend on the size of the gauge. Event handlers and listeners are not
+ * part of the template.
+ */
+public class GaugeTemplate {
+    private final Gauge snapshot;
+
+
+    // ******************** Constructors **************************************
+    private GaugeTemplate(final Gauge SNAPSHOT) {
+        snapshot = SNAPSHOT;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Takes the current state of the given gauge, later changes of the
+     * prototype do not affect the template
+     * @param PROTOTYPE the gauge that will be used as prototype
+     * @return a template with the current state of the given gauge
+     */
+    public static GaugeTemplate of(final Gauge PROTOTYPE) {
+        return new GaugeTemplate(new Gauge(PROTOTYPE, false));
+    }
+
+    /**
+     * @return a new gauge with the state of the prototype
+     */
+    public Gauge instantiate() {
+        return new Gauge(snapshot, true);
+    }
+}
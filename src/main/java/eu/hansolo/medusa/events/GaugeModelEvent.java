@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.events;
+
+import java.util.EventObject;
+
+
+/**
+ * Will be fired by a GaugeModel if its value crossed the threshold, a
+ * marker or the border of a section or area. The index is the index of
+ * the section, area or marker and -1 for threshold events.
+ */
+public class GaugeModelEvent extends EventObject {
+    private static final long serialVersionUID = 1L;
+    public enum EventType { THRESHOLD_EXCEEDED, THRESHOLD_UNDERRUN, SECTION_ENTERED, SECTION_LEFT, AREA_ENTERED, AREA_LEFT, MARKER_EXCEEDED, MARKER_UNDERRUN };
+    public final EventType eventType;
+    public final int       index;
+    public final double    value;
+
+    public GaugeModelEvent(final Object SRC, final EventType EVENT_TYPE, final int INDEX, final double VALUE) {
+        super(SRC);
+        eventType = EVENT_TYPE;
+        index     = INDEX;
+        value     = VALUE;
+    }
+}
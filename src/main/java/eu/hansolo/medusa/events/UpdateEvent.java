@@ -18,6 +18,7 @@
 package eu.hansolo.medusa.events;
 
 import java.util.EventObject;
+import java.util.List;
 
 
 /**
@@ -25,6 +26,11 @@ import java.util.EventObject;
  */
 public class UpdateEvent extends EventObject {
     public enum EventType { RECALC, REDRAW, RESIZE, LED, LCD, VISIBILITY, INTERACTIVITY, FINISHED, SECTION, ALERT, VALUE };
+    // Order in which collected events (batch updates, deferred skin updates) will be handled
+    public static final List<EventType> BATCH_ORDER = List.of(EventType.RECALC, EventType.VISIBILITY, EventType.INTERACTIVITY,
+                                                              EventType.SECTION, EventType.LED, EventType.LCD,
+                                                              EventType.ALERT, EventType.VALUE, EventType.FINISHED,
+                                                              EventType.RESIZE, EventType.REDRAW);
     public final EventType eventType;
 
     public UpdateEvent(final Object SRC, final EventType EVENT_TYPE) {
@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.export;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+
+/**
+ * Minimal PNG encoder for 8 bit RGBA images that does not need AWT or
+ * javafx.swing. Takes non premultiplied ARGB pixels as delivered by
+ * PixelReader.getPixels() with PixelFormat.getIntArgbInstance() and can
+ * be used on any thread. Each row is encoded with the "sub" filter which
+ * compresses the large plain areas of gauges well.
+ */
+public final class PngEncoder {
+    private static final byte[] SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+    private static final int    FILTER_SUB = 1;
+
+
+    // ******************** Constructors **************************************
+    private PngEncoder() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * @param ARGB   the pixels in row major order
+     * @param WIDTH  the width of the image
+     * @param HEIGHT the height of the image
+     * @return the PNG encoded image
+     */
+    public static byte[] encode(final int[] ARGB, final int WIDTH, final int HEIGHT) {
+        final ByteArrayOutputStream OUTPUT = new ByteArrayOutputStream(WIDTH * HEIGHT + 1024);
+        try {
+            encode(ARGB, WIDTH, HEIGHT, OUTPUT);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return OUTPUT.toByteArray();
+    }
+    /**
+     * Writes the PNG encoded image to the given stream
+     * @param ARGB   the pixels in row major order
+     * @param WIDTH  the width of the image
+     * @param HEIGHT the height of the image
+     * @param OUTPUT the stream the image will be written to
+     * @throws IOException
+     */
+    public static void encode(final int[] ARGB, final int WIDTH, final int HEIGHT, final OutputStream OUTPUT) throws IOException {
+        if (WIDTH <= 0 || HEIGHT <= 0 || ARGB.length < WIDTH * HEIGHT) { throw new IllegalArgumentException("Image size does not match the pixels"); }
+        OUTPUT.write(SIGNATURE);
+
+        final byte[] HEADER = new byte[13];
+        putInt(HEADER, 0, WIDTH);
+        putInt(HEADER, 4, HEIGHT);
+        HEADER[8]  = 8; // bit depth
+        HEADER[9]  = 6; // color type RGBA
+        HEADER[10] = 0; // compression
+        HEADER[11] = 0; // filter
+        HEADER[12] = 0; // no interlace
+        writeChunk(OUTPUT, "IHDR", HEADER, HEADER.length);
+
+        final ByteArrayOutputStream DATA     = new ByteArrayOutputStream(WIDTH * HEIGHT + 1024);
+        final Deflater              DEFLATER = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try (DeflaterOutputStream deflaterStream = new DeflaterOutputStream(DATA, DEFLATER, 8192)) {
+            final int    STRIDE = WIDTH * 4;
+            final byte[] ROW    = new byte[STRIDE + 1];
+            ROW[0] = FILTER_SUB;
+            for (int y = 0 ; y < HEIGHT ; y++) {
+                int offset = y * WIDTH;
+                int r = 0, g = 0, b = 0, a = 0;
+                for (int x = 0 ; x < WIDTH ; x++) {
+                    final int PIXEL = ARGB[offset + x];
+                    final int R     = (PIXEL >> 16) & 0xFF;
+                    final int G     = (PIXEL >> 8) & 0xFF;
+                    final int B     = PIXEL & 0xFF;
+                    final int A     = (PIXEL >>> 24);
+                    final int I     = 1 + x * 4;
+                    ROW[I]     = (byte) (R - r);
+                    ROW[I + 1] = (byte) (G - g);
+                    ROW[I + 2] = (byte) (B - b);
+                    ROW[I + 3] = (byte) (A - a);
+                    r = R; g = G; b = B; a = A;
+                }
+                deflaterStream.write(ROW);
+            }
+        } finally {
+            DEFLATER.end();
+        }
+        writeChunk(OUTPUT, "IDAT", DATA.toByteArray(), DATA.size());
+        writeChunk(OUTPUT, "IEND", new byte[0], 0);
+    }
+
+    private static void writeChunk(final OutputStream OUTPUT, final String TYPE, final byte[] DATA, final int LENGTH) throws IOException {
+        final byte[] HEADER = new byte[8];
+        putInt(HEADER, 0, LENGTH);
+        for (int i = 0 ; i < 4 ; i++) { HEADER[4 + i] = (byte) TYPE.charAt(i); }
+        final CRC32 CRC = new CRC32();
+        CRC.update(HEADER, 4, 4);
+        CRC.update(DATA, 0, LENGTH);
+        final byte[] CHECKSUM = new byte[4];
+        putInt(CHECKSUM, 0, (int) CRC.getValue());
+        OUTPUT.write(HEADER);
+        OUTPUT.write(DATA, 0, LENGTH);
+        OUTPUT.write(CHECKSUM);
+    }
+
+    private static void putInt(final byte[] BYTES, final int OFFSET, final int VALUE) {
+        BYTES[OFFSET]     = (byte) (VALUE >>> 24);
+        BYTES[OFFSET + 1] = (byte) (VALUE >>> 16);
+        BYTES[OFFSET + 2] = (byte) (VALUE >>> 8);
+        BYTES[OFFSET + 3] = (byte) VALUE;
+    }
+}
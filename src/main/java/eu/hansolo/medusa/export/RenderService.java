@@ -0,0 +1,361 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.export;
+
+import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.GaugeTemplate;
+import eu.hansolo.medusa.skins.GaugeSkinBase;
+import eu.hansolo.medusa.tools.Helper;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.control.Control;
+import javafx.scene.control.Skin;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+
+import java.time.ZonedDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+
+/**
+ * Renders gauges and clocks offscreen into PNG images without a visible
+ * stage. The controls are rendered on the JavaFX application thread in
+ * scenes that are never shown, the PNG encoding runs on a pool of
+ * background threads. Scenes, controls (incl. their skins) and images are
+ * pooled per template/supplier so rendering the same configuration
+ * again only changes the value. A pooled gauge will be reset before each
+ * request (measured values, moving average, old value and LED), the skins
+ * of controls that are evicted from the pool will be disposed.
+ * Works with any glass platform, on servers the headless Monocle platform
+ * can be used (-Dglass.platform=Monocle -Dmonocle.platform=Headless
+ * -Dprism.order=sw). The JavaFX platform will be started if needed.
+ */
+public class RenderService implements AutoCloseable {
+    public  static final double            DEFAULT_DPI = 96;
+    private static final int               MAX_SLOTS   = 64;
+    private        final ExecutorService   encoderService;
+    private        final Map<Object, Slot> slots;
+
+
+    // ******************** Constructors **************************************
+    public RenderService() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+    /**
+     * @param ENCODER_THREADS the number of threads used to encode the PNG images
+     */
+    public RenderService(final int ENCODER_THREADS) {
+        encoderService = Executors.newFixedThreadPool(Math.max(1, ENCODER_THREADS), Helper.getThreadFactory("PngEncoder", true));
+        slots          = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(final Map.Entry<Object, Slot> ELDEST) {
+                if (size() <= MAX_SLOTS) { return false; }
+                ELDEST.getValue().dispose();
+                return true;
+            }
+        };
+        startPlatform();
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Renders a gauge created from the given template with the given value
+     * @param TEMPLATE the configuration of the gauge
+     * @param VALUE    the value of the gauge
+     * @param WIDTH    the width of the gauge
+     * @param HEIGHT   the height of the gauge
+     * @param DPI      the resolution of the image (96 dpi renders one pixel per unit)
+     * @return the PNG encoded image
+     */
+    public CompletableFuture<byte[]> render(final GaugeTemplate TEMPLATE, final double VALUE, final double WIDTH, final double HEIGHT, final double DPI) {
+        return render(RenderRequest.gauge(TEMPLATE, VALUE, WIDTH, HEIGHT, DPI));
+    }
+    /**
+     * Renders a clock created by the given supplier at the given time. The
+     * supplier is used as key for the pool and should be reused.
+     * @param CLOCK  the supplier of the clock
+     * @param TIME   the time of the clock
+     * @param WIDTH  the width of the clock
+     * @param HEIGHT the height of the clock
+     * @param DPI    the resolution of the image (96 dpi renders one pixel per unit)
+     * @return the PNG encoded image
+     */
+    public CompletableFuture<byte[]> render(final Supplier<Clock> CLOCK, final ZonedDateTime TIME, final double WIDTH, final double HEIGHT, final double DPI) {
+        return render(RenderRequest.clock(CLOCK, TIME, WIDTH, HEIGHT, DPI));
+    }
+    public CompletableFuture<byte[]> render(final RenderRequest REQUEST) {
+        final CompletableFuture<byte[]> FUTURE = new CompletableFuture<>();
+        final Runnable SNAPSHOT = () -> {
+            try {
+                final Pixels PIXELS = snapshot(REQUEST);
+                encoderService.execute(() -> {
+                    try {
+                        FUTURE.complete(PngEncoder.encode(PIXELS.argb, PIXELS.width, PIXELS.height));
+                    } catch (Throwable t) {
+                        FUTURE.completeExceptionally(t);
+                    }
+                });
+            } catch (Throwable t) {
+                FUTURE.completeExceptionally(t);
+            }
+        };
+        if (Platform.isFxApplicationThread()) {
+            SNAPSHOT.run();
+        } else {
+            Platform.runLater(SNAPSHOT);
+        }
+        return FUTURE;
+    }
+
+    /**
+     * Renders all given requests and passes the images to the consumer on
+     * the encoder threads. At most MAX_IN_FLIGHT images are kept in memory
+     * at the same time which makes it possible to render thousands of
+     * images with bounded memory. Blocks until all images have been
+     * consumed and must not be called on the JavaFX application thread.
+     * @param REQUESTS      the requests, will be iterated lazily
+     * @param CONSUMER      receives each request with its PNG encoded image
+     * @param MAX_IN_FLIGHT the max number of images that are rendered or encoded at the same time
+     * @throws InterruptedException
+     */
+    public void renderAll(final Iterator<RenderRequest> REQUESTS, final BiConsumer<RenderRequest, byte[]> CONSUMER, final int MAX_IN_FLIGHT) throws InterruptedException {
+        if (Platform.isFxApplicationThread()) { throw new IllegalStateException("renderAll() must not be called on the JavaFX application thread"); }
+        final int                        PERMITS = Math.max(1, MAX_IN_FLIGHT);
+        final Semaphore                  PERMIT  = new Semaphore(PERMITS);
+        final AtomicReference<Throwable> ERROR   = new AtomicReference<>();
+        while (REQUESTS.hasNext() && null == ERROR.get()) {
+            final RenderRequest REQUEST = REQUESTS.next();
+            PERMIT.acquire();
+            render(REQUEST).whenComplete((png, error) -> {
+                try {
+                    if (null == error) {
+                        CONSUMER.accept(REQUEST, png);
+                    } else {
+                        ERROR.compareAndSet(null, error);
+                    }
+                } catch (Throwable t) {
+                    ERROR.compareAndSet(null, t);
+                } finally {
+                    PERMIT.release();
+                }
+            });
+        }
+        PERMIT.acquire(PERMITS);
+        if (null != ERROR.get()) { throw new IllegalStateException("Rendering failed", ERROR.get()); }
+    }
+
+    /**
+     * Stops the encoder threads and releases the pooled scenes
+     */
+    @Override public void close() {
+        encoderService.shutdown();
+        Platform.runLater(() -> {
+            for (Slot slot : slots.values()) { slot.dispose(); }
+            slots.clear();
+        });
+    }
+
+    private Pixels snapshot(final RenderRequest REQUEST) {
+        final Slot SLOT = slots.computeIfAbsent(REQUEST.key, key -> new Slot(REQUEST.createControl()));
+        SLOT.reset();
+        REQUEST.apply(SLOT.control);
+        SLOT.control.setPrefSize(REQUEST.width, REQUEST.height);
+        SLOT.root.applyCss();
+        SLOT.root.layout();
+        SLOT.flush();
+
+        final double SCALE  = REQUEST.dpi / DEFAULT_DPI;
+        final int    WIDTH  = (int) Math.ceil(REQUEST.width * SCALE);
+        final int    HEIGHT = (int) Math.ceil(REQUEST.height * SCALE);
+        if (null == SLOT.image || (int) SLOT.image.getWidth() != WIDTH || (int) SLOT.image.getHeight() != HEIGHT) { SLOT.image = new WritableImage(WIDTH, HEIGHT); }
+        SLOT.parameters.setTransform(Transform.scale(SCALE, SCALE));
+        SLOT.control.snapshot(SLOT.parameters, SLOT.image);
+
+        final int[] ARGB = new int[WIDTH * HEIGHT];
+        SLOT.image.getPixelReader().getPixels(0, 0, WIDTH, HEIGHT, PixelFormat.getIntArgbInstance(), ARGB, 0, WIDTH);
+        return new Pixels(ARGB, WIDTH, HEIGHT);
+    }
+
+    private static void startPlatform() {
+        final CountDownLatch LATCH = new CountDownLatch(1);
+        try {
+            Platform.startup(LATCH::countDown);
+            Platform.setImplicitExit(false);
+            LATCH.await();
+        } catch (IllegalStateException e) {
+            // Platform is already running
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * Describes one image, a gauge created from a template with a value or
+     * a clock created by a supplier at a given time
+     */
+    public static final class RenderRequest {
+        private final Object          key;
+        private final GaugeTemplate   template;
+        private final double          value;
+        private final Supplier<Clock> clockSupplier;
+        private final ZonedDateTime   time;
+        private final double          width;
+        private final double          height;
+        private final double          dpi;
+
+
+        // ******************** Constructors **********************************
+        private RenderRequest(final GaugeTemplate TEMPLATE, final double VALUE, final Supplier<Clock> CLOCK_SUPPLIER, final ZonedDateTime TIME, final double WIDTH, final double HEIGHT, final double DPI) {
+            if (WIDTH <= 0 || HEIGHT <= 0 || DPI <= 0) { throw new IllegalArgumentException("Width, height and dpi must be positive"); }
+            key           = null == TEMPLATE ? CLOCK_SUPPLIER : TEMPLATE;
+            template      = TEMPLATE;
+            value         = VALUE;
+            clockSupplier = CLOCK_SUPPLIER;
+            time          = TIME;
+            width         = WIDTH;
+            height        = HEIGHT;
+            dpi           = DPI;
+        }
+
+
+        // ******************** Methods ***************************************
+        public static RenderRequest gauge(final GaugeTemplate TEMPLATE, final double VALUE, final double WIDTH, final double HEIGHT, final double DPI) {
+            return new RenderRequest(Objects.requireNonNull(TEMPLATE), VALUE, null, null, WIDTH, HEIGHT, DPI);
+        }
+
+        public static RenderRequest clock(final Supplier<Clock> SUPPLIER, final ZonedDateTime TIME, final double WIDTH, final double HEIGHT, final double DPI) {
+            return new RenderRequest(null, 0, Objects.requireNonNull(SUPPLIER), Objects.requireNonNull(TIME), WIDTH, HEIGHT, DPI);
+        }
+
+        public double getValue() { return value; }
+
+        public ZonedDateTime getTime() { return time; }
+
+        public double getWidth() { return width; }
+
+        public double getHeight() { return height; }
+
+        public double getDpi() { return dpi; }
+
+        private Control createControl() {
+            if (null != template) {
+                final Gauge GAUGE = template.instantiate();
+                GAUGE.setAnimated(false);
+                return GAUGE;
+            }
+            final Clock CLOCK = clockSupplier.get();
+            CLOCK.setRunning(false);
+            CLOCK.setAnimated(false);
+            return CLOCK;
+        }
+
+        private void apply(final Control CONTROL) {
+            if (null != template) {
+                final Gauge GAUGE = (Gauge) CONTROL;
+                GAUGE.setValue(value);
+                GAUGE.resetOldValue();
+                GAUGE.resetMeasuredValues();
+            } else {
+                ((Clock) CONTROL).setTime(time);
+            }
+        }
+    }
+
+    /**
+     * A scene that is never shown with one pooled control and the image it
+     * will be rendered into
+     */
+    private static final class Slot {
+        private final Control            control;
+        private final Pane               root;
+        private final SnapshotParameters parameters;
+        private final boolean            ledOn;
+        private       WritableImage      image;
+
+
+        // ******************** Constructors **********************************
+        Slot(final Control CONTROL) {
+            control    = CONTROL;
+            root       = new Pane(CONTROL);
+            parameters = new SnapshotParameters();
+            ledOn      = CONTROL instanceof Gauge && ((Gauge) CONTROL).isLedOn();
+            parameters.setFill(Color.TRANSPARENT);
+            new Scene(root, Color.TRANSPARENT);
+        }
+
+
+        // ******************** Methods ***************************************
+        /**
+         * Resets the moving average and the LED of a pooled gauge, the old
+         * value and the measured values will be reset after the new value
+         * was applied
+         */
+        void reset() {
+            if (!(control instanceof Gauge)) { return; }
+            final Gauge GAUGE = (Gauge) control;
+            if (GAUGE.isAveragingEnabled()) { GAUGE.getMovingAverage().reset(); }
+            GAUGE.setLedOn(ledOn);
+        }
+
+        /**
+         * Handles the deferred update events of the pooled control only
+         */
+        void flush() {
+            final Skin<?> SKIN = control.getSkin();
+            if (SKIN instanceof GaugeSkinBase) { ((GaugeSkinBase) SKIN).flushUpdates(); }
+        }
+
+        void dispose() {
+            if (control instanceof Gauge && ((Gauge) control).isLedBlinking()) { ((Gauge) control).setLedBlinking(false); }
+            final Skin<?> SKIN = control.getSkin();
+            if (null != SKIN) { SKIN.dispose(); }
+        }
+    }
+
+    private static final class Pixels {
+        private final int[] argb;
+        private final int   width;
+        private final int   height;
+
+
+        // ******************** Constructors **********************************
+        Pixels(final int[] ARGB, final int WIDTH, final int HEIGHT) {
+            argb   = ARGB;
+            width  = WIDTH;
+            height = HEIGHT;
+        }
+    }
+}
@@ -0,0 +1,673 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.export;
+
+import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.events.UpdateEvent.EventType;
+import eu.hansolo.medusa.skins.GaugeSkinBase;
+import javafx.beans.InvalidationListener;
+import javafx.geometry.Bounds;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.Border;
+import javafx.scene.layout.BorderStroke;
+import javafx.scene.layout.CornerRadii;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.Arc;
+import javafx.scene.shape.ArcTo;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.CubicCurveTo;
+import javafx.scene.shape.Ellipse;
+import javafx.scene.shape.FillRule;
+import javafx.scene.shape.HLineTo;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.shape.Polygon;
+import javafx.scene.shape.Polyline;
+import javafx.scene.shape.QuadCurveTo;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.Shape;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+import javafx.scene.shape.VLineTo;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.transform.Affine;
+import javafx.scene.transform.Transform;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+
+/**
+ * Exports the node graph of a gauge or clock skin as SVG.
+ * Circles, ellipses, rectangles, arcs, lines, polygons, paths, texts and
+ * the background fills and borders of regions will be written as vector
+ * elements with solid colors and linear/radial gradients. The content of
+ * a Canvas (e.g. tick marks, sections and LEDs that are drawn with the
+ * Helper methods) can not be read back as draw calls and will be embedded
+ * as PNG image in the resolution given by canvasScale.
+ * Clips and effects (e.g. drop shadows, inner shadows and blurs) are not
+ * exported, the nodes will be written without them.
+ * The serialized element of each node is cached together with a
+ * fingerprint of its geometry, paint and transform. Exporting the same
+ * gauge with a new value only serializes the nodes that changed, e.g. the
+ * needle and the value text. Canvases are only rasterized again if the
+ * exported gauge or clock fired an update event other than VALUE (skins
+ * redraw e.g. highlighted sections on FINISHED), changed its size or (for
+ * clocks) its time since the last export, or if the canvas was marked as
+ * dynamic by its skin because it is redrawn with each value. Nodes are weakly referenced by the cache.
+ * The elements are written one by one to the given Appendable, so
+ * exporting thousands of gauges into files or a single sheet does not
+ * need to keep the documents in memory.
+ * Has to be called on the JavaFX application thread and the nodes have to
+ * be part of a scene so that their skins exist.
+ */
+public class SvgExporter {
+    private static final String                SVG_NS = "http://www.w3.org/2000/svg";
+    private static final String                DYNAMIC = "SvgExporter.dynamic";
+    private        final Map<Node, Element>    cache;
+    private        final Map<Node, Root>       roots;
+    private        final double                canvasScale;
+    private              long                  idCounter;
+
+
+    // ******************** Constructors **************************************
+    public SvgExporter() {
+        this(1.0);
+    }
+    /**
+     * @param CANVAS_SCALE the scale factor used to rasterize canvases (e.g. 2 for high dpi screens)
+     */
+    public SvgExporter(final double CANVAS_SCALE) {
+        if (CANVAS_SCALE <= 0) { throw new IllegalArgumentException("Canvas scale must be positive"); }
+        cache       = new WeakHashMap<>();
+        roots       = new WeakHashMap<>();
+        canvasScale = CANVAS_SCALE;
+        idCounter   = 0;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Marks the given canvas as redrawn with each value, it will be
+     * rasterized on every export. Has to be called by skins that draw
+     * the value on a canvas.
+     * @param CANVAS the canvas
+     */
+    public static void markDynamic(final Canvas CANVAS) { CANVAS.getProperties().put(DYNAMIC, Boolean.TRUE); }
+
+    /**
+     * Exports the given node as standalone SVG document
+     * @param NODE   the node, usually a Gauge or a Clock
+     * @param OUTPUT the SVG will be appended to this output
+     */
+    public void export(final Region NODE, final Appendable OUTPUT) {
+        try {
+            final double WIDTH  = NODE.getWidth();
+            final double HEIGHT = NODE.getHeight();
+            OUTPUT.append("<svg xmlns=\"").append(SVG_NS).append("\" width=\"").append(fmt(WIDTH)).append("\" height=\"").append(fmt(HEIGHT))
+                  .append("\" viewBox=\"0 0 ").append(fmt(WIDTH)).append(' ').append(fmt(HEIGHT)).append("\">\n");
+            writeNode(NODE, new Affine(), 1.0, track(NODE), OUTPUT);
+            OUTPUT.append("</svg>\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Exports the given nodes as one SVG document in which the nodes will
+     * be arranged in a grid with the given number of columns and the size
+     * of the largest node per cell.
+     * @param NODES   the nodes, usually gauges or clocks
+     * @param COLUMNS the number of columns
+     * @param OUTPUT  the SVG will be appended to this output
+     */
+    public void exportAll(final List<? extends Region> NODES, final int COLUMNS, final Appendable OUTPUT) {
+        final int COLS = Math.max(1, COLUMNS);
+        double cellWidth  = 0;
+        double cellHeight = 0;
+        for (Region node : NODES) {
+            cellWidth  = Math.max(cellWidth, node.getWidth());
+            cellHeight = Math.max(cellHeight, node.getHeight());
+        }
+        final int    ROWS   = (NODES.size() + COLS - 1) / COLS;
+        final double WIDTH  = Math.min(COLS, NODES.size()) * cellWidth;
+        final double HEIGHT = ROWS * cellHeight;
+        try {
+            OUTPUT.append("<svg xmlns=\"").append(SVG_NS).append("\" width=\"").append(fmt(WIDTH)).append("\" height=\"").append(fmt(HEIGHT))
+                  .append("\" viewBox=\"0 0 ").append(fmt(WIDTH)).append(' ').append(fmt(HEIGHT)).append("\">\n");
+            for (int i = 0 ; i < NODES.size() ; i++) {
+                final Region NODE = NODES.get(i);
+                OUTPUT.append("<svg x=\"").append(fmt((i % COLS) * cellWidth)).append("\" y=\"").append(fmt((i / COLS) * cellHeight))
+                      .append("\" width=\"").append(fmt(NODE.getWidth())).append("\" height=\"").append(fmt(NODE.getHeight())).append("\">\n");
+                writeNode(NODE, new Affine(), 1.0, track(NODE), OUTPUT);
+                OUTPUT.append("</svg>\n");
+            }
+            OUTPUT.append("</svg>\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Removes all cached elements
+     */
+    public void clearCache() { cache.clear(); }
+
+    /**
+     * Returns the state of the given exported node, the listeners that
+     * invalidate its canvases will be added on the first export. Deferred
+     * update events of gauge skins will be handled before the export.
+     */
+    private Root track(final Region NODE) {
+        if (NODE instanceof Gauge && ((Gauge) NODE).getSkin() instanceof GaugeSkinBase) { ((GaugeSkinBase) ((Gauge) NODE).getSkin()).flushUpdates(); }
+        Root root = roots.get(NODE);
+        if (null != root) { return root; }
+        final Root ROOT = new Root();
+        final InvalidationListener INVALIDATE = o -> ROOT.generation++;
+        NODE.widthProperty().addListener(INVALIDATE);
+        NODE.heightProperty().addListener(INVALIDATE);
+        if (NODE instanceof Gauge) {
+            ((Gauge) NODE).addUpdateEventListener(e -> { if (EventType.VALUE != e.eventType) { ROOT.generation++; } });
+        } else if (NODE instanceof Clock) {
+            ((Clock) NODE).addUpdateEventListener(e -> ROOT.generation++);
+            ((Clock) NODE).timeProperty().addListener(INVALIDATE);
+        } else {
+            // Unknown control, canvases will be rasterized on every export
+            ROOT.generation = -1;
+        }
+        roots.put(NODE, ROOT);
+        return ROOT;
+    }
+
+    private void writeNode(final Node NODE, final Transform TRANSFORM, final double OPACITY, final Root ROOT, final Appendable OUTPUT) throws IOException {
+        if (!NODE.isVisible() || NODE.getOpacity() <= 0) { return; }
+        final double OPAC = OPACITY * NODE.getOpacity();
+        if (NODE instanceof Shape) {
+            writeCached(NODE, TRANSFORM, OPAC, OUTPUT);
+        } else if (NODE instanceof Canvas) {
+            writeCanvas((Canvas) NODE, TRANSFORM, OPAC, ROOT, OUTPUT);
+        } else if (NODE instanceof Parent) {
+            if (NODE instanceof Region) {
+                final Region REGION = (Region) NODE;
+                if (null != REGION.getBackground() || null != REGION.getBorder()) { writeCached(NODE, TRANSFORM, OPAC, OUTPUT); }
+            }
+            for (Node child : ((Parent) NODE).getChildrenUnmodifiable()) {
+                writeNode(child, TRANSFORM.createConcatenation(child.getLocalToParentTransform()), OPAC, ROOT, OUTPUT);
+            }
+        }
+    }
+
+    private void writeCached(final Node NODE, final Transform TRANSFORM, final double OPACITY, final Appendable OUTPUT) throws IOException {
+        final long FINGERPRINT = fingerprint(NODE, TRANSFORM, OPACITY);
+        Element element = cache.get(NODE);
+        if (null == element || element.fingerprint != FINGERPRINT) {
+            final StringBuilder SVG = new StringBuilder(128);
+            final String        ID  = null == element ? "e" + (idCounter++) : element.id;
+            if (NODE instanceof Shape) {
+                writeShape((Shape) NODE, ID, TRANSFORM, OPACITY, SVG);
+            } else {
+                writeRegion((Region) NODE, ID, TRANSFORM, OPACITY, SVG);
+            }
+            element = new Element(ID, FINGERPRINT, 0, SVG.toString());
+            cache.put(NODE, element);
+        }
+        OUTPUT.append(element.svg);
+    }
+
+    private void writeCanvas(final Canvas CANVAS, final Transform TRANSFORM, final double OPACITY, final Root ROOT, final Appendable OUTPUT) throws IOException {
+        final double WIDTH  = CANVAS.getWidth();
+        final double HEIGHT = CANVAS.getHeight();
+        if (WIDTH <= 0 || HEIGHT <= 0) { return; }
+        final int  W           = (int) Math.ceil(WIDTH * canvasScale);
+        final int  H           = (int) Math.ceil(HEIGHT * canvasScale);
+        final long FINGERPRINT = hash(hash(hash(hashTransform(TRANSFORM), OPACITY), W), H);
+
+        Element element = cache.get(CANVAS);
+        if (null == element || element.fingerprint != FINGERPRINT || element.generation != ROOT.generation || ROOT.generation < 0 || CANVAS.getProperties().containsKey(DYNAMIC)) {
+            final SnapshotParameters PARAMETERS = new SnapshotParameters();
+            PARAMETERS.setFill(Color.TRANSPARENT);
+            PARAMETERS.setTransform(Transform.scale(canvasScale, canvasScale));
+            final WritableImage IMAGE = CANVAS.snapshot(PARAMETERS, new WritableImage(W, H));
+            final int[]         ARGB  = new int[W * H];
+            IMAGE.getPixelReader().getPixels(0, 0, W, H, PixelFormat.getIntArgbInstance(), ARGB, 0, W);
+
+            final String        ID  = null == element ? "e" + (idCounter++) : element.id;
+            final StringBuilder SVG = new StringBuilder(W * H / 4 + 256);
+            SVG.append("<image id=\"").append(ID).append('"');
+            appendTransform(TRANSFORM, SVG);
+            appendOpacity("opacity", OPACITY, SVG);
+            SVG.append(" width=\"").append(fmt(WIDTH)).append("\" height=\"").append(fmt(HEIGHT)).append("\" href=\"data:image/png;base64,")
+               .append(Base64.getEncoder().encodeToString(PngEncoder.encode(ARGB, W, H))).append("\"/>\n");
+            element = new Element(ID, FINGERPRINT, ROOT.generation, SVG.toString());
+            cache.put(CANVAS, element);
+        }
+        OUTPUT.append(element.svg);
+    }
+
+
+    // ******************** Serialization *************************************
+    private void writeShape(final Shape SHAPE, final String ID, final Transform TRANSFORM, final double OPACITY, final StringBuilder SVG) {
+        final StringBuilder DEFS = new StringBuilder();
+        final StringBuilder ATTR = new StringBuilder();
+        ATTR.append(" id=\"").append(ID).append('"');
+        appendTransform(TRANSFORM, ATTR);
+        appendPaint("fill", SHAPE.getFill(), ID + "f", OPACITY, DEFS, ATTR);
+        if (null != SHAPE.getStroke() && SHAPE.getStrokeWidth() > 0) {
+            appendPaint("stroke", SHAPE.getStroke(), ID + "s", OPACITY, DEFS, ATTR);
+            ATTR.append(" stroke-width=\"").append(fmt(SHAPE.getStrokeWidth())).append('"');
+            if (StrokeLineCap.BUTT != SHAPE.getStrokeLineCap()) { ATTR.append(" stroke-linecap=\"").append(StrokeLineCap.ROUND == SHAPE.getStrokeLineCap() ? "round" : "square").append('"'); }
+            if (StrokeLineJoin.MITER != SHAPE.getStrokeLineJoin()) { ATTR.append(" stroke-linejoin=\"").append(StrokeLineJoin.ROUND == SHAPE.getStrokeLineJoin() ? "round" : "bevel").append('"'); }
+            if (!SHAPE.getStrokeDashArray().isEmpty()) {
+                ATTR.append(" stroke-dasharray=\"");
+                for (int i = 0 ; i < SHAPE.getStrokeDashArray().size() ; i++) { ATTR.append(i > 0 ? " " : "").append(fmt(SHAPE.getStrokeDashArray().get(i))); }
+                ATTR.append('"');
+            }
+        }
+        SVG.append(DEFS);
+        if (SHAPE instanceof Circle) {
+            final Circle CIRCLE = (Circle) SHAPE;
+            SVG.append("<circle cx=\"").append(fmt(CIRCLE.getCenterX())).append("\" cy=\"").append(fmt(CIRCLE.getCenterY())).append("\" r=\"").append(fmt(CIRCLE.getRadius())).append('"');
+        } else if (SHAPE instanceof Ellipse) {
+            final Ellipse ELLIPSE = (Ellipse) SHAPE;
+            SVG.append("<ellipse cx=\"").append(fmt(ELLIPSE.getCenterX())).append("\" cy=\"").append(fmt(ELLIPSE.getCenterY()))
+               .append("\" rx=\"").append(fmt(ELLIPSE.getRadiusX())).append("\" ry=\"").append(fmt(ELLIPSE.getRadiusY())).append('"');
+        } else if (SHAPE instanceof Rectangle) {
+            final Rectangle RECT = (Rectangle) SHAPE;
+            SVG.append("<rect x=\"").append(fmt(RECT.getX())).append("\" y=\"").append(fmt(RECT.getY()))
+               .append("\" width=\"").append(fmt(RECT.getWidth())).append("\" height=\"").append(fmt(RECT.getHeight())).append('"');
+            if (RECT.getArcWidth() > 0 || RECT.getArcHeight() > 0) { SVG.append(" rx=\"").append(fmt(RECT.getArcWidth() * 0.5)).append("\" ry=\"").append(fmt(RECT.getArcHeight() * 0.5)).append('"'); }
+        } else if (SHAPE instanceof Line) {
+            final Line LINE = (Line) SHAPE;
+            SVG.append("<line x1=\"").append(fmt(LINE.getStartX())).append("\" y1=\"").append(fmt(LINE.getStartY()))
+               .append("\" x2=\"").append(fmt(LINE.getEndX())).append("\" y2=\"").append(fmt(LINE.getEndY())).append('"');
+        } else if (SHAPE instanceof Polygon || SHAPE instanceof Polyline) {
+            final List<Double> POINTS = SHAPE instanceof Polygon ? ((Polygon) SHAPE).getPoints() : ((Polyline) SHAPE).getPoints();
+            SVG.append(SHAPE instanceof Polygon ? "<polygon points=\"" : "<polyline points=\"");
+            for (int i = 0 ; i < POINTS.size() ; i++) { SVG.append(i > 0 ? " " : "").append(fmt(POINTS.get(i))); }
+            SVG.append('"');
+        } else if (SHAPE instanceof Arc) {
+            SVG.append("<path d=\"");
+            appendArc((Arc) SHAPE, SVG);
+            SVG.append('"');
+        } else if (SHAPE instanceof Path) {
+            final Path PATH = (Path) SHAPE;
+            SVG.append("<path d=\"");
+            appendPathElements(PATH.getElements(), SVG);
+            SVG.append('"');
+            if (FillRule.EVEN_ODD == PATH.getFillRule()) { SVG.append(" fill-rule=\"evenodd\""); }
+        } else if (SHAPE instanceof Text) {
+            final Text TEXT = (Text) SHAPE;
+            final Font FONT = TEXT.getFont();
+            SVG.append("<text x=\"").append(fmt(TEXT.getX())).append("\" y=\"").append(fmt(TEXT.getY()))
+               .append("\" font-family=\"").append(escape(FONT.getFamily())).append("\" font-size=\"").append(fmt(FONT.getSize())).append('"');
+            final String STYLE = FONT.getStyle().toLowerCase(Locale.ENGLISH);
+            if (STYLE.contains("bold")) { SVG.append(" font-weight=\"bold\""); }
+            if (STYLE.contains("italic")) { SVG.append(" font-style=\"italic\""); }
+            if (VPos.TOP == TEXT.getTextOrigin()) {
+                SVG.append(" dominant-baseline=\"text-before-edge\"");
+            } else if (VPos.CENTER == TEXT.getTextOrigin()) {
+                SVG.append(" dominant-baseline=\"central\"");
+            } else if (VPos.BOTTOM == TEXT.getTextOrigin()) {
+                SVG.append(" dominant-baseline=\"text-after-edge\"");
+            }
+            SVG.append(ATTR).append('>').append(escape(TEXT.getText())).append("</text>\n");
+            return;
+        } else {
+            // Unsupported shape, export its bounds so that the layout stays recognizable
+            final Bounds BOUNDS = SHAPE.getLayoutBounds();
+            SVG.append("<rect x=\"").append(fmt(BOUNDS.getMinX())).append("\" y=\"").append(fmt(BOUNDS.getMinY()))
+               .append("\" width=\"").append(fmt(BOUNDS.getWidth())).append("\" height=\"").append(fmt(BOUNDS.getHeight())).append('"');
+        }
+        SVG.append(ATTR).append("/>\n");
+    }
+
+    private void writeRegion(final Region REGION, final String ID, final Transform TRANSFORM, final double OPACITY, final StringBuilder SVG) {
+        final double WIDTH  = REGION.getWidth();
+        final double HEIGHT = REGION.getHeight();
+        final Background BACKGROUND = REGION.getBackground();
+        if (null != BACKGROUND) {
+            int index = 0;
+            for (BackgroundFill fill : BACKGROUND.getFills()) {
+                final String FILL_ID = ID + "b" + (index++);
+                final StringBuilder DEFS = new StringBuilder();
+                final StringBuilder ATTR = new StringBuilder();
+                appendTransform(TRANSFORM, ATTR);
+                appendPaint("fill", fill.getFill(), FILL_ID, OPACITY, DEFS, ATTR);
+                SVG.append(DEFS);
+                appendRect(fill.getInsets().getLeft(), fill.getInsets().getTop(), WIDTH - fill.getInsets().getLeft() - fill.getInsets().getRight(),
+                           HEIGHT - fill.getInsets().getTop() - fill.getInsets().getBottom(), fill.getRadii(), SVG);
+                SVG.append(ATTR).append("/>\n");
+            }
+        }
+        final Border BORDER = REGION.getBorder();
+        if (null != BORDER) {
+            int index = 0;
+            for (BorderStroke stroke : BORDER.getStrokes()) {
+                final double LINE_WIDTH = stroke.getWidths().getTop();
+                if (LINE_WIDTH <= 0) { continue; }
+                final String STROKE_ID = ID + "r" + (index++);
+                final StringBuilder DEFS = new StringBuilder();
+                final StringBuilder ATTR = new StringBuilder(" fill=\"none\"");
+                appendTransform(TRANSFORM, ATTR);
+                appendPaint("stroke", stroke.getTopStroke(), STROKE_ID, OPACITY, DEFS, ATTR);
+                ATTR.append(" stroke-width=\"").append(fmt(LINE_WIDTH)).append('"');
+                SVG.append(DEFS);
+                final double INSET = stroke.getInsets().getTop() + LINE_WIDTH * 0.5;
+                appendRect(INSET, INSET, WIDTH - 2 * INSET, HEIGHT - 2 * INSET, stroke.getRadii(), SVG);
+                SVG.append(ATTR).append("/>\n");
+            }
+        }
+    }
+
+    private void appendRect(final double X, final double Y, final double WIDTH, final double HEIGHT, final CornerRadii RADII, final StringBuilder SVG) {
+        SVG.append("<rect x=\"").append(fmt(X)).append("\" y=\"").append(fmt(Y)).append("\" width=\"").append(fmt(Math.max(0, WIDTH))).append("\" height=\"").append(fmt(Math.max(0, HEIGHT))).append('"');
+        if (null != RADII && RADII.getTopLeftHorizontalRadius() > 0) {
+            final double RX = RADII.isTopLeftHorizontalRadiusAsPercentage() ? RADII.getTopLeftHorizontalRadius() * WIDTH : RADII.getTopLeftHorizontalRadius();
+            final double RY = RADII.isTopLeftVerticalRadiusAsPercentage() ? RADII.getTopLeftVerticalRadius() * HEIGHT : RADII.getTopLeftVerticalRadius();
+            SVG.append(" rx=\"").append(fmt(Math.min(RX, WIDTH * 0.5))).append("\" ry=\"").append(fmt(Math.min(RY, HEIGHT * 0.5))).append('"');
+        }
+    }
+
+    private void appendArc(final Arc ARC, final StringBuilder SVG) {
+        final double CX     = ARC.getCenterX();
+        final double CY     = ARC.getCenterY();
+        final double RX     = ARC.getRadiusX();
+        final double RY     = ARC.getRadiusY();
+        final double LENGTH = Math.max(-360, Math.min(360, ARC.getLength()));
+        final double START  = Math.toRadians(ARC.getStartAngle());
+        final double SWEEP  = LENGTH > 0 ? 0 : 1;
+        final double SX     = CX + RX * Math.cos(START);
+        final double SY     = CY - RY * Math.sin(START);
+        if (ArcType.ROUND == ARC.getType()) {
+            SVG.append('M').append(fmt(CX)).append(' ').append(fmt(CY)).append(" L").append(fmt(SX)).append(' ').append(fmt(SY));
+        } else {
+            SVG.append('M').append(fmt(SX)).append(' ').append(fmt(SY));
+        }
+        // A full circle has to be split into two arcs
+        final int    PARTS = Math.abs(LENGTH) >= 360 ? 2 : 1;
+        final double STEP  = Math.toRadians(LENGTH / PARTS);
+        for (int i = 1 ; i <= PARTS ; i++) {
+            final double ANGLE = START + STEP * i;
+            SVG.append(" A").append(fmt(RX)).append(' ').append(fmt(RY)).append(" 0 ").append(Math.abs(LENGTH / PARTS) > 180 ? 1 : 0).append(' ').append((int) SWEEP)
+               .append(' ').append(fmt(CX + RX * Math.cos(ANGLE))).append(' ').append(fmt(CY - RY * Math.sin(ANGLE)));
+        }
+        if (ArcType.OPEN != ARC.getType()) { SVG.append(" Z"); }
+    }
+
+    private void appendPathElements(final List<PathElement> ELEMENTS, final StringBuilder SVG) {
+        for (PathElement element : ELEMENTS) {
+            final boolean ABS = element.isAbsolute();
+            if (element instanceof MoveTo) {
+                final MoveTo E = (MoveTo) element;
+                SVG.append(ABS ? 'M' : 'm').append(fmt(E.getX())).append(' ').append(fmt(E.getY())).append(' ');
+            } else if (element instanceof LineTo) {
+                final LineTo E = (LineTo) element;
+                SVG.append(ABS ? 'L' : 'l').append(fmt(E.getX())).append(' ').append(fmt(E.getY())).append(' ');
+            } else if (element instanceof HLineTo) {
+                SVG.append(ABS ? 'H' : 'h').append(fmt(((HLineTo) element).getX())).append(' ');
+            } else if (element instanceof VLineTo) {
+                SVG.append(ABS ? 'V' : 'v').append(fmt(((VLineTo) element).getY())).append(' ');
+            } else if (element instanceof CubicCurveTo) {
+                final CubicCurveTo E = (CubicCurveTo) element;
+                SVG.append(ABS ? 'C' : 'c').append(fmt(E.getControlX1())).append(' ').append(fmt(E.getControlY1())).append(' ')
+                   .append(fmt(E.getControlX2())).append(' ').append(fmt(E.getControlY2())).append(' ')
+                   .append(fmt(E.getX())).append(' ').append(fmt(E.getY())).append(' ');
+            } else if (element instanceof QuadCurveTo) {
+                final QuadCurveTo E = (QuadCurveTo) element;
+                SVG.append(ABS ? 'Q' : 'q').append(fmt(E.getControlX())).append(' ').append(fmt(E.getControlY())).append(' ')
+                   .append(fmt(E.getX())).append(' ').append(fmt(E.getY())).append(' ');
+            } else if (element instanceof ArcTo) {
+                final ArcTo E = (ArcTo) element;
+                SVG.append(ABS ? 'A' : 'a').append(fmt(E.getRadiusX())).append(' ').append(fmt(E.getRadiusY())).append(' ').append(fmt(E.getXAxisRotation())).append(' ')
+                   .append(E.isLargeArcFlag() ? 1 : 0).append(' ').append(E.isSweepFlag() ? 1 : 0).append(' ')
+                   .append(fmt(E.getX())).append(' ').append(fmt(E.getY())).append(' ');
+            } else if (element instanceof ClosePath) {
+                SVG.append("Z ");
+            }
+        }
+        if (SVG.charAt(SVG.length() - 1) == ' ') { SVG.setLength(SVG.length() - 1); }
+    }
+
+    private void appendPaint(final String ATTRIBUTE, final Paint PAINT, final String ID, final double OPACITY, final StringBuilder DEFS, final StringBuilder ATTR) {
+        if (PAINT instanceof Color) {
+            final Color COLOR = (Color) PAINT;
+            if (COLOR.getOpacity() * OPACITY <= 0) {
+                ATTR.append(' ').append(ATTRIBUTE).append("=\"none\"");
+                return;
+            }
+            ATTR.append(' ').append(ATTRIBUTE).append("=\"").append(rgb(COLOR)).append('"');
+            appendOpacity(ATTRIBUTE + "-opacity", COLOR.getOpacity() * OPACITY, ATTR);
+        } else if (PAINT instanceof LinearGradient) {
+            final LinearGradient GRADIENT = (LinearGradient) PAINT;
+            DEFS.append("<defs><linearGradient id=\"").append(ID).append("\" x1=\"").append(fmt(GRADIENT.getStartX())).append("\" y1=\"").append(fmt(GRADIENT.getStartY()))
+                .append("\" x2=\"").append(fmt(GRADIENT.getEndX())).append("\" y2=\"").append(fmt(GRADIENT.getEndY())).append('"');
+            appendGradientAttributes(GRADIENT.isProportional(), GRADIENT.getCycleMethod(), DEFS);
+            appendStops(GRADIENT.getStops(), OPACITY, DEFS);
+            DEFS.append("</linearGradient></defs>\n");
+            ATTR.append(' ').append(ATTRIBUTE).append("=\"url(#").append(ID).append(")\"");
+        } else if (PAINT instanceof RadialGradient) {
+            final RadialGradient GRADIENT = (RadialGradient) PAINT;
+            final double         FOCUS    = Math.toRadians(GRADIENT.getFocusAngle());
+            final double         FX       = GRADIENT.getCenterX() + GRADIENT.getFocusDistance() * GRADIENT.getRadius() * Math.cos(FOCUS);
+            final double         FY       = GRADIENT.getCenterY() + GRADIENT.getFocusDistance() * GRADIENT.getRadius() * Math.sin(FOCUS);
+            DEFS.append("<defs><radialGradient id=\"").append(ID).append("\" cx=\"").append(fmt(GRADIENT.getCenterX())).append("\" cy=\"").append(fmt(GRADIENT.getCenterY()))
+                .append("\" r=\"").append(fmt(GRADIENT.getRadius())).append("\" fx=\"").append(fmt(FX)).append("\" fy=\"").append(fmt(FY)).append('"');
+            appendGradientAttributes(GRADIENT.isProportional(), GRADIENT.getCycleMethod(), DEFS);
+            appendStops(GRADIENT.getStops(), OPACITY, DEFS);
+            DEFS.append("</radialGradient></defs>\n");
+            ATTR.append(' ').append(ATTRIBUTE).append("=\"url(#").append(ID).append(")\"");
+        } else {
+            // No paint or a paint that is not supported (e.g. ImagePattern)
+            ATTR.append(' ').append(ATTRIBUTE).append("=\"none\"");
+        }
+    }
+
+    private void appendGradientAttributes(final boolean PROPORTIONAL, final CycleMethod CYCLE_METHOD, final StringBuilder DEFS) {
+        if (!PROPORTIONAL) { DEFS.append(" gradientUnits=\"userSpaceOnUse\""); }
+        if (CycleMethod.REFLECT == CYCLE_METHOD) {
+            DEFS.append(" spreadMethod=\"reflect\"");
+        } else if (CycleMethod.REPEAT == CYCLE_METHOD) {
+            DEFS.append(" spreadMethod=\"repeat\"");
+        }
+        DEFS.append('>');
+    }
+
+    private void appendStops(final List<Stop> STOPS, final double OPACITY, final StringBuilder DEFS) {
+        for (Stop stop : STOPS) {
+            DEFS.append("<stop offset=\"").append(fmt(stop.getOffset())).append("\" stop-color=\"").append(rgb(stop.getColor())).append('"');
+            appendOpacity("stop-opacity", stop.getColor().getOpacity() * OPACITY, DEFS);
+            DEFS.append("/>");
+        }
+    }
+
+    private void appendTransform(final Transform TRANSFORM, final StringBuilder ATTR) {
+        if (TRANSFORM.isIdentity()) { return; }
+        ATTR.append(" transform=\"matrix(").append(fmt(TRANSFORM.getMxx())).append(' ').append(fmt(TRANSFORM.getMyx())).append(' ')
+            .append(fmt(TRANSFORM.getMxy())).append(' ').append(fmt(TRANSFORM.getMyy())).append(' ')
+            .append(fmt(TRANSFORM.getTx())).append(' ').append(fmt(TRANSFORM.getTy())).append(")\"");
+    }
+
+    private void appendOpacity(final String ATTRIBUTE, final double OPACITY, final StringBuilder ATTR) {
+        if (OPACITY < 1) { ATTR.append(' ').append(ATTRIBUTE).append("=\"").append(fmt(OPACITY)).append('"'); }
+    }
+
+    private static String rgb(final Color COLOR) {
+        return String.format(Locale.US, "#%02x%02x%02x", (int) Math.round(COLOR.getRed() * 255), (int) Math.round(COLOR.getGreen() * 255), (int) Math.round(COLOR.getBlue() * 255));
+    }
+
+    private static String fmt(final double VALUE) {
+        final double ROUNDED = Math.round(VALUE * 1000) / 1000.0;
+        if (ROUNDED == (long) ROUNDED) { return Long.toString((long) ROUNDED); }
+        return Double.toString(ROUNDED);
+    }
+
+    private static String escape(final String TEXT) {
+        if (null == TEXT) { return ""; }
+        final StringBuilder ESCAPED = new StringBuilder(TEXT.length());
+        for (int i = 0 ; i < TEXT.length() ; i++) {
+            final char C = TEXT.charAt(i);
+            switch(C) {
+                case '<' : ESCAPED.append("&lt;"); break;
+                case '>' : ESCAPED.append("&gt;"); break;
+                case '&' : ESCAPED.append("&amp;"); break;
+                case '"' : ESCAPED.append("&quot;"); break;
+                default  : ESCAPED.append(C); break;
+            }
+        }
+        return ESCAPED.toString();
+    }
+
+
+    // ******************** Fingerprints **************************************
+    private static long fingerprint(final Node NODE, final Transform TRANSFORM, final double OPACITY) {
+        long h = hash(hashTransform(TRANSFORM), OPACITY);
+        if (NODE instanceof Region) {
+            final Region REGION = (Region) NODE;
+            h = hash(h, REGION.getWidth());
+            h = hash(h, REGION.getHeight());
+            h = hash(h, null == REGION.getBackground() ? 0 : REGION.getBackground().hashCode());
+            return hash(h, null == REGION.getBorder() ? 0 : REGION.getBorder().hashCode());
+        }
+        final Shape SHAPE = (Shape) NODE;
+        h = hash(h, null == SHAPE.getFill() ? 0 : SHAPE.getFill().hashCode());
+        h = hash(h, null == SHAPE.getStroke() ? 0 : SHAPE.getStroke().hashCode());
+        h = hash(h, SHAPE.getStrokeWidth());
+        h = hash(h, SHAPE.getStrokeLineCap().ordinal());
+        h = hash(h, SHAPE.getStrokeLineJoin().ordinal());
+        h = hash(h, SHAPE.getStrokeDashArray().hashCode());
+        if (SHAPE instanceof Circle) {
+            final Circle CIRCLE = (Circle) SHAPE;
+            h = hash(hash(hash(h, CIRCLE.getCenterX()), CIRCLE.getCenterY()), CIRCLE.getRadius());
+        } else if (SHAPE instanceof Ellipse) {
+            final Ellipse ELLIPSE = (Ellipse) SHAPE;
+            h = hash(hash(hash(hash(h, ELLIPSE.getCenterX()), ELLIPSE.getCenterY()), ELLIPSE.getRadiusX()), ELLIPSE.getRadiusY());
+        } else if (SHAPE instanceof Rectangle) {
+            final Rectangle RECT = (Rectangle) SHAPE;
+            h = hash(hash(hash(hash(h, RECT.getX()), RECT.getY()), RECT.getWidth()), RECT.getHeight());
+            h = hash(hash(h, RECT.getArcWidth()), RECT.getArcHeight());
+        } else if (SHAPE instanceof Line) {
+            final Line LINE = (Line) SHAPE;
+            h = hash(hash(hash(hash(h, LINE.getStartX()), LINE.getStartY()), LINE.getEndX()), LINE.getEndY());
+        } else if (SHAPE instanceof Polygon) {
+            for (Double point : ((Polygon) SHAPE).getPoints()) { h = hash(h, point); }
+        } else if (SHAPE instanceof Polyline) {
+            for (Double point : ((Polyline) SHAPE).getPoints()) { h = hash(h, point); }
+        } else if (SHAPE instanceof Arc) {
+            final Arc ARC = (Arc) SHAPE;
+            h = hash(hash(hash(hash(h, ARC.getCenterX()), ARC.getCenterY()), ARC.getRadiusX()), ARC.getRadiusY());
+            h = hash(hash(hash(h, ARC.getStartAngle()), ARC.getLength()), ARC.getType().ordinal());
+        } else if (SHAPE instanceof Path) {
+            final Path PATH = (Path) SHAPE;
+            h = hash(h, PATH.getFillRule().ordinal());
+            for (PathElement element : PATH.getElements()) { h = hashPathElement(h, element); }
+        } else if (SHAPE instanceof Text) {
+            final Text TEXT = (Text) SHAPE;
+            h = hash(hash(hash(h, TEXT.getX()), TEXT.getY()), null == TEXT.getText() ? 0 : TEXT.getText().hashCode());
+            h = hash(hash(h, TEXT.getFont().hashCode()), TEXT.getTextOrigin().ordinal());
+        } else {
+            h = hash(h, SHAPE.getLayoutBounds().hashCode());
+        }
+        return h;
+    }
+
+    private static long hashPathElement(final long HASH, final PathElement ELEMENT) {
+        long h = hash(HASH, ELEMENT.getClass().hashCode());
+        h = hash(h, ELEMENT.isAbsolute() ? 1 : 0);
+        if (ELEMENT instanceof MoveTo) {
+            h = hash(hash(h, ((MoveTo) ELEMENT).getX()), ((MoveTo) ELEMENT).getY());
+        } else if (ELEMENT instanceof LineTo) {
+            h = hash(hash(h, ((LineTo) ELEMENT).getX()), ((LineTo) ELEMENT).getY());
+        } else if (ELEMENT instanceof HLineTo) {
+            h = hash(h, ((HLineTo) ELEMENT).getX());
+        } else if (ELEMENT instanceof VLineTo) {
+            h = hash(h, ((VLineTo) ELEMENT).getY());
+        } else if (ELEMENT instanceof CubicCurveTo) {
+            final CubicCurveTo E = (CubicCurveTo) ELEMENT;
+            h = hash(hash(hash(hash(hash(hash(h, E.getControlX1()), E.getControlY1()), E.getControlX2()), E.getControlY2()), E.getX()), E.getY());
+        } else if (ELEMENT instanceof QuadCurveTo) {
+            final QuadCurveTo E = (QuadCurveTo) ELEMENT;
+            h = hash(hash(hash(hash(h, E.getControlX()), E.getControlY()), E.getX()), E.getY());
+        } else if (ELEMENT instanceof ArcTo) {
+            final ArcTo E = (ArcTo) ELEMENT;
+            h = hash(hash(hash(hash(hash(h, E.getRadiusX()), E.getRadiusY()), E.getXAxisRotation()), E.getX()), E.getY());
+            h = hash(hash(h, E.isLargeArcFlag() ? 1 : 0), E.isSweepFlag() ? 1 : 0);
+        }
+        return h;
+    }
+
+    private static long hashTransform(final Transform TRANSFORM) {
+        long h = 0xCBF29CE484222325L;
+        h = hash(hash(hash(h, TRANSFORM.getMxx()), TRANSFORM.getMxy()), TRANSFORM.getTx());
+        return hash(hash(hash(h, TRANSFORM.getMyx()), TRANSFORM.getMyy()), TRANSFORM.getTy());
+    }
+
+    private static long hash(final long HASH, final double VALUE) { return (HASH ^ Double.doubleToLongBits(VALUE)) * 0x100000001B3L; }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class Element {
+        private final String id;
+        private final long   fingerprint;
+        private final long   generation;
+        private final String svg;
+
+
+        // ******************** Constructors **********************************
+        Element(final String ID, final long FINGERPRINT, final long GENERATION, final String SVG) {
+            id          = ID;
+            fingerprint = FINGERPRINT;
+            generation  = GENERATION;
+            svg         = SVG;
+        }
+    }
+
+    /**
+     * The state of an exported gauge or clock, the generation will be
+     * increased whenever its canvases might have been redrawn. Holds no
+     * reference to the node, otherwise the weak map would keep the node.
+     */
+    private static final class Root {
+        private long generation;
+    }
+}
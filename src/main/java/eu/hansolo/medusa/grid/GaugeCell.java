@@ -0,0 +1,299 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.grid;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.GaugeModel;
+import eu.hansolo.medusa.GaugeModel.Range;
+import eu.hansolo.medusa.Section;
+import eu.hansolo.medusa.events.GaugeModelEvent;
+import eu.hansolo.medusa.grid.GaugeCellEvent.EventType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * Lightweight model of one cell in a GaugeGrid. The value pipeline of the
+ * cell is a GaugeModel that keeps the statistics (min and max measured
+ * value and the moving average) and checks the sections and the threshold
+ * for every new value with the same semantics as a Gauge, so events will
+ * be fired even if no gauge is bound to the cell because it is not visible.
+ * If the cell is visible, the GaugeGrid binds a pooled gauge to it and
+ * all changes will be forwarded to that gauge. A GaugeWall draws the cell
+ * on its canvas whenever the cell changed.
+ * A cell can only be added to one container and has to be used on the
+ * JavaFX application thread once it was added to a GaugeGrid or GaugeWall.
+ */
+public class GaugeCell {
+    private final GaugeModel                   model;
+    private       String                       title;
+    private       String                       subTitle;
+    private       String                       unit;
+    private       List<Section>                sections;
+    private       List<GaugeCellEventListener> listenerList;
+    private       Container                    owner;
+    private       Gauge                        gauge;
+
+
+    // ******************** Constructors **************************************
+    public GaugeCell() {
+        this("", 0, 100);
+    }
+    public GaugeCell(final String TITLE, final double MIN_VALUE, final double MAX_VALUE) {
+        model    = new GaugeModel(Math.min(MIN_VALUE, MAX_VALUE), Math.max(MIN_VALUE, MAX_VALUE));
+        title    = TITLE;
+        subTitle = "";
+        unit     = "";
+        sections = Collections.emptyList();
+        model.resetMeasuredValues();
+        model.addGaugeModelEventListener(this::onGaugeModelEvent);
+    }
+
+
+    // ******************** Methods *******************************************
+    public String getTitle() { return title; }
+    public void setTitle(final String TITLE) {
+        title = TITLE;
+        if (null != gauge) { gauge.setTitle(TITLE); }
+        changed(true);
+    }
+
+    public String getSubTitle() { return subTitle; }
+    public void setSubTitle(final String SUB_TITLE) {
+        subTitle = SUB_TITLE;
+        if (null != gauge) { gauge.setSubTitle(SUB_TITLE); }
+        changed(true);
+    }
+
+    public String getUnit() { return unit; }
+    public void setUnit(final String UNIT) {
+        unit = UNIT;
+        if (null != gauge) { gauge.setUnit(UNIT); }
+        changed(true);
+    }
+
+    public double getMinValue() { return model.getMinValue(); }
+    public void setMinValue(final double MIN_VALUE) {
+        model.setMinValue(MIN_VALUE);
+        if (null != gauge) { gauge.setMinValue(MIN_VALUE); }
+        changed(true);
+    }
+
+    public double getMaxValue() { return model.getMaxValue(); }
+    public void setMaxValue(final double MAX_VALUE) {
+        model.setMaxValue(MAX_VALUE);
+        if (null != gauge) { gauge.setMaxValue(MAX_VALUE); }
+        changed(true);
+    }
+
+    public double getThreshold() { return model.getThreshold(); }
+    /**
+     * Defines the threshold, the value will be clamped to the range of the cell
+     * @param THRESHOLD
+     */
+    public void setThreshold(final double THRESHOLD) {
+        model.setThreshold(THRESHOLD);
+        if (null != gauge) { gauge.setThreshold(THRESHOLD); }
+        changed(true);
+    }
+
+    public List<Section> getSections() { return sections; }
+    /**
+     * Defines the sections of the cell. The section objects can be shared
+     * between cells, the cell checks its value against the start and stop
+     * of the sections at the time they were set.
+     * @param SECTIONS
+     */
+    public void setSections(final List<Section> SECTIONS) {
+        sections = Collections.unmodifiableList(new ArrayList<>(SECTIONS));
+        final Range[] RANGES = new Range[sections.size()];
+        for (int i = 0 ; i < RANGES.length ; i++) { RANGES[i] = new Range(sections.get(i).getStart(), sections.get(i).getStop()); }
+        model.setSections(RANGES);
+        if (null != gauge) { gauge.setSections(sections); }
+        changed(true);
+    }
+    public void setSections(final Section... SECTIONS) { setSections(Arrays.asList(SECTIONS)); }
+
+    public boolean getCheckSectionsForValue() { return model.getCheckSectionsForValue(); }
+    /**
+     * Defines if the cell should fire events when its value enters or leaves
+     * one of its sections.
+     * @param CHECK
+     */
+    public void setCheckSectionsForValue(final boolean CHECK) { model.setCheckSectionsForValue(CHECK); }
+
+    public boolean isCheckThreshold() { return model.isCheckThreshold(); }
+    /**
+     * Defines if the cell should fire events when its value exceeds or
+     * underruns the threshold.
+     * @param CHECK
+     */
+    public void setCheckThreshold(final boolean CHECK) { model.setCheckThreshold(CHECK); }
+
+    public boolean isAveragingEnabled() { return model.isAveragingEnabled(); }
+    /**
+     * Defines if the moving average of the cell should be calculated
+     * @param ENABLED
+     */
+    public void setAveragingEnabled(final boolean ENABLED) {
+        model.setAveragingEnabled(ENABLED);
+        if (null != gauge) { gauge.setAveragingEnabled(ENABLED); }
+        changed(true);
+    }
+
+    public int getAveragingPeriod() { return model.getAveragingPeriod(); }
+    /**
+     * Defines the number of values that will be used for the moving average
+     * @param PERIOD
+     */
+    public void setAveragingPeriod(final int PERIOD) {
+        model.setAveragingPeriod(PERIOD);
+        if (null != gauge) { gauge.setAveragingPeriod(PERIOD); }
+        changed(true);
+    }
+
+    public double getValue() { return model.getValue(); }
+    /**
+     * Sets the value of the cell, the model updates the statistics and
+     * checks the sections and the threshold. The value will be forwarded
+     * to the bound gauge if the cell is visible.
+     * @param VALUE
+     */
+    public void setValue(final double VALUE) {
+        model.setValue(VALUE);
+        if (null != gauge) { gauge.setValue(VALUE); }
+        changed(false);
+    }
+
+    /**
+     * @return the smallest value that was measured after the last reset
+     */
+    public double getMinMeasuredValue() { return model.getMinMeasuredValue(); }
+
+    /**
+     * @return the biggest value that was measured after the last reset
+     */
+    public double getMaxMeasuredValue() { return model.getMaxMeasuredValue(); }
+
+    /**
+     * @return the moving average of the values or 0 if averaging is not enabled
+     */
+    public double getAverage() { return model.getAverage(); }
+
+    /**
+     * Resets the min and max measured values of the cell to the current value.
+     */
+    public void resetMeasuredValues() {
+        model.resetMeasuredValues();
+        if (null != gauge) { gauge.resetMeasuredValues(); }
+        changed(false);
+    }
+
+    /**
+     * @return true if a gauge is bound to the cell because it is visible
+     */
+    public boolean isBound() { return null != gauge; }
+
+    /**
+     * @return the gauge that is bound to this cell or null if the cell is not visible
+     */
+    public Gauge getGauge() { return gauge; }
+
+    /**
+     * Applies the state of this cell to the given gauge and forwards all
+     * following changes to it. The value will be set without animation.
+     * @param GAUGE the pooled gauge
+     */
+    void bind(final Gauge GAUGE) {
+        gauge = GAUGE;
+        final boolean ANIMATED = GAUGE.isAnimated();
+        GAUGE.beginUpdate();
+        try {
+            GAUGE.setAnimated(false);
+            GAUGE.setTitle(title);
+            GAUGE.setSubTitle(subTitle);
+            GAUGE.setUnit(unit);
+            GAUGE.setMinValue(model.getMinValue());
+            GAUGE.setMaxValue(model.getMaxValue());
+            GAUGE.setThreshold(model.getThreshold());
+            GAUGE.setSections(sections);
+            GAUGE.setAveragingPeriod(model.getAveragingPeriod());
+            GAUGE.setAveragingEnabled(model.isAveragingEnabled());
+            GAUGE.setValue(model.getValue());
+            GAUGE.setMinMeasuredValue(model.getMinMeasuredValue());
+            GAUGE.setMaxMeasuredValue(model.getMaxMeasuredValue());
+        } finally {
+            GAUGE.setAnimated(ANIMATED);
+            GAUGE.endUpdate();
+        }
+    }
+
+    void unbind() { gauge = null; }
+
+    void setOwner(final Container OWNER) { owner = OWNER; }
+
+    private void changed(final boolean STATIC) {
+        if (null != owner) { owner.onGaugeCellChanged(GaugeCell.this, STATIC); }
+    }
+
+
+    // ******************** Event handling ************************************
+    private void onGaugeModelEvent(final GaugeModelEvent EVENT) {
+        switch(EVENT.eventType) {
+            case THRESHOLD_EXCEEDED: fireGaugeCellEvent(new GaugeCellEvent(GaugeCell.this, EventType.THRESHOLD_EXCEEDED, null, EVENT.value)); break;
+            case THRESHOLD_UNDERRUN: fireGaugeCellEvent(new GaugeCellEvent(GaugeCell.this, EventType.THRESHOLD_UNDERRUN, null, EVENT.value)); break;
+            case SECTION_ENTERED   : fireGaugeCellEvent(new GaugeCellEvent(GaugeCell.this, EventType.SECTION_ENTERED, sections.get(EVENT.index), EVENT.value)); break;
+            case SECTION_LEFT      : fireGaugeCellEvent(new GaugeCellEvent(GaugeCell.this, EventType.SECTION_LEFT, sections.get(EVENT.index), EVENT.value)); break;
+        }
+    }
+
+    public void addGaugeCellEventListener(final GaugeCellEventListener LISTENER) {
+        if (null == listenerList) { listenerList = new CopyOnWriteArrayList<>(); }
+        if (!listenerList.contains(LISTENER)) { listenerList.add(LISTENER); }
+    }
+    public void removeGaugeCellEventListener(final GaugeCellEventListener LISTENER) {
+        if (null == listenerList) { return; }
+        listenerList.remove(LISTENER);
+    }
+
+    public void fireGaugeCellEvent(final GaugeCellEvent EVENT) {
+        if (null != listenerList) {
+            for (GaugeCellEventListener listener : listenerList) { listener.onGaugeCellEvent(EVENT); }
+        }
+        if (null != owner) { owner.onGaugeCellEvent(EVENT); }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * Will be informed about the events and changes of the cells it contains
+     */
+    interface Container {
+        void onGaugeCellEvent(GaugeCellEvent EVENT);
+
+        /**
+         * @param CELL   the cell that changed
+         * @param STATIC true if more than the value and the statistics of the cell changed
+         */
+        void onGaugeCellChanged(GaugeCell CELL, boolean STATIC);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.grid;
+
+import eu.hansolo.medusa.Section;
+
+import java.util.EventObject;
+
+
+/**
+ * Will be fired by a GaugeCell if its value entered or left a section or
+ * crossed the threshold, no matter if the cell is visible or not.
+ */
+public class GaugeCellEvent extends EventObject {
+    private static final long serialVersionUID = 1L;
+    public enum EventType { SECTION_ENTERED, SECTION_LEFT, THRESHOLD_EXCEEDED, THRESHOLD_UNDERRUN }
+    public final EventType eventType;
+    public final Section   section;
+    public final double    value;
+
+
+    // ******************** Constructors **************************************
+    public GaugeCellEvent(final GaugeCell SRC, final EventType EVENT_TYPE, final Section SECTION, final double VALUE) {
+        super(SRC);
+        eventType = EVENT_TYPE;
+        section   = SECTION;
+        value     = VALUE;
+    }
+
+
+    // ******************** Methods *******************************************
+    public GaugeCell getCell() { return (GaugeCell) getSource(); }
+}
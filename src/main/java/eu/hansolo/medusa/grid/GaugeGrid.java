@@ -0,0 +1,325 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.grid;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.GaugeTemplate;
+import eu.hansolo.medusa.tools.Helper;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.DoublePropertyBase;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Orientation;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+
+/**
+ * Scrollable grid that can show thousands of gauges. Like the VirtualFlow
+ * of the JavaFX controls it only creates real Gauge instances for the cells
+ * that are visible. All cells are kept as lightweight GaugeCell models and
+ * a small pool of gauges will be bound to the visible cells and rebound
+ * while scrolling. Cells that stay visible keep their gauge, so only the
+ * cells that scroll in will be rebound.
+ * The cells check their sections and threshold themselves, that's why the
+ * pooled gauges will be created with checkThreshold and
+ * checkSectionsForValue disabled. Events of all cells can be observed with
+ * addGaugeCellEventListener().
+ * A cell must only be added once to the grid.
+ */
+public class GaugeGrid extends Region {
+    private static final double                       DEFAULT_CELL_SIZE  = 150;
+    private static final double                       DEFAULT_SPACING    = 5;
+    private static final int                          PREFERRED_COLUMNS  = 4;
+    private static final int                          PREFERRED_ROWS     = 3;
+    private        final Supplier<Gauge>              factory;
+    private        final ObservableList<GaugeCell>    cells;
+    private              Map<GaugeCell, Gauge>        boundGauges;
+    private              Map<GaugeCell, Gauge>        nextBoundGauges;
+    private        final Deque<Gauge>                 pool;
+    private        final Pane                         cellPane;
+    private        final Rectangle                    clip;
+    private        final ScrollBar                    scrollBar;
+    private        final DoubleProperty               cellWidth;
+    private        final DoubleProperty               cellHeight;
+    private        final DoubleProperty               spacing;
+    private        final GaugeCell.Container          container;
+    private        final List<GaugeCellEventListener> listenerList;
+    private              int                          noOfGauges;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Creates a grid that instantiates its gauges from the given template
+     * @param TEMPLATE the template of the gauges
+     */
+    public GaugeGrid(final GaugeTemplate TEMPLATE) {
+        this(TEMPLATE::instantiate);
+    }
+    /**
+     * Creates a grid that creates its gauges with the given factory
+     * @param FACTORY the factory that creates the gauges
+     */
+    public GaugeGrid(final Supplier<Gauge> FACTORY) {
+        factory           = FACTORY;
+        cells             = FXCollections.observableArrayList();
+        boundGauges       = new IdentityHashMap<>();
+        nextBoundGauges   = new IdentityHashMap<>();
+        pool              = new ArrayDeque<>();
+        cellPane          = new Pane();
+        clip              = new Rectangle();
+        scrollBar         = new ScrollBar();
+        container         = new GaugeCell.Container() {
+            @Override public void onGaugeCellEvent(final GaugeCellEvent EVENT) { fireGaugeCellEvent(EVENT); }
+            @Override public void onGaugeCellChanged(final GaugeCell CELL, final boolean STATIC) {}
+        };
+        listenerList      = new CopyOnWriteArrayList<>();
+        noOfGauges        = 0;
+        cellWidth         = new DoublePropertyBase(DEFAULT_CELL_SIZE) {
+            @Override protected void invalidated() { requestLayout(); }
+            @Override public Object getBean() { return GaugeGrid.this; }
+            @Override public String getName() { return "cellWidth"; }
+        };
+        cellHeight        = new DoublePropertyBase(DEFAULT_CELL_SIZE) {
+            @Override protected void invalidated() { requestLayout(); }
+            @Override public Object getBean() { return GaugeGrid.this; }
+            @Override public String getName() { return "cellHeight"; }
+        };
+        spacing           = new DoublePropertyBase(DEFAULT_SPACING) {
+            @Override protected void invalidated() { requestLayout(); }
+            @Override public Object getBean() { return GaugeGrid.this; }
+            @Override public String getName() { return "spacing"; }
+        };
+        initGraphics();
+        registerListeners();
+    }
+
+
+    // ******************** Initialization ************************************
+    private void initGraphics() {
+        getStyleClass().add("gauge-grid");
+
+        cellPane.setManaged(false);
+        cellPane.setClip(clip);
+
+        scrollBar.setOrientation(Orientation.VERTICAL);
+        scrollBar.setManaged(false);
+        scrollBar.setVisible(false);
+
+        getChildren().setAll(cellPane, scrollBar);
+    }
+
+    private void registerListeners() {
+        cells.addListener((ListChangeListener<GaugeCell>) change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    for (GaugeCell cell : change.getRemoved()) { cell.setOwner(null); }
+                }
+                if (change.wasAdded()) {
+                    for (GaugeCell cell : change.getAddedSubList()) { cell.setOwner(container); }
+                }
+            }
+            requestLayout();
+        });
+        scrollBar.valueProperty().addListener(o -> requestLayout());
+        addEventHandler(ScrollEvent.SCROLL, e -> scrollBar.setValue(Helper.clamp(scrollBar.getMin(), scrollBar.getMax(), scrollBar.getValue() - e.getDeltaY())));
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * @return the models of all cells in the grid
+     */
+    public ObservableList<GaugeCell> getCells() { return cells; }
+
+    public double getCellWidth() { return cellWidth.get(); }
+    public void setCellWidth(final double WIDTH) { cellWidth.set(Math.max(1, WIDTH)); }
+    public DoubleProperty cellWidthProperty() { return cellWidth; }
+
+    public double getCellHeight() { return cellHeight.get(); }
+    public void setCellHeight(final double HEIGHT) { cellHeight.set(Math.max(1, HEIGHT)); }
+    public DoubleProperty cellHeightProperty() { return cellHeight; }
+
+    public double getSpacing() { return spacing.get(); }
+    public void setSpacing(final double SPACING) { spacing.set(Math.max(0, SPACING)); }
+    public DoubleProperty spacingProperty() { return spacing; }
+
+    /**
+     * Scrolls the grid so that the cell at the given index is visible
+     * @param INDEX the index of the cell
+     */
+    public void scrollTo(final int INDEX) {
+        if (INDEX < 0 || INDEX >= cells.size()) { return; }
+        layout();
+        final int    COLUMNS    = getNoOfColumns(cellPane.getWidth());
+        final double ROW_HEIGHT = getCellHeight() + getSpacing();
+        final double TOP        = (INDEX / COLUMNS) * ROW_HEIGHT;
+        final double BOTTOM     = TOP + getCellHeight();
+        final double HEIGHT     = cellPane.getHeight();
+        if (TOP < scrollBar.getValue()) {
+            scrollBar.setValue(TOP);
+        } else if (BOTTOM > scrollBar.getValue() + HEIGHT) {
+            scrollBar.setValue(Helper.clamp(scrollBar.getMin(), scrollBar.getMax(), BOTTOM - HEIGHT));
+        }
+    }
+
+    /**
+     * @return the number of gauges that have been created for the visible cells and the pool
+     */
+    public int getNoOfGauges() { return noOfGauges; }
+
+    /**
+     * @return the number of cells that are currently bound to a gauge
+     */
+    public int getNoOfVisibleCells() { return boundGauges.size(); }
+
+    @Override protected double computePrefWidth(final double HEIGHT) {
+        final Insets INSETS = getInsets();
+        return INSETS.getLeft() + PREFERRED_COLUMNS * (getCellWidth() + getSpacing()) - getSpacing() + INSETS.getRight();
+    }
+    @Override protected double computePrefHeight(final double WIDTH) {
+        final Insets INSETS = getInsets();
+        return INSETS.getTop() + PREFERRED_ROWS * (getCellHeight() + getSpacing()) - getSpacing() + INSETS.getBottom();
+    }
+
+    @Override protected void layoutChildren() {
+        final Insets INSETS = getInsets();
+        final double WIDTH  = getWidth() - INSETS.getLeft() - INSETS.getRight();
+        final double HEIGHT = getHeight() - INSETS.getTop() - INSETS.getBottom();
+        if (WIDTH <= 0 || HEIGHT <= 0) { return; }
+
+        final double ROW_HEIGHT = getCellHeight() + getSpacing();
+        double       viewportWidth  = WIDTH;
+        double       contentHeight  = getContentHeight(viewportWidth);
+        double       scrollBarWidth = 0;
+        if (contentHeight > HEIGHT) {
+            scrollBarWidth = scrollBar.prefWidth(-1);
+            viewportWidth  = Math.max(0, WIDTH - scrollBarWidth);
+            contentHeight  = getContentHeight(viewportWidth);
+        }
+        final double MAX_OFFSET = Math.max(0, contentHeight - HEIGHT);
+        scrollBar.setVisible(MAX_OFFSET > 0);
+        scrollBar.resizeRelocate(INSETS.getLeft() + viewportWidth, INSETS.getTop(), scrollBarWidth, HEIGHT);
+        scrollBar.setMax(MAX_OFFSET);
+        scrollBar.setVisibleAmount(MAX_OFFSET > 0 ? MAX_OFFSET * HEIGHT / contentHeight : 0);
+        scrollBar.setUnitIncrement(ROW_HEIGHT * 0.25);
+        scrollBar.setBlockIncrement(HEIGHT);
+        if (scrollBar.getValue() > MAX_OFFSET) { scrollBar.setValue(MAX_OFFSET); }
+
+        cellPane.resizeRelocate(INSETS.getLeft(), INSETS.getTop(), viewportWidth, HEIGHT);
+        clip.setWidth(viewportWidth);
+        clip.setHeight(HEIGHT);
+
+        final double OFFSET    = scrollBar.getValue();
+        final int    COLUMNS   = getNoOfColumns(viewportWidth);
+        final int    FIRST_ROW = (int) (OFFSET / ROW_HEIGHT);
+        final int    LAST_ROW  = (int) ((OFFSET + HEIGHT) / ROW_HEIGHT);
+        final int    FIRST     = Math.min(cells.size(), FIRST_ROW * COLUMNS);
+        final int    LAST      = Math.min(cells.size(), (LAST_ROW + 1) * COLUMNS);
+        updateBindings(FIRST, LAST, COLUMNS);
+
+        for (int i = FIRST ; i < LAST ; i++) {
+            final int COLUMN = i % COLUMNS;
+            final int ROW    = i / COLUMNS;
+            boundGauges.get(cells.get(i)).resizeRelocate(COLUMN * (getCellWidth() + getSpacing()), ROW * ROW_HEIGHT - OFFSET, getCellWidth(), getCellHeight());
+        }
+    }
+
+    /**
+     * Keeps the gauges of cells that are still visible, releases the
+     * gauges of cells that are not visible anymore into the pool and binds
+     * gauges from the pool to the cells that became visible.
+     */
+    private void updateBindings(final int FIRST, final int LAST, final int COLUMNS) {
+        for (int i = FIRST ; i < LAST ; i++) {
+            final GaugeCell CELL = cells.get(i);
+            nextBoundGauges.put(CELL, boundGauges.remove(CELL));
+        }
+        for (Map.Entry<GaugeCell, Gauge> entry : boundGauges.entrySet()) {
+            entry.getKey().unbind();
+            entry.getValue().setVisible(false);
+            pool.push(entry.getValue());
+        }
+        boundGauges.clear();
+
+        final Map<GaugeCell, Gauge> BOUND = nextBoundGauges;
+        nextBoundGauges = boundGauges;
+        boundGauges     = BOUND;
+        for (Map.Entry<GaugeCell, Gauge> entry : boundGauges.entrySet()) {
+            if (null != entry.getValue()) { continue; }
+            final Gauge GAUGE = pool.isEmpty() ? createGauge() : pool.pop();
+            entry.getKey().bind(GAUGE);
+            GAUGE.setVisible(true);
+            entry.setValue(GAUGE);
+        }
+
+        // Keep at most one spare row of gauges in the pool
+        while (pool.size() > COLUMNS) {
+            final Gauge GAUGE = pool.pop();
+            GAUGE.stop();
+            cellPane.getChildren().remove(GAUGE);
+            noOfGauges--;
+        }
+    }
+
+    private Gauge createGauge() {
+        final Gauge GAUGE = factory.get();
+        GAUGE.setCheckThreshold(false);
+        GAUGE.setCheckSectionsForValue(false);
+        GAUGE.setManaged(false);
+        cellPane.getChildren().add(GAUGE);
+        noOfGauges++;
+        return GAUGE;
+    }
+
+    private int getNoOfColumns(final double WIDTH) {
+        return Math.max(1, (int) ((WIDTH + getSpacing()) / (getCellWidth() + getSpacing())));
+    }
+
+    private double getContentHeight(final double WIDTH) {
+        final int COLUMNS = getNoOfColumns(WIDTH);
+        final int ROWS    = (cells.size() + COLUMNS - 1) / COLUMNS;
+        return Math.max(0, ROWS * (getCellHeight() + getSpacing()) - getSpacing());
+    }
+
+
+    // ******************** Event handling ************************************
+    /**
+     * Adds a listener that will be informed about the events of all cells
+     * @param LISTENER
+     */
+    public void addGaugeCellEventListener(final GaugeCellEventListener LISTENER) { if (!listenerList.contains(LISTENER)) listenerList.add(LISTENER); }
+    public void removeGaugeCellEventListener(final GaugeCellEventListener LISTENER) { listenerList.remove(LISTENER); }
+
+    private void fireGaugeCellEvent(final GaugeCellEvent EVENT) {
+        for (GaugeCellEventListener listener : listenerList) { listener.onGaugeCellEvent(EVENT); }
+    }
+}
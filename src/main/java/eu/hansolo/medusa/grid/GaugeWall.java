@@ -0,0 +1,801 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.grid;
+
+import eu.hansolo.medusa.Fonts;
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.GaugeTemplate;
+import eu.hansolo.medusa.Section;
+import eu.hansolo.medusa.tools.Helper;
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.DoublePropertyBase;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.FillRule;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+
+/**
+ * Draws thousands of small gauges on a few canvas tiles instead of
+ * creating one control with a skin per gauge. All cells are drawn with the
+ * look of one prototype gauge which has to use one of the skin types
+ * SIMPLE, FLAT, TINY or BULLET_CHART (always drawn horizontal). The cells
+ * provide the title, unit, range, threshold, sections and value.
+ * The wall is split into tiles of rows with one canvas for the static parts
+ * and one canvas for the dynamic parts. The parts that look the same for
+ * all cells are rendered once into an image per cell size and will be
+ * copied for each cell. Changes of the cells will be collected and only the
+ * dynamic parts (bar, needle and value) of the changed cells will be
+ * redrawn once per pulse, values will not be animated.
+ * Changes of the prototype will be visible after calling redraw().
+ * Clicks can be mapped back to the cells with getCellAt() or
+ * setOnCellClicked().
+ */
+public class GaugeWall extends Region {
+    private static final double                       MAX_TILE_HEIGHT   = 2048;
+    private static final double                       DEFAULT_CELL_SIZE = 64;
+    private static final double                       DEFAULT_SPACING   = 2;
+    private static final int                          PREFERRED_COLUMNS = 10;
+    private static final int                          PREFERRED_ROWS    = 6;
+    private static final double                       SKIN_SIZE         = 250;
+    private static final double                       START_ANGLE       = 315;
+    private static final double                       ANGLE_RANGE       = 270;
+    private static final double                       FLAT_ANGLE_RANGE  = 360;
+    private        final Gauge                        prototype;
+    private        final SkinType                     skinType;
+    private        final ObservableList<GaugeCell>    cells;
+    private        final Map<GaugeCell, Integer>      indices;
+    private        final List<Tile>                   tiles;
+    private        final BitSet                       dirtyCells;
+    private        final BitSet                       staticDirtyCells;
+    private        final DoubleProperty               cellWidth;
+    private        final DoubleProperty               cellHeight;
+    private        final DoubleProperty               spacing;
+    private        final GaugeCell.Container          container;
+    private        final List<GaugeCellEventListener> listenerList;
+    private        final AnimationTimer               timer;
+    private              boolean                      timerRunning;
+    private              boolean                      structureDirty;
+    private              int                          columns;
+    private              int                          rowsPerTile;
+    private              double                       stepX;
+    private              double                       stepY;
+    private              Image                        backgroundImage;
+    private              Image                        foregroundImage;
+    private              Font                         valueFont;
+    private              Font                         titleFont;
+    private              Font                         subTitleFont;
+    private              Font                         unitFont;
+    private              Font                         tickLabelFont;
+    private              Locale                       locale;
+    private              String                       formatString;
+    private              String                       tickLabelFormatString;
+    private              Consumer<GaugeCell>          onCellClicked;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Creates a wall that draws its cells with the look of a gauge created
+     * from the given template
+     * @param TEMPLATE the template of the gauges
+     */
+    public GaugeWall(final GaugeTemplate TEMPLATE) {
+        this(TEMPLATE.instantiate());
+    }
+    /**
+     * Creates a wall that draws its cells with the look of the given gauge
+     * @param PROTOTYPE the gauge that defines the look of all cells, must not be part of a scene
+     */
+    public GaugeWall(final Gauge PROTOTYPE) {
+        switch(PROTOTYPE.getSkinType()) {
+            case SIMPLE:
+            case FLAT:
+            case TINY:
+            case BULLET_CHART: break;
+            default          : throw new IllegalArgumentException("GaugeWall only supports the skin types SIMPLE, FLAT, TINY and BULLET_CHART.");
+        }
+        prototype        = PROTOTYPE;
+        skinType         = PROTOTYPE.getSkinType();
+        cells            = FXCollections.observableArrayList();
+        indices          = new IdentityHashMap<>();
+        tiles            = new ArrayList<>();
+        dirtyCells       = new BitSet();
+        staticDirtyCells = new BitSet();
+        listenerList     = new CopyOnWriteArrayList<>();
+        timerRunning     = false;
+        structureDirty   = true;
+        container        = new GaugeCell.Container() {
+            @Override public void onGaugeCellEvent(final GaugeCellEvent EVENT) { fireGaugeCellEvent(EVENT); }
+            @Override public void onGaugeCellChanged(final GaugeCell CELL, final boolean STATIC) { markDirty(CELL, STATIC); }
+        };
+        timer            = new AnimationTimer() {
+            @Override public void handle(final long NOW) { pulse(); }
+        };
+        cellWidth        = new DoublePropertyBase(DEFAULT_CELL_SIZE) {
+            @Override protected void invalidated() { redraw(); }
+            @Override public Object getBean() { return GaugeWall.this; }
+            @Override public String getName() { return "cellWidth"; }
+        };
+        cellHeight       = new DoublePropertyBase(DEFAULT_CELL_SIZE) {
+            @Override protected void invalidated() { redraw(); }
+            @Override public Object getBean() { return GaugeWall.this; }
+            @Override public String getName() { return "cellHeight"; }
+        };
+        spacing          = new DoublePropertyBase(DEFAULT_SPACING) {
+            @Override protected void invalidated() { redraw(); }
+            @Override public Object getBean() { return GaugeWall.this; }
+            @Override public String getName() { return "spacing"; }
+        };
+        getStyleClass().add("gauge-wall");
+        registerListeners();
+    }
+
+
+    // ******************** Initialization ************************************
+    private void registerListeners() {
+        cells.addListener((ListChangeListener<GaugeCell>) change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    for (GaugeCell cell : change.getRemoved()) { cell.setOwner(null); }
+                }
+                if (change.wasAdded()) {
+                    for (GaugeCell cell : change.getAddedSubList()) { cell.setOwner(container); }
+                }
+            }
+            indices.clear();
+            for (int i = 0 ; i < cells.size() ; i++) { indices.put(cells.get(i), i); }
+            redraw();
+        });
+        addEventHandler(MouseEvent.MOUSE_CLICKED, e -> {
+            if (null == onCellClicked) { return; }
+            final GaugeCell CELL = getCellAt(e.getX(), e.getY());
+            if (null != CELL) { onCellClicked.accept(CELL); }
+        });
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * @return the models of all cells on the wall
+     */
+    public ObservableList<GaugeCell> getCells() { return cells; }
+
+    public double getCellWidth() { return cellWidth.get(); }
+    public void setCellWidth(final double WIDTH) { cellWidth.set(Math.max(1, WIDTH)); }
+    public DoubleProperty cellWidthProperty() { return cellWidth; }
+
+    public double getCellHeight() { return cellHeight.get(); }
+    public void setCellHeight(final double HEIGHT) { cellHeight.set(Math.max(1, HEIGHT)); }
+    public DoubleProperty cellHeightProperty() { return cellHeight; }
+
+    public double getSpacing() { return spacing.get(); }
+    public void setSpacing(final double SPACING) { spacing.set(Math.max(0, SPACING)); }
+    public DoubleProperty spacingProperty() { return spacing; }
+
+    /**
+     * Defines a handler that will be called with the cell that was clicked
+     * @param HANDLER
+     */
+    public void setOnCellClicked(final Consumer<GaugeCell> HANDLER) { onCellClicked = HANDLER; }
+
+    /**
+     * Returns the cell at the given position
+     * @param X the x coordinate in the coordinate system of the wall
+     * @param Y the y coordinate in the coordinate system of the wall
+     * @return the cell at the given position or null if there is no cell
+     */
+    public GaugeCell getCellAt(final double X, final double Y) {
+        if (0 == columns) { return null; }
+        final Insets INSETS = getInsets();
+        final double X_POS  = X - INSETS.getLeft();
+        final double Y_POS  = Y - INSETS.getTop();
+        if (X_POS < 0 || Y_POS < 0) { return null; }
+        final int COLUMN = (int) (X_POS / stepX);
+        final int ROW    = (int) (Y_POS / stepY);
+        if (COLUMN >= columns || X_POS - COLUMN * stepX > getCellWidth() || Y_POS - ROW * stepY > getCellHeight()) { return null; }
+        final int INDEX = ROW * columns + COLUMN;
+        return INDEX < cells.size() ? cells.get(INDEX) : null;
+    }
+
+    /**
+     * Redraws all cells, has to be called after the prototype was changed
+     */
+    public void redraw() {
+        structureDirty = true;
+        requestLayout();
+    }
+
+    @Override protected double computePrefWidth(final double HEIGHT) {
+        final Insets INSETS = getInsets();
+        return INSETS.getLeft() + PREFERRED_COLUMNS * (getCellWidth() + getSpacing()) - getSpacing() + INSETS.getRight();
+    }
+    @Override protected double computePrefHeight(final double WIDTH) {
+        final Insets INSETS = getInsets();
+        final int    ROWS;
+        if (WIDTH > 0) {
+            final int COLUMNS = getNoOfColumns(WIDTH - INSETS.getLeft() - INSETS.getRight());
+            ROWS = Math.max(1, (cells.size() + COLUMNS - 1) / COLUMNS);
+        } else {
+            ROWS = PREFERRED_ROWS;
+        }
+        return INSETS.getTop() + ROWS * (getCellHeight() + getSpacing()) - getSpacing() + INSETS.getBottom();
+    }
+
+    @Override protected void layoutChildren() {
+        final Insets INSETS  = getInsets();
+        final double WIDTH   = getWidth() - INSETS.getLeft() - INSETS.getRight();
+        if (WIDTH <= 0) { return; }
+        final int    COLUMNS = getNoOfColumns(WIDTH);
+        if (structureDirty || COLUMNS != columns) { rebuild(COLUMNS); }
+        for (Tile tile : tiles) { tile.relocate(INSETS.getLeft(), INSETS.getTop() + tile.firstRow * stepY); }
+    }
+
+    private int getNoOfColumns(final double WIDTH) {
+        return Math.max(1, (int) ((WIDTH + getSpacing()) / (getCellWidth() + getSpacing())));
+    }
+
+    /**
+     * Creates the tiles for the given number of columns, renders the images
+     * that are the same for all cells and draws all cells.
+     */
+    private void rebuild(final int COLUMNS) {
+        final int NO_OF_CELLS = cells.size();
+        columns     = COLUMNS;
+        stepX       = getCellWidth() + getSpacing();
+        stepY       = getCellHeight() + getSpacing();
+        rowsPerTile = Math.max(1, (int) ((MAX_TILE_HEIGHT + getSpacing()) / stepY));
+
+        final int    ROWS         = (NO_OF_CELLS + COLUMNS - 1) / COLUMNS;
+        final int    NO_OF_TILES  = (ROWS + rowsPerTile - 1) / rowsPerTile;
+        final double CANVAS_WIDTH = COLUMNS * stepX - getSpacing();
+        while (tiles.size() > NO_OF_TILES) { tiles.remove(tiles.size() - 1); }
+        while (tiles.size() < NO_OF_TILES) { tiles.add(new Tile()); }
+        final List<Node> canvases = new ArrayList<>(NO_OF_TILES * 2);
+        for (int i = 0 ; i < NO_OF_TILES ; i++) {
+            final Tile TILE = tiles.get(i);
+            TILE.firstRow = i * rowsPerTile;
+            TILE.resize(CANVAS_WIDTH, Math.min(rowsPerTile, ROWS - TILE.firstRow) * stepY - getSpacing());
+            canvases.add(TILE.staticCanvas);
+            canvases.add(TILE.dynamicCanvas);
+        }
+        getChildren().setAll(canvases);
+
+        locale                = prototype.getLocale();
+        formatString          = new StringBuilder("%.").append(prototype.getDecimals()).append("f").toString();
+        tickLabelFormatString = new StringBuilder("%.").append(prototype.getTickLabelDecimals()).append("f").toString();
+        createFonts();
+        createImages();
+
+        structureDirty = false;
+        dirtyCells.clear();
+        staticDirtyCells.clear();
+        staticDirtyCells.set(0, NO_OF_CELLS);
+        drawDirtyCells();
+    }
+
+    private void createFonts() {
+        final double SIZE = Math.min(getCellWidth(), getCellHeight());
+        switch(skinType) {
+            case SIMPLE:
+                valueFont     = Fonts.robotoMedium(0.25 * SIZE);
+                titleFont     = Fonts.robotoMedium(0.075 * SIZE);
+                subTitleFont  = titleFont;
+                tickLabelFont = Fonts.robotoRegular(0.1 * SIZE);
+                break;
+            case FLAT:
+                valueFont     = Fonts.robotoRegular(0.3 * SIZE);
+                titleFont     = Fonts.robotoLight(0.08 * SIZE);
+                unitFont      = titleFont;
+                break;
+            case BULLET_CHART:
+                titleFont     = Fonts.robotoMedium(0.24 * SIZE);
+                unitFont      = Fonts.robotoRegular(0.15 * SIZE);
+                tickLabelFont = Fonts.robotoRegular(0.1 * SIZE);
+                break;
+        }
+    }
+
+    private void createImages() {
+        final double             WIDTH      = getCellWidth();
+        final double             HEIGHT     = getCellHeight();
+        final Canvas             CANVAS     = new Canvas(WIDTH, HEIGHT);
+        final GraphicsContext    CTX        = CANVAS.getGraphicsContext2D();
+        final SnapshotParameters PARAMETERS = new SnapshotParameters();
+        PARAMETERS.setFill(Color.TRANSPARENT);
+
+        backgroundImage = null;
+        foregroundImage = null;
+        switch(skinType) {
+            case SIMPLE:
+                translateToSquare(CTX, WIDTH, HEIGHT);
+                drawSimpleForeground(CTX, Math.min(WIDTH, HEIGHT));
+                foregroundImage = CANVAS.snapshot(PARAMETERS, null);
+                break;
+            case FLAT:
+            case TINY:
+                translateToSquare(CTX, WIDTH, HEIGHT);
+                drawRoundBackground(CTX, Math.min(WIDTH, HEIGHT));
+                backgroundImage = CANVAS.snapshot(PARAMETERS, null);
+                break;
+            case BULLET_CHART:
+                drawBulletChartBackground(CTX, WIDTH, HEIGHT);
+                backgroundImage = CANVAS.snapshot(PARAMETERS, null);
+                break;
+        }
+    }
+
+    private void markDirty(final GaugeCell CELL, final boolean STATIC) {
+        final Integer INDEX = indices.get(CELL);
+        if (null == INDEX) { return; }
+        if (STATIC) {
+            staticDirtyCells.set(INDEX);
+        } else {
+            dirtyCells.set(INDEX);
+        }
+        if (!timerRunning) {
+            timerRunning = true;
+            timer.start();
+        }
+    }
+
+    private void pulse() {
+        timerRunning = false;
+        timer.stop();
+        if (structureDirty) { return; }
+        drawDirtyCells();
+    }
+
+    private void drawDirtyCells() {
+        final int NO_OF_CELLS = cells.size();
+        for (int i = staticDirtyCells.nextSetBit(0) ; i >= 0 && i < NO_OF_CELLS ; i = staticDirtyCells.nextSetBit(i + 1)) {
+            drawStatic(i);
+            dirtyCells.set(i);
+        }
+        staticDirtyCells.clear();
+        for (int i = dirtyCells.nextSetBit(0) ; i >= 0 && i < NO_OF_CELLS ; i = dirtyCells.nextSetBit(i + 1)) { drawDynamic(i); }
+        dirtyCells.clear();
+    }
+
+    private void drawStatic(final int INDEX) {
+        final int             ROW    = INDEX / columns;
+        final double          X      = (INDEX % columns) * stepX;
+        final double          Y      = (ROW % rowsPerTile) * stepY;
+        final double          WIDTH  = getCellWidth();
+        final double          HEIGHT = getCellHeight();
+        final double          SIZE   = Math.min(WIDTH, HEIGHT);
+        final GaugeCell       CELL   = cells.get(INDEX);
+        final GraphicsContext CTX    = tiles.get(ROW / rowsPerTile).staticCtx;
+
+        CTX.clearRect(X, Y, WIDTH, HEIGHT);
+        if (null != backgroundImage) { CTX.drawImage(backgroundImage, X, Y); }
+        CTX.save();
+        CTX.translate(X, Y);
+        switch(skinType) {
+            case SIMPLE      : translateToSquare(CTX, WIDTH, HEIGHT); drawSimpleStatic(CTX, CELL, SIZE); break;
+            case FLAT        : translateToSquare(CTX, WIDTH, HEIGHT); drawFlatStatic(CTX, CELL, SIZE); break;
+            case TINY        : translateToSquare(CTX, WIDTH, HEIGHT); drawTinyStatic(CTX, CELL, SIZE); break;
+            case BULLET_CHART: drawBulletChartStatic(CTX, CELL, WIDTH, HEIGHT); break;
+        }
+        CTX.restore();
+        if (null != foregroundImage) { CTX.drawImage(foregroundImage, X, Y); }
+    }
+
+    private void drawDynamic(final int INDEX) {
+        final int             ROW    = INDEX / columns;
+        final double          X      = (INDEX % columns) * stepX;
+        final double          Y      = (ROW % rowsPerTile) * stepY;
+        final double          WIDTH  = getCellWidth();
+        final double          HEIGHT = getCellHeight();
+        final double          SIZE   = Math.min(WIDTH, HEIGHT);
+        final GaugeCell       CELL   = cells.get(INDEX);
+        final GraphicsContext CTX    = tiles.get(ROW / rowsPerTile).dynamicCtx;
+
+        CTX.clearRect(X, Y, WIDTH, HEIGHT);
+        CTX.save();
+        CTX.translate(X, Y);
+        switch(skinType) {
+            case SIMPLE      : translateToSquare(CTX, WIDTH, HEIGHT); drawSimpleDynamic(CTX, CELL, SIZE); break;
+            case FLAT        : translateToSquare(CTX, WIDTH, HEIGHT); drawFlatDynamic(CTX, CELL, SIZE); break;
+            case TINY        : translateToSquare(CTX, WIDTH, HEIGHT); drawTinyDynamic(CTX, CELL, SIZE); break;
+            case BULLET_CHART: drawBulletChartDynamic(CTX, CELL, WIDTH, HEIGHT); break;
+        }
+        CTX.restore();
+    }
+
+    private void translateToSquare(final GraphicsContext CTX, final double WIDTH, final double HEIGHT) {
+        final double SIZE = Math.min(WIDTH, HEIGHT);
+        CTX.translate((WIDTH - SIZE) * 0.5, (HEIGHT - SIZE) * 0.5);
+    }
+
+    private String formatValue(final double VALUE) { return Helper.formatNumber(locale, formatString, prototype.getDecimals(), VALUE); }
+
+    private static double getAngleStep(final GaugeCell CELL, final double ANGLE_RANGE) {
+        final double RANGE = CELL.getMaxValue() - CELL.getMinValue();
+        return RANGE > 0 ? ANGLE_RANGE / RANGE : 0;
+    }
+
+
+    // ******************** Drawing shared ************************************
+    private void drawRoundBackground(final GraphicsContext CTX, final double SIZE) {
+        final double BORDER_WIDTH = prototype.getBorderWidth() / SKIN_SIZE * SIZE;
+        CTX.setFill(prototype.getBackgroundPaint());
+        CTX.fillOval(0, 0, SIZE, SIZE);
+        if (BORDER_WIDTH > 0) {
+            CTX.setStroke(prototype.getBorderPaint());
+            CTX.setLineWidth(BORDER_WIDTH);
+            CTX.strokeOval(BORDER_WIDTH * 0.5, BORDER_WIDTH * 0.5, SIZE - BORDER_WIDTH, SIZE - BORDER_WIDTH);
+        }
+        if (SkinType.TINY == skinType) {
+            CTX.setStroke(prototype.getBarBackgroundColor());
+            CTX.setLineWidth(SIZE * 0.18382353);
+            CTX.setLineCap(StrokeLineCap.BUTT);
+            CTX.strokeArc(SIZE * 0.1875, SIZE * 0.1875, SIZE * 0.625, SIZE * 0.625, ANGLE_RANGE * 0.5 + 90, -ANGLE_RANGE, ArcType.OPEN);
+        }
+    }
+
+    /**
+     * Draws the sections of the given cell as arcs on a 270 deg scale that
+     * starts at the bottom left (same geometry as in SimpleSkin and TinySkin)
+     */
+    private void drawArcSections(final GaugeCell CELL, final GraphicsContext CTX, final double XY, final double WH, final double LINE_WIDTH) {
+        final double MIN_VALUE  = CELL.getMinValue();
+        final double MAX_VALUE  = CELL.getMaxValue();
+        final double ANGLE_STEP = getAngleStep(CELL, ANGLE_RANGE);
+        final double OFFSET     = START_ANGLE - 90;
+        CTX.setLineWidth(LINE_WIDTH);
+        CTX.setLineCap(StrokeLineCap.BUTT);
+        for (Section section : CELL.getSections()) {
+            if (section.getStart() > MAX_VALUE || section.getStop() < MIN_VALUE) { continue; }
+            final double START = Math.max(MIN_VALUE, section.getStart());
+            final double STOP  = Math.min(MAX_VALUE, section.getStop());
+            CTX.setStroke(section.getColor());
+            CTX.strokeArc(XY, XY, WH, WH, OFFSET - (START - MIN_VALUE) * ANGLE_STEP, -(STOP - START) * ANGLE_STEP, ArcType.OPEN);
+        }
+    }
+
+    private void drawCenteredText(final GraphicsContext CTX, final String TEXT, final Font FONT, final Color COLOR, final double X, final double Y, final double MAX_WIDTH) {
+        if (null == TEXT || TEXT.isEmpty()) { return; }
+        CTX.setFont(FONT);
+        CTX.setFill(COLOR);
+        CTX.setTextAlign(TextAlignment.CENTER);
+        CTX.setTextBaseline(VPos.CENTER);
+        CTX.fillText(TEXT, X, Y, MAX_WIDTH);
+    }
+
+
+    // ******************** Drawing SIMPLE ************************************
+    private void drawSimpleForeground(final GraphicsContext CTX, final double SIZE) {
+        CTX.setStroke(prototype.getBorderPaint());
+        CTX.setLineWidth(SIZE * 0.025);
+        CTX.strokeArc(SIZE * 0.015, SIZE * 0.015, SIZE * 0.97, SIZE * 0.97, START_ANGLE, ANGLE_RANGE, ArcType.ROUND);
+    }
+
+    private void drawSimpleStatic(final GraphicsContext CTX, final GaugeCell CELL, final double SIZE) {
+        if (prototype.getSectionsVisible()) { drawArcSections(CELL, CTX, SIZE * 0.1375, SIZE * 0.725, SIZE * 0.27); }
+        Helper.drawRadialTickMarks(prototype, CTX, CELL.getMinValue(), CELL.getMaxValue(), START_ANGLE, ANGLE_RANGE, getAngleStep(CELL, ANGLE_RANGE), SIZE * 0.5, SIZE * 0.5, SIZE, true);
+        if (prototype.getTickLabelsVisible()) {
+            CTX.setFont(tickLabelFont);
+            CTX.setFill(prototype.getTickLabelColor());
+            CTX.setTextBaseline(VPos.TOP);
+            CTX.setTextAlign(TextAlignment.LEFT);
+            CTX.fillText(String.format(locale, tickLabelFormatString, CELL.getMinValue()), SIZE * 0.15075377, SIZE * 0.86180905, SIZE * 0.3);
+            CTX.setTextAlign(TextAlignment.RIGHT);
+            CTX.fillText(String.format(locale, tickLabelFormatString, CELL.getMaxValue()), SIZE * 0.84924623, SIZE * 0.86180905, SIZE * 0.3);
+        }
+        drawCenteredText(CTX, CELL.getTitle(), titleFont, prototype.getTitleColor(), SIZE * 0.5, SIZE * 0.65, SIZE * 0.3);
+        drawCenteredText(CTX, CELL.getSubTitle(), subTitleFont, prototype.getSubTitleColor(), SIZE * 0.5, SIZE * 0.8, SIZE * 0.45);
+    }
+
+    private void drawSimpleDynamic(final GraphicsContext CTX, final GaugeCell CELL, final double SIZE) {
+        final double CENTER = SIZE * 0.5;
+        final double ANGLE  = Helper.clamp(180 - START_ANGLE, 180 - START_ANGLE + ANGLE_RANGE, 180 - START_ANGLE + (CELL.getValue() - CELL.getMinValue()) * getAngleStep(CELL, ANGLE_RANGE));
+        CTX.save();
+        CTX.translate(CENTER, CENTER);
+        CTX.rotate(ANGLE);
+        CTX.translate(-CENTER, -CENTER);
+        CTX.beginPath();
+        CTX.moveTo(0.275 * SIZE, 0.5 * SIZE);
+        CTX.bezierCurveTo(0.275 * SIZE, 0.62426575 * SIZE, 0.37573425 * SIZE, 0.725 * SIZE, 0.5 * SIZE, 0.725 * SIZE);
+        CTX.bezierCurveTo(0.62426575 * SIZE, 0.725 * SIZE, 0.725 * SIZE, 0.62426575 * SIZE, 0.725 * SIZE, 0.5 * SIZE);
+        CTX.bezierCurveTo(0.725 * SIZE, 0.3891265 * SIZE, 0.6448105 * SIZE, 0.296985 * SIZE, 0.5392625 * SIZE, 0.2784125 * SIZE);
+        CTX.lineTo(0.5 * SIZE, 0.004 * SIZE);
+        CTX.lineTo(0.4607375 * SIZE, 0.2784125 * SIZE);
+        CTX.bezierCurveTo(0.3551895 * SIZE, 0.296985 * SIZE, 0.275 * SIZE, 0.3891265 * SIZE, 0.275 * SIZE, 0.5 * SIZE);
+        CTX.closePath();
+        CTX.setFill(prototype.getNeedleColor());
+        CTX.fill();
+        CTX.setStroke(prototype.getNeedleBorderColor());
+        CTX.setLineWidth(SIZE * 0.025);
+        CTX.stroke();
+        CTX.restore();
+        if (prototype.isValueVisible()) {
+            drawCenteredText(CTX, formatValue(CELL.getValue()) + CELL.getUnit(), valueFont, prototype.getValueColor(), CENTER, SIZE * (CELL.getTitle().isEmpty() ? 0.5 : 0.46), SIZE * 0.35);
+        }
+    }
+
+
+    // ******************** Drawing FLAT **************************************
+    private void drawFlatStatic(final GraphicsContext CTX, final GaugeCell CELL, final double SIZE) {
+        drawCenteredText(CTX, CELL.getTitle(), titleFont, prototype.getTitleColor(), SIZE * 0.5, SIZE * 0.265, SIZE * 0.56667);
+        drawCenteredText(CTX, CELL.getUnit(), unitFont, prototype.getUnitColor(), SIZE * 0.5, SIZE * 0.7, SIZE * 0.56667);
+    }
+
+    private void drawFlatDynamic(final GraphicsContext CTX, final GaugeCell CELL, final double SIZE) {
+        final double MIN_VALUE     = CELL.getMinValue();
+        final double MAX_VALUE     = CELL.getMaxValue();
+        final double VALUE         = CELL.getValue();
+        final double CLAMPED_VALUE = Helper.clamp(MIN_VALUE, MAX_VALUE, VALUE);
+        final double ANGLE_STEP    = getAngleStep(CELL, FLAT_ANGLE_RANGE);
+        double       barLength     = 0;
+        if (prototype.isStartFromZero()) {
+            if ((VALUE > MIN_VALUE || MIN_VALUE < 0) && (VALUE < MAX_VALUE || MAX_VALUE > 0)) {
+                if (MAX_VALUE < 0) {
+                    barLength = (MAX_VALUE - CLAMPED_VALUE) * ANGLE_STEP;
+                } else if (MIN_VALUE > 0) {
+                    barLength = (MIN_VALUE - CLAMPED_VALUE) * ANGLE_STEP;
+                } else {
+                    barLength = -CLAMPED_VALUE * ANGLE_STEP;
+                }
+            }
+        } else {
+            barLength = (MIN_VALUE - CLAMPED_VALUE) * ANGLE_STEP;
+        }
+        final Color BAR_COLOR = getFlatBarColor(CELL, VALUE);
+
+        CTX.setStroke(BAR_COLOR);
+        CTX.setLineWidth(SIZE * 0.0075);
+        CTX.strokeOval(SIZE * 0.00375, SIZE * 0.00375, SIZE * 0.9925, SIZE * 0.9925);
+
+        CTX.setLineWidth(SIZE * 0.12);
+        CTX.setLineCap(StrokeLineCap.BUTT);
+        CTX.strokeArc(SIZE * 0.0865, SIZE * 0.0865, SIZE * 0.827, SIZE * 0.827, 90, barLength, ArcType.OPEN);
+
+        CTX.setStroke(prototype.getBorderPaint());
+        CTX.setLineWidth(1);
+        CTX.strokeLine(SIZE * 0.5, SIZE * 0.0275, SIZE * 0.5, SIZE * 0.145);
+
+        if (prototype.isValueVisible()) {
+            drawCenteredText(CTX, formatValue(VALUE), valueFont, prototype.getValueColor(), SIZE * 0.5, SIZE * 0.5, SIZE * 0.5);
+        }
+    }
+
+    private Color getFlatBarColor(final GaugeCell CELL, final double VALUE) {
+        final boolean COLOR_GRADIENT_ENABLED = prototype.isGradientBarEnabled();
+        if (COLOR_GRADIENT_ENABLED && prototype.getGradientBarStops().size() > 1) {
+            final double RANGE = CELL.getMaxValue() - CELL.getMinValue();
+            return prototype.getGradientLookup().getColorAt(RANGE > 0 ? (VALUE - CELL.getMinValue()) / RANGE : 0);
+        }
+        if (prototype.getSectionsVisible() && !COLOR_GRADIENT_ENABLED) {
+            for (Section section : CELL.getSections()) {
+                if (section.contains(VALUE)) { return section.getColor(); }
+            }
+        }
+        return prototype.getBarColor();
+    }
+
+
+    // ******************** Drawing TINY **************************************
+    private void drawTinyStatic(final GraphicsContext CTX, final GaugeCell CELL, final double SIZE) {
+        if (!prototype.getSectionsVisible()) { return; }
+        drawArcSections(CELL, CTX, SIZE * 0.1875, SIZE * 0.625, SIZE * 0.18382353);
+        if (!prototype.getMajorTickMarksVisible()) { return; }
+
+        final double MIN_VALUE        = CELL.getMinValue();
+        final double MAX_VALUE        = CELL.getMaxValue();
+        final double MAJOR_TICK_SPACE = prototype.getMajorTickSpace();
+        final double ANGLE_STEP       = getAngleStep(CELL, ANGLE_RANGE);
+        final double DOT_SIZE         = 0.025 * SIZE;
+        if (MAJOR_TICK_SPACE <= 0 || ANGLE_STEP <= 0) { return; }
+        CTX.setFill(prototype.getMajorTickMarkColor());
+        final double FIRST = Math.ceil(MIN_VALUE / MAJOR_TICK_SPACE) * MAJOR_TICK_SPACE;
+        for (int i = 0 ; FIRST + i * MAJOR_TICK_SPACE < MAX_VALUE ; i++) {
+            final double VALUE = FIRST + i * MAJOR_TICK_SPACE;
+            if (Double.compare(VALUE, MIN_VALUE) == 0) { continue; }
+            final double ANGLE = Math.toRadians(-45 - (VALUE - MIN_VALUE) * ANGLE_STEP);
+            Helper.drawDot(CTX, SIZE * 0.5 + SIZE * 0.3125 * Math.sin(ANGLE) - DOT_SIZE * 0.5, SIZE * 0.5 + SIZE * 0.3125 * Math.cos(ANGLE) - DOT_SIZE * 0.5, DOT_SIZE);
+        }
+    }
+
+    private void drawTinyDynamic(final GraphicsContext CTX, final GaugeCell CELL, final double SIZE) {
+        final double NEEDLE_START_ANGLE = ANGLE_RANGE * 0.5;
+        final double ANGLE              = Helper.clamp(-NEEDLE_START_ANGLE, -NEEDLE_START_ANGLE + ANGLE_RANGE, (CELL.getValue() - CELL.getMinValue()) * getAngleStep(CELL, ANGLE_RANGE) - NEEDLE_START_ANGLE);
+        final double WIDTH              = SIZE * 0.26470588;
+        final double HEIGHT             = SIZE * 0.47426471;
+        CTX.save();
+        CTX.translate(SIZE * 0.5, SIZE * 0.5);
+        CTX.rotate(ANGLE);
+        CTX.translate(-WIDTH * 0.5, -(HEIGHT - WIDTH * 0.5));
+        CTX.beginPath();
+        CTX.moveTo(0.277777777777778 * WIDTH, 0.720930232558139 * HEIGHT);
+        CTX.bezierCurveTo(0.277777777777778 * WIDTH, 0.652428682170543 * HEIGHT, 0.377268055555556 * WIDTH, 0.596899224806202 * HEIGHT, 0.5 * WIDTH, 0.596899224806202 * HEIGHT);
+        CTX.bezierCurveTo(0.622731944444444 * WIDTH, 0.596899224806202 * HEIGHT, 0.722222222222222 * WIDTH, 0.652428682170543 * HEIGHT, 0.722222222222222 * WIDTH, 0.720930232558139 * HEIGHT);
+        CTX.bezierCurveTo(0.722222222222222 * WIDTH, 0.789431782945736 * HEIGHT, 0.622731944444444 * WIDTH, 0.844961240310077 * HEIGHT, 0.5 * WIDTH, 0.844961240310077 * HEIGHT);
+        CTX.bezierCurveTo(0.377268055555556 * WIDTH, 0.844961240310077 * HEIGHT, 0.277777777777778 * WIDTH, 0.789431782945736 * HEIGHT, 0.277777777777778 * WIDTH, 0.720930232558139 * HEIGHT);
+        CTX.closePath();
+        CTX.moveTo(0, 0.720930232558139 * HEIGHT);
+        CTX.bezierCurveTo(0, 0.875058139534884 * HEIGHT, 0.223854166666667 * WIDTH, HEIGHT, 0.5 * WIDTH, HEIGHT);
+        CTX.bezierCurveTo(0.776145833333333 * WIDTH, HEIGHT, WIDTH, 0.875058139534884 * HEIGHT, WIDTH, 0.720930232558139 * HEIGHT);
+        CTX.bezierCurveTo(WIDTH, 0.566860465116279 * HEIGHT, 0.5 * WIDTH, 0, 0.5 * WIDTH, 0);
+        CTX.bezierCurveTo(0.5 * WIDTH, 0, 0, 0.566860465116279 * HEIGHT, 0, 0.720930232558139 * HEIGHT);
+        CTX.closePath();
+        CTX.setFillRule(FillRule.EVEN_ODD);
+        CTX.setFill(prototype.getNeedleColor());
+        CTX.fill();
+        CTX.restore();
+    }
+
+
+    // ******************** Drawing BULLET_CHART ******************************
+    private void drawBulletChartBackground(final GraphicsContext CTX, final double WIDTH, final double HEIGHT) {
+        final double BORDER_WIDTH = prototype.getBorderWidth();
+        CTX.setFill(prototype.getBackgroundPaint());
+        CTX.fillRect(0, 0, WIDTH, HEIGHT);
+        if (BORDER_WIDTH > 0) {
+            CTX.setStroke(prototype.getBorderPaint());
+            CTX.setLineWidth(BORDER_WIDTH);
+            CTX.strokeRect(BORDER_WIDTH * 0.5, BORDER_WIDTH * 0.5, WIDTH - BORDER_WIDTH, HEIGHT - BORDER_WIDTH);
+        }
+    }
+
+    private void drawBulletChartStatic(final GraphicsContext CTX, final GaugeCell CELL, final double WIDTH, final double HEIGHT) {
+        final double MIN_VALUE = CELL.getMinValue();
+        final double MAX_VALUE = CELL.getMaxValue();
+        final double OFFSET_X  = 0.18345865 * WIDTH;
+        final double STEP_SIZE = getAngleStep(CELL, 0.79699248 * WIDTH);
+
+        if (prototype.getSectionsVisible()) {
+            for (Section section : CELL.getSections()) {
+                if (section.getStart() > MAX_VALUE || section.getStop() < MIN_VALUE) { continue; }
+                final double START = Math.max(MIN_VALUE, section.getStart());
+                final double STOP  = Math.min(MAX_VALUE, section.getStop());
+                CTX.setFill(section.getColor());
+                CTX.fillRect(OFFSET_X + (START - MIN_VALUE) * STEP_SIZE, 0.10416667 * HEIGHT, (STOP - START) * STEP_SIZE, 0.5 * HEIGHT);
+            }
+        }
+
+        final double  MAJOR_TICK_SPACE = prototype.getMajorTickSpace();
+        final boolean TICK_MARKS       = prototype.getMajorTickMarksVisible();
+        final boolean TICK_LABELS      = prototype.getTickLabelsVisible();
+        if (MAJOR_TICK_SPACE > 0 && STEP_SIZE > 0 && (TICK_MARKS || TICK_LABELS)) {
+            final List<Section> TICK_MARK_SECTIONS  = prototype.getTickMarkSectionsVisible() ? prototype.getTickMarkSections() : null;
+            final List<Section> TICK_LABEL_SECTIONS = prototype.getTickLabelSectionsVisible() ? prototype.getTickLabelSections() : null;
+            final Color         TICK_MARK_COLOR     = prototype.getTickMarkColor();
+            final Color         TICK_LABEL_COLOR    = prototype.getTickLabelColor();
+            final double        TICK_MARK_Y         = 0.60416667 * HEIGHT;
+            final double        TICK_LABEL_Y        = TICK_MARK_Y + 0.7 * 0.29166667 * HEIGHT;
+            final double        FIRST               = Math.ceil(MIN_VALUE / MAJOR_TICK_SPACE) * MAJOR_TICK_SPACE;
+            CTX.setLineWidth(1);
+            CTX.setFont(tickLabelFont);
+            CTX.setTextAlign(TextAlignment.CENTER);
+            CTX.setTextBaseline(VPos.CENTER);
+            for (int i = 0 ; FIRST + i * MAJOR_TICK_SPACE <= MAX_VALUE ; i++) {
+                final double VALUE = FIRST + i * MAJOR_TICK_SPACE;
+                final double X     = OFFSET_X + (VALUE - MIN_VALUE) * STEP_SIZE;
+                if (TICK_MARKS) {
+                    CTX.setStroke(null == TICK_MARK_SECTIONS ? TICK_MARK_COLOR : Helper.getColorOfSection(TICK_MARK_SECTIONS, VALUE, TICK_MARK_COLOR));
+                    CTX.strokeLine(X, TICK_MARK_Y, X, TICK_MARK_Y + 0.08 * HEIGHT);
+                }
+                if (TICK_LABELS) {
+                    CTX.setFill(null == TICK_LABEL_SECTIONS ? TICK_LABEL_COLOR : Helper.getColorOfSection(TICK_LABEL_SECTIONS, VALUE, TICK_LABEL_COLOR));
+                    CTX.fillText(String.format(locale, tickLabelFormatString, VALUE), X, TICK_LABEL_Y);
+                }
+            }
+        }
+
+        CTX.setTextAlign(TextAlignment.RIGHT);
+        CTX.setTextBaseline(VPos.CENTER);
+        CTX.setFont(titleFont);
+        CTX.setFill(prototype.getTitleColor());
+        CTX.fillText(CELL.getTitle(), 0.17593985 * WIDTH, 0.25 * HEIGHT, 0.16 * WIDTH);
+        CTX.setFont(unitFont);
+        CTX.setFill(prototype.getUnitColor());
+        CTX.fillText(CELL.getUnit(), 0.17593985 * WIDTH, 0.5 * HEIGHT, 0.16 * WIDTH);
+    }
+
+    private void drawBulletChartDynamic(final GraphicsContext CTX, final GaugeCell CELL, final double WIDTH, final double HEIGHT) {
+        final double MIN_VALUE  = CELL.getMinValue();
+        final double MAX_VALUE  = CELL.getMaxValue();
+        final double OFFSET_X   = 0.18345865 * WIDTH;
+        final double STEP_SIZE  = getAngleStep(CELL, 0.79699248 * WIDTH);
+        final double BAR_HEIGHT = 0.16666667 * HEIGHT;
+        CTX.setFill(prototype.getBarColor());
+        CTX.fillRect(OFFSET_X, 0.10416667 * HEIGHT + (0.5 * HEIGHT - BAR_HEIGHT) * 0.5, (Helper.clamp(MIN_VALUE, MAX_VALUE, CELL.getValue()) - MIN_VALUE) * STEP_SIZE, BAR_HEIGHT);
+        CTX.setFill(prototype.getThresholdColor());
+        CTX.fillRect(OFFSET_X + (Helper.clamp(MIN_VALUE, MAX_VALUE, CELL.getThreshold()) - MIN_VALUE) * STEP_SIZE - 0.03125 * HEIGHT, 0.1875 * HEIGHT, 0.0625 * HEIGHT, 0.33333333 * HEIGHT);
+    }
+
+
+    // ******************** Event handling ************************************
+    /**
+     * Adds a listener that will be informed about the events of all cells
+     * @param LISTENER
+     */
+    public void addGaugeCellEventListener(final GaugeCellEventListener LISTENER) { if (!listenerList.contains(LISTENER)) listenerList.add(LISTENER); }
+    public void removeGaugeCellEventListener(final GaugeCellEventListener LISTENER) { listenerList.remove(LISTENER); }
+
+    private void fireGaugeCellEvent(final GaugeCellEvent EVENT) {
+        for (GaugeCellEventListener listener : listenerList) { listener.onGaugeCellEvent(EVENT); }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * A band of rows with one canvas for the static and one canvas for the
+     * dynamic parts of the cells
+     */
+    private static class Tile {
+        private final Canvas          staticCanvas;
+        private final Canvas          dynamicCanvas;
+        private final GraphicsContext staticCtx;
+        private final GraphicsContext dynamicCtx;
+        private       int             firstRow;
+
+
+        // ******************** Constructors **********************************
+        Tile() {
+            staticCanvas  = new Canvas();
+            dynamicCanvas = new Canvas();
+            staticCtx     = staticCanvas.getGraphicsContext2D();
+            dynamicCtx    = dynamicCanvas.getGraphicsContext2D();
+            staticCanvas.setManaged(false);
+            dynamicCanvas.setManaged(false);
+            dynamicCanvas.setMouseTransparent(true);
+        }
+
+
+        // ******************** Methods ***************************************
+        void resize(final double WIDTH, final double HEIGHT) {
+            staticCanvas.setWidth(WIDTH);
+            staticCanvas.setHeight(HEIGHT);
+            dynamicCanvas.setWidth(WIDTH);
+            dynamicCanvas.setHeight(HEIGHT);
+            staticCtx.clearRect(0, 0, WIDTH, HEIGHT);
+            dynamicCtx.clearRect(0, 0, WIDTH, HEIGHT);
+        }
+
+        void relocate(final double X, final double Y) {
+            staticCanvas.relocate(X, Y);
+            dynamicCanvas.relocate(X, Y);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+
+/**
+ * Base of the events that belong to a gauge or a clock
+ */
+abstract class ControlEvent extends Event {
+    @Label("Id")
+    String id;
+
+    @Label("Title")
+    String title;
+
+    @Label("Skin Type")
+    String skinType;
+
+    @Label("Width")
+    int    width;
+
+    @Label("Height")
+    int    height;
+}
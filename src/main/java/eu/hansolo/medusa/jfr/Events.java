@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.jfr;
+
+import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.Gauge;
+import javafx.scene.control.Control;
+import jdk.jfr.Event;
+
+
+/**
+ * Creates the events, will only be loaded if jdk.jfr is available
+ */
+final class Events {
+
+
+    // ******************** Constructors **************************************
+    private Events() {}
+
+
+    // ******************** Methods *******************************************
+    static Object beginValueUpdate(final Gauge GAUGE, final double VALUE) {
+        final GaugeValueEvent EVENT = new GaugeValueEvent();
+        if (!EVENT.isEnabled()) { return null; }
+        fill(EVENT, GAUGE);
+        EVENT.value = VALUE;
+        EVENT.begin();
+        return EVENT;
+    }
+
+    static Object beginRedraw(final Control CONTROL) {
+        final SkinRedrawEvent EVENT = new SkinRedrawEvent();
+        if (!EVENT.isEnabled()) { return null; }
+        fill(EVENT, CONTROL);
+        EVENT.begin();
+        return EVENT;
+    }
+
+    static Object beginResize(final Control CONTROL) {
+        final SkinResizeEvent EVENT = new SkinResizeEvent();
+        if (!EVENT.isEnabled()) { return null; }
+        fill(EVENT, CONTROL);
+        EVENT.begin();
+        return EVENT;
+    }
+
+    static Object beginTickMarks(final Gauge GAUGE) {
+        final TickMarksEvent EVENT = new TickMarksEvent();
+        if (!EVENT.isEnabled()) { return null; }
+        fill(EVENT, GAUGE);
+        EVENT.begin();
+        return EVENT;
+    }
+
+    static Object beginClockTick(final Clock CLOCK) {
+        final ClockTickEvent EVENT = new ClockTickEvent();
+        if (!EVENT.isEnabled()) { return null; }
+        fill(EVENT, CLOCK);
+        EVENT.begin();
+        return EVENT;
+    }
+
+    static Object beginAlarmCheck(final Clock CLOCK, final int NO_OF_ALARMS) {
+        final AlarmCheckEvent EVENT = new AlarmCheckEvent();
+        if (!EVENT.isEnabled()) { return null; }
+        fill(EVENT, CLOCK);
+        EVENT.noOfAlarms = NO_OF_ALARMS;
+        EVENT.begin();
+        return EVENT;
+    }
+
+    static Object beginRasterization(final String SOURCE, final int WIDTH, final int HEIGHT) {
+        final RasterizationEvent EVENT = new RasterizationEvent();
+        if (!EVENT.isEnabled()) { return null; }
+        EVENT.source = SOURCE;
+        EVENT.width  = WIDTH;
+        EVENT.height = HEIGHT;
+        EVENT.begin();
+        return EVENT;
+    }
+
+    static void commit(final Object EVENT) { ((Event) EVENT).commit(); }
+
+    private static void fill(final ControlEvent EVENT, final Control CONTROL) {
+        EVENT.id     = CONTROL.getId();
+        EVENT.width  = (int) CONTROL.getWidth();
+        EVENT.height = (int) CONTROL.getHeight();
+        if (CONTROL instanceof Gauge) {
+            final Gauge GAUGE = (Gauge) CONTROL;
+            EVENT.title    = GAUGE.getTitle();
+            EVENT.skinType = GAUGE.getSkinType().name();
+        } else if (CONTROL instanceof Clock) {
+            final Clock CLOCK = (Clock) CONTROL;
+            EVENT.title    = CLOCK.getTitle();
+            EVENT.skinType = CLOCK.getSkinType().name();
+        }
+    }
+}
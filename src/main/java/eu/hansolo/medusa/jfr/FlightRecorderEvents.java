@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.jfr;
+
+import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.Gauge;
+import javafx.scene.control.Control;
+
+
+/**
+ * Java Flight Recorder events for value updates, skin redraw/resize,
+ * tick mark drawing, image rasterization, clock ticks and alarm checks.
+ * All events are disabled by default and can be enabled in a recording
+ * setting, e.g. eu.hansolo.medusa.SkinRedraw#enabled=true.
+ * The methods can be called without checks, if jdk.jfr is not available
+ * or the event is not enabled in a running recording begin() returns null
+ * and commit() does nothing. Each event carries the id, title, skin type
+ * and size in pixels of its gauge or clock.
+ */
+public final class FlightRecorderEvents {
+    public static final boolean AVAILABLE = isJfrAvailable();
+
+
+    // ******************** Constructors **************************************
+    private FlightRecorderEvents() {}
+
+
+    // ******************** Methods *******************************************
+    public static Object beginValueUpdate(final Gauge GAUGE, final double VALUE) { return AVAILABLE ? Events.beginValueUpdate(GAUGE, VALUE) : null; }
+
+    public static Object beginRedraw(final Control CONTROL) { return AVAILABLE ? Events.beginRedraw(CONTROL) : null; }
+
+    public static Object beginResize(final Control CONTROL) { return AVAILABLE ? Events.beginResize(CONTROL) : null; }
+
+    public static Object beginTickMarks(final Gauge GAUGE) { return AVAILABLE ? Events.beginTickMarks(GAUGE) : null; }
+
+    public static Object beginClockTick(final Clock CLOCK) { return AVAILABLE ? Events.beginClockTick(CLOCK) : null; }
+
+    public static Object beginAlarmCheck(final Clock CLOCK, final int NO_OF_ALARMS) { return AVAILABLE ? Events.beginAlarmCheck(CLOCK, NO_OF_ALARMS) : null; }
+
+    /**
+     * @param SOURCE the name of the method that rasterizes the image
+     * @param WIDTH  the width of the image in pixels
+     * @param HEIGHT the height of the image in pixels
+     */
+    public static Object beginRasterization(final String SOURCE, final int WIDTH, final int HEIGHT) { return AVAILABLE ? Events.beginRasterization(SOURCE, WIDTH, HEIGHT) : null; }
+
+    /**
+     * Ends the given event and commits it to the recording if its duration
+     * exceeds the configured threshold.
+     * @param EVENT the event returned by one of the begin methods, may be null
+     */
+    public static void commit(final Object EVENT) {
+        if (null != EVENT) { Events.commit(EVENT); }
+    }
+
+    private static boolean isJfrAvailable() {
+        try {
+            final Class<?> EVENT_CLASS = Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+            return FlightRecorderEvents.class.getModule().canRead(EVENT_CLASS.getModule());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -17,11 +17,13 @@
  */
 package eu.hansolo.medusa.skins;
 
-import eu.hansolo.medusa.Alarm;
 import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.TimeSection;
+import eu.hansolo.medusa.tools.AlarmMarkerLayer;
+import eu.hansolo.medusa.tools.ClockTextRenderer;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.TimeSectionLayer;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
 import javafx.scene.CacheHint;
@@ -41,7 +43,6 @@ import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Rectangle;
-import javafx.scene.shape.Shape;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.text.Text;
 import javafx.scene.transform.Rotate;
@@ -50,21 +51,18 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
  * Created by hansolo on 28.01.16.
  */
 public class ClockSkin extends ClockSkinBase {
-    private static final DateTimeFormatter  TIME_FORMATTER    = DateTimeFormatter.ofPattern("HH:mm");
-    private              Map<Alarm, Circle> alarmMap          = new ConcurrentHashMap<>();
+    private              AlarmMarkerLayer   alarmLayer        = new AlarmMarkerLayer();
     private              DateTimeFormatter  dateTimeFormatter;
     private              DateTimeFormatter  dateFormatter;
+    private              ClockTextRenderer  textRenderer;
     private              double             size;
-    private              Canvas             sectionsAndAreasCanvas;
-    private              GraphicsContext    sectionsAndAreasCtx;
+    private              TimeSectionLayer   sectionsAndAreasLayer;
     private              Canvas             tickCanvas;
     private              GraphicsContext    tickCtx;
     private              Rectangle          hour;
@@ -74,7 +72,6 @@ public class ClockSkin extends ClockSkinBase {
     private              Text               title;
     private              Text               dateText;
     private              Text               text;
-    private              Pane               alarmPane;
     private              Pane               pane;
     private              Rotate             hourRotate;
     private              Rotate             minuteRotate;
@@ -108,6 +105,7 @@ public class ClockSkin extends ClockSkinBase {
 
         dateTimeFormatter = DateTimeFormatter.ofPattern("EEEE\ndd.MM.YYYY\nHH:mm:ss").withLocale(clock.getLocale());
         dateFormatter     = DateTimeFormatter.ofPattern("EE d").withLocale(clock.getLocale());
+        textRenderer      = new ClockTextRenderer();
 
         updateAlarms();
 
@@ -128,14 +126,13 @@ public class ClockSkin extends ClockSkinBase {
             }
         }
 
-        sectionsAndAreasCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
-        sectionsAndAreasCtx    = sectionsAndAreasCanvas.getGraphicsContext2D();
+        sectionsAndAreasLayer = new TimeSectionLayer();
+        sectionsAndAreasLayer.setAreaGeometry(0.03, 0.03, 0.94, 0.94);
+        sectionsAndAreasLayer.setSectionGeometry(0.065, 0.065, 0.87, 0.87, 0.07);
 
         tickCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
         tickCtx    = tickCanvas.getGraphicsContext2D();
 
-        alarmPane = new Pane();
-
         hour = new Rectangle(3, 60);
         hour.setArcHeight(3);
         hour.setArcWidth(3);
@@ -185,7 +182,7 @@ public class ClockSkin extends ClockSkinBase {
         text.setVisible(getSkinnable().isTextVisible());
         text.setManaged(getSkinnable().isTextVisible());
 
-        pane = new Pane(sectionsAndAreasCanvas, tickCanvas, alarmPane, title, dateText, text, shadowGroupHour, shadowGroupMinute, shadowGroupSecond);
+        pane = new Pane(sectionsAndAreasLayer, tickCanvas, alarmLayer, title, dateText, text, shadowGroupHour, shadowGroupMinute, shadowGroupSecond);
         pane.setBorder(new Border(new BorderStroke(getSkinnable().getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(1024), new BorderWidths(getSkinnable().getBorderWidth()))));
         pane.setBackground(new Background(new BackgroundFill(getSkinnable().getBackgroundPaint(), new CornerRadii(1024), Insets.EMPTY)));
 
@@ -197,6 +194,7 @@ public class ClockSkin extends ClockSkinBase {
         clock.localeProperty().addListener(o -> {
             dateTimeFormatter = DateTimeFormatter.ofPattern("EEEE\ndd.MM.YYYY\nHH:mm:ss").withLocale(clock.getLocale());
             dateFormatter = DateTimeFormatter.ofPattern("EE d").withLocale(clock.getLocale());
+            textRenderer.reset();
         });
     }
 
@@ -214,10 +212,8 @@ public class ClockSkin extends ClockSkinBase {
             second.setVisible(getSkinnable().isSecondsVisible());
             second.setManaged(getSkinnable().isSecondsVisible());
             boolean alarmsVisible = getSkinnable().isAlarmsVisible();
-            for (Shape shape : alarmMap.values()) {
-                shape.setManaged(alarmsVisible);
-                shape.setVisible(alarmsVisible);
-            }
+            alarmLayer.setManaged(alarmsVisible);
+            alarmLayer.setVisible(alarmsVisible);
         } else if ("SECTION".equals(EVENT_TYPE)) {
             sections          = getSkinnable().getSections();
             highlightSections = getSkinnable().isHighlightSections();
@@ -295,32 +291,27 @@ public class ClockSkin extends ClockSkinBase {
             }
         }
 
-        if (text.isVisible()) {
-            text.setText(TIME_FORMATTER.format(TIME));
+        if (text.isVisible() && textRenderer.updateTime(TIME)) {
+            text.setText(textRenderer.getTimeText());
             Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
             text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
         }
 
-        if (dateText.isVisible()) {
-            dateText.setText(dateFormatter.format(TIME).toUpperCase());
+        if (dateText.isVisible() && textRenderer.updateDate(TIME, dateFormatter)) {
+            dateText.setText(textRenderer.getDateText().toUpperCase());
             Helper.adjustTextSize(dateText, 0.3 * size, size * 0.05);
             dateText.relocate(((size * 0.5) - dateText.getLayoutBounds().getWidth()) * 0.5 + (size * 0.45), (size - dateText.getLayoutBounds().getHeight()) * 0.5);
         }
 
         // Show all alarms within the next hour
-        if (TIME.getMinute() == 0 && TIME.getSecond() == 0) Helper.drawAlarms(getSkinnable(), size, 0.02, 0.45, alarmMap, dateTimeFormatter, TIME);
+        if (TIME.getMinute() == 0 && TIME.getSecond() == 0) alarmLayer.update(getSkinnable(), size, 0.02, 0.45, dateTimeFormatter, TIME);
 
         // Highlight Areas and Sections
-        if (highlightAreas | highlightSections) {
-            sectionsAndAreasCtx.clearRect(0, 0, size, size);
-            if (areasVisible) Helper.drawTimeAreas(getSkinnable(), sectionsAndAreasCtx, areas, size, 0.03, 0.03, 0.94, 0.94);
-            if (sectionsVisible) Helper.drawTimeSections(getSkinnable(), sectionsAndAreasCtx, sections, size, 0.065, 0.065, 0.87, 0.87, 0.07);
-        }
+        sectionsAndAreasLayer.update(TIME);
     }
 
     @Override public void updateAlarms() {
-        alarmMap.clear();
-        for (Alarm alarm : getSkinnable().getAlarms()) { alarmMap.put(alarm, new Circle()); }
+        alarmLayer.setAlarms(getSkinnable().getAlarms());
     }
 
 
@@ -339,13 +330,12 @@ public class ClockSkin extends ClockSkinBase {
             dropShadow.setRadius(0.008 * size);
             dropShadow.setOffsetY(0.008 * size);
 
-            sectionsAndAreasCanvas.setWidth(size);
-            sectionsAndAreasCanvas.setHeight(size);
+            sectionsAndAreasLayer.setPrefSize(size, size);
 
             tickCanvas.setWidth(size);
             tickCanvas.setHeight(size);
 
-            alarmPane.setMaxSize(size, size);
+            alarmLayer.setMaxSize(size, size);
 
             hour.setFill(getSkinnable().getHourColor());
             hour.setCache(false);
@@ -420,9 +410,9 @@ public class ClockSkin extends ClockSkinBase {
         shadowGroupSecond.setEffect(getSkinnable().getShadowsEnabled() ? dropShadow : null);
 
         // Areas, Sections
-        sectionsAndAreasCtx.clearRect(0, 0, size, size);
-        if (areasVisible)    Helper.drawTimeAreas(getSkinnable(), sectionsAndAreasCtx, areas, size, 0.03, 0.03, 0.94, 0.94);
-        if (sectionsVisible) Helper.drawTimeSections(getSkinnable(), sectionsAndAreasCtx, sections, size, 0.065, 0.065, 0.87, 0.87, 0.07);
+        sectionsAndAreasLayer.setAreas(areas, areasVisible, highlightAreas);
+        sectionsAndAreasLayer.setSections(sections, sectionsVisible, highlightSections);
+        sectionsAndAreasLayer.redraw(getSkinnable(), size);
 
         // Tick Marks
         tickCanvas.setCache(false);
@@ -432,21 +422,23 @@ public class ClockSkin extends ClockSkinBase {
 
         ZonedDateTime time = getSkinnable().getTime();
 
+        textRenderer.reset();
         updateTime(time);
 
         title.setText(getSkinnable().getTitle());
         Helper.adjustTextSize(title, 0.6 * size, size * 0.12);
         title.relocate((size - title.getLayoutBounds().getWidth()) * 0.5, size * 0.25);
 
-        text.setText(TIME_FORMATTER.format(time));
+        textRenderer.updateTime(time);
+        text.setText(textRenderer.getTimeText());
         Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
         text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
 
-        dateText.setText(dateFormatter.format(time).toUpperCase());
+        textRenderer.updateDate(time, dateFormatter);
+        dateText.setText(textRenderer.getDateText().toUpperCase());
         Helper.adjustTextSize(dateText, 0.3 * size, size * 0.05);
         dateText.relocate(((size * 0.5) - dateText.getLayoutBounds().getWidth()) * 0.5 + (size * 0.45), (size - dateText.getLayoutBounds().getHeight()) * 0.5);
 
-        alarmPane.getChildren().setAll(alarmMap.values());
-        Helper.drawAlarms(getSkinnable(), size, 0.02, 0.45, alarmMap, dateTimeFormatter, time);
+        alarmLayer.refresh(getSkinnable(), size, 0.02, 0.45, dateTimeFormatter, time);
     }
 }
@@ -19,7 +19,11 @@ package eu.hansolo.medusa.skins;
 
 import eu.hansolo.medusa.Alarm;
 import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.events.UpdateEvent.EventType;
 import eu.hansolo.medusa.events.UpdateEventListener;
+import eu.hansolo.medusa.jfr.FlightRecorderEvents;
+import eu.hansolo.medusa.tools.Instrumentation;
+import eu.hansolo.medusa.tools.SkinMetrics;
 import javafx.beans.InvalidationListener;
 import javafx.collections.ListChangeListener;
 import javafx.scene.control.Skin;
@@ -47,6 +51,7 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
     protected InvalidationListener      currentTimeListener;
     protected InvalidationListener      timeListener;
     protected ListChangeListener<Alarm> alarmListener;
+    private   SkinMetrics               metrics;
 
 
     // ******************** Constructors **************************************
@@ -54,9 +59,12 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
         super(CLOCK);
 
         clock               = CLOCK;
-        sizeListener        = o -> handleEvents("RESIZE");
-        updateEventListener = e -> handleEvents(e.eventType.name());
-        currentTimeListener = o -> updateTime(ZonedDateTime.ofInstant(Instant.ofEpochSecond(clock.getCurrentTime()), ZoneId.of(ZoneId.systemDefault().getId())));
+        sizeListener        = o -> dispatch("RESIZE");
+        updateEventListener = e -> {
+            if (Instrumentation.isEnabled()) { getMetrics().countEvent(e.eventType); }
+            dispatch(e.eventType.name());
+        };
+        currentTimeListener = o -> updateTime(ZonedDateTime.ofInstant(Instant.ofEpochSecond(clock.getCurrentTime()), ZoneId.systemDefault()));
         timeListener        = o -> updateTime(clock.getTime());
         alarmListener       = c -> {
             updateAlarms();
@@ -91,11 +99,56 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
 
     protected void handleEvents(final String EVENT_TYPE) {
         if ("RESIZE".equals(EVENT_TYPE)) {
+            measuredResize();
+            measuredRedraw();
+        } else if ("REDRAW".equals(EVENT_TYPE)) {
+            measuredRedraw();
+        }
+    }
+
+    /**
+     * Returns the metrics of this skin which will be created when the
+     * Instrumentation is enabled.
+     *
+     * @return the metrics of this skin or null if the instrumentation was never enabled
+     */
+    public SkinMetrics getMetrics() {
+        if (null == metrics && Instrumentation.isEnabled()) { metrics = Instrumentation.register(clock, this); }
+        return metrics;
+    }
+
+    private void dispatch(final String EVENT_TYPE) {
+        if (!Instrumentation.isEnabled()) {
+            handleEvents(EVENT_TYPE);
+            return;
+        }
+        final long START = System.nanoTime();
+        handleEvents(EVENT_TYPE);
+        getMetrics().recordHandleEvents(EventType.valueOf(EVENT_TYPE), System.nanoTime() - START);
+    }
+
+    private void measuredResize() {
+        final Object EVENT = FlightRecorderEvents.beginResize(clock);
+        if (Instrumentation.isEnabled()) {
+            final long START = System.nanoTime();
+            resize();
+            getMetrics().recordResize(System.nanoTime() - START);
+        } else {
             resize();
+        }
+        FlightRecorderEvents.commit(EVENT);
+    }
+
+    private void measuredRedraw() {
+        final Object EVENT = FlightRecorderEvents.beginRedraw(clock);
+        if (Instrumentation.isEnabled()) {
+            final long START = System.nanoTime();
             redraw();
-        } else if ("REDRAW".equals(EVENT_TYPE)) {
+            getMetrics().recordRedraw(System.nanoTime() - START);
+        } else {
             redraw();
         }
+        FlightRecorderEvents.commit(EVENT);
     }
 
     @Override public void dispose() {
@@ -108,6 +161,7 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
             clock.timeProperty().removeListener(timeListener);
         }
         clock.getAlarms().removeListener(alarmListener);
+        Instrumentation.unregister(metrics);
         clock = null;
     }
 
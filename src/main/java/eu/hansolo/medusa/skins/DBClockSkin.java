@@ -17,11 +17,12 @@
  */
 package eu.hansolo.medusa.skins;
 
-import eu.hansolo.medusa.Alarm;
 import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.TimeSection;
+import eu.hansolo.medusa.tools.AlarmMarkerLayer;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.TimeSectionLayer;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
 import javafx.scene.CacheHint;
@@ -55,8 +56,6 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static eu.hansolo.medusa.tools.Helper.enableNode;
 
@@ -66,11 +65,10 @@ import static eu.hansolo.medusa.tools.Helper.enableNode;
  */
 public class DBClockSkin extends ClockSkinBase {
     private static final DateTimeFormatter  TIME_FORMATTER    = DateTimeFormatter.ofPattern("HH:mm");
-    private              Map<Alarm, Circle> alarmMap          = new ConcurrentHashMap<>();
+    private              AlarmMarkerLayer   alarmLayer        = new AlarmMarkerLayer();
     private              DateTimeFormatter  dateTimeFormatter;
     private              double             size;
-    private              Canvas             sectionsAndAreasCanvas;
-    private              GraphicsContext    sectionsAndAreasCtx;
+    private              TimeSectionLayer   sectionsAndAreasLayer;
     private              Canvas             tickCanvas;
     private              GraphicsContext    tickCtx;
     private              Rectangle          hour;
@@ -80,7 +78,6 @@ public class DBClockSkin extends ClockSkinBase {
     private              Text               title;
     private              Text               text;
     private              Pane               pane;
-    private              Pane               alarmPane;
     private              Rotate             hourRotate;
     private              Rotate             minuteRotate;
     private              Rotate             secondRotate;
@@ -135,14 +132,13 @@ public class DBClockSkin extends ClockSkinBase {
             }
         }
 
-        sectionsAndAreasCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
-        sectionsAndAreasCtx    = sectionsAndAreasCanvas.getGraphicsContext2D();
+        sectionsAndAreasLayer = new TimeSectionLayer();
+        sectionsAndAreasLayer.setAreaGeometry(0.035, 0.035, 0.93, 0.93);
+        sectionsAndAreasLayer.setSectionGeometry(0.056, 0.056, 0.89, 0.89, 0.0395);
 
         tickCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
         tickCtx    = tickCanvas.getGraphicsContext2D();
 
-        alarmPane = new Pane();
-
         hour  = new Rectangle(3, 60);
         hour.setArcHeight(3);
         hour.setArcWidth(3);
@@ -191,7 +187,7 @@ public class DBClockSkin extends ClockSkinBase {
         text.setVisible(clock.isTextVisible());
         text.setManaged(clock.isTextVisible());
 
-        pane = new Pane(sectionsAndAreasCanvas, tickCanvas, alarmPane, title, text, shadowGroupHour, shadowGroupMinute, shadowGroupSecond, knob);
+        pane = new Pane(sectionsAndAreasLayer, tickCanvas, alarmLayer, title, text, shadowGroupHour, shadowGroupMinute, shadowGroupSecond, knob);
         pane.setBorder(new Border(new BorderStroke(clock.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(1024), new BorderWidths(clock.getBorderWidth()))));
         pane.setBackground(new Background(new BackgroundFill(clock.getBackgroundPaint(), new CornerRadii(1024), Insets.EMPTY)));
 
@@ -355,19 +351,14 @@ public class DBClockSkin extends ClockSkinBase {
         }
 
         // Show all alarms within the next hour
-        if (TIME.getMinute() == 0 && TIME.getSecond() == 0) Helper.drawAlarms(clock, size, 0.02, 0.445, alarmMap, dateTimeFormatter, TIME);
+        if (TIME.getMinute() == 0 && TIME.getSecond() == 0) alarmLayer.update(clock, size, 0.02, 0.445, dateTimeFormatter, TIME);
 
         // Highlight Areas and Sections
-        if (highlightAreas | highlightSections) {
-            sectionsAndAreasCtx.clearRect(0, 0, size, size);
-            if (areasVisible) Helper.drawTimeAreas(clock, sectionsAndAreasCtx, areas, size, 0.035, 0.035, 0.93, 0.93);
-            if (sectionsVisible) Helper.drawTimeSections(clock, sectionsAndAreasCtx, sections, size, 0.056, 0.056, 0.89, 0.89, 0.0395);
-        }
+        sectionsAndAreasLayer.update(TIME);
     }
 
     @Override public void updateAlarms() {
-        alarmMap.clear();
-        for (Alarm alarm : clock.getAlarms()) { alarmMap.put(alarm, new Circle()); }
+        alarmLayer.setAlarms(clock.getAlarms());
     }
 
 
@@ -386,13 +377,12 @@ public class DBClockSkin extends ClockSkinBase {
             dropShadow.setRadius(0.008 * size);
             dropShadow.setOffsetY(0.008 * size);
 
-            sectionsAndAreasCanvas.setWidth(size);
-            sectionsAndAreasCanvas.setHeight(size);
+            sectionsAndAreasLayer.setPrefSize(size, size);
 
             tickCanvas.setWidth(size);
             tickCanvas.setHeight(size);
 
-            alarmPane.setMaxSize(size, size);
+            alarmLayer.setMaxSize(size, size);
 
             hour.setFill(clock.getHourColor());
             hour.setCache(false);
@@ -452,9 +442,9 @@ public class DBClockSkin extends ClockSkinBase {
         shadowGroupSecond.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
 
         // Areas, Sections
-        sectionsAndAreasCtx.clearRect(0, 0, size, size);
-        if (areasVisible) Helper.drawTimeAreas(clock, sectionsAndAreasCtx, areas, size, 0.035, 0.035, 0.93, 0.93);
-        if (sectionsVisible) Helper.drawTimeSections(clock, sectionsAndAreasCtx, sections, size, 0.056, 0.056, 0.89, 0.89, 0.0395);
+        sectionsAndAreasLayer.setAreas(areas, areasVisible, highlightAreas);
+        sectionsAndAreasLayer.setSections(sections, sectionsVisible, highlightSections);
+        sectionsAndAreasLayer.redraw(clock, size);
 
         // Tick Marks
         tickCanvas.setCache(false);
@@ -474,7 +464,6 @@ public class DBClockSkin extends ClockSkinBase {
         Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
         text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
 
-        alarmPane.getChildren().setAll(alarmMap.values());
-        Helper.drawAlarms(clock, size, 0.02, 0.445, alarmMap, dateTimeFormatter, time);
+        alarmLayer.refresh(clock, size, 0.02, 0.445, dateTimeFormatter, time);
     }
 }
@@ -19,6 +19,7 @@ package eu.hansolo.medusa.skins;
 
 import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
+import eu.hansolo.medusa.tools.ClockTextRenderer;
 import eu.hansolo.medusa.tools.Helper;
 import javafx.geometry.Insets;
 import javafx.geometry.VPos;
@@ -33,6 +34,7 @@ import javafx.scene.layout.BorderWidths;
 import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 
 import java.time.ZonedDateTime;
@@ -50,16 +52,15 @@ public class DigitalClockSkin extends ClockSkinBase {
     protected static final double          MINIMUM_HEIGHT        = 20;
     protected static final double          MAXIMUM_WIDTH         = 1024;
     protected static final double          MAXIMUM_HEIGHT        = 1024;
-    private static final DateTimeFormatter HHMM_FORMATTER        = DateTimeFormatter.ofPattern("HH:mm");
-    private static final DateTimeFormatter HHMMSS_FORMATTER      = DateTimeFormatter.ofPattern("HH:mm:ss");
-    private static final DateTimeFormatter AMPM_HHMM_FORMATTER   = DateTimeFormatter.ofPattern("hh:mm a");
-    private static final DateTimeFormatter AMPM_HHMMSS_FORMATTER = DateTimeFormatter.ofPattern("hh:mm:ss a");
     private              double            aspectRatio           = 0.4;
     private              double            width;
     private              double            height;
     private              double            centerX;
     private              double            centerY;
     private              DateTimeFormatter dateFormat;
+    private              ClockTextRenderer textRenderer;
+    private              Font              timeFont;
+    private              Font              dateFont;
     private              Pane              pane;
     private              Canvas            canvas;
     private              GraphicsContext   ctx;
@@ -75,6 +76,7 @@ public class DigitalClockSkin extends ClockSkinBase {
         dateColor  = clock.getDateColor();
         alarmColor = clock.getAlarmColor();
         dateFormat = Helper.getDateFormat(clock.getLocale());
+        textRenderer = new ClockTextRenderer(clock.isSecondsVisible(), Locale.US == clock.getLocale());
 
         initGraphics();
         registerListeners();
@@ -121,27 +123,36 @@ public class DigitalClockSkin extends ClockSkinBase {
 
     // ******************** Canvas ********************************************
     private void drawTime(final ZonedDateTime TIME) {
+        boolean textVisible = clock.isTextVisible();
+        boolean dateVisible = clock.isDateVisible();
+        boolean isUS        = Locale.US == clock.getLocale();
+
+        // only redraw if the visible text changed
+        textRenderer.setFormat(clock.isSecondsVisible(), isUS);
+        boolean timeChanged = textVisible && textRenderer.updateTime(TIME);
+        boolean dateChanged = dateVisible && textRenderer.updateDate(TIME, dateFormat);
+        if (!timeChanged && !dateChanged) { return; }
+
         ctx.clearRect(0, 0, width, height);
 
         // draw the time
-        if (clock.isTextVisible()) {
+        if (textVisible) {
             ctx.setFill(textColor);
             ctx.setTextBaseline(VPos.CENTER);
             ctx.setTextAlign(TextAlignment.CENTER);
-            if (Locale.US == clock.getLocale()) {
-                ctx.setFont(Fonts.digital(0.5 * height));
-                ctx.fillText(clock.isSecondsVisible() ? AMPM_HHMMSS_FORMATTER.format(TIME) : AMPM_HHMM_FORMATTER.format(TIME), centerX, clock.isDateVisible() ? height * 0.35 : centerY);
+            ctx.setFont(timeFont);
+            if (isUS) {
+                ctx.fillText(textRenderer.getTimeText(), centerX, dateVisible ? height * 0.35 : centerY);
             } else {
-                ctx.setFont(Fonts.digital(0.6 * height));
-                ctx.fillText(clock.isSecondsVisible() ? HHMMSS_FORMATTER.format(TIME) : HHMM_FORMATTER.format(TIME), centerX, clock.isDateVisible() ? height * 0.3 : centerY);
+                ctx.fillText(textRenderer.getTimeText(), centerX, dateVisible ? height * 0.3 : centerY);
             }
         }
 
         // draw the date
-        if (clock.isDateVisible()) {
+        if (dateVisible) {
             ctx.setFill(dateColor);
-            ctx.setFont(Fonts.digital(0.34 * height));
-            ctx.fillText(dateFormat.format(TIME), centerX, height * 0.77);
+            ctx.setFont(dateFont);
+            ctx.fillText(textRenderer.getDateText(), centerX, height * 0.77);
         }
 
         // draw the alarmOn icon
@@ -187,7 +198,13 @@ public class DigitalClockSkin extends ClockSkinBase {
         textColor  = clock.getTextColor();
         dateColor  = clock.getDateColor();
         alarmColor = clock.getAlarmColor();
+        dateFormat = Helper.getDateFormat(clock.getLocale());
 
+        timeFont   = Locale.US == clock.getLocale() ? Fonts.digital(0.5 * height) : Fonts.digital(0.6 * height);
+        dateFont   = Fonts.digital(0.34 * height);
+
+        ctx.clearRect(0, 0, width, height);
+        textRenderer.reset();
         drawTime(time);
     }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelOrientation;
+import eu.hansolo.medusa.export.SvgExporter;
 import eu.hansolo.medusa.tools.Helper;
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -129,6 +130,7 @@ public class DigitalSkin extends GaugeSkinBase {
         
         barCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
         barCtx    = barCanvas.getGraphicsContext2D();
+        SvgExporter.markDynamic(barCanvas);
 
         valueBkgText = new Text();
         valueBkgText.setStroke(null);
@@ -17,12 +17,13 @@
  */
 package eu.hansolo.medusa.skins;
 
-import eu.hansolo.medusa.Alarm;
 import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.TickLabelOrientation;
 import eu.hansolo.medusa.TimeSection;
+import eu.hansolo.medusa.tools.AlarmMarkerLayer;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.TimeSectionLayer;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
 import javafx.geometry.VPos;
@@ -41,7 +42,6 @@ import javafx.scene.layout.BorderWidths;
 import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
 import javafx.scene.shape.ClosePath;
 import javafx.scene.shape.CubicCurveTo;
 import javafx.scene.shape.FillRule;
@@ -57,8 +57,6 @@ import javafx.scene.transform.Rotate;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -66,12 +64,11 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class FatClockSkin extends ClockSkinBase {
     private static final DateTimeFormatter  TIME_FORMATTER    = DateTimeFormatter.ofPattern("HH:mm");
-    private              Map<Alarm, Circle> alarmMap          = new ConcurrentHashMap<>();
+    private              AlarmMarkerLayer   alarmLayer        = new AlarmMarkerLayer();
     private              DateTimeFormatter  dateTimeFormatter;
     private              DateTimeFormatter  dateFormatter;
     private              double             size;
-    private              Canvas             sectionsAndAreasCanvas;
-    private              GraphicsContext    sectionsAndAreasCtx;
+    private              TimeSectionLayer   sectionsAndAreasLayer;
     private              Canvas             tickCanvas;
     private              GraphicsContext    tickCtx;
     private              Path               hour;
@@ -80,7 +77,6 @@ public class FatClockSkin extends ClockSkinBase {
     private              Text               dateText;
     private              Text               text;
     private              Pane               pane;
-    private              Pane               alarmPane;
     private              Rotate             hourRotate;
     private              Rotate             minuteRotate;
     private              Group              shadowGroup;
@@ -132,14 +128,13 @@ public class FatClockSkin extends ClockSkinBase {
             }
         }
 
-        sectionsAndAreasCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
-        sectionsAndAreasCtx    = sectionsAndAreasCanvas.getGraphicsContext2D();
+        sectionsAndAreasLayer = new TimeSectionLayer();
+        sectionsAndAreasLayer.setAreaGeometry(0.0, 0.0, 1.0, 1.0);
+        sectionsAndAreasLayer.setSectionGeometry(0.0275, 0.0275, 0.945, 0.945, 0.055);
 
         tickCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
         tickCtx    = tickCanvas.getGraphicsContext2D();
 
-        alarmPane = new Pane();
-
         hour  = new Path();
         hour.setFillRule(FillRule.EVEN_ODD);
         hour.setStroke(null);
@@ -173,7 +168,7 @@ public class FatClockSkin extends ClockSkinBase {
         text.setVisible(clock.isTextVisible());
         text.setManaged(clock.isTextVisible());
 
-        pane = new Pane(sectionsAndAreasCanvas, tickCanvas, alarmPane, title, dateText, text, shadowGroup);
+        pane = new Pane(sectionsAndAreasLayer, tickCanvas, alarmLayer, title, dateText, text, shadowGroup);
         pane.setBorder(new Border(new BorderStroke(clock.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(1024), new BorderWidths(clock.getBorderWidth()))));
         pane.setBackground(new Background(new BackgroundFill(clock.getBackgroundPaint(), new CornerRadii(1024), Insets.EMPTY)));
 
@@ -335,19 +330,14 @@ public class FatClockSkin extends ClockSkinBase {
         }
 
         // Show all alarms within the next hour
-        if (TIME.getMinute() == 0 && TIME.getSecond() == 0) Helper.drawAlarms(clock, size, 0.015, 0.485, alarmMap, dateTimeFormatter, TIME);
+        if (TIME.getMinute() == 0 && TIME.getSecond() == 0) alarmLayer.update(clock, size, 0.015, 0.485, dateTimeFormatter, TIME);
 
         // Highlight Areas and Sections
-        if (highlightAreas | highlightSections) {
-            sectionsAndAreasCtx.clearRect(0, 0, size, size);
-            if (areasVisible) Helper.drawTimeAreas(clock, sectionsAndAreasCtx, areas, size, 0.0, 0.0, 1.0, 1.0);
-            if (sectionsVisible) Helper.drawTimeSections(clock, sectionsAndAreasCtx, sections, size, 0.0275, 0.0275, 0.945, 0.945, 0.055);
-        }
+        sectionsAndAreasLayer.update(TIME);
     }
 
     @Override public void updateAlarms() {
-        alarmMap.clear();
-        for (Alarm alarm : clock.getAlarms()) { alarmMap.put(alarm, new Circle()); }
+        alarmLayer.setAlarms(clock.getAlarms());
     }
 
 
@@ -366,13 +356,12 @@ public class FatClockSkin extends ClockSkinBase {
             dropShadow.setRadius(0.008 * size);
             dropShadow.setOffsetY(0.008 * size);
 
-            sectionsAndAreasCanvas.setWidth(size);
-            sectionsAndAreasCanvas.setHeight(size);
+            sectionsAndAreasLayer.setPrefSize(size, size);
 
             tickCanvas.setWidth(size);
             tickCanvas.setHeight(size);
 
-            alarmPane.setMaxSize(size, size);
+            alarmLayer.setMaxSize(size, size);
 
             createHourPointer();
             hour.setFill(clock.getHourColor());
@@ -414,9 +403,9 @@ public class FatClockSkin extends ClockSkinBase {
         shadowGroup.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
 
         // Areas, Sections
-        sectionsAndAreasCtx.clearRect(0, 0, size, size);
-        if (areasVisible) Helper.drawTimeAreas(clock, sectionsAndAreasCtx, areas, size, 0.0, 0.0, 1.0, 1.0);
-        if (sectionsVisible) Helper.drawTimeSections(clock, sectionsAndAreasCtx, sections, size, 0.0275, 0.0275, 0.945, 0.945, 0.055);
+        sectionsAndAreasLayer.setAreas(areas, areasVisible, highlightAreas);
+        sectionsAndAreasLayer.setSections(sections, sectionsVisible, highlightSections);
+        sectionsAndAreasLayer.redraw(clock, size);
 
         // Tick Marks
         tickCanvas.setCache(false);
@@ -440,8 +429,7 @@ public class FatClockSkin extends ClockSkinBase {
         Helper.adjustTextSize(dateText, 0.3 * size, size * 0.05);
         dateText.relocate(((size * 0.5) - dateText.getLayoutBounds().getWidth()) * 0.5 + (size * 0.45), (size - dateText.getLayoutBounds().getHeight()) * 0.5);
 
-        alarmPane.getChildren().setAll(alarmMap.values());
-        Helper.drawAlarms(clock, size, 0.015, 0.485, alarmMap, dateTimeFormatter, time);
+        alarmLayer.refresh(clock, size, 0.015, 0.485, dateTimeFormatter, time);
 
 
     }
@@ -216,7 +216,7 @@ public class GaugeSkin extends GaugeSkinBase {
         lcd.setArcWidth(0.0125 * PREFERRED_HEIGHT);
         lcd.setArcHeight(0.0125 * PREFERRED_HEIGHT);
         lcd.relocate((PREFERRED_WIDTH - lcd.getWidth()) * 0.5, 0.44 * PREFERRED_HEIGHT);
-        Helper.enableNode(lcd, gauge.isLcdVisible() && gauge.isValueVisible());
+        Helper.enableNode(lcd, isLcdShown() && gauge.isValueVisible());
 
         needleRotate = new Rotate(180 - startAngle);
         needleRotate.setAngle(needleRotate.getAngle() + (gauge.getValue() - oldValue - minValue) * angleStep);
@@ -241,7 +241,7 @@ public class GaugeSkin extends GaugeSkinBase {
         dropShadow.setOffsetY(0.015 * PREFERRED_WIDTH);
 
         shadowGroup = new Group(needle, knobCanvas);
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        shadowGroup.setEffect(gauge.isShadowsEnabled() && !isReducedDetail() ? dropShadow : null);
 
         titleText = new Text(gauge.getTitle());
         titleText.setTextOrigin(VPos.CENTER);
@@ -323,25 +323,15 @@ public class GaugeSkin extends GaugeSkinBase {
                 drawAreasAndSections(sectionsAndAreasCtx);
             }
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
-            Helper.enableNode(ledCanvas, gauge.isLedVisible());
-            Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
-            Helper.enableNode(subTitleText, !gauge.getSubTitle().isEmpty());
-            Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
-            Helper.enableNode(valueText, gauge.isValueVisible());
-            Helper.enableNode(lcd, gauge.isLcdVisible() && gauge.isValueVisible());
-            Helper.enableNode(knobCanvas, gauge.isKnobVisible());
-            Helper.enableNode(threshold, gauge.isThresholdVisible());
-            Helper.enableNode(average, gauge.isAverageVisible());
+            updateNodeVisibility();
             sectionsVisible = gauge.getSectionsVisible();
             areasVisible    = gauge.getAreasVisible();
-            boolean markersVisible = gauge.getMarkersVisible();
-            for (Shape shape : markerMap.values()) { Helper.enableNode(shape, markersVisible); }
             resize();
             redraw();
         } else if ("LED".equals(EVENT_TYPE)) {
             if (gauge.isLedVisible()) { drawLed(); }
         } else if ("LCD".equals(EVENT_TYPE)) {
-            if (gauge.isLcdVisible()) redraw();
+            if (isLcdShown()) redraw();
         } else if ("RECALC".equals(EVENT_TYPE)) {
             startAngle = gauge.getStartAngle();
             angleRange = gauge.getAngleRange();
@@ -378,6 +368,10 @@ public class GaugeSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected double getLevelOfDetailThreshold() { return 120; }
+
+    @Override protected void onDetailLevelChanged() { updateNodeVisibility(); }
+
     public void handleMouseEvent(final MouseEvent EVENT) {
         if (gauge.isDisabled()) return;
         final EventType TYPE = EVENT.getEventType();
@@ -402,6 +396,23 @@ public class GaugeSkin extends GaugeSkinBase {
 
 
     // ******************** Private Methods ***********************************
+    private boolean isLcdShown() { return gauge.isLcdVisible() && !isReducedDetail(); }
+
+    private void updateNodeVisibility() {
+        boolean fullDetail = !isReducedDetail();
+        Helper.enableNode(ledCanvas, gauge.isLedVisible());
+        Helper.enableNode(titleText, fullDetail && !gauge.getTitle().isEmpty());
+        Helper.enableNode(subTitleText, fullDetail && !gauge.getSubTitle().isEmpty());
+        Helper.enableNode(unitText, fullDetail && !gauge.getUnit().isEmpty());
+        Helper.enableNode(valueText, gauge.isValueVisible());
+        Helper.enableNode(lcd, isLcdShown() && gauge.isValueVisible());
+        Helper.enableNode(knobCanvas, gauge.isKnobVisible());
+        Helper.enableNode(threshold, gauge.isThresholdVisible());
+        Helper.enableNode(average, gauge.isAverageVisible());
+        boolean markersVisible = fullDetail && gauge.getMarkersVisible();
+        for (Shape shape : markerMap.values()) { Helper.enableNode(shape, markersVisible); }
+    }
+
     private void rotateNeedle(double value) {
         double startOffsetAngle = 180 - startAngle;
         double targetAngle;
@@ -427,7 +438,7 @@ public class GaugeSkin extends GaugeSkinBase {
 
         needleRotate.setAngle(targetAngle);
         valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), value));
-        if (gauge.isLcdVisible()) {
+        if (isLcdShown()) {
             valueText.setTranslateX((0.691 * size - valueText.getLayoutBounds().getWidth()));
         } else {
             valueText.setTranslateX((size - valueText.getLayoutBounds().getWidth()) * 0.5);
@@ -578,7 +589,7 @@ public class GaugeSkin extends GaugeSkinBase {
         double         centerX        = size * 0.5;
         double         centerY        = size * 0.5;
         ScaleDirection scaleDirection = gauge.getScaleDirection();
-        if (gauge.getMarkersVisible()) {
+        if (gauge.getMarkersVisible() && !isReducedDetail()) {
 
             for (Map.Entry<Marker, Shape> entry : markerMap.entrySet()) {
                 Marker marker = entry.getKey();
@@ -1002,7 +1013,7 @@ public class GaugeSkin extends GaugeSkinBase {
             backgroundInnerShadow.setOffsetY(size * 0.03);
             backgroundInnerShadow.setRadius(size * 0.04);
 
-            pane.setEffect(gauge.isInnerShadowEnabled() ? backgroundInnerShadow : null);
+            pane.setEffect(gauge.isInnerShadowEnabled() && !isReducedDetail() ? backgroundInnerShadow : null);
 
             sectionsAndAreasCanvas.setWidth(size);
             sectionsAndAreasCanvas.setHeight(size);
@@ -1012,18 +1023,18 @@ public class GaugeSkin extends GaugeSkinBase {
 
             markerPane.setPrefSize(size, size);
 
-            boolean isFlatLed = LedType.FLAT == gauge.getLedType();
+            boolean noLedShadow = LedType.FLAT == gauge.getLedType() || isReducedDetail();
             ledSize = 0.07 * size;
             ledCanvas.setWidth(ledSize);
             ledCanvas.setHeight(ledSize);
             ledCanvas.relocate(0.3 * size, 0.47 * size);
-            ledOffShadow = isFlatLed ? null : new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.65), 0.07 * ledSize, 0, 0, 0);
-            ledOnShadow  = isFlatLed ? null : new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.65), 0.07 * ledSize, 0, 0, 0);
-            if (!isFlatLed) ledOnShadow.setInput(new DropShadow(BlurType.TWO_PASS_BOX, gauge.getLedColor(), 0.36 * ledSize, 0, 0, 0));
+            ledOffShadow = noLedShadow ? null : new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.65), 0.07 * ledSize, 0, 0, 0);
+            ledOnShadow  = noLedShadow ? null : new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.65), 0.07 * ledSize, 0, 0, 0);
+            if (!noLedShadow) ledOnShadow.setInput(new DropShadow(BlurType.TWO_PASS_BOX, gauge.getLedColor(), 0.36 * ledSize, 0, 0, 0));
 
             resizeText();
 
-            if (gauge.isLcdVisible()) {
+            if (isLcdShown()) {
                 lcd.setWidth(0.4 * size);
                 lcd.setHeight(0.114 * size);
                 lcd.setArcWidth(0.0125 * size);
@@ -1073,7 +1084,7 @@ public class GaugeSkin extends GaugeSkinBase {
     @Override protected void redraw() {
         locale       = gauge.getLocale();
         formatString = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        shadowGroup.setEffect(gauge.isShadowsEnabled() && !isReducedDetail() ? dropShadow : null);
 
         // Background stroke and fill
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(1024), new BorderWidths(gauge.getBorderWidth() / PREFERRED_WIDTH * size))));
@@ -1092,7 +1103,7 @@ public class GaugeSkin extends GaugeSkinBase {
         if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) {
             drawGradientBar();
         }
-        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, size * 0.5, size * 0.5, size);
+        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, size * 0.5, size * 0.5, size, isReducedDetail());
         tickMarkCanvas.setCache(true);
         tickMarkCanvas.setCacheHint(CacheHint.QUALITY);
 
@@ -1151,7 +1162,7 @@ public class GaugeSkin extends GaugeSkinBase {
         // LCD
         LcdDesign lcdDesign = gauge.getLcdDesign();
         Color[]   lcdColors = lcdDesign.getColors();
-        if (gauge.isLcdVisible() && gauge.isValueVisible()) {
+        if (isLcdShown() && gauge.isValueVisible()) {
             LinearGradient lcdGradient = new LinearGradient(0, 1, 0, lcd.getHeight() - 1,
                                                             false, CycleMethod.NO_CYCLE,
                                                             new Stop(0, lcdColors[0]),
@@ -1178,7 +1189,7 @@ public class GaugeSkin extends GaugeSkinBase {
         titleText.setFill(gauge.getTitleColor());
         unitText.setFill(gauge.getUnitColor());
         subTitleText.setFill(gauge.getSubTitleColor());
-        valueText.setFill(gauge.isLcdVisible() ? lcdColors[5] : gauge.getValueColor());
+        valueText.setFill(isLcdShown() ? lcdColors[5] : gauge.getValueColor());
         resizeText();
 
         // Needle
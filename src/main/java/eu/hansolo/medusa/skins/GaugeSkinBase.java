@@ -18,7 +18,12 @@
 package eu.hansolo.medusa.skins;
 
 import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.events.UpdateEvent.EventType;
 import eu.hansolo.medusa.events.UpdateEventListener;
+import eu.hansolo.medusa.jfr.FlightRecorderEvents;
+import eu.hansolo.medusa.tools.Instrumentation;
+import eu.hansolo.medusa.tools.SkinMetrics;
+import eu.hansolo.medusa.tools.UpdateScheduler;
 import javafx.beans.InvalidationListener;
 import javafx.scene.control.Skin;
 import javafx.scene.control.SkinBase;
@@ -34,16 +39,24 @@ public abstract class GaugeSkinBase extends SkinBase<Gauge> implements Skin<Gaug
     protected static final double             MINIMUM_HEIGHT   = 50;
     protected static final double             MAXIMUM_WIDTH    = 1024;
     protected static final double             MAXIMUM_HEIGHT   = 1024;
-    protected Gauge                gauge;
-    protected InvalidationListener sizeListener;
-    protected UpdateEventListener  updateEventListener;
+    private   static       boolean            levelOfDetailEnabled = true;
+    protected Gauge                  gauge;
+    protected InvalidationListener   sizeListener;
+    protected UpdateEventListener    updateEventListener;
+    private   UpdateScheduler.Client scheduler;
+    private   boolean                reducedDetail;
+    private   SkinMetrics            metrics;
 
 
     protected GaugeSkinBase(final Gauge GAUGE) {
         super(GAUGE);
         gauge               = GAUGE;
-        sizeListener        = o -> handleEvents("RESIZE");
-        updateEventListener = e -> handleEvents(e.eventType.name());
+        sizeListener        = o -> dispatch("RESIZE");
+        scheduler           = UpdateScheduler.register(GAUGE, this::dispatch);
+        updateEventListener = e -> {
+            if (Instrumentation.isEnabled()) { getMetrics().countEvent(e.eventType); }
+            if (!scheduler.schedule(e.eventType) && Instrumentation.isEnabled()) { getMetrics().countCoalescedUpdate(); }
+        };
     }
 
     protected void registerListeners() {
@@ -54,11 +67,46 @@ public abstract class GaugeSkinBase extends SkinBase<Gauge> implements Skin<Gaug
 
     protected void handleEvents(final String EVENT_TYPE) {
         if ("RESIZE".equals(EVENT_TYPE)) {
+            updateDetailLevel();
+            measuredResize();
+            measuredRedraw();
+        } else if ("REDRAW".equals(EVENT_TYPE)) {
+            measuredRedraw();
+        }
+    }
+
+    private void dispatch(final String EVENT_TYPE) {
+        if (!Instrumentation.isEnabled()) {
+            handleEvents(EVENT_TYPE);
+            return;
+        }
+        final long START = System.nanoTime();
+        handleEvents(EVENT_TYPE);
+        getMetrics().recordHandleEvents(EventType.valueOf(EVENT_TYPE), System.nanoTime() - START);
+    }
+
+    private void measuredResize() {
+        final Object EVENT = FlightRecorderEvents.beginResize(gauge);
+        if (Instrumentation.isEnabled()) {
+            final long START = System.nanoTime();
+            resize();
+            getMetrics().recordResize(System.nanoTime() - START);
+        } else {
             resize();
+        }
+        FlightRecorderEvents.commit(EVENT);
+    }
+
+    private void measuredRedraw() {
+        final Object EVENT = FlightRecorderEvents.beginRedraw(gauge);
+        if (Instrumentation.isEnabled()) {
+            final long START = System.nanoTime();
             redraw();
-        } else if ("REDRAW".equals(EVENT_TYPE)) {
+            getMetrics().recordRedraw(System.nanoTime() - START);
+        } else {
             redraw();
         }
+        FlightRecorderEvents.commit(EVENT);
     }
 
 
@@ -74,9 +122,75 @@ public abstract class GaugeSkinBase extends SkinBase<Gauge> implements Skin<Gaug
         gauge.widthProperty().removeListener(sizeListener);
         gauge.heightProperty().removeListener(sizeListener);
         gauge.removeUpdateEventListener(updateEventListener);
+        scheduler.cancel();
+        Instrumentation.unregister(metrics);
     }
 
     protected void resize() {}
 
+    /**
+     * Handles the events of this skin that were deferred by the
+     * UpdateScheduler immediately.
+     */
+    public void flushUpdates() { scheduler.flush(); }
+
+    /**
+     * Returns the metrics of this skin which will be created when the
+     * Instrumentation is enabled.
+     *
+     * @return the metrics of this skin or null if the instrumentation was never enabled
+     */
+    public SkinMetrics getMetrics() {
+        if (null == metrics && Instrumentation.isEnabled()) { metrics = Instrumentation.register(gauge, this); }
+        return metrics;
+    }
+
+    /**
+     * Returns true if small skins should automatically reduce their level of
+     * detail (no shadows, effects, medium/minor tick marks and tick labels).
+     *
+     * @return true if the level of detail will be reduced for small skins
+     */
+    public static boolean isLevelOfDetailEnabled() { return levelOfDetailEnabled; }
+    /**
+     * Defines if small skins should automatically reduce their level of
+     * detail. The change will be applied on the next resize of a skin.
+     *
+     * @param ENABLED true to reduce the level of detail of skins below their size threshold
+     */
+    public static void setLevelOfDetailEnabled(final boolean ENABLED) { levelOfDetailEnabled = ENABLED; }
+
+    /**
+     * Returns the size in pixels below which the skin renders with reduced
+     * level of detail. Skins that support a reduced level of detail override
+     * this method, the default of 0 means the skin always renders all details.
+     *
+     * @return the size in pixels below which the level of detail is reduced
+     */
+    protected double getLevelOfDetailThreshold() { return 0; }
+
+    /**
+     * @return true if the skin currently renders with reduced level of detail
+     */
+    protected boolean isReducedDetail() { return reducedDetail; }
+
+    /**
+     * Will be called before resize() and redraw() if the level of detail
+     * changed. Skins should show or hide the nodes that are not part of the
+     * reduced node graph here, effects and canvas content will be updated
+     * in resize() and redraw().
+     */
+    protected void onDetailLevelChanged() {}
+
+    private void updateDetailLevel() {
+        double  width   = gauge.getWidth() - gauge.getInsets().getLeft() - gauge.getInsets().getRight();
+        double  height  = gauge.getHeight() - gauge.getInsets().getTop() - gauge.getInsets().getBottom();
+        double  size    = width < height ? width : height;
+        boolean reduced = levelOfDetailEnabled && size > 0 && size < getLevelOfDetailThreshold();
+        if (reduced == reducedDetail) { return; }
+        reducedDetail = reduced;
+        onDetailLevelChanged();
+    }
+
     protected void redraw() {}
 }
@@ -17,11 +17,12 @@
  */
 package eu.hansolo.medusa.skins;
 
-import eu.hansolo.medusa.Alarm;
 import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.TimeSection;
+import eu.hansolo.medusa.tools.AlarmMarkerLayer;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.TimeSectionLayer;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
 import javafx.scene.CacheHint;
@@ -54,8 +55,6 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -64,12 +63,11 @@ import java.util.concurrent.ConcurrentHashMap;
 public class IndustrialClockSkin extends ClockSkinBase {
     private static final DateTimeFormatter  DATE_NUMBER_FORMATTER = DateTimeFormatter.ofPattern("d");
     private static final DateTimeFormatter  TIME_FORMATTER        = DateTimeFormatter.ofPattern("HH:mm");
-    private              Map<Alarm, Circle> alarmMap              = new ConcurrentHashMap<>();
+    private              AlarmMarkerLayer   alarmLayer            = new AlarmMarkerLayer();
     private              DateTimeFormatter  dateTimeFormatter;
     private              DateTimeFormatter  dateTextFormatter;
     private              double             size;
-    private              Canvas             sectionsAndAreasCanvas;
-    private              GraphicsContext    sectionsAndAreasCtx;
+    private              TimeSectionLayer   sectionsAndAreasLayer;
     private              Canvas             tickCanvas;
     private              GraphicsContext    tickCtx;
     private              Path               hour;
@@ -81,7 +79,6 @@ public class IndustrialClockSkin extends ClockSkinBase {
     private              Text               text;
     private              Circle             centerDot;
     private              Pane               pane;
-    private              Pane               alarmPane;
     private              Rotate             hourRotate;
     private              Rotate             minuteRotate;
     private              Rotate             secondRotate;
@@ -137,14 +134,13 @@ public class IndustrialClockSkin extends ClockSkinBase {
             }
         }
 
-        sectionsAndAreasCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
-        sectionsAndAreasCtx    = sectionsAndAreasCanvas.getGraphicsContext2D();
+        sectionsAndAreasLayer = new TimeSectionLayer();
+        sectionsAndAreasLayer.setAreaGeometry(0, 0, 1, 1);
+        sectionsAndAreasLayer.setSectionGeometry(0.02, 0.02, 0.96, 0.96, 0.04);
 
         tickCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
         tickCtx    = tickCanvas.getGraphicsContext2D();
 
-        alarmPane = new Pane();
-
         hour  = new Path();
         hour.setFillRule(FillRule.EVEN_ODD);
         hour.setStroke(null);
@@ -195,7 +191,7 @@ public class IndustrialClockSkin extends ClockSkinBase {
         text.setVisible(clock.isTextVisible());
         text.setManaged(clock.isTextVisible());
 
-        pane = new Pane(sectionsAndAreasCanvas, tickCanvas, alarmPane, title, dateText, dateNumber, text, shadowGroupMinute, shadowGroupHour, shadowGroupSecond, centerDot);
+        pane = new Pane(sectionsAndAreasLayer, tickCanvas, alarmLayer, title, dateText, dateNumber, text, shadowGroupMinute, shadowGroupHour, shadowGroupSecond, centerDot);
         pane.setBorder(new Border(new BorderStroke(clock.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(1024), new BorderWidths(clock.getBorderWidth()))));
         pane.setBackground(new Background(new BackgroundFill(clock.getBackgroundPaint(), new CornerRadii(1024), Insets.EMPTY)));
 
@@ -462,19 +458,14 @@ public class IndustrialClockSkin extends ClockSkinBase {
         }
 
         // Show all alarms within the next hour
-        if (TIME.getMinute() == 0 && TIME.getSecond() == 0) Helper.drawAlarms(clock, size, 0.0225, 0.4775, alarmMap, dateTimeFormatter, TIME);;
+        if (TIME.getMinute() == 0 && TIME.getSecond() == 0) alarmLayer.update(clock, size, 0.0225, 0.4775, dateTimeFormatter, TIME);
 
         // Highlight Areas and Sections
-        if (highlightAreas | highlightSections) {
-            sectionsAndAreasCtx.clearRect(0, 0, size, size);
-            if (areasVisible) Helper.drawTimeAreas(clock, sectionsAndAreasCtx, areas, size, 0, 0, 1, 1);
-            if (sectionsVisible) Helper.drawTimeSections(clock, sectionsAndAreasCtx, sections, size, 0.02, 0.02, 0.96, 0.96, 0.04);
-        }
+        sectionsAndAreasLayer.update(TIME);
     }
 
     @Override public void updateAlarms() {
-        alarmMap.clear();
-        for (Alarm alarm : clock.getAlarms()) { alarmMap.put(alarm, new Circle()); }
+        alarmLayer.setAlarms(clock.getAlarms());
     }
 
 
@@ -493,13 +484,12 @@ public class IndustrialClockSkin extends ClockSkinBase {
             dropShadow.setRadius(0.012 * size);
             dropShadow.setOffsetY(0.012 * size);
 
-            sectionsAndAreasCanvas.setWidth(size);
-            sectionsAndAreasCanvas.setHeight(size);
+            sectionsAndAreasLayer.setPrefSize(size, size);
 
             tickCanvas.setWidth(size);
             tickCanvas.setHeight(size);
 
-            alarmPane.setMaxSize(size, size);
+            alarmLayer.setMaxSize(size, size);
 
             createHourPointer();
             hour.setFill(clock.getHourColor());
@@ -559,9 +549,9 @@ public class IndustrialClockSkin extends ClockSkinBase {
         shadowGroupSecond.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
 
         // Areas, Sections
-        sectionsAndAreasCtx.clearRect(0, 0, size, size);
-        if (areasVisible) Helper.drawTimeAreas(clock, sectionsAndAreasCtx, areas, size, 0, 0, 1, 1);
-        if (sectionsVisible) Helper.drawTimeSections(clock, sectionsAndAreasCtx, sections, size, 0.02, 0.02, 0.96, 0.96, 0.04);
+        sectionsAndAreasLayer.setAreas(areas, areasVisible, highlightAreas);
+        sectionsAndAreasLayer.setSections(sections, sectionsVisible, highlightSections);
+        sectionsAndAreasLayer.redraw(clock, size);
 
         // Tick Marks
         tickCanvas.setCache(false);
@@ -589,7 +579,6 @@ public class IndustrialClockSkin extends ClockSkinBase {
         Helper.adjustTextSize(dateNumber, 0.3 * size, size * 0.05);
         dateNumber.relocate(((size * 0.5) - dateNumber.getLayoutBounds().getWidth()) * 0.5 + (size * 0.51), (size - dateNumber.getLayoutBounds().getHeight()) * 0.5);
 
-        alarmPane.getChildren().setAll(alarmMap.values());
-        Helper.drawAlarms(clock, size, 0.0225, 0.4775, alarmMap, dateTimeFormatter, time);
+        alarmLayer.refresh(clock, size, 0.0225, 0.4775, dateTimeFormatter, time);
     }
 }
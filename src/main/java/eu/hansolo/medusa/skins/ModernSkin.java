@@ -21,6 +21,7 @@ import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelOrientation;
+import eu.hansolo.medusa.export.SvgExporter;
 import eu.hansolo.medusa.tools.Helper;
 import java.math.BigDecimal;
 import java.util.List;
@@ -213,6 +214,7 @@ public class ModernSkin extends GaugeSkinBase {
 
         tickMarkCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
         tickMarkCtx    = tickMarkCanvas.getGraphicsContext2D();
+        SvgExporter.markDynamic(tickMarkCanvas);
 
         centerKnob = new Circle(0.5 * PREFERRED_WIDTH, 0.5 * PREFERRED_HEIGHT, 0.22916667 * PREFERRED_WIDTH);
         centerKnob.setPickOnBounds(false);
@@ -274,10 +276,7 @@ public class ModernSkin extends GaugeSkinBase {
     @Override protected void handleEvents(final String EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
         if ("VISIBILITY".equals(EVENT_TYPE)) {
-            Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
-            Helper.enableNode(subTitleText, !gauge.getSubTitle().isEmpty());
-            Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
-            Helper.enableNode(valueText, gauge.isValueVisible());
+            updateNodeVisibility();
             sectionsVisible = gauge.getSectionsVisible();
             redraw();
         } else if ("RECALC".equals(EVENT_TYPE)) {
@@ -301,6 +300,13 @@ public class ModernSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected double getLevelOfDetailThreshold() { return 100; }
+
+    @Override protected void onDetailLevelChanged() {
+        updateNodeVisibility();
+        updateEffects();
+    }
+
     public void handleMouseEvent(final MouseEvent EVENT) {
         if (gauge.isDisabled()) return;
         final EventType TYPE = EVENT.getEventType();
@@ -340,6 +346,26 @@ public class ModernSkin extends GaugeSkinBase {
 
 
     // ******************** Private Methods ***********************************
+    private void updateNodeVisibility() {
+        boolean fullDetail = !isReducedDetail();
+        Helper.enableNode(titleText, fullDetail && !gauge.getTitle().isEmpty());
+        Helper.enableNode(subTitleText, fullDetail && !gauge.getSubTitle().isEmpty());
+        Helper.enableNode(unitText, fullDetail && !gauge.getUnit().isEmpty());
+        Helper.enableNode(valueText, gauge.isValueVisible());
+    }
+
+    private void updateEffects() {
+        boolean fullDetail = !isReducedDetail();
+        background.setEffect(fullDetail ? innerShadow1 : null);
+        mask.setEffect(fullDetail ? dropShadow4 : null);
+        needle.setEffect(fullDetail ? glow1 : null);
+        centerKnob.setEffect(fullDetail ? dropShadow4 : null);
+        titleText.setEffect(fullDetail ? glow1 : null);
+        subTitleText.setEffect(fullDetail ? glow1 : null);
+        unitText.setEffect(fullDetail ? glow1 : null);
+        valueText.setEffect(fullDetail ? bigGlow : null);
+    }
+
     private void rotateNeedle(final double VALUE) {
         angleStep          = ANGLE_RANGE / gauge.getRange();
         double targetAngle = 180 - START_ANGLE + (VALUE - gauge.getMinValue()) * angleStep;
@@ -377,7 +403,7 @@ public class ModernSkin extends GaugeSkinBase {
         BigDecimal counterBD              = BigDecimal.valueOf(minValue);
         double     counter                = minValue;
         boolean    majorTickMarksVisible  = gauge.getMajorTickMarksVisible();
-        boolean    mediumTickMarksVisible = gauge.getMediumTickMarksVisible();
+        boolean    mediumTickMarksVisible = !isReducedDetail() && gauge.getMediumTickMarksVisible();
         double     threshold              = gauge.getThreshold();
         Color      tickMarkColor          = Color.TRANSPARENT;
         Color      highlightColor         = ( !gauge.isThresholdVisible() || CURRENT_VALUE <= gauge.getThreshold() ) ? barColor : thresholdColor;
@@ -440,7 +466,7 @@ public class ModernSkin extends GaugeSkinBase {
         double barWH = size * 0.75;
 
         CTX.save();
-        CTX.setEffect(glow2);
+        CTX.setEffect(isReducedDetail() ? null : glow2);
         CTX.setStroke(highlightColor);
         CTX.setLineWidth(size * 0.01666667);
         CTX.setLineCap(StrokeLineCap.BUTT);
@@ -568,8 +594,8 @@ public class ModernSkin extends GaugeSkinBase {
         BigDecimal           counterBD              = BigDecimal.valueOf(minValue);
         double               counter                = minValue;
         boolean              majorTickMarksVisible  = gauge.getMajorTickMarksVisible();
-        boolean              mediumTickMarksVisible = gauge.getMediumTickMarksVisible();
-        boolean              tickLabelsVisible      = gauge.getTickLabelsVisible();
+        boolean              mediumTickMarksVisible = !isReducedDetail() && gauge.getMediumTickMarksVisible();
+        boolean              tickLabelsVisible      = !isReducedDetail() && gauge.getTickLabelsVisible();
         TickLabelOrientation tickLabelOrientation   = gauge.getTickLabelOrientation();
         Color                tickMarkColor          = gauge.getTickMarkColor();
         Color                majorTickMarkColor     = tickMarkColor;
@@ -796,7 +822,7 @@ public class ModernSkin extends GaugeSkinBase {
                                                   false, CycleMethod.NO_CYCLE,
                                                   new Stop(0.0, Color.rgb(69,70,73)),
                                                   new Stop(1.0, Color.rgb(31,31,31))));
-            centerKnob.setEffect(dropShadow4);
+            centerKnob.setEffect(isReducedDetail() ? null : dropShadow4);
 
             glow1.setRadius(0.085 * size);
             glow2.setRadius(0.085 * size);
@@ -41,7 +41,6 @@ import javafx.scene.paint.RadialGradient;
 import javafx.scene.paint.Stop;
 
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
 
@@ -52,9 +51,14 @@ public class MorphingClockSkin extends ClockSkinBase {
     protected static final double            MINIMUM_HEIGHT        = 20;
     protected static final double            MAXIMUM_WIDTH         = 4096;
     protected static final double            MAXIMUM_HEIGHT        = 4096;
-    private   static final DateTimeFormatter HHMMSS_FORMATTER      = DateTimeFormatter.ofPattern("HH:mm:ss");
-    private   static final DateTimeFormatter AMPM_HHMMSS_FORMATTER = DateTimeFormatter.ofPattern("hh:mm:ss");
     private   static final long              INTERVAL              = 40_000_000l;
+    private   static final int               ROWS                  = 15;
+    private   static final int               COLS                  = 8;
+    private   static final int               STEPS                 = 8;
+    private   static final int[]             DIGIT_OFFSETS         = { 0, 1, 2, 3, 4, 5 };
+    private   static final int[]             SPACER_OFFSETS        = { 0, 1, 3, 4, 6, 7 };
+    private   static final long[][]          DIGITS                = new long[10][];       // [digit] -> dots of digit
+    private   static final long[][][]        TRANSITIONS           = new long[10][STEPS][]; // [digit][step] -> dots of transition to digit
     private                double            aspectRatio           = 0.26506024;
     private                double            width;
     private                double            height;
@@ -78,12 +82,8 @@ public class MorphingClockSkin extends ClockSkinBase {
     private                RadialGradient    minuteOffGradient;
     private                RadialGradient    secondGradient;
     private                RadialGradient    secondOffGradient;
-    private                int[][]           hl;
-    private                int[][]           hr;
-    private                int[][]           ml;
-    private                int[][]           mr;
-    private                int[][]           sl;
-    private                int[][]           sr;
+    private          final long[][]          matrices;      // dots that should be visible per digit
+    private          final long[][]          drawnMatrices; // dots that are visible on the canvas per digit
     private                int               oldHourLeft;
     private                int               oldHourRight;
     private                int               oldMinLeft;
@@ -100,6 +100,13 @@ public class MorphingClockSkin extends ClockSkinBase {
     private                long              lastTimerCall;
     private                AnimationTimer    timer;
 
+    static {
+        for (int digit = 0 ; digit < 10 ; digit++) {
+            DIGITS[digit] = toBits(updateArray(digit));
+            for (int step = 0 ; step < STEPS ; step++) { TRANSITIONS[digit][step] = toBits(animateArray(digit, step)); }
+        }
+    }
+
 
     // ******************** Constructors **************************************
     public MorphingClockSkin(Clock clock) {
@@ -110,12 +117,8 @@ public class MorphingClockSkin extends ClockSkinBase {
         minuteOffColor = Helper.getTranslucentColorFrom(minuteColor, 0.15);
         secondColor    = clock.getSecondColor();
         secondOffColor = Helper.getTranslucentColorFrom(secondColor, 0.15);
-        hl             = new int[15][8]; // hour left digit
-        hr             = new int[15][8]; // hour right digit
-        ml             = new int[15][8]; // minute left digit
-        mr             = new int[15][8]; // minute right digit
-        sl             = new int[15][8]; // second left digit
-        sr             = new int[15][8]; // second right digit
+        matrices       = new long[6][2]; // hour left, hour right, minute left, minute right, second left, second right
+        drawnMatrices  = new long[6][2];
         hourLeft       = 0;
         hourRight      = 0;
         minLeft        = 0;
@@ -127,15 +130,15 @@ public class MorphingClockSkin extends ClockSkinBase {
         timer          = new AnimationTimer() {
             @Override public void handle(final long now) {
                 if (now > lastTimerCall + INTERVAL) {
-                    if (hourLeft  != oldHourLeft)  hl = animateArray(hourLeft, step);
-                    if (hourRight != oldHourRight) hr = animateArray(hourRight, step);
-                    if (minLeft   != oldMinLeft)   ml = animateArray(minLeft, step);
-                    if (minRight  != oldMinRight)  mr = animateArray(minRight, step);
-                    if (secLeft   != oldSecLeft)   sl = animateArray(secLeft, step);
-                    if (secRight  != oldSecRight)  sr = animateArray(secRight, step);
+                    if (hourLeft  != oldHourLeft)  setMatrix(0, TRANSITIONS[hourLeft][step]);
+                    if (hourRight != oldHourRight) setMatrix(1, TRANSITIONS[hourRight][step]);
+                    if (minLeft   != oldMinLeft)   setMatrix(2, TRANSITIONS[minLeft][step]);
+                    if (minRight  != oldMinRight)  setMatrix(3, TRANSITIONS[minRight][step]);
+                    if (secLeft   != oldSecLeft)   setMatrix(4, TRANSITIONS[secLeft][step]);
+                    if (secRight  != oldSecRight)  setMatrix(5, TRANSITIONS[secRight][step]);
                     drawTime();
                     step++;
-                    if (step > 7) {
+                    if (step >= STEPS) {
                         step = 0;
                         updateArrays();
                         this.stop();
@@ -193,52 +196,82 @@ public class MorphingClockSkin extends ClockSkinBase {
 
 
     // ******************** Canvas ********************************************
+    /**
+     * Only draws the dots that changed since the last call
+     */
     private void drawTime() {
-        ctx.clearRect(0, 0, width, height);
-
-        // draw hours
-        drawMatrix(0, 0, hl, hourGradient, hourOffGradient);
-        drawMatrix(digitWidth + digitSpacer, 0, hr, hourGradient, hourOffGradient);
-
-        // draw colon
+        for (int digit = 0 ; digit < 6 ; digit++) {
+            long[] matrix = matrices[digit];
+            long[] drawn  = drawnMatrices[digit];
+            for (int word = 0 ; word < 2 ; word++) {
+                long dirty = matrix[word] ^ drawn[word];
+                while (dirty != 0) {
+                    int bit = Long.numberOfTrailingZeros(dirty);
+                    dirty &= dirty - 1;
+                    drawDot(digit, word * 64 + bit, (matrix[word] & (1L << bit)) != 0);
+                }
+                drawn[word] = matrix[word];
+            }
+        }
+    }
 
-        // draw minutes
-        drawMatrix(2 * digitWidth + 3 * digitSpacer, 0, ml, minuteGradient, minuteOffGradient);
-        drawMatrix(3 * digitWidth + 4 * digitSpacer, 0, mr, minuteGradient, minuteOffGradient);
+    private void drawAll() {
+        ctx.clearRect(0, 0, width, height);
+        for (int digit = 0 ; digit < 6 ; digit++) {
+            long[] matrix = matrices[digit];
+            for (int index = 0 ; index < ROWS * COLS ; index++) {
+                drawDot(digit, index, (matrix[index >>> 6] & (1L << index)) != 0);
+            }
+            drawnMatrices[digit][0] = matrix[0];
+            drawnMatrices[digit][1] = matrix[1];
+        }
+    }
 
-        // draw colon
+    private void drawDot(final int DIGIT, final int INDEX, final boolean ON) {
+        double x = DIGIT_OFFSETS[DIGIT] * digitWidth + SPACER_OFFSETS[DIGIT] * digitSpacer + (INDEX % COLS) * (dotSize + spacer);
+        double y = (INDEX / COLS) * (dotSize + spacer);
+        final Paint PAINT;
+        switch(DIGIT) {
+            case 0 :
+            case 1 : PAINT = ON ? hourGradient : hourOffGradient; break;
+            case 2 :
+            case 3 : PAINT = ON ? minuteGradient : minuteOffGradient; break;
+            default: PAINT = ON ? secondGradient : secondOffGradient; break;
+        }
+        // The off dots are translucent, clear the cell (incl. the antialiased border) before filling it
+        ctx.clearRect(x - spacer * 0.5, y - spacer * 0.5, dotSize + spacer, dotSize + spacer);
+        ctx.setFill(PAINT);
+        ctx.fillOval(x, y, dotSize, dotSize);
+    }
 
-        // draw seconds
-        drawMatrix(4 * digitWidth + 6 * digitSpacer, 0, sl, secondGradient, secondOffGradient);
-        drawMatrix(5 * digitWidth + 7 * digitSpacer, 0, sr, secondGradient, secondOffGradient);
+    private void setMatrix(final int DIGIT, final long[] BITS) {
+        matrices[DIGIT][0] = BITS[0];
+        matrices[DIGIT][1] = BITS[1];
     }
 
-    private void drawMatrix(final double X, final double Y, final int[][] MATRIX, final Paint ON_PAINT, final Paint OFF_PAINT) {
-        double  x;
-        double  y = Y;
-        boolean fill;
+    private void updateArrays() {
+        setMatrix(0, DIGITS[hourLeft]);
+        setMatrix(1, DIGITS[hourRight]);
+        setMatrix(2, DIGITS[minLeft]);
+        setMatrix(3, DIGITS[minRight]);
+        setMatrix(4, DIGITS[secLeft]);
+        setMatrix(5, DIGITS[secRight]);
+    }
 
-        for (int row = 0 ; row < 15 ; row++) {
-            x = X;
-            for (int col = 0; col < 8; col++) {
-                fill = MATRIX[row][col] == 1;
-                ctx.setFill(fill ? ON_PAINT : OFF_PAINT);
-                ctx.fillOval(x, y, dotSize, dotSize);
-                x = X + ((col + 1) * (dotSize + spacer));
+    private static long[] toBits(final int[][] MATRIX) {
+        long[] bits = new long[2];
+        for (int row = 0 ; row < ROWS ; row++) {
+            for (int col = 0 ; col < COLS ; col++) {
+                if (MATRIX[row][col] == 1) {
+                    int index = row * COLS + col;
+                    bits[index >>> 6] |= 1L << index;
+                }
             }
-            y = Y + ((row + 1) * (dotSize + spacer));
         }
+        return bits;
     }
 
-    private void updateArrays() {
-        hl = updateArray(hourLeft);
-        hr = updateArray(hourRight);
-        ml = updateArray(minLeft);
-        mr = updateArray(minRight);
-        sl = updateArray(secLeft);
-        sr = updateArray(secRight);
-    }
-    private int[][] updateArray(final int DIGIT) {
+    private static int[][] updateArray(final int DIGIT) {
         final int[][] ARRAY;
         switch(DIGIT) {
             case 0:
@@ -453,7 +486,7 @@ public class MorphingClockSkin extends ClockSkinBase {
         return ARRAY;
     }
 
-    private int[][] animateArray(final int DIGIT, final int STEP) {
+    private static int[][] animateArray(final int DIGIT, final int STEP) {
         // Call every 125 ms to get 8 positions in 1000 ms
         switch(DIGIT) {
             case 0: return toZero(STEP);
@@ -487,7 +520,7 @@ public class MorphingClockSkin extends ClockSkinBase {
         }
     }
 
-    private int[][] toZero(final int STEP) {
+    private static int[][] toZero(final int STEP) {
         final int[][] ARRAY;
         switch(STEP) {
             case 0:
@@ -663,7 +696,7 @@ public class MorphingClockSkin extends ClockSkinBase {
         }
         return ARRAY;
     }
-    private int[][] toOne(final int STEP) {
+    private static int[][] toOne(final int STEP) {
         final int[][] ARRAY;
         switch(STEP) {
             case 0:
@@ -839,7 +872,7 @@ public class MorphingClockSkin extends ClockSkinBase {
         }
         return ARRAY;
     }
-    private int[][] toTwo(final int STEP) {
+    private static int[][] toTwo(final int STEP) {
         final int[][] ARRAY;
         switch(STEP) {
             case 0:
@@ -1015,7 +1048,7 @@ public class MorphingClockSkin extends ClockSkinBase {
         }
         return ARRAY;
     }
-    private int[][] toThree(final int STEP) {
+    private static int[][] toThree(final int STEP) {
         final int[][] ARRAY;
         switch(STEP) {
             case 0:
@@ -1191,7 +1224,7 @@ public class MorphingClockSkin extends ClockSkinBase {
         }
         return ARRAY;
     }
-    private int[][] toFour(final int STEP) {
+    private static int[][] toFour(final int STEP) {
         final int[][] ARRAY;
         switch(STEP) {
             case 0:
@@ -1367,7 +1400,7 @@ public class MorphingClockSkin extends ClockSkinBase {
         }
         return ARRAY;
     }
-    private int[][] toFive(final int STEP) {
+    private static int[][] toFive(final int STEP) {
         final int[][] ARRAY;
         switch(STEP) {
             case 0:
@@ -1543,7 +1576,7 @@ public class MorphingClockSkin extends ClockSkinBase {
         }
         return ARRAY;
     }
-    private int[][] toSix(final int STEP) {
+    private static int[][] toSix(final int STEP) {
         final int[][] ARRAY;
         switch(STEP) {
             case 0:
@@ -1719,7 +1752,7 @@ public class MorphingClockSkin extends ClockSkinBase {
         }
         return ARRAY;
     }
-    private int[][] toSeven(final int STEP) {
+    private static int[][] toSeven(final int STEP) {
         final int[][] ARRAY;
         switch(STEP) {
             case 0:
@@ -1895,7 +1928,7 @@ public class MorphingClockSkin extends ClockSkinBase {
         }
         return ARRAY;
     }
-    private int[][] toEight(final int STEP) {
+    private static int[][] toEight(final int STEP) {
         final int[][] ARRAY;
         switch(STEP) {
             case 0:
@@ -2071,7 +2104,7 @@ public class MorphingClockSkin extends ClockSkinBase {
         }
         return ARRAY;
     }
-    private int[][] toNine(final int STEP) {
+    private static int[][] toNine(final int STEP) {
         final int[][] ARRAY;
         switch(STEP) {
             case 0:
@@ -2249,7 +2282,7 @@ public class MorphingClockSkin extends ClockSkinBase {
     }
 
     @Override public void updateTime(final ZonedDateTime TIME) {
-        String timeString = Locale.US == clock.getLocale() ? AMPM_HHMMSS_FORMATTER.format(TIME) : HHMMSS_FORMATTER.format(TIME);
+        int hour = Locale.US == clock.getLocale() ? (TIME.getHour() % 12 == 0 ? 12 : TIME.getHour() % 12) : TIME.getHour();
 
         oldHourLeft  = hourLeft;
         oldHourRight = hourRight;
@@ -2258,12 +2291,12 @@ public class MorphingClockSkin extends ClockSkinBase {
         oldSecLeft   = secLeft;
         oldSecRight  = secRight;
 
-        hourLeft  = Integer.parseInt(timeString.substring(0, 1));
-        hourRight = Integer.parseInt(timeString.substring(1, 2));
-        minLeft   = Integer.parseInt(timeString.substring(3, 4));
-        minRight  = Integer.parseInt(timeString.substring(4, 5));
-        secLeft   = Integer.parseInt(timeString.substring(6, 7));
-        secRight  = Integer.parseInt(timeString.substring(7, 8));
+        hourLeft  = hour / 10;
+        hourRight = hour % 10;
+        minLeft   = TIME.getMinute() / 10;
+        minRight  = TIME.getMinute() % 10;
+        secLeft   = TIME.getSecond() / 10;
+        secRight  = TIME.getSecond() % 10;
 
         timer.start();
     }
@@ -2357,6 +2390,6 @@ public class MorphingClockSkin extends ClockSkinBase {
                                                new Stop(0.48, secondOffColor.darker().darker().darker()),
                                                new Stop(0.50, secondOffColor.darker().darker().darker().darker()));
 
-        drawTime();
+        drawAll();
     }
 }
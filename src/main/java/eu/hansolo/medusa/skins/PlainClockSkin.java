@@ -17,11 +17,12 @@
  */
 package eu.hansolo.medusa.skins;
 
-import eu.hansolo.medusa.Alarm;
 import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.TimeSection;
+import eu.hansolo.medusa.tools.AlarmMarkerLayer;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.TimeSectionLayer;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
 import javafx.scene.CacheHint;
@@ -57,8 +58,6 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -68,10 +67,9 @@ public class PlainClockSkin extends ClockSkinBase {
     private static final DateTimeFormatter         DATE_TIME_FORMATTER  = DateTimeFormatter.ofPattern("EEEE\ndd.MM.YYYY\nHH:mm:ss");
     private static final DateTimeFormatter         DATE_NUMBER_FORMATER = DateTimeFormatter.ofPattern("d");
     private static final DateTimeFormatter         TIME_FORMATTER       = DateTimeFormatter.ofPattern("HH:mm");
-    private              Map<Alarm, Circle>        alarmMap             = new ConcurrentHashMap<>();
+    private              AlarmMarkerLayer          alarmLayer           = new AlarmMarkerLayer();
     private              double                    size;
-    private              Canvas                    sectionsAndAreasCanvas;
-    private              GraphicsContext           sectionsAndAreasCtx;
+    private              TimeSectionLayer          sectionsAndAreasLayer;
     private              Canvas                    tickCanvas;
     private              GraphicsContext           tickCtx;
     private              Path                      hour;
@@ -82,7 +80,6 @@ public class PlainClockSkin extends ClockSkinBase {
     private              Text                      dateNumber;
     private              Text                      text;
     private              Pane                      pane;
-    private              Pane                      alarmPane;
     private              Rotate                    hourRotate;
     private              Rotate                    minuteRotate;
     private              Rotate                    secondRotate;
@@ -135,14 +132,13 @@ public class PlainClockSkin extends ClockSkinBase {
             }
         }
 
-        sectionsAndAreasCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
-        sectionsAndAreasCtx    = sectionsAndAreasCanvas.getGraphicsContext2D();
+        sectionsAndAreasLayer = new TimeSectionLayer();
+        sectionsAndAreasLayer.setAreaGeometry(0.025, 0.025, 0.95, 0.95);
+        sectionsAndAreasLayer.setSectionGeometry(0.06, 0.06, 0.88, 0.88, 0.07);
 
         tickCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
         tickCtx    = tickCanvas.getGraphicsContext2D();
 
-        alarmPane = new Pane();
-
         hour  = new Path();
         hour.setFillRule(FillRule.EVEN_ODD);
         hour.setStroke(null);
@@ -189,7 +185,7 @@ public class PlainClockSkin extends ClockSkinBase {
         text.setVisible(clock.isTextVisible());
         text.setManaged(clock.isTextVisible());
 
-        pane = new Pane(sectionsAndAreasCanvas, tickCanvas, alarmPane, title, dateNumber, text, shadowGroupHour, shadowGroupMinute, shadowGroupSecond);
+        pane = new Pane(sectionsAndAreasLayer, tickCanvas, alarmLayer, title, dateNumber, text, shadowGroupHour, shadowGroupMinute, shadowGroupSecond);
         pane.setBorder(new Border(new BorderStroke(clock.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(1024), new BorderWidths(clock.getBorderWidth()))));
         pane.setBackground(new Background(new BackgroundFill(clock.getBackgroundPaint(), new CornerRadii(1024), Insets.EMPTY)));
 
@@ -399,8 +395,7 @@ public class PlainClockSkin extends ClockSkinBase {
     }
 
     @Override public void updateAlarms() {
-        alarmMap.clear();
-        for (Alarm alarm : clock.getAlarms()) { alarmMap.put(alarm, new Circle()); }
+        alarmLayer.setAlarms(clock.getAlarms());
     }
 
     @Override public void updateTime(final ZonedDateTime TIME) {
@@ -437,14 +432,10 @@ public class PlainClockSkin extends ClockSkinBase {
         }
 
         // Show all alarms within the next hour
-        if (TIME.getMinute() == 0 && TIME.getSecond() == 0) Helper.drawAlarms(clock, size, 0.015, 0.46, alarmMap, DATE_TIME_FORMATTER, TIME);
+        if (TIME.getMinute() == 0 && TIME.getSecond() == 0) alarmLayer.update(clock, size, 0.015, 0.46, DATE_TIME_FORMATTER, TIME);
 
         // Highlight Areas and Sections
-        if (highlightAreas | highlightSections) {
-            sectionsAndAreasCtx.clearRect(0, 0, size, size);
-            if (areasVisible) Helper.drawTimeAreas(clock, sectionsAndAreasCtx, areas, size, 0.025, 0.025, 0.95, 0.95);
-            if (sectionsVisible) Helper.drawTimeSections(clock, sectionsAndAreasCtx, sections, size, 0.06, 0.06, 0.88, 0.88, 0.07);
-        }
+        sectionsAndAreasLayer.update(TIME);
     }
 
 
@@ -463,13 +454,12 @@ public class PlainClockSkin extends ClockSkinBase {
             dropShadow.setRadius(0.008 * size);
             dropShadow.setOffsetY(0.008 * size);
 
-            sectionsAndAreasCanvas.setWidth(size);
-            sectionsAndAreasCanvas.setHeight(size);
+            sectionsAndAreasLayer.setPrefSize(size, size);
 
             tickCanvas.setWidth(size);
             tickCanvas.setHeight(size);
 
-            alarmPane.setMaxSize(size, size);
+            alarmLayer.setMaxSize(size, size);
 
             createHourPointer();
             hour.setFill(clock.getHourColor());
@@ -524,9 +514,9 @@ public class PlainClockSkin extends ClockSkinBase {
         shadowGroupSecond.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
 
         // Areas, Sections
-        sectionsAndAreasCtx.clearRect(0, 0, size, size);
-        if (areasVisible) Helper.drawTimeAreas(clock, sectionsAndAreasCtx, areas, size, 0.025, 0.025, 0.95, 0.95);
-        if (sectionsVisible) Helper.drawTimeSections(clock, sectionsAndAreasCtx, sections, size, 0.06, 0.06, 0.88, 0.88, 0.07);
+        sectionsAndAreasLayer.setAreas(areas, areasVisible, highlightAreas);
+        sectionsAndAreasLayer.setSections(sections, sectionsVisible, highlightSections);
+        sectionsAndAreasLayer.redraw(clock, size);
 
         // Tick Marks
         tickCanvas.setCache(false);
@@ -558,7 +548,6 @@ public class PlainClockSkin extends ClockSkinBase {
                                         new Stop(0.8, Color.rgb(27, 10, 27)),
                                         new Stop(1.0, Color.rgb(27, 10, 27))));
 
-        alarmPane.getChildren().setAll(alarmMap.values());
-        Helper.drawAlarms(clock, size, 0.015, 0.46, alarmMap, DATE_TIME_FORMATTER, time);
+        alarmLayer.refresh(clock, size, 0.015, 0.46, DATE_TIME_FORMATTER, time);
     }
 }
@@ -219,7 +219,7 @@ public class QuarterSkin extends GaugeSkinBase {
         lcd.setArcWidth(0.0125 * PREFERRED_HEIGHT);
         lcd.setArcHeight(0.0125 * PREFERRED_HEIGHT);
         lcd.relocate((PREFERRED_WIDTH - lcd.getWidth()) * 0.5, 0.44 * PREFERRED_HEIGHT);
-        Helper.enableNode(lcd, gauge.isLcdVisible() && gauge.isValueVisible());
+        Helper.enableNode(lcd, isLcdShown() && gauge.isValueVisible());
 
         needleRotate = new Rotate(180 - startAngle);
         needleRotate.setAngle(needleRotate.getAngle() + (gauge.getValue() - oldValue - minValue) * angleStep);
@@ -244,7 +244,7 @@ public class QuarterSkin extends GaugeSkinBase {
         dropShadow.setOffsetY(0.015 * PREFERRED_WIDTH);
 
         shadowGroup = new Group(needle, knobCanvas);
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        shadowGroup.setEffect(gauge.isShadowsEnabled() && !isReducedDetail() ? dropShadow : null);
 
         titleText = new Text(gauge.getTitle());
         titleText.setTextOrigin(VPos.CENTER);
@@ -323,23 +323,13 @@ public class QuarterSkin extends GaugeSkinBase {
                 drawAreasAndSections(sectionsAndAreasCtx);
             }
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
-            Helper.enableNode(ledCanvas, gauge.isLedVisible());
-            Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
-            Helper.enableNode(subTitleText, !gauge.getSubTitle().isEmpty());
-            Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
-            Helper.enableNode(valueText, gauge.isValueVisible());
-            Helper.enableNode(lcd, gauge.isLcdVisible() && gauge.isValueVisible());
-            Helper.enableNode(knobCanvas, gauge.isKnobVisible());
-            Helper.enableNode(threshold, gauge.isThresholdVisible());
-            Helper.enableNode(average, gauge.isAverageVisible());
-            boolean markersVisible = gauge.getMarkersVisible();
-            for (Shape shape : markerMap.values()) { Helper.enableNode(shape, markersVisible); }
+            updateNodeVisibility();
             resize();
             redraw();
         } else if ("LED".equals(EVENT_TYPE)) {
             if (gauge.isLedVisible()) { drawLed(); }
         } else if ("LCD".equals(EVENT_TYPE)) {
-            if (gauge.isLcdVisible()) redraw();
+            if (isLcdShown()) redraw();
         } else if ("RECALC".equals(EVENT_TYPE)) {
             startAngle = getStartAngle();
             minValue  = gauge.getMinValue();
@@ -375,6 +365,10 @@ public class QuarterSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected double getLevelOfDetailThreshold() { return 120; }
+
+    @Override protected void onDetailLevelChanged() { updateNodeVisibility(); }
+
     public void handleMouseEvent(final MouseEvent EVENT) {
         if (gauge.isDisabled()) return;
         final EventType TYPE = EVENT.getEventType();
@@ -399,6 +393,23 @@ public class QuarterSkin extends GaugeSkinBase {
 
 
     // ******************** Private Methods ***********************************
+    private boolean isLcdShown() { return gauge.isLcdVisible() && !isReducedDetail(); }
+
+    private void updateNodeVisibility() {
+        boolean fullDetail = !isReducedDetail();
+        Helper.enableNode(ledCanvas, gauge.isLedVisible());
+        Helper.enableNode(titleText, fullDetail && !gauge.getTitle().isEmpty());
+        Helper.enableNode(subTitleText, fullDetail && !gauge.getSubTitle().isEmpty());
+        Helper.enableNode(unitText, fullDetail && !gauge.getUnit().isEmpty());
+        Helper.enableNode(valueText, gauge.isValueVisible());
+        Helper.enableNode(lcd, isLcdShown() && gauge.isValueVisible());
+        Helper.enableNode(knobCanvas, gauge.isKnobVisible());
+        Helper.enableNode(threshold, gauge.isThresholdVisible());
+        Helper.enableNode(average, gauge.isAverageVisible());
+        boolean markersVisible = fullDetail && gauge.getMarkersVisible();
+        for (Shape shape : markerMap.values()) { Helper.enableNode(shape, markersVisible); }
+    }
+
     private double getStartAngle() {
         ScaleDirection scaleDirection = gauge.getScaleDirection();
         Pos            knobPosition   = gauge.getKnobPosition();
@@ -460,9 +471,9 @@ public class QuarterSkin extends GaugeSkinBase {
         boolean       tickMarkSectionsVisible      = gauge.getTickMarkSectionsVisible();
         boolean       tickLabelSectionsVisible     = gauge.getTickLabelSectionsVisible();
         boolean       majorTickMarksVisible        = gauge.getMajorTickMarksVisible();
-        boolean       mediumTickMarksVisible       = gauge.getMediumTickMarksVisible();
-        boolean       minorTickMarksVisible        = gauge.getMinorTickMarksVisible();
-        boolean       tickLabelsVisible            = gauge.getTickLabelsVisible();
+        boolean       mediumTickMarksVisible       = !isReducedDetail() && gauge.getMediumTickMarksVisible();
+        boolean       minorTickMarksVisible        = !isReducedDetail() && gauge.getMinorTickMarksVisible();
+        boolean       tickLabelsVisible            = !isReducedDetail() && gauge.getTickLabelsVisible();
         boolean       onlyFirstAndLastLabelVisible = gauge.isOnlyFirstAndLastTickLabelVisible();
         boolean       customTickLabelsEnabled      = gauge.getCustomTickLabelsEnabled();
         List<String>  customTickLabels             = customTickLabelsEnabled ? gauge.getCustomTickLabels() : null;
@@ -1145,7 +1156,7 @@ public class QuarterSkin extends GaugeSkinBase {
         double         markerSize     = TickLabelLocation.OUTSIDE == tickLabelLocation ? 0.0125 * size : 0.015 * size;
         double         pathHalf       = markerSize * 0.3;
         ScaleDirection scaleDirection = gauge.getScaleDirection();
-        if (gauge.getMarkersVisible()) {
+        if (gauge.getMarkersVisible() && !isReducedDetail()) {
             for (Map.Entry<Marker, Shape> entry : markerMap.entrySet()) {
                 Marker marker = entry.getKey();
                 Shape  shape  = entry.getValue();
@@ -1511,7 +1522,7 @@ public class QuarterSkin extends GaugeSkinBase {
 
     private void resizeValueText() {
         Pos knobPosition = gauge.getKnobPosition();
-        if (gauge.isLcdVisible()) {
+        if (isLcdShown()) {
             switch(gauge.getLcdFont()) {
                 case LCD:
                     valueText.setFont(Fonts.digital(0.108 * size));
@@ -1689,7 +1700,7 @@ public class QuarterSkin extends GaugeSkinBase {
             backgroundInnerShadow.setOffsetY(size * 0.03);
             backgroundInnerShadow.setRadius(size * 0.04);
 
-            pane.setEffect(gauge.isInnerShadowEnabled() ? backgroundInnerShadow : null);
+            pane.setEffect(gauge.isInnerShadowEnabled() && !isReducedDetail() ? backgroundInnerShadow : null);
 
             sectionsAndAreasCanvas.setWidth(1.95 * size);
             sectionsAndAreasCanvas.setHeight(1.95 * size);
@@ -1699,15 +1710,15 @@ public class QuarterSkin extends GaugeSkinBase {
 
             markerPane.setPrefSize(0.9 * size, 0.9 * size);
 
-            boolean isFlatLed = LedType.FLAT == gauge.getLedType();
+            boolean noLedShadow = LedType.FLAT == gauge.getLedType() || isReducedDetail();
             ledSize = 0.07 * size;
             ledCanvas.setWidth(ledSize);
             ledCanvas.setHeight(ledSize);
-            ledOffShadow = isFlatLed ? null : new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.65), 0.07 * ledSize, 0, 0, 0);
-            ledOnShadow  = isFlatLed ? null : new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.65), 0.07 * ledSize, 0, 0, 0);
-            if (!isFlatLed) ledOnShadow.setInput(new DropShadow(BlurType.TWO_PASS_BOX, gauge.getLedColor(), 0.36 * ledSize, 0, 0, 0));
+            ledOffShadow = noLedShadow ? null : new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.65), 0.07 * ledSize, 0, 0, 0);
+            ledOnShadow  = noLedShadow ? null : new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.65), 0.07 * ledSize, 0, 0, 0);
+            if (!noLedShadow) ledOnShadow.setInput(new DropShadow(BlurType.TWO_PASS_BOX, gauge.getLedColor(), 0.36 * ledSize, 0, 0, 0));
 
-            if (gauge.isLcdVisible()) {
+            if (isLcdShown()) {
                 lcd.setWidth(0.4 * size);
                 lcd.setHeight(0.114 * size);
                 lcd.setArcWidth(0.0125 * size);
@@ -1807,7 +1818,7 @@ public class QuarterSkin extends GaugeSkinBase {
     @Override protected void redraw() {
         locale       = gauge.getLocale();
         formatString = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        shadowGroup.setEffect(gauge.isShadowsEnabled() && !isReducedDetail() ? dropShadow : null);
 
         // Background stroke and fill
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, CornerRadii.EMPTY, new BorderWidths(gauge.getBorderWidth() / PREFERRED_WIDTH * size))));
@@ -1885,7 +1896,7 @@ public class QuarterSkin extends GaugeSkinBase {
         // LCD
         LcdDesign lcdDesign = gauge.getLcdDesign();
         Color[]   lcdColors = lcdDesign.getColors();
-        if (gauge.isLcdVisible() && gauge.isValueVisible()) {
+        if (isLcdShown() && gauge.isValueVisible()) {
             LinearGradient lcdGradient = new LinearGradient(0, 1, 0, lcd.getHeight() - 1,
                                                             false, CycleMethod.NO_CYCLE,
                                                             new Stop(0, lcdColors[0]),
@@ -1912,7 +1923,7 @@ public class QuarterSkin extends GaugeSkinBase {
         titleText.setFill(gauge.getTitleColor());
         unitText.setFill(gauge.getUnitColor());
         subTitleText.setFill(gauge.getSubTitleColor());
-        valueText.setFill(gauge.isLcdVisible() ? lcdColors[5] : gauge.getValueColor());
+        valueText.setFill(isLcdShown() ? lcdColors[5] : gauge.getValueColor());
         resizeText();
 
         // Needle
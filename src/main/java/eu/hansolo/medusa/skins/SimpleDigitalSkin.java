@@ -20,6 +20,7 @@ package eu.hansolo.medusa.skins;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.Section;
+import eu.hansolo.medusa.export.SvgExporter;
 import eu.hansolo.medusa.tools.AngleConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
 import javafx.beans.InvalidationListener;
@@ -135,6 +136,7 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
 
         barCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
         barCtx    = barCanvas.getGraphicsContext2D();
+        SvgExporter.markDynamic(barCanvas);
 
         titleText = new Text(gauge.getTitle());
         titleText.setFill(gauge.getTitleColor());
@@ -19,6 +19,7 @@ package eu.hansolo.medusa.skins;
 
 import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
+import eu.hansolo.medusa.tools.ClockTextRenderer;
 import eu.hansolo.medusa.tools.Helper;
 import javafx.geometry.Insets;
 import javafx.geometry.VPos;
@@ -49,14 +50,11 @@ public class TextClockSkin extends ClockSkinBase {
     protected static final double            MINIMUM_HEIGHT        = 20;
     protected static final double            MAXIMUM_WIDTH         = 1024;
     protected static final double            MAXIMUM_HEIGHT        = 1024;
-    private   static final DateTimeFormatter HHMM_FORMATTER        = DateTimeFormatter.ofPattern("HH:mm");
-    private   static final DateTimeFormatter HHMMSS_FORMATTER      = DateTimeFormatter.ofPattern("HH:mm:ss");
-    private   static final DateTimeFormatter AMPM_HHMM_FORMATTER   = DateTimeFormatter.ofPattern("hh:mm a");
-    private   static final DateTimeFormatter AMPM_HHMMSS_FORMATTER = DateTimeFormatter.ofPattern("hh:mm:ss a");
     private                double            aspectRatio           = 0.4;
     private                double            width;
     private                double            height;
     private                DateTimeFormatter dateFormat;
+    private                ClockTextRenderer textRenderer;
     private                Text              timeText;
     private                Text              dateText;
     private                Pane              pane;
@@ -72,6 +70,7 @@ public class TextClockSkin extends ClockSkinBase {
         dateColor  = clock.getDateColor();
         dateFormat = Helper.getDateFormat(clock.getLocale());
         customFont = clock.getCustomFont();
+        textRenderer = new ClockTextRenderer(clock.isSecondsVisible(), Locale.US == clock.getLocale());
 
         initGraphics();
         registerListeners();
@@ -125,17 +124,16 @@ public class TextClockSkin extends ClockSkinBase {
     private void drawTime(final ZonedDateTime TIME) {
         // draw the time
         if (clock.isTextVisible()) {
-            if (Locale.US == clock.getLocale()) {
-                timeText.setText(clock.isSecondsVisible() ? AMPM_HHMMSS_FORMATTER.format(TIME) : AMPM_HHMM_FORMATTER.format(TIME));
-            } else {
-                timeText.setText(clock.isSecondsVisible() ? HHMMSS_FORMATTER.format(TIME) : HHMM_FORMATTER.format(TIME));
+            textRenderer.setFormat(clock.isSecondsVisible(), Locale.US == clock.getLocale());
+            if (textRenderer.updateTime(TIME)) {
+                timeText.setText(textRenderer.getTimeText());
+                timeText.setX((width - timeText.getLayoutBounds().getWidth()) * 0.5);
             }
-            timeText.setX((width - timeText.getLayoutBounds().getWidth()) * 0.5);
         }
 
         // draw the date
-        if (clock.isDateVisible()) {
-            dateText.setText(dateFormat.format(TIME));
+        if (clock.isDateVisible() && textRenderer.updateDate(TIME, dateFormat)) {
+            dateText.setText(textRenderer.getDateText());
             dateText.setX((width - dateText.getLayoutBounds().getWidth()) * 0.5);
         }
     }
@@ -200,6 +198,7 @@ public class TextClockSkin extends ClockSkinBase {
         dateColor  = clock.getDateColor();
         dateText.setFill(dateColor);
 
+        textRenderer.reset();
         drawTime(time);
     }
 }
@@ -0,0 +1,260 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Alarm;
+import eu.hansolo.medusa.Clock;
+import javafx.scene.Node;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.text.TextAlignment;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Layer that shows the alarms of a clock which are within the current hour.
+ * Each alarm gets exactly one marker node and one tooltip that will only be
+ * updated if the alarm itself changed. The markers are kept in an index that
+ * is sorted by the alarm time which makes it possible to find the alarms of
+ * the current hour in O(log n) instead of checking every alarm.
+ */
+public class AlarmMarkerLayer extends Pane {
+    private static final double                   ANGLE_STEP = 360.0 / 60.0;
+    private static final Comparator<AlarmMarker>  BY_TIME    = Comparator.comparingLong(marker -> marker.epochSecond);
+    private        final Map<Alarm, AlarmMarker>  markers;
+    private        final List<AlarmMarker>        visibleMarkers;
+    private              AlarmMarker[]            index;
+    private              boolean                  indexDirty;
+    private              double                   size;
+    private              double                   markerSize;
+    private              double                   markerRadius;
+    private              DateTimeFormatter        formatter;
+
+
+    // ******************** Constructors **************************************
+    public AlarmMarkerLayer() {
+        markers        = new HashMap<>();
+        visibleMarkers = new ArrayList<>();
+        index          = new AlarmMarker[0];
+        indexDirty     = false;
+        setPickOnBounds(false);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Synchronizes the markers with the given list of alarms. Markers of
+     * alarms that are still in the list will be reused, markers of removed
+     * alarms will be removed and new alarms will get a new marker.
+     * @param ALARMS the alarms of the clock
+     */
+    public void setAlarms(final List<Alarm> ALARMS) {
+        Set<Alarm> alarms = new HashSet<>(ALARMS);
+        markers.keySet().retainAll(alarms);
+        for (Alarm alarm : ALARMS) { markers.computeIfAbsent(alarm, AlarmMarker::new); }
+
+        List<Node> dots = new ArrayList<>(markers.size());
+        for (AlarmMarker marker : markers.values()) {
+            marker.hide();
+            dots.add(marker.dot);
+        }
+        getChildren().setAll(dots);
+        visibleMarkers.clear();
+        indexDirty = true;
+    }
+
+    /**
+     * Checks all alarms for changes, updates the markers of the changed
+     * alarms and shows the markers of the alarms within the current hour.
+     * Should be called on redraw.
+     * @param CLOCK         the clock
+     * @param SIZE          the size of the clock
+     * @param MARKER_SIZE   the radius of a marker relative to the size
+     * @param MARKER_RADIUS the distance of a marker from the center relative to the size
+     * @param FORMATTER     the formatter used for the tooltip text
+     * @param TIME          the current time
+     */
+    public void refresh(final Clock CLOCK, final double SIZE, final double MARKER_SIZE, final double MARKER_RADIUS, final DateTimeFormatter FORMATTER, final ZonedDateTime TIME) {
+        if (!CLOCK.isAlarmsVisible()) { return; }
+        setGeometry(SIZE, MARKER_SIZE, MARKER_RADIUS, FORMATTER);
+        for (AlarmMarker marker : markers.values()) {
+            if (marker.update()) { indexDirty = true; }
+        }
+        cull(TIME);
+    }
+
+    /**
+     * Shows the markers of the alarms within the current hour and updates
+     * them if the alarm changed. Only the markers within the current hour
+     * will be touched. Should be called every full hour.
+     * @param CLOCK         the clock
+     * @param SIZE          the size of the clock
+     * @param MARKER_SIZE   the radius of a marker relative to the size
+     * @param MARKER_RADIUS the distance of a marker from the center relative to the size
+     * @param FORMATTER     the formatter used for the tooltip text
+     * @param TIME          the current time
+     */
+    public void update(final Clock CLOCK, final double SIZE, final double MARKER_SIZE, final double MARKER_RADIUS, final DateTimeFormatter FORMATTER, final ZonedDateTime TIME) {
+        if (!CLOCK.isAlarmsVisible()) { return; }
+        setGeometry(SIZE, MARKER_SIZE, MARKER_RADIUS, FORMATTER);
+        cull(TIME);
+    }
+
+    private void setGeometry(final double SIZE, final double MARKER_SIZE, final double MARKER_RADIUS, final DateTimeFormatter FORMATTER) {
+        if (FORMATTER != formatter) {
+            formatter = FORMATTER;
+            for (AlarmMarker marker : markers.values()) { marker.updateTooltip(); }
+        }
+        if (Double.compare(SIZE, size) == 0 && Double.compare(MARKER_SIZE, markerSize) == 0 && Double.compare(MARKER_RADIUS, markerRadius) == 0) { return; }
+        size         = SIZE;
+        markerSize   = MARKER_SIZE;
+        markerRadius = MARKER_RADIUS;
+        for (AlarmMarker marker : markers.values()) { marker.relocate(); }
+    }
+
+    private void cull(final ZonedDateTime TIME) {
+        if (indexDirty) {
+            index = markers.values().toArray(new AlarmMarker[0]);
+            Arrays.sort(index, BY_TIME);
+            indexDirty = false;
+        }
+
+        long from = TIME.toEpochSecond() - TIME.getSecond();
+        long to   = from - TIME.getMinute() * 60 + 3600;
+
+        for (AlarmMarker marker : visibleMarkers) { marker.hide(); }
+        visibleMarkers.clear();
+
+        for (int i = lowerBound(from) ; i < index.length && index[i].epochSecond < to ; i++) {
+            AlarmMarker marker = index[i];
+            if (marker.update()) { indexDirty = true; }
+            marker.show();
+            visibleMarkers.add(marker);
+        }
+    }
+
+    private int lowerBound(final long EPOCH_SECOND) {
+        int low  = 0;
+        int high = index.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (index[mid].epochSecond < EPOCH_SECOND) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private class AlarmMarker {
+        private final Alarm         alarm;
+        private final Circle        dot;
+        private final Tooltip       tooltip;
+        private       ZonedDateTime time;
+        private       long          epochSecond;
+        private       boolean       armed;
+        private       Color         color;
+        private       String        text;
+        private       double        sinValue;
+        private       double        cosValue;
+
+
+        // ******************** Constructors **********************************
+        AlarmMarker(final Alarm ALARM) {
+            alarm   = ALARM;
+            dot     = new Circle();
+            tooltip = new Tooltip();
+            tooltip.setTextAlignment(TextAlignment.CENTER);
+            dot.setPickOnBounds(false);
+            dot.setOnMousePressed(e -> alarm.fireAlarmMarkerEvent(alarm.ALARM_MARKER_PRESSED_EVENT));
+            dot.setOnMouseReleased(e -> alarm.fireAlarmMarkerEvent(alarm.ALARM_MARKER_RELEASED_EVENT));
+            Tooltip.install(dot, tooltip);
+            update();
+        }
+
+
+        // ******************** Methods ***************************************
+        /**
+         * @return true if the time of the alarm changed
+         */
+        boolean update() {
+            boolean timeChanged = alarm.getTime() != time;
+            if (timeChanged) {
+                time        = alarm.getTime();
+                epochSecond = time.toEpochSecond();
+                double alarmAngle = (time.getMinute() + time.getSecond() / 60.0) * ANGLE_STEP + 180;
+                sinValue = Math.sin(Math.toRadians(-alarmAngle));
+                cosValue = Math.cos(Math.toRadians(-alarmAngle));
+                relocate();
+            }
+            if (alarm.isArmed() != armed || alarm.getColor() != color || null == dot.getFill()) {
+                armed = alarm.isArmed();
+                color = alarm.getColor();
+                Color alarmColor = armed ? color : Helper.INACTIVE_ALARM_COLOR;
+                dot.setFill(alarmColor);
+                dot.setStroke(alarmColor.darker());
+            }
+            if (timeChanged || alarm.getText() != text) {
+                text = alarm.getText();
+                updateTooltip();
+            }
+            return timeChanged;
+        }
+
+        void relocate() {
+            double center = size * 0.5;
+            dot.setRadius(markerSize * size);
+            dot.setCenterX(center + size * markerRadius * sinValue);
+            dot.setCenterY(center + size * markerRadius * cosValue);
+        }
+
+        void updateTooltip() {
+            if (null == formatter || null == time) { return; }
+            if (null == text || text.isEmpty()) {
+                tooltip.setText(formatter.format(time));
+            } else {
+                tooltip.setText(new StringBuilder(text).append("\n").append(formatter.format(time)).toString());
+            }
+        }
+
+        void show() {
+            dot.setManaged(true);
+            dot.setVisible(true);
+        }
+
+        void hide() {
+            dot.setManaged(false);
+            dot.setVisible(false);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import javafx.animation.AnimationTimer;
+import javafx.animation.Interpolator;
+import javafx.application.Platform;
+
+import java.util.Arrays;
+
+
+/**
+ * One AnimationTimer that drives the value animations of all gauges and
+ * clocks. The state of the running animations is kept in primitive arrays
+ * (start, end, start time, duration and easing) that are packed so that one
+ * pulse only iterates over the running animations. Starting or retargeting
+ * an animation does not allocate anything and the timer only runs while at
+ * least one animation is active.
+ * Besides the timed animations the engine supports a critically damped
+ * spring that can be retargeted at any time. Retargeting a running spring
+ * keeps its position and velocity which leads to a smooth motion no matter
+ * how fast new targets arrive and each pulse costs the same for every
+ * running spring.
+ * The state of the engine is only accessed on the JavaFX application thread,
+ * calls from other threads will be passed to the JavaFX application thread.
+ */
+public final class AnimationEngine {
+    public  static final int             LINEAR        = 0;
+    public  static final int             SPLINE        = 1;
+    public  static final int             SPRING        = 2;
+    // (1 + x) * e^-x < 0.0025 for x = 8.4, a spring settles within the given duration
+    private static final double          SETTLE_FACTOR = 8.4;
+    private static final double          PRECISION     = 1e-3;
+    private static final Interpolator    SPLINE_EASING = Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0);
+    private static final int             INITIAL_SIZE  = 64;
+    private static       Target[]        targets       = new Target[INITIAL_SIZE];
+    private static       Target[]        snapshot      = new Target[INITIAL_SIZE];
+    private static       double[]        startValues   = new double[INITIAL_SIZE];
+    private static       double[]        endValues     = new double[INITIAL_SIZE];
+    private static       long[]          startTimes    = new long[INITIAL_SIZE];
+    private static       long[]          durations     = new long[INITIAL_SIZE];
+    private static       int[]           easings       = new int[INITIAL_SIZE];
+    private static       double[]        velocities    = new double[INITIAL_SIZE];
+    private static       double[]        tolerances    = new double[INITIAL_SIZE];
+    private static       int             count         = 0;
+    private static       boolean         timerRunning  = false;
+    private static final AnimationTimer  TIMER         = new AnimationTimer() {
+        @Override public void handle(final long NOW) { pulse(NOW); }
+    };
+
+
+    // ******************** Constructors **************************************
+    private AnimationEngine() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Starts an animation of the given target from START to END. If the target
+     * is already animated its running animation will be replaced.
+     * @param TARGET   the target that receives the animated values
+     * @param START    the start value
+     * @param END      the end value
+     * @param DURATION the duration in milliseconds
+     * @param EASING   the easing (LINEAR or SPLINE), use spring() for a SPRING
+     */
+    public static void start(final Target TARGET, final double START, final double END, final long DURATION, final int EASING) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> start(TARGET, START, END, DURATION, EASING));
+            return;
+        }
+        final int SLOT = slotOf(TARGET);
+        startValues[SLOT] = START;
+        endValues[SLOT]   = END;
+        startTimes[SLOT]  = System.nanoTime();
+        durations[SLOT]   = Math.max(0, DURATION) * 1_000_000L;
+        easings[SLOT]     = SPRING == EASING ? LINEAR : EASING;
+        velocities[SLOT]  = 0;
+    }
+
+    /**
+     * Moves the given target to END by using a critically damped spring.
+     * If the target is already moved by a spring only the end value will be
+     * changed and the spring keeps its current position and velocity. If
+     * the target is running a timed animation the spring will start at the
+     * given CURRENT value.
+     * @param TARGET   the target that receives the animated values
+     * @param CURRENT  the current value of the target
+     * @param END      the end value
+     * @param DURATION the time in milliseconds the spring needs to settle
+     */
+    public static void spring(final Target TARGET, final double CURRENT, final double END, final long DURATION) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> spring(TARGET, CURRENT, END, DURATION));
+            return;
+        }
+        final boolean RETARGET = TARGET.slot >= 0 && SPRING == easings[TARGET.slot];
+        final int     SLOT     = slotOf(TARGET);
+        if (!RETARGET) {
+            startValues[SLOT] = CURRENT;
+            velocities[SLOT]  = 0;
+            startTimes[SLOT]  = System.nanoTime();
+            easings[SLOT]     = SPRING;
+        }
+        endValues[SLOT]  = END;
+        durations[SLOT]  = Math.max(1, DURATION) * 1_000_000L;
+        tolerances[SLOT] = Math.max(Math.abs(END - startValues[SLOT]) * PRECISION, tolerances[SLOT] * 0.5);
+        if (tolerances[SLOT] == 0) { tolerances[SLOT] = PRECISION; }
+    }
+
+    /**
+     * Stops the animation of the given target without setting the end value.
+     * @param TARGET the target
+     */
+    public static void stop(final Target TARGET) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> stop(TARGET));
+            return;
+        }
+        if (TARGET.slot >= 0) { remove(TARGET.slot); }
+    }
+
+    /**
+     * Restarts the running animation of the given target from its start value.
+     * @param TARGET the target
+     */
+    public static void restart(final Target TARGET) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> restart(TARGET));
+            return;
+        }
+        if (TARGET.slot < 0 || SPRING == easings[TARGET.slot]) { return; }
+        startTimes[TARGET.slot] = System.nanoTime();
+    }
+
+    /**
+     * @return the number of running animations
+     */
+    public static int getNoOfAnimations() { return count; }
+
+    private static void pulse(final long NOW) {
+        // Iterate over a snapshot of the running targets because the callbacks
+        // of a target might start or stop animations which moves the slots
+        final int SIZE = count;
+        if (snapshot.length < SIZE) { snapshot = new Target[targets.length]; }
+        System.arraycopy(targets, 0, snapshot, 0, SIZE);
+        for (int j = 0 ; j < SIZE ; j++) {
+            final Target TARGET = snapshot[j];
+            snapshot[j] = null;
+            final int i = TARGET.slot;
+            if (i < 0) { continue; }
+            if (SPRING == easings[i]) {
+                if (step(i, NOW)) {
+                    final double END = endValues[i];
+                    remove(i);
+                    TARGET.apply(END);
+                    TARGET.finished();
+                } else {
+                    TARGET.apply(startValues[i]);
+                }
+                continue;
+            }
+            final long   DURATION = durations[i];
+            final double FRACTION = DURATION <= 0 ? 1.0 : (NOW - startTimes[i]) / (double) DURATION;
+            if (FRACTION >= 1.0) {
+                final double END = endValues[i];
+                remove(i);
+                TARGET.apply(END);
+                TARGET.finished();
+            } else if (FRACTION > 0.0) {
+                TARGET.apply(interpolate(startValues[i], endValues[i], FRACTION, easings[i]));
+            }
+        }
+        if (0 == count) {
+            timerRunning = false;
+            TIMER.stop();
+        }
+    }
+
+    /**
+     * Advances the spring in the given slot to NOW by using the closed form
+     * solution of the critically damped oscillator which is stable for any
+     * frame time.
+     * @return true if the spring came to rest at its end value
+     */
+    private static boolean step(final int SLOT, final long NOW) {
+        final double DT = Math.max(0, NOW - startTimes[SLOT]) / 1_000_000_000.0;
+        if (DT <= 0) { return false; }
+        final double OMEGA        = SETTLE_FACTOR * 1_000_000_000.0 / durations[SLOT];
+        final double END          = endValues[SLOT];
+        final double DISPLACEMENT = startValues[SLOT] - END;
+        final double TEMP         = (velocities[SLOT] + OMEGA * DISPLACEMENT) * DT;
+        final double DECAY        = Math.exp(-OMEGA * DT);
+        velocities[SLOT]  = (velocities[SLOT] - OMEGA * TEMP) * DECAY;
+        startValues[SLOT] = END + (DISPLACEMENT + TEMP) * DECAY;
+        startTimes[SLOT]  = NOW;
+        final double TOLERANCE = tolerances[SLOT];
+        return Math.abs(startValues[SLOT] - END) <= TOLERANCE && Math.abs(velocities[SLOT]) <= TOLERANCE * OMEGA;
+    }
+
+    private static int slotOf(final Target TARGET) {
+        if (TARGET.slot < 0) {
+            if (count == targets.length) { grow(); }
+            final int SLOT = count++;
+            targets[SLOT]    = TARGET;
+            tolerances[SLOT] = 0;
+            TARGET.slot      = SLOT;
+        }
+        if (!timerRunning) {
+            timerRunning = true;
+            TIMER.start();
+        }
+        return TARGET.slot;
+    }
+
+    private static double interpolate(final double START, final double END, final double FRACTION, final int EASING) {
+        switch(EASING) {
+            case SPLINE: return SPLINE_EASING.interpolate(START, END, FRACTION);
+            case LINEAR:
+            default    : return START + (END - START) * FRACTION;
+        }
+    }
+
+    private static void remove(final int SLOT) {
+        final int LAST = --count;
+        targets[SLOT].slot = -1;
+        if (SLOT != LAST) {
+            targets[SLOT]     = targets[LAST];
+            startValues[SLOT] = startValues[LAST];
+            endValues[SLOT]   = endValues[LAST];
+            startTimes[SLOT]  = startTimes[LAST];
+            durations[SLOT]   = durations[LAST];
+            easings[SLOT]     = easings[LAST];
+            velocities[SLOT]  = velocities[LAST];
+            tolerances[SLOT]  = tolerances[LAST];
+            targets[SLOT].slot = SLOT;
+        }
+        targets[LAST] = null;
+    }
+
+    private static void grow() {
+        final int SIZE = targets.length * 2;
+        targets     = Arrays.copyOf(targets, SIZE);
+        startValues = Arrays.copyOf(startValues, SIZE);
+        endValues   = Arrays.copyOf(endValues, SIZE);
+        startTimes  = Arrays.copyOf(startTimes, SIZE);
+        durations   = Arrays.copyOf(durations, SIZE);
+        easings     = Arrays.copyOf(easings, SIZE);
+        velocities  = Arrays.copyOf(velocities, SIZE);
+        tolerances  = Arrays.copyOf(tolerances, SIZE);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * Receives the values of an animation. One target can only run one
+     * animation at a time.
+     */
+    public static abstract class Target {
+        private int slot = -1;
+
+
+        // ******************** Constructors **********************************
+        protected Target() {}
+
+
+        // ******************** Methods ***************************************
+        /**
+         * @return true if an animation of this target is running
+         */
+        public final boolean isRunning() { return slot >= 0; }
+
+        /**
+         * Will be called on every pulse with the current value of the animation
+         * @param VALUE the current value
+         */
+        protected abstract void apply(final double VALUE);
+
+        /**
+         * Will be called after the end value was applied
+         */
+        protected void finished() {}
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge;
+import javafx.application.Platform;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * Lets the LEDs of all blinking gauges blink in the same phase. One timer
+ * toggles the phase every BLINK_INTERVAL and posts one update to the JavaFX
+ * application thread that switches all registered LEDs on or off. If the
+ * JavaFX application thread is busy, phase changes are coalesced instead of
+ * flooding the event queue. The gauges are only weakly referenced, gauges
+ * that have been garbage collected will be removed automatically and the
+ * timer stops when no gauge is blinking anymore.
+ */
+public final class BlinkCoordinator {
+    public  static final long                            BLINK_INTERVAL = 500;
+    private static final List<WeakReference<Gauge>>      GAUGES         = new CopyOnWriteArrayList<>();
+    private static final AtomicBoolean                   UPDATE_PENDING = new AtomicBoolean(false);
+    private static final AtomicBoolean                   PHASE          = new AtomicBoolean(false);
+    private static       ScheduledExecutorService        blinkService;
+    private static       ScheduledFuture<?>              blinkFuture;
+
+
+    // ******************** Constructors **************************************
+    private BlinkCoordinator() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Lets the LED of the given gauge blink in phase with all other
+     * registered gauges.
+     * @param GAUGE the gauge
+     */
+    public static synchronized void register(final Gauge GAUGE) {
+        for (WeakReference<Gauge> ref : GAUGES) { if (ref.get() == GAUGE) { return; } }
+        GAUGES.add(new WeakReference<>(GAUGE));
+        if (null == blinkFuture) {
+            if (null == blinkService) { blinkService = new ScheduledThreadPoolExecutor(1, Helper.getThreadFactory("BlinkTask", true)); }
+            blinkFuture = blinkService.scheduleAtFixedRate(BlinkCoordinator::toggle, BLINK_INTERVAL, BLINK_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops the blinking of the LED of the given gauge. The LED will not be
+     * switched off.
+     * @param GAUGE the gauge
+     */
+    public static synchronized void unregister(final Gauge GAUGE) {
+        GAUGES.removeIf(ref -> {
+            Gauge gauge = ref.get();
+            return null == gauge || gauge == GAUGE;
+        });
+        if (GAUGES.isEmpty()) { stopTimer(); }
+    }
+
+    /**
+     * @return the number of gauges that are registered
+     */
+    public static int getNoOfGauges() { return GAUGES.size(); }
+
+    /**
+     * @return true if the LEDs are on in the current phase
+     */
+    public static boolean isOn() { return PHASE.get(); }
+
+    private static synchronized void stopTimer() {
+        if (null == blinkFuture) { return; }
+        blinkFuture.cancel(false);
+        blinkFuture = null;
+    }
+
+    private static void toggle() {
+        PHASE.set(!PHASE.get());
+        if (UPDATE_PENDING.compareAndSet(false, true)) { Platform.runLater(BlinkCoordinator::apply); }
+    }
+
+    private static void apply() {
+        UPDATE_PENDING.set(false);
+        final boolean ON      = PHASE.get();
+        boolean       cleared = false;
+        for (WeakReference<Gauge> ref : GAUGES) {
+            Gauge gauge = ref.get();
+            if (null == gauge) {
+                cleared = true;
+            } else {
+                gauge.setLedOn(ON);
+            }
+        }
+        if (cleared) {
+            synchronized (BlinkCoordinator.class) {
+                GAUGES.removeIf(ref -> null == ref.get());
+                if (GAUGES.isEmpty()) { stopTimer(); }
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+
+/**
+ * Renders the time of a clock in the formats HH:mm, HH:mm:ss, hh:mm a and
+ * hh:mm:ss a into a reused char buffer. Only the character positions that
+ * changed since the last call are written and a new String is only created
+ * if the text really changed, so calling updateTime() on every animation
+ * tick does not allocate as long as the displayed text stays the same.
+ * The date text is only formatted again when the day changes.
+ */
+public class ClockTextRenderer {
+    private static final char[]    AM = { 'A', 'M' };
+    private static final char[]    PM = { 'P', 'M' };
+    private              boolean   secondsVisible;
+    private              boolean   amPm;
+    private              char[]    buffer;
+    private              int       hour;
+    private              int       minute;
+    private              int       second;
+    private              String    timeText;
+    private              int       day;
+    private              String    dateText;
+
+
+    // ******************** Constructors **************************************
+    public ClockTextRenderer() {
+        this(false, false);
+    }
+    public ClockTextRenderer(final boolean SECONDS_VISIBLE, final boolean AM_PM) {
+        setFormat(SECONDS_VISIBLE, AM_PM);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Defines the format of the time text. Changing the format invalidates
+     * the current time text.
+     * @param SECONDS_VISIBLE if true the seconds will be rendered
+     * @param AM_PM if true the time will be rendered in 12 hour format with AM/PM suffix
+     */
+    public void setFormat(final boolean SECONDS_VISIBLE, final boolean AM_PM) {
+        if (null != buffer && secondsVisible == SECONDS_VISIBLE && amPm == AM_PM) { return; }
+        secondsVisible = SECONDS_VISIBLE;
+        amPm           = AM_PM;
+        buffer         = new char[(SECONDS_VISIBLE ? 8 : 5) + (AM_PM ? 3 : 0)];
+        buffer[2]      = ':';
+        if (SECONDS_VISIBLE) { buffer[5] = ':'; }
+        if (AM_PM) { buffer[buffer.length - 3] = ' '; }
+        resetTime();
+    }
+
+    public boolean isSecondsVisible() { return secondsVisible; }
+
+    public boolean isAmPm() { return amPm; }
+
+    /**
+     * Updates the time text with the given time.
+     * @param TIME the time to render
+     * @return true if the time text changed
+     */
+    public boolean updateTime(final ZonedDateTime TIME) {
+        return updateTime(TIME.getHour(), TIME.getMinute(), TIME.getSecond());
+    }
+    /**
+     * Updates the time text with the given time.
+     * @param HOUR   the hour of the day (0 - 23)
+     * @param MINUTE the minute of the hour (0 - 59)
+     * @param SECOND the second of the minute (0 - 59)
+     * @return true if the time text changed
+     */
+    public boolean updateTime(final int HOUR, final int MINUTE, final int SECOND) {
+        final int SEC = secondsVisible ? SECOND : 0;
+        if (HOUR == hour && MINUTE == minute && SEC == second) { return false; }
+
+        if (HOUR != hour) {
+            int displayHour = amPm ? (HOUR % 12 == 0 ? 12 : HOUR % 12) : HOUR;
+            writeTwoDigits(0, displayHour);
+            if (amPm) {
+                char[] suffix = HOUR < 12 ? AM : PM;
+                buffer[buffer.length - 2] = suffix[0];
+                buffer[buffer.length - 1] = suffix[1];
+            }
+        }
+        if (MINUTE != minute) { writeTwoDigits(3, MINUTE); }
+        if (secondsVisible && SEC != second) { writeTwoDigits(6, SEC); }
+
+        hour     = HOUR;
+        minute   = MINUTE;
+        second   = SEC;
+        timeText = null;
+        return true;
+    }
+
+    /**
+     * @return the current time text, a new String will only be created if the text changed
+     */
+    public String getTimeText() {
+        if (null == timeText) { timeText = new String(buffer); }
+        return timeText;
+    }
+
+    /**
+     * @return the char buffer that contains the current time text (must not be modified)
+     */
+    public char[] getTimeChars() { return buffer; }
+
+    /**
+     * Updates the date text if the day of the given time differs from the
+     * day of the last call.
+     * @param TIME      the time to render the date of
+     * @param FORMATTER the formatter that will be used to format the date
+     * @return true if the date text changed
+     */
+    public boolean updateDate(final ZonedDateTime TIME, final DateTimeFormatter FORMATTER) {
+        final int DAY = TIME.getYear() * 1000 + TIME.getDayOfYear();
+        if (DAY == day && null != dateText) { return false; }
+        day      = DAY;
+        dateText = FORMATTER.format(TIME);
+        return true;
+    }
+
+    /**
+     * @return the current date text
+     */
+    public String getDateText() { return null == dateText ? "" : dateText; }
+
+    /**
+     * Forces the next call of updateTime() and updateDate() to render the text
+     * again e.g. after the locale or the date format changed.
+     */
+    public void reset() {
+        resetTime();
+        day      = -1;
+        dateText = null;
+    }
+
+    private void resetTime() {
+        hour     = -1;
+        minute   = -1;
+        second   = -1;
+        timeText = null;
+    }
+
+    private void writeTwoDigits(final int INDEX, final int VALUE) {
+        buffer[INDEX]     = (char) ('0' + VALUE / 10);
+        buffer[INDEX + 1] = (char) ('0' + VALUE % 10);
+    }
+}
@@ -18,6 +18,7 @@
 package eu.hansolo.medusa.tools;
 
 import eu.hansolo.medusa.Gauge.ScaleDirection;
+import eu.hansolo.medusa.jfr.FlightRecorderEvents;
 import javafx.animation.Interpolator;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
@@ -115,6 +116,7 @@ public class ConicalGradient {
 
         if (rectRaster != null && width == rectRaster.getWidth() && height == rectRaster.getHeight()) return rectRaster;
 
+        final Object EVENT = FlightRecorderEvents.beginRasterization("ConicalGradient.getImage", width, height);
         Color color = Color.TRANSPARENT;
         rectRaster  = new WritableImage(width, height);
         final PixelWriter PIXEL_WRITER = rectRaster.getPixelWriter();
@@ -143,6 +145,7 @@ public class ConicalGradient {
                 PIXEL_WRITER.setColor(x, y, color);
             }
         }
+        FlightRecorderEvents.commit(EVENT);
         return rectRaster;
     }
     public Image getRoundImage(final double SIZE) {
@@ -150,6 +153,7 @@ public class ConicalGradient {
 
         if (roundRaster != null && size == roundRaster.getWidth()) return roundRaster;
 
+        final Object EVENT = FlightRecorderEvents.beginRasterization("ConicalGradient.getRoundImage", size, size);
         Color color = Color.TRANSPARENT;
         roundRaster = new WritableImage(size, size);
         final PixelWriter   PIXEL_WRITER = roundRaster.getPixelWriter();
@@ -193,6 +197,7 @@ public class ConicalGradient {
                 PIXEL_WRITER.setColor(x, y, color);
             }
         }
+        FlightRecorderEvents.commit(EVENT);
         return roundRaster;
     }
 
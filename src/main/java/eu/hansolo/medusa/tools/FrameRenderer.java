@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.GaugeDesign;
+import eu.hansolo.medusa.GaugeDesign.GaugeBackground;
+import eu.hansolo.medusa.jfr.FlightRecorderEvents;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.effect.BlurType;
+import javafx.scene.effect.InnerShadow;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.transform.Transform;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * Renders the frame and the background of framed gauges (the border of a
+ * GaugeDesign and the GaugeBackground including its inner shadow) into
+ * images that are shared by all framed gauges. The size of a frame will be
+ * rounded up to the next multiple of BUCKET_SIZE so that each combination
+ * of design, background, size bucket and output scale will only be
+ * rendered once, an ImageView scales the image down to the real size.
+ * The least recently used images will be removed if more than MAX_IMAGES
+ * images are cached.
+ * Has to be called on the JavaFX application thread.
+ */
+public final class FrameRenderer {
+    public  static final int               BUCKET_SIZE = 16;
+    public  static final int               MAX_IMAGES  = 32;
+    private static final Map<Key, Image>   CACHE       = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(final Map.Entry<Key, Image> ELDEST) { return size() > MAX_IMAGES; }
+    };
+
+
+    // ******************** Constructors **************************************
+    private FrameRenderer() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the image of the frame and background for the given design,
+     * background and size. The returned image is at least as large as the
+     * given size multiplied by the given output scale.
+     * @param DESIGN     the design of the frame
+     * @param BACKGROUND the background of the gauge
+     * @param SIZE       the size of the frame
+     * @param SCALE      the output scale of the window (e.g. 2.0 on HiDPI screens)
+     * @return the image of the frame or null if the design has no frame
+     */
+    public static Image getImage(final GaugeDesign DESIGN, final GaugeBackground BACKGROUND, final double SIZE, final double SCALE) {
+        if (GaugeDesign.NONE == DESIGN || SIZE <= 0) { return null; }
+        final int    BUCKET = Math.max(1, (int) Math.ceil(SIZE / BUCKET_SIZE)) * BUCKET_SIZE;
+        final double OUTPUT = SCALE > 0 ? SCALE : 1.0;
+        // The frame color of the FLAT design is mutable and has to be part of the key
+        final Key    KEY    = new Key(DESIGN, BACKGROUND, GaugeDesign.FLAT == DESIGN ? DESIGN.frameColor : null, BUCKET, OUTPUT);
+        Image image = CACHE.get(KEY);
+        if (null == image) {
+            image = render(DESIGN, BACKGROUND, BUCKET, OUTPUT);
+            CACHE.put(KEY, image);
+        }
+        return image;
+    }
+
+    /**
+     * @return the number of cached images
+     */
+    public static int getNoOfImages() { return CACHE.size(); }
+
+    /**
+     * Removes all cached images
+     */
+    public static void clearCache() { CACHE.clear(); }
+
+    private static Image render(final GaugeDesign DESIGN, final GaugeBackground BACKGROUND, final double SIZE, final double SCALE) {
+        final int    PIXELS = (int) Math.ceil(SIZE * SCALE);
+        final Object EVENT  = FlightRecorderEvents.beginRasterization("FrameRenderer.render", PIXELS, PIXELS);
+
+        Region frame = new Region();
+        frame.setBorder(DESIGN.getBorder(SIZE));
+        // The pane lays out the frame with its pref size during the snapshot
+        frame.setPrefSize(SIZE, SIZE);
+        frame.resize(SIZE, SIZE);
+
+        Circle      background = new Circle(SIZE * 0.5, SIZE * 0.5, SIZE * 0.4375);
+        InnerShadow innerShadow;
+        if (GaugeDesign.ENZO == DESIGN) {
+            background.setFill(Color.rgb(240, 240, 240));
+            innerShadow = new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.35), 0.07407407 * SIZE, 0.0, 0, 0.07407407 * SIZE);
+        } else {
+            background.setFill(BACKGROUND.getPaint(SIZE * 0.0625, SIZE * 0.0625, SIZE * 0.9375, SIZE * 0.9375));
+            innerShadow = new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.65), 0.08 * SIZE, 0.0, 0, 0);
+        }
+        background.setEffect(innerShadow);
+
+        Pane pane = new Pane(frame, background);
+        pane.resize(SIZE, SIZE);
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setTransform(Transform.scale(SCALE, SCALE));
+        parameters.setViewport(new Rectangle2D(0, 0, PIXELS, PIXELS));
+        Image image = pane.snapshot(parameters, new WritableImage(PIXELS, PIXELS));
+        FlightRecorderEvents.commit(EVENT);
+        return image;
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class Key {
+        private final GaugeDesign     design;
+        private final GaugeBackground background;
+        private final Color           frameColor;
+        private final int             size;
+        private final double          scale;
+
+
+        // ******************** Constructors **********************************
+        private Key(final GaugeDesign DESIGN, final GaugeBackground BACKGROUND, final Color FRAME_COLOR, final int SIZE, final double SCALE) {
+            design     = DESIGN;
+            background = BACKGROUND;
+            frameColor = FRAME_COLOR;
+            size       = SIZE;
+            scale      = SCALE;
+        }
+
+
+        // ******************** Methods ***************************************
+        @Override public boolean equals(final Object OBJECT) {
+            if (this == OBJECT) { return true; }
+            if (!(OBJECT instanceof Key)) { return false; }
+            final Key KEY = (Key) OBJECT;
+            return design == KEY.design && background == KEY.background && size == KEY.size &&
+                   Double.compare(scale, KEY.scale) == 0 && Objects.equals(frameColor, KEY.frameColor);
+        }
+
+        @Override public int hashCode() { return Objects.hash(design, background, frameColor, size, scale); }
+    }
+}
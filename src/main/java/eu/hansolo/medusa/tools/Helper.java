@@ -23,16 +23,20 @@ import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.Gauge.ScaleDirection;
 import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.GaugeModel;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelLocation;
 import eu.hansolo.medusa.TickLabelOrientation;
 import eu.hansolo.medusa.TickMarkType;
 import eu.hansolo.medusa.TimeSection;
+import eu.hansolo.medusa.jfr.FlightRecorderEvents;
+import javafx.geometry.Insets;
 import javafx.geometry.VPos;
 import javafx.scene.Node;
 import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ContentDisplay;
 import javafx.scene.control.Label;
 import javafx.scene.control.Tooltip;
 import javafx.scene.image.Image;
@@ -49,6 +53,7 @@ import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
+import javafx.scene.text.TextBoundsType;
 
 import java.math.BigDecimal;
 import java.time.LocalTime;
@@ -131,21 +136,7 @@ public class Helper {
         }
     }
 
-    public static final double[] calcAutoScale(final double MIN_VALUE, final double MAX_VALUE) {
-        double maxNoOfMajorTicks = 10;
-        double maxNoOfMinorTicks = 10;
-        double niceMinValue;
-        double niceMaxValue;
-        double niceRange;
-        double majorTickSpace;
-        double minorTickSpace;
-        niceRange      = (calcNiceNumber((MAX_VALUE - MIN_VALUE), false));
-        majorTickSpace = calcNiceNumber(niceRange / (maxNoOfMajorTicks - 1), true);
-        niceMinValue   = (Math.floor(MIN_VALUE / majorTickSpace) * majorTickSpace);
-        niceMaxValue   = (Math.ceil(MAX_VALUE / majorTickSpace) * majorTickSpace);
-        minorTickSpace = calcNiceNumber(majorTickSpace / (maxNoOfMinorTicks - 1), true);
-        return new double[]{ niceMinValue, niceMaxValue, majorTickSpace, minorTickSpace };
-    }
+    public static final double[] calcAutoScale(final double MIN_VALUE, final double MAX_VALUE) { return GaugeModel.calcAutoScale(MIN_VALUE, MAX_VALUE); }
 
     /**
      * Calculates nice minValue, maxValue and stepSize for given MIN and MAX values
@@ -238,34 +229,7 @@ public class Helper {
      * @param ROUND whether to round the result or ceil
      * @return a "niceScaling" number to be used for the value range
      */
-    public static final double calcNiceNumber(final double RANGE, final boolean ROUND) {
-        double niceFraction;
-        double exponent = Math.floor(Math.log10(RANGE));   // exponent of range
-        double fraction = RANGE / Math.pow(10, exponent);  // fractional part of range
-
-        if (ROUND) {
-            if (fraction < 1.5) {
-                niceFraction = 1;
-            } else if (fraction < 3) {
-                niceFraction = 2;
-            } else if (fraction < 7) {
-                niceFraction = 5;
-            } else {
-                niceFraction = 10;
-            }
-        } else {
-            if (fraction <= 1) {
-                niceFraction = 1;
-            } else if (fraction <= 2) {
-                niceFraction = 2;
-            } else if (fraction <= 5) {
-                niceFraction = 5;
-            } else {
-                niceFraction = 10;
-            }
-        }
-        return niceFraction * Math.pow(10, exponent);
-    }
+    public static final double calcNiceNumber(final double RANGE, final boolean ROUND) { return GaugeModel.calcNiceNumber(RANGE, ROUND); }
 
     public static final Color getColorOfSection(final List<Section> SECTIONS, final double VALUE, final Color DEFAULT_COLOR) {
         for (Section section : SECTIONS) {
@@ -297,21 +261,24 @@ public class Helper {
     }
 
     public static final void adjustTextSize(final Text TEXT, final double MAX_WIDTH, final double FONT_SIZE) {
-        final String FONT_NAME          = TEXT.getFont().getName();
-        double       adjustableFontSize = FONT_SIZE;
-        while (TEXT.getLayoutBounds().getWidth() > MAX_WIDTH && adjustableFontSize > MIN_FONT_SIZE) {
-            adjustableFontSize -= 0.1;
-            TEXT.setFont(new Font(FONT_NAME, adjustableFontSize));
-        }
+        if (TEXT.getLayoutBounds().getWidth() <= MAX_WIDTH) { return; }
+        final String FONT_NAME = TEXT.getFont().getName();
+        final double FITTED_FONT_SIZE = TextFitter.fit(FONT_NAME, TEXT.getText(), TEXT.getBoundsType(), MAX_WIDTH, FONT_SIZE);
+        if (Double.compare(TEXT.getFont().getSize(), FITTED_FONT_SIZE) != 0) { TEXT.setFont(new Font(FONT_NAME, FITTED_FONT_SIZE)); }
     }
     public static final void adjustTextSize(final Label TEXT, final double MAX_WIDTH, final double FONT_SIZE) {
-        final String FONT_NAME          = TEXT.getFont().getName();
-        double       adjustableFontSize = FONT_SIZE;
-
-        while (TEXT.getLayoutBounds().getWidth() > MAX_WIDTH && adjustableFontSize > MIN_FONT_SIZE) {
-            adjustableFontSize -= 0.1;
-            TEXT.setFont(new Font(FONT_NAME, adjustableFontSize));
+        if (TEXT.getLayoutBounds().getWidth() <= MAX_WIDTH) { return; }
+        // Only the space that is left for the text itself counts
+        final Insets INSETS     = TEXT.getInsets();
+        double       textWidth  = MAX_WIDTH - INSETS.getLeft() - INSETS.getRight();
+        final Node   GRAPHIC    = TEXT.getGraphic();
+        if (null != GRAPHIC && GRAPHIC.isVisible() && (ContentDisplay.LEFT == TEXT.getContentDisplay() || ContentDisplay.RIGHT == TEXT.getContentDisplay())) {
+            textWidth -= GRAPHIC.getLayoutBounds().getWidth() + TEXT.getGraphicTextGap();
         }
+        if (textWidth <= 0) { return; }
+        final String FONT_NAME = TEXT.getFont().getName();
+        final double FITTED_FONT_SIZE = TextFitter.fit(FONT_NAME, TEXT.getText(), TextBoundsType.LOGICAL, textWidth, FONT_SIZE);
+        if (Double.compare(TEXT.getFont().getSize(), FITTED_FONT_SIZE) != 0) { TEXT.setFont(new Font(FONT_NAME, FITTED_FONT_SIZE)); }
     }
 
     public static final DateTimeFormatter getDateFormat(final Locale LOCALE) {
@@ -463,6 +430,18 @@ public class Helper {
                                                  final double MIN_VALUE, final double MAX_VALUE,
                                                  final double START_ANGLE, final double ANGLE_RANGE, final double ANGLE_STEP,
                                                  final double CENTER_X, final double CENTER_Y, final double SIZE) {
+        drawRadialTickMarks(GAUGE, CTX, MIN_VALUE, MAX_VALUE, START_ANGLE, ANGLE_RANGE, ANGLE_STEP, CENTER_X, CENTER_Y, SIZE, false);
+    }
+    /**
+     * Draws the radial tick marks of the given gauge. If REDUCED is true only
+     * the major tick marks will be drawn (no medium/minor tick marks and no
+     * tick labels) which is used by skins with reduced level of detail.
+     */
+    public static final void drawRadialTickMarks(final Gauge GAUGE, final GraphicsContext CTX,
+                                                 final double MIN_VALUE, final double MAX_VALUE,
+                                                 final double START_ANGLE, final double ANGLE_RANGE, final double ANGLE_STEP,
+                                                 final double CENTER_X, final double CENTER_Y, final double SIZE, final boolean REDUCED) {
+        final Object         event                 = FlightRecorderEvents.beginTickMarks(GAUGE);
         double               sinValue;
         double               cosValue;
         double               centerX               = CENTER_X;
@@ -501,9 +480,9 @@ public class Helper {
         boolean       tickMarkSectionsVisible      = GAUGE.getTickMarkSectionsVisible();
         boolean       tickLabelSectionsVisible     = GAUGE.getTickLabelSectionsVisible();
         boolean       majorTickMarksVisible        = GAUGE.getMajorTickMarksVisible();
-        boolean       mediumTickMarksVisible       = GAUGE.getMediumTickMarksVisible();
-        boolean       minorTickMarksVisible        = GAUGE.getMinorTickMarksVisible();
-        boolean       tickLabelsVisible            = GAUGE.getTickLabelsVisible();
+        boolean       mediumTickMarksVisible       = !REDUCED && GAUGE.getMediumTickMarksVisible();
+        boolean       minorTickMarksVisible        = !REDUCED && GAUGE.getMinorTickMarksVisible();
+        boolean       tickLabelsVisible            = !REDUCED && GAUGE.getTickLabelsVisible();
         boolean       onlyFirstAndLastLabelVisible = GAUGE.isOnlyFirstAndLastTickLabelVisible();
         boolean       customTickLabelsEnabled      = GAUGE.getCustomTickLabelsEnabled();
         Locale        locale                       = GAUGE.getLocale();
@@ -1083,6 +1062,7 @@ public class Helper {
             if (counter > MAX_VALUE) break;
             angle     = ScaleDirection.CLOCKWISE == scaleDirection ? (angle - tmpAngleStep) : (angle + tmpAngleStep);
         }
+        FlightRecorderEvents.commit(event);
     }
 
     public static final Image createNoiseImage(final double WIDTH, final double HEIGHT, final Color DARK_COLOR, final Color BRIGHT_COLOR, final double ALPHA_VARIATION_IN_PERCENT) {
@@ -1090,6 +1070,7 @@ public class Helper {
         int                 width                   = (int) WIDTH;
         int                 height                  = (int) HEIGHT;
         double              alphaVariationInPercent = Helper.clamp(0.0, 100.0, ALPHA_VARIATION_IN_PERCENT);
+        final Object        EVENT                   = FlightRecorderEvents.beginRasterization("Helper.createNoiseImage", width, height);
         final WritableImage IMAGE                   = new WritableImage(width, height);
         final PixelWriter   PIXEL_WRITER            = IMAGE.getPixelWriter();
         final Random        BW_RND                  = new Random();
@@ -1103,6 +1084,7 @@ public class Helper {
                 PIXEL_WRITER.setColor(x, y, Color.color(NOISE_COLOR.getRed(), NOISE_COLOR.getGreen(), NOISE_COLOR.getBlue(), NOISE_ALPHA));
             }
         }
+        FlightRecorderEvents.commit(EVENT);
         return IMAGE;
     }
 
@@ -1183,6 +1165,10 @@ public class Helper {
         }
     }
 
+    /**
+     * @deprecated the clock skins use {@link AlarmMarkerLayer} which reuses the markers and their tooltips
+     */
+    @Deprecated
     public static final void drawAlarms(final Clock CLOCK, final double SIZE, final double ALARM_MARKER_SIZE, final double ALARM_MARKER_RADIUS, final Map<Alarm, Circle> ALARM_MAP, final DateTimeFormatter DATE_TIME_FORMATTER, final ZonedDateTime TIME) {
         if (CLOCK.isAlarmsVisible()) {
             double alarmSize = ALARM_MARKER_SIZE * SIZE;
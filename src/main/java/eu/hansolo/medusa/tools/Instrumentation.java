@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import javafx.scene.Node;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+
+/**
+ * Optional instrumentation of the gauge and clock skins to find the skins
+ * that take the most time on the JavaFX application thread. Disabled by
+ * default, in which case the skins only check the enabled flag and do not
+ * measure or allocate anything. Once enabled each skin creates its
+ * SkinMetrics on the next event.
+ * The metrics can be pulled with getMetrics() and getBusiestSkins() or via
+ * JMX after calling registerMXBean(). Setting the system property
+ * medusa.instrumentation to true enables the instrumentation and registers
+ * the MXBean at startup.
+ */
+public final class Instrumentation {
+    public  static final String                             OBJECT_NAME   = "eu.hansolo.medusa:type=Instrumentation";
+    private static final int                                NO_OF_BUSIEST = 10;
+    private static final List<WeakReference<SkinMetrics>>   METRICS       = new CopyOnWriteArrayList<>();
+    private static volatile boolean                         enabled       = false;
+    private static          boolean                         mxBeanRegistered;
+
+    static {
+        if (Boolean.getBoolean("medusa.instrumentation")) {
+            enabled = true;
+            registerMXBean();
+        }
+    }
+
+
+    // ******************** Constructors **************************************
+    private Instrumentation() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * @return true if the skins record their metrics
+     */
+    public static boolean isEnabled() { return enabled; }
+    /**
+     * Defines if the skins should record their metrics. Disabling keeps
+     * the metrics that have been recorded so far.
+     * @param ENABLED
+     */
+    public static void setEnabled(final boolean ENABLED) { enabled = ENABLED; }
+
+    /**
+     * Creates the metrics for the given skin, will be called by the skins
+     * @param CONTROL the control of the skin
+     * @param SKIN    the skin
+     * @return the metrics of the skin
+     */
+    public static SkinMetrics register(final Node CONTROL, final Object SKIN) {
+        final SkinMetrics METRICS_OF_SKIN = new SkinMetrics(CONTROL, SKIN);
+        METRICS.removeIf(ref -> null == ref.get() || null == ref.get().getControl());
+        METRICS.add(new WeakReference<>(METRICS_OF_SKIN));
+        return METRICS_OF_SKIN;
+    }
+
+    /**
+     * Removes the given metrics, will be called when a skin is disposed
+     * @param SKIN_METRICS
+     */
+    public static void unregister(final SkinMetrics SKIN_METRICS) {
+        if (null == SKIN_METRICS) { return; }
+        METRICS.removeIf(ref -> null == ref.get() || ref.get() == SKIN_METRICS);
+    }
+
+    /**
+     * @return the metrics of all skins that recorded metrics and are still alive
+     */
+    public static List<SkinMetrics> getMetrics() {
+        List<SkinMetrics> metrics = new ArrayList<>(METRICS.size());
+        for (WeakReference<SkinMetrics> ref : METRICS) {
+            SkinMetrics skinMetrics = ref.get();
+            if (null != skinMetrics && null != skinMetrics.getControl()) { metrics.add(skinMetrics); }
+        }
+        return metrics;
+    }
+
+    /**
+     * @param COUNT the max. number of skins
+     * @return the metrics of the skins that spent the most time in handleEvents()
+     */
+    public static List<SkinMetrics> getBusiestSkins(final int COUNT) {
+        return getMetrics().stream()
+                           .sorted(Comparator.comparingDouble(SkinMetrics::getTotalTime).reversed())
+                           .limit(COUNT)
+                           .collect(Collectors.toList());
+    }
+
+    /**
+     * Resets the metrics of all skins
+     */
+    public static void reset() { getMetrics().forEach(SkinMetrics::reset); }
+
+    /**
+     * Registers the InstrumentationMXBean at the platform MBeanServer under
+     * the name OBJECT_NAME, calling it more than once has no effect.
+     */
+    public static synchronized void registerMXBean() {
+        if (mxBeanRegistered) { return; }
+        try {
+            final MBeanServer SERVER = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName  NAME   = new ObjectName(OBJECT_NAME);
+            if (!SERVER.isRegistered(NAME)) { SERVER.registerMBean(new MXBean(), NAME); }
+            mxBeanRegistered = true;
+        } catch (JMException e) {
+            throw new IllegalStateException("Instrumentation MXBean could not be registered", e);
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class MXBean implements InstrumentationMXBean {
+        @Override public boolean isEnabled() { return Instrumentation.isEnabled(); }
+        @Override public void setEnabled(final boolean ENABLED) { Instrumentation.setEnabled(ENABLED); }
+
+        @Override public int getNoOfSkins() { return getMetrics().size(); }
+
+        @Override public List<SkinMetricsInfo> getSkins() { return getMetrics().stream().map(SkinMetricsInfo::of).collect(Collectors.toList()); }
+
+        @Override public List<SkinMetricsInfo> getBusiestSkins() { return Instrumentation.getBusiestSkins(NO_OF_BUSIEST).stream().map(SkinMetricsInfo::of).collect(Collectors.toList()); }
+
+        @Override public long getNoOfDeferrals() { return UpdateScheduler.getNoOfDeferrals(); }
+
+        @Override public void reset() { Instrumentation.reset(); }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import java.util.List;
+
+
+/**
+ * JMX interface of the Instrumentation, registered as
+ * eu.hansolo.medusa:type=Instrumentation
+ */
+public interface InstrumentationMXBean {
+    boolean isEnabled();
+    void setEnabled(boolean enabled);
+
+    /**
+     * @return the number of skins with recorded metrics
+     */
+    int getNoOfSkins();
+
+    /**
+     * @return the metrics of all skins
+     */
+    List<SkinMetricsInfo> getSkins();
+
+    /**
+     * @return the metrics of the skins that spent the most time in handleEvents()
+     */
+    List<SkinMetricsInfo> getBusiestSkins();
+
+    /**
+     * @return the number of events that were deferred by the UpdateScheduler
+     */
+    long getNoOfDeferrals();
+
+    /**
+     * Resets the metrics of all skins
+     */
+    void reset();
+}
@@ -40,7 +40,7 @@ public class MovingAverage {
         this(DEFAULT_PERIOD);
     }
     public MovingAverage(final int PERIOD) {
-        period = Helper.clamp(0, MAX_PERIOD, PERIOD);
+        period = Math.max(0, Math.min(MAX_PERIOD, PERIOD));
         window       = new ConcurrentLinkedQueue<>();
     }
 
@@ -76,7 +76,7 @@ public class MovingAverage {
 
     public int getPeriod() { return period; }
     public void setPeriod(final int PERIOD) {
-        period = Helper.clamp(0, MAX_PERIOD, PERIOD);
+        period = Math.max(0, Math.min(MAX_PERIOD, PERIOD));
         reset();
     }
 
@@ -0,0 +1,249 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.events.UpdateEvent.EventType;
+import javafx.scene.Node;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * The metrics of one gauge or clock skin that will be recorded while the
+ * Instrumentation is enabled. Counts the received UpdateEvents per type,
+ * the value updates that were not animated because of the speed limit
+ * and the events that were coalesced by the UpdateScheduler. The time
+ * spent in handleEvents() per event type and in resize() and redraw()
+ * (called by RESIZE and REDRAW events) will be recorded in histograms.
+ * The metrics are written on the JavaFX application thread, values that
+ * are read from other threads (e.g. JMX) might be slightly out of date.
+ */
+public final class SkinMetrics {
+    private static final EventType[]         EVENT_TYPES = EventType.values();
+    private static final AtomicLong          COUNTER     = new AtomicLong(0);
+    private        final WeakReference<Node> control;
+    private        final String              skinName;
+    private        final long                number;
+    private        final long[]              eventCounts;
+    private        final Histogram[]         handleTimes;
+    private        final Histogram           resizeTime;
+    private        final Histogram           redrawTime;
+    private              long                speedLimitedUpdates;
+    private              long                coalescedUpdates;
+
+
+    // ******************** Constructors **************************************
+    SkinMetrics(final Node CONTROL, final Object SKIN) {
+        control     = new WeakReference<>(CONTROL);
+        skinName    = SKIN.getClass().getSimpleName();
+        number      = COUNTER.incrementAndGet();
+        eventCounts = new long[EVENT_TYPES.length];
+        handleTimes = new Histogram[EVENT_TYPES.length];
+        for (int i = 0 ; i < EVENT_TYPES.length ; i++) { handleTimes[i] = new Histogram(); }
+        resizeTime  = new Histogram();
+        redrawTime  = new Histogram();
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * @return the id of the control or its title followed by the name of the skin
+     */
+    public String getName() {
+        final Node CONTROL = control.get();
+        String     label   = null == CONTROL ? null : CONTROL.getId();
+        if (null == label || label.isEmpty()) {
+            if (CONTROL instanceof Gauge) {
+                label = ((Gauge) CONTROL).getTitle();
+            } else if (CONTROL instanceof Clock) {
+                label = ((Clock) CONTROL).getTitle();
+            }
+        }
+        return (null == label || label.isEmpty() ? "" : label + " ") + "[" + skinName + "#" + number + "]";
+    }
+
+    /**
+     * @return the control of the skin or null if it was garbage collected
+     */
+    public Node getControl() { return control.get(); }
+
+    public void countEvent(final EventType TYPE) { eventCounts[TYPE.ordinal()]++; }
+
+    public void recordHandleEvents(final EventType TYPE, final long NANOS) { handleTimes[TYPE.ordinal()].record(NANOS); }
+
+    public void recordResize(final long NANOS) { resizeTime.record(NANOS); }
+
+    public void recordRedraw(final long NANOS) { redrawTime.record(NANOS); }
+
+    public void countSpeedLimitedUpdate() { speedLimitedUpdates++; }
+
+    public void countCoalescedUpdate() { coalescedUpdates++; }
+
+    /**
+     * @param TYPE the event type
+     * @return the number of received UpdateEvents of the given type
+     */
+    public long getEventCount(final EventType TYPE) { return eventCounts[TYPE.ordinal()]; }
+
+    /**
+     * @return the number of received UpdateEvents of all types
+     */
+    public long getEventCount() {
+        long count = 0;
+        for (long eventCount : eventCounts) { count += eventCount; }
+        return count;
+    }
+
+    /**
+     * @param TYPE the event type
+     * @return the histogram of the time spent in handleEvents() for the given event type
+     */
+    public Histogram getHandleEventsTime(final EventType TYPE) { return handleTimes[TYPE.ordinal()]; }
+
+    /**
+     * @return the time in milliseconds spent in handleEvents() for all event types
+     */
+    public double getTotalTime() {
+        double total = 0;
+        for (Histogram histogram : handleTimes) { total += histogram.getTotal(); }
+        return total;
+    }
+
+    /**
+     * @return the histogram of the time spent in resize()
+     */
+    public Histogram getResizeTime() { return resizeTime; }
+
+    /**
+     * @return the histogram of the time spent in redraw()
+     */
+    public Histogram getRedrawTime() { return redrawTime; }
+
+    /**
+     * @return the number of value updates that were not animated because they came faster than the animation duration
+     */
+    public long getNoOfSpeedLimitedUpdates() { return speedLimitedUpdates; }
+
+    /**
+     * @return the number of events that were merged with a pending event of the same type by the UpdateScheduler
+     */
+    public long getNoOfCoalescedUpdates() { return coalescedUpdates; }
+
+    public void reset() {
+        for (int i = 0 ; i < EVENT_TYPES.length ; i++) {
+            eventCounts[i] = 0;
+            handleTimes[i].reset();
+        }
+        resizeTime.reset();
+        redrawTime.reset();
+        speedLimitedUpdates = 0;
+        coalescedUpdates    = 0;
+    }
+
+    @Override public String toString() {
+        return String.format(Locale.US, "%s: %d events, %.3f ms, redraw %s, resize %s, %d speed limited, %d coalesced",
+                             getName(), getEventCount(), getTotalTime(), redrawTime, resizeTime, speedLimitedUpdates, coalescedUpdates);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * A histogram of durations in nanoseconds with power of two buckets.
+     * Bucket i counts the durations in [2^(i-1), 2^i) ns.
+     */
+    public static final class Histogram {
+        private static final int    NO_OF_BUCKETS = 40;
+        private        final long[] buckets       = new long[NO_OF_BUCKETS];
+        private              long   count;
+        private              long   sum;
+        private              long   max;
+
+
+        // ******************** Constructors **********************************
+        public Histogram() {}
+
+
+        // ******************** Methods ***************************************
+        public void record(final long NANOS) {
+            final long VALUE = Math.max(0, NANOS);
+            buckets[Math.min(NO_OF_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(VALUE))]++;
+            count++;
+            sum += VALUE;
+            if (VALUE > max) { max = VALUE; }
+        }
+
+        /**
+         * @return the number of recorded durations
+         */
+        public long getCount() { return count; }
+
+        /**
+         * @return the sum of all recorded durations in milliseconds
+         */
+        public double getTotal() { return sum / 1_000_000.0; }
+
+        /**
+         * @return the mean duration in milliseconds
+         */
+        public double getMean() { return 0 == count ? 0 : sum / 1_000_000.0 / count; }
+
+        /**
+         * @return the longest duration in milliseconds
+         */
+        public double getMax() { return max / 1_000_000.0; }
+
+        /**
+         * Returns the upper bound of the bucket that contains the given
+         * percentile, the result is at most a factor of two above the
+         * real value.
+         * @param PERCENTILE the percentile between 0 and 100
+         * @return the duration in milliseconds
+         */
+        public double getPercentile(final double PERCENTILE) {
+            if (0 == count) { return 0; }
+            final long RANK       = (long) Math.ceil(Math.max(0, Math.min(100, PERCENTILE)) / 100.0 * count);
+            long       cumulative = 0;
+            for (int i = 0 ; i < NO_OF_BUCKETS ; i++) {
+                cumulative += buckets[i];
+                if (cumulative >= RANK && buckets[i] > 0) { return Math.min(max, 0 == i ? 0 : 1L << i) / 1_000_000.0; }
+            }
+            return getMax();
+        }
+
+        /**
+         * @return a copy of the bucket counts
+         */
+        public long[] getBuckets() { return buckets.clone(); }
+
+        public void reset() {
+            Arrays.fill(buckets, 0);
+            count = 0;
+            sum   = 0;
+            max   = 0;
+        }
+
+        @Override public String toString() {
+            return String.format(Locale.US, "%d x mean %.3f ms p99 %.3f ms max %.3f ms", count, getMean(), getPercentile(99), getMax());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.events.UpdateEvent.EventType;
+
+import javax.management.ConstructorParameters;
+
+
+/**
+ * A snapshot of the SkinMetrics of one skin as exposed by the
+ * InstrumentationMXBean. All durations are in milliseconds.
+ */
+public class SkinMetricsInfo {
+    private final String name;
+    private final long   noOfEvents;
+    private final double totalTime;
+    private final double maxHandleEventsTime;
+    private final long   noOfRedraws;
+    private final double redrawMean;
+    private final double redrawP99;
+    private final long   noOfResizes;
+    private final double resizeMean;
+    private final double resizeP99;
+    private final long   noOfSpeedLimitedUpdates;
+    private final long   noOfCoalescedUpdates;
+
+
+    // ******************** Constructors **************************************
+    @ConstructorParameters({ "name", "noOfEvents", "totalTime", "maxHandleEventsTime", "noOfRedraws", "redrawMean", "redrawP99",
+                             "noOfResizes", "resizeMean", "resizeP99", "noOfSpeedLimitedUpdates", "noOfCoalescedUpdates" })
+    public SkinMetricsInfo(final String NAME, final long NO_OF_EVENTS, final double TOTAL_TIME, final double MAX_HANDLE_EVENTS_TIME,
+                           final long NO_OF_REDRAWS, final double REDRAW_MEAN, final double REDRAW_P99,
+                           final long NO_OF_RESIZES, final double RESIZE_MEAN, final double RESIZE_P99,
+                           final long NO_OF_SPEED_LIMITED_UPDATES, final long NO_OF_COALESCED_UPDATES) {
+        name                    = NAME;
+        noOfEvents              = NO_OF_EVENTS;
+        totalTime               = TOTAL_TIME;
+        maxHandleEventsTime     = MAX_HANDLE_EVENTS_TIME;
+        noOfRedraws             = NO_OF_REDRAWS;
+        redrawMean              = REDRAW_MEAN;
+        redrawP99               = REDRAW_P99;
+        noOfResizes             = NO_OF_RESIZES;
+        resizeMean              = RESIZE_MEAN;
+        resizeP99               = RESIZE_P99;
+        noOfSpeedLimitedUpdates = NO_OF_SPEED_LIMITED_UPDATES;
+        noOfCoalescedUpdates    = NO_OF_COALESCED_UPDATES;
+    }
+
+
+    // ******************** Methods *******************************************
+    public static SkinMetricsInfo of(final SkinMetrics METRICS) {
+        double maxHandleEventsTime = 0;
+        for (EventType type : EventType.values()) {
+            maxHandleEventsTime = Math.max(maxHandleEventsTime, METRICS.getHandleEventsTime(type).getMax());
+        }
+        final SkinMetrics.Histogram REDRAW = METRICS.getRedrawTime();
+        final SkinMetrics.Histogram RESIZE = METRICS.getResizeTime();
+        return new SkinMetricsInfo(METRICS.getName(), METRICS.getEventCount(), METRICS.getTotalTime(), maxHandleEventsTime,
+                                   REDRAW.getCount(), REDRAW.getMean(), REDRAW.getPercentile(99),
+                                   RESIZE.getCount(), RESIZE.getMean(), RESIZE.getPercentile(99),
+                                   METRICS.getNoOfSpeedLimitedUpdates(), METRICS.getNoOfCoalescedUpdates());
+    }
+
+    public String getName() { return name; }
+
+    public long getNoOfEvents() { return noOfEvents; }
+
+    public double getTotalTime() { return totalTime; }
+
+    public double getMaxHandleEventsTime() { return maxHandleEventsTime; }
+
+    public long getNoOfRedraws() { return noOfRedraws; }
+
+    public double getRedrawMean() { return redrawMean; }
+
+    public double getRedrawP99() { return redrawP99; }
+
+    public long getNoOfResizes() { return noOfResizes; }
+
+    public double getResizeMean() { return resizeMean; }
+
+    public double getResizeP99() { return resizeP99; }
+
+    public long getNoOfSpeedLimitedUpdates() { return noOfSpeedLimitedUpdates; }
+
+    public long getNoOfCoalescedUpdates() { return noOfCoalescedUpdates; }
+}
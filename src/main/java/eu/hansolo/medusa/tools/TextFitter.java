@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextBoundsType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * Finds the largest font size (in 0.1pt steps) at which a text fits into a
+ * given width. The text is measured once at the requested size, the font size
+ * is scaled analytically (text width is roughly linear in the font size) and
+ * the estimate is refined by a binary search until the bracket is smaller than
+ * 0.1pt. Fitted sizes are cached per font name, text length class and width,
+ * a cached size will only be used if it still fits and the next larger step
+ * does not fit, so e.g. a clock text that changes every second usually only
+ * needs two measurements.
+ * Has to be called on the JavaFX application thread, the cache and the
+ * Text node used for measuring are not synchronized.
+ */
+public class TextFitter {
+    private static final double             STEP               = 0.1;
+    private static final double             STEPS_PER_PT       = 10;
+    private static final double             SEARCH_MARGIN      = 0.05;
+    private static final int                MAX_CACHE_SIZE     = 512;
+    private static final Map<Key, Double>   CACHE              = new HashMap<>();
+    private static       Text               measureText;
+
+
+    // ******************** Constructors **************************************
+    private TextFitter() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the largest font size between Helper.MIN_FONT_SIZE and the given
+     * FONT_SIZE at which the given text rendered with the given font fits into
+     * MAX_WIDTH.
+     * @param FONT_NAME   The name of the font
+     * @param TEXT        The text to fit
+     * @param BOUNDS_TYPE The bounds type that should be used to measure the text
+     * @param MAX_WIDTH   The available width
+     * @param FONT_SIZE   The preferred (max) font size
+     * @return the fitted font size
+     */
+    public static final double fit(final String FONT_NAME, final String TEXT, final TextBoundsType BOUNDS_TYPE, final double MAX_WIDTH, final double FONT_SIZE) {
+        if (null == TEXT || TEXT.isEmpty() || Double.compare(MAX_WIDTH, 0) <= 0 || FONT_SIZE <= Helper.MIN_FONT_SIZE) { return FONT_SIZE; }
+
+        if (null == measureText) { measureText = new Text(); }
+        measureText.setText(TEXT);
+        measureText.setBoundsType(null == BOUNDS_TYPE ? TextBoundsType.LOGICAL : BOUNDS_TYPE);
+
+        final Key    KEY    = new Key(FONT_NAME, lengthClass(TEXT.length()), MAX_WIDTH, FONT_SIZE);
+        final Double CACHED = CACHE.get(KEY);
+        if (null != CACHED) {
+            // The cached size is only valid if it is still the largest step that fits
+            if (measure(FONT_NAME, CACHED) <= MAX_WIDTH && (CACHED + STEP > FONT_SIZE || measure(FONT_NAME, CACHED + STEP) > MAX_WIDTH)) { return CACHED; }
+        }
+
+        double widthAtFontSize = measure(FONT_NAME, FONT_SIZE);
+        if (widthAtFontSize <= MAX_WIDTH) {
+            store(KEY, FONT_SIZE);
+            return FONT_SIZE;
+        }
+
+        // Width is roughly linear in font size, start with the analytic estimate
+        double estimate = Helper.clamp(Helper.MIN_FONT_SIZE, FONT_SIZE, snap(FONT_SIZE * MAX_WIDTH / widthAtFontSize));
+
+        // Find a bracket [lower, upper] where lower fits and upper does not fit
+        double lower = Helper.clamp(Helper.MIN_FONT_SIZE, FONT_SIZE, snap(estimate * (1.0 - SEARCH_MARGIN)));
+        double upper = Helper.clamp(Helper.MIN_FONT_SIZE, FONT_SIZE, snap(estimate * (1.0 + SEARCH_MARGIN)));
+        if (measure(FONT_NAME, lower) > MAX_WIDTH) {
+            upper = lower;
+            lower = Helper.MIN_FONT_SIZE;
+        } else if (upper < FONT_SIZE && measure(FONT_NAME, upper) <= MAX_WIDTH) {
+            lower = upper;
+            upper = FONT_SIZE;
+        }
+
+        // Refine by a binary search until the bracket is smaller than one step
+        while (upper - lower > STEP + 1e-6) {
+            double mid = snap((lower + upper) * 0.5);
+            if (mid <= lower || mid >= upper) { break; }
+            if (measure(FONT_NAME, mid) <= MAX_WIDTH) {
+                lower = mid;
+            } else {
+                upper = mid;
+            }
+        }
+
+        store(KEY, lower);
+        return lower;
+    }
+
+    /**
+     * Clears the cache of fitted font sizes
+     */
+    public static final void clearCache() { CACHE.clear(); }
+
+    private static double measure(final String FONT_NAME, final double FONT_SIZE) {
+        measureText.setFont(new Font(FONT_NAME, FONT_SIZE));
+        return measureText.getLayoutBounds().getWidth();
+    }
+
+    // Count whole steps, dividing by STEP would floor e.g. 0.3 to 0.2
+    private static double snap(final double FONT_SIZE) { return Math.floor(FONT_SIZE * STEPS_PER_PT + 1e-9) / STEPS_PER_PT; }
+
+    private static int lengthClass(final int LENGTH) { return LENGTH <= 8 ? LENGTH : ((LENGTH + 3) / 4) * 4; }
+
+    private static void store(final Key KEY, final double FONT_SIZE) {
+        if (CACHE.size() >= MAX_CACHE_SIZE) { CACHE.clear(); }
+        CACHE.put(KEY, FONT_SIZE);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class Key {
+        private final String fontName;
+        private final int    lengthClass;
+        private final double maxWidth;
+        private final double fontSize;
+
+
+        // ******************** Constructors **********************************
+        Key(final String FONT_NAME, final int LENGTH_CLASS, final double MAX_WIDTH, final double FONT_SIZE) {
+            fontName    = FONT_NAME;
+            lengthClass = LENGTH_CLASS;
+            maxWidth    = MAX_WIDTH;
+            fontSize    = FONT_SIZE;
+        }
+
+
+        // ******************** Methods ***************************************
+        @Override public boolean equals(final Object OBJECT) {
+            if (this == OBJECT) { return true; }
+            if (!(OBJECT instanceof Key)) { return false; }
+            Key key = (Key) OBJECT;
+            return lengthClass == key.lengthClass &&
+                   Double.compare(maxWidth, key.maxWidth) == 0 &&
+                   Double.compare(fontSize, key.fontSize) == 0 &&
+                   Objects.equals(fontName, key.fontName);
+        }
+
+        @Override public int hashCode() { return Objects.hash(fontName, lengthClass, maxWidth, fontSize); }
+    }
+}
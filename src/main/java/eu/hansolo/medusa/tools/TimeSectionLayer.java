@@ -0,0 +1,279 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.TickLabelLocation;
+import eu.hansolo.medusa.TimeSection;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Arc;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.StrokeLineCap;
+
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Retained layer for the time areas and time sections of a clock.
+ * The arcs are created once per size and AM/PM half of the day (and whenever
+ * the areas/sections change) and kept as nodes. If areas or sections should
+ * be highlighted, the layer keeps track of the section enter/leave
+ * transitions itself and only changes the paint of the arc whose containment
+ * flipped instead of repainting all arcs on every tick. Between two section
+ * boundaries a tick only costs one comparison.
+ */
+public class TimeSectionLayer extends Pane {
+    private static final double            OFFSET     = 90;
+    private static final double            ANGLE_STEP = 360.0 / 60.0;
+    private        final List<Arc>         areaArcs;
+    private        final List<Arc>         sectionArcs;
+    private        final List<TimeSection> drawnAreas;
+    private        final List<TimeSection> drawnSections;
+    private              boolean[]         areaHighlighted;
+    private              boolean[]         sectionHighlighted;
+    private              long[]            boundaries;
+    private              long              lowerBoundary;
+    private              long              upperBoundary;
+    private              List<TimeSection> areas;
+    private              List<TimeSection> sections;
+    private              boolean           areasVisible;
+    private              boolean           sectionsVisible;
+    private              boolean           highlightAreas;
+    private              boolean           highlightSections;
+    private              double            areaXYInside;
+    private              double            areaXYOutside;
+    private              double            areaWHInside;
+    private              double            areaWHOutside;
+    private              double            sectionXYInside;
+    private              double            sectionXYOutside;
+    private              double            sectionWHInside;
+    private              double            sectionWHOutside;
+    private              double            sectionLineWidth;
+    private              Clock             clock;
+    private              double            size;
+    private              boolean           isAM;
+
+
+    // ******************** Constructors **************************************
+    public TimeSectionLayer() {
+        areaArcs           = new ArrayList<>();
+        sectionArcs        = new ArrayList<>();
+        drawnAreas         = new ArrayList<>();
+        drawnSections      = new ArrayList<>();
+        areaHighlighted    = new boolean[0];
+        sectionHighlighted = new boolean[0];
+        boundaries         = new long[0];
+        areas              = new ArrayList<>();
+        sections           = new ArrayList<>();
+        setMouseTransparent(true);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Defines the geometry of the areas relative to the size of the clock
+     * (see Helper.drawTimeAreas()).
+     */
+    public void setAreaGeometry(final double XY_INSIDE, final double XY_OUTSIDE, final double WH_INSIDE, final double WH_OUTSIDE) {
+        areaXYInside  = XY_INSIDE;
+        areaXYOutside = XY_OUTSIDE;
+        areaWHInside  = WH_INSIDE;
+        areaWHOutside = WH_OUTSIDE;
+    }
+
+    /**
+     * Defines the geometry of the sections relative to the size of the clock
+     * (see Helper.drawTimeSections()).
+     */
+    public void setSectionGeometry(final double XY_INSIDE, final double XY_OUTSIDE, final double WH_INSIDE, final double WH_OUTSIDE, final double LINE_WIDTH) {
+        sectionXYInside  = XY_INSIDE;
+        sectionXYOutside = XY_OUTSIDE;
+        sectionWHInside  = WH_INSIDE;
+        sectionWHOutside = WH_OUTSIDE;
+        sectionLineWidth = LINE_WIDTH;
+    }
+
+    public void setAreas(final List<TimeSection> AREAS, final boolean VISIBLE, final boolean HIGHLIGHT) {
+        areas          = AREAS;
+        areasVisible   = VISIBLE;
+        highlightAreas = HIGHLIGHT;
+    }
+
+    public void setSections(final List<TimeSection> SECTIONS, final boolean VISIBLE, final boolean HIGHLIGHT) {
+        sections          = SECTIONS;
+        sectionsVisible   = VISIBLE;
+        highlightSections = HIGHLIGHT;
+    }
+
+    /**
+     * Creates the arcs for the current size, the current AM/PM half of the
+     * day and the current areas and sections.
+     * @param CLOCK the clock
+     * @param SIZE  the size of the clock
+     */
+    public void redraw(final Clock CLOCK, final double SIZE) {
+        clock = CLOCK;
+        size  = SIZE;
+        rebuild(CLOCK.getTime());
+    }
+
+    /**
+     * Has to be called on every tick of the clock. Recreates the arcs if the
+     * AM/PM half of the day changed and updates the highlight of the areas
+     * and sections which were entered or left since the last call.
+     * @param TIME the current time
+     */
+    public void update(final ZonedDateTime TIME) {
+        if (null == clock) { return; }
+        if ((TIME.getHour() < 12) != isAM) {
+            rebuild(TIME);
+            return;
+        }
+        if (!highlightAreas && !highlightSections) { return; }
+
+        long nanoOfDay = TIME.toLocalTime().toNanoOfDay();
+        if (lowerBoundary < nanoOfDay && nanoOfDay < upperBoundary) { return; }
+
+        LocalTime time = TIME.toLocalTime();
+        if (highlightAreas) {
+            for (int i = 0 ; i < drawnAreas.size() ; i++) {
+                TimeSection area     = drawnAreas.get(i);
+                boolean     contains = area.contains(time);
+                if (contains != areaHighlighted[i]) {
+                    areaHighlighted[i] = contains;
+                    areaArcs.get(i).setFill(contains ? area.getHighlightColor() : area.getColor());
+                }
+            }
+        }
+        if (highlightSections) {
+            for (int i = 0 ; i < drawnSections.size() ; i++) {
+                TimeSection section  = drawnSections.get(i);
+                boolean     contains = section.contains(time);
+                if (contains != sectionHighlighted[i]) {
+                    sectionHighlighted[i] = contains;
+                    sectionArcs.get(i).setStroke(contains ? section.getHighlightColor() : section.getColor());
+                }
+            }
+        }
+        updateBoundaries(nanoOfDay);
+    }
+
+    private void rebuild(final ZonedDateTime TIME) {
+        TickLabelLocation tickLabelLocation = clock.getTickLabelLocation();
+        LocalTime         time              = TIME.toLocalTime();
+        isAM = TIME.getHour() < 12;
+
+        drawnAreas.clear();
+        if (areasVisible) { for (TimeSection area : areas) { if (isVisibleInHalf(area)) { drawnAreas.add(area); } } }
+        drawnSections.clear();
+        if (sectionsVisible) { for (TimeSection section : sections) { if (isVisibleInHalf(section)) { drawnSections.add(section); } } }
+
+        // Areas
+        double areaXY = TickLabelLocation.OUTSIDE == tickLabelLocation ? areaXYOutside * size : areaXYInside * size;
+        double areaWH = TickLabelLocation.OUTSIDE == tickLabelLocation ? areaWHOutside * size : areaWHInside * size;
+        ensureArcs(areaArcs, drawnAreas.size());
+        areaHighlighted = new boolean[drawnAreas.size()];
+        for (int i = 0 ; i < drawnAreas.size() ; i++) {
+            TimeSection area = drawnAreas.get(i);
+            Arc         arc  = areaArcs.get(i);
+            setArc(arc, area, areaXY, areaWH);
+            arc.setType(ArcType.ROUND);
+            arc.setStroke(null);
+            areaHighlighted[i] = highlightAreas && area.contains(time);
+            arc.setFill(areaHighlighted[i] ? area.getHighlightColor() : area.getColor());
+        }
+
+        // Sections
+        double sectionXY = TickLabelLocation.INSIDE == tickLabelLocation ? sectionXYInside * size : sectionXYOutside * size;
+        double sectionWH = TickLabelLocation.INSIDE == tickLabelLocation ? sectionWHInside * size : sectionWHOutside * size;
+        ensureArcs(sectionArcs, drawnSections.size());
+        sectionHighlighted = new boolean[drawnSections.size()];
+        for (int i = 0 ; i < drawnSections.size() ; i++) {
+            TimeSection section = drawnSections.get(i);
+            Arc         arc     = sectionArcs.get(i);
+            setArc(arc, section, sectionXY, sectionWH);
+            arc.setType(ArcType.OPEN);
+            arc.setFill(null);
+            arc.setStrokeWidth(size * sectionLineWidth);
+            arc.setStrokeLineCap(StrokeLineCap.BUTT);
+            sectionHighlighted[i] = highlightSections && section.contains(time);
+            arc.setStroke(sectionHighlighted[i] ? section.getHighlightColor() : section.getColor());
+        }
+
+        List<Node> nodes = new ArrayList<>(drawnAreas.size() + drawnSections.size());
+        nodes.addAll(areaArcs.subList(0, drawnAreas.size()));
+        nodes.addAll(sectionArcs.subList(0, drawnSections.size()));
+        getChildren().setAll(nodes);
+
+        // Sorted start and stop times of all highlighted areas and sections
+        List<TimeSection> highlighted = new ArrayList<>();
+        if (highlightAreas) { highlighted.addAll(drawnAreas); }
+        if (highlightSections) { highlighted.addAll(drawnSections); }
+        boundaries = new long[highlighted.size() * 2];
+        for (int i = 0 ; i < highlighted.size() ; i++) {
+            boundaries[2 * i]     = highlighted.get(i).getStart().toNanoOfDay();
+            boundaries[2 * i + 1] = highlighted.get(i).getStop().toNanoOfDay();
+        }
+        Arrays.sort(boundaries);
+        updateBoundaries(time.toNanoOfDay());
+    }
+
+    private boolean isVisibleInHalf(final TimeSection SECTION) {
+        boolean isStartAM = SECTION.getStart().getHour() < 12;
+        boolean isStopAM  = SECTION.getStop().getHour() < 12;
+        return isAM ? (isStartAM || isStopAM) : (!isStartAM || !isStopAM);
+    }
+
+    private void setArc(final Arc ARC, final TimeSection SECTION, final double XY, final double WH) {
+        LocalTime start       = SECTION.getStart();
+        LocalTime stop        = SECTION.getStop();
+        double    startAngle  = (start.getHour() % 12 * 5.0 + start.getMinute() / 12.0 + start.getSecond() / 300.0) * ANGLE_STEP + 180;
+        double    angleExtend = ((stop.getHour() - start.getHour()) % 12 * 5.0 + (stop.getMinute() - start.getMinute()) / 12.0 + (stop.getSecond() - start.getSecond()) / 300.0) * ANGLE_STEP;
+        // check if start was already yesterday
+        if (start.getHour() > stop.getHour()) { angleExtend = (360.0 - Math.abs(angleExtend)); }
+        ARC.setCenterX(XY + WH * 0.5);
+        ARC.setCenterY(XY + WH * 0.5);
+        ARC.setRadiusX(WH * 0.5);
+        ARC.setRadiusY(WH * 0.5);
+        ARC.setStartAngle(-(OFFSET + startAngle));
+        ARC.setLength(-angleExtend);
+    }
+
+    private void ensureArcs(final List<Arc> ARCS, final int COUNT) {
+        while (ARCS.size() < COUNT) { ARCS.add(new Arc()); }
+    }
+
+    private void updateBoundaries(final long NANO_OF_DAY) {
+        // lowerBoundary: last boundary before now, upperBoundary: next boundary at or after now
+        lowerBoundary = Long.MIN_VALUE;
+        upperBoundary = Long.MAX_VALUE;
+        for (long boundary : boundaries) {
+            if (boundary < NANO_OF_DAY) {
+                lowerBoundary = boundary;
+            } else {
+                upperBoundary = boundary;
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.events.UpdateEvent;
+import eu.hansolo.medusa.events.UpdateEvent.EventType;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+
+/**
+ * Sits between the update events of the gauges and the handleEvents()
+ * method of their skins and keeps the time that is spent in the skins
+ * per pulse within a budget.
+ * As long as the budget of the current pulse is not used up the events
+ * will be handled immediately. If it is used up, the events will be
+ * coalesced per skin and handled in the next pulses. The pending skins
+ * are sorted so that skins of gauges that are on screen come first,
+ * followed by gauges that had an alert recently and larger gauges. Skins
+ * that had to wait for more than MAX_WAIT will be handled first to avoid
+ * starvation. The cost of each skin is measured to estimate if handling
+ * its events still fits into the budget.
+ * Events that are fired outside of the JavaFX application thread are
+ * handled immediately.
+ * The scheduler is disabled by default, call setEnabled(true) to
+ * schedule the events within the budget.
+ */
+public final class UpdateScheduler {
+    private static final long               MAX_WAIT      = 250_000_000L;
+    private static final long               ALERT_PERIOD  = 5_000_000_000L;
+    private static final double             COST_WEIGHT   = 0.2;
+    private static final Comparator<Client> BY_PRIORITY   = Comparator.comparingInt((Client client) -> client.tier).thenComparingDouble(client -> client.area).reversed();
+    private static final List<Client>       QUEUE         = new ArrayList<>();
+    private static       boolean            enabled       = false;
+    private static       long               budget        = 8_000_000L;
+    private static       long               spent         = 0;
+    private static       long               lastPulseTime = 0;
+    private static       long               deferrals     = 0;
+    private static       boolean            timerRunning  = false;
+    private static final AnimationTimer     TIMER         = new AnimationTimer() {
+        @Override public void handle(final long NOW) { pulse(); }
+    };
+
+
+    // ******************** Constructors **************************************
+    private UpdateScheduler() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Registers the given handler of a skin of the given node
+     * @param NODE    the control of the skin, used to prioritize the skin
+     * @param HANDLER the method that handles the events of the skin
+     * @return the client that has to be used to schedule the events
+     */
+    public static Client register(final Node NODE, final Consumer<String> HANDLER) { return new Client(NODE, HANDLER); }
+
+    /**
+     * @return true if the events will be scheduled within the budget
+     */
+    public static boolean isEnabled() { return enabled; }
+    /**
+     * Defines if the events should be scheduled within the budget. If
+     * disabled (default) all events will be handled immediately.
+     * @param ENABLED
+     */
+    public static void setEnabled(final boolean ENABLED) {
+        enabled = ENABLED;
+        if (!ENABLED && Platform.isFxApplicationThread()) { flush(); }
+    }
+
+    /**
+     * @return the time in milliseconds that can be spent in skins per pulse
+     */
+    public static double getBudget() { return budget / 1_000_000.0; }
+    /**
+     * Defines the time in milliseconds that can be spent in skins per pulse
+     * @param MILLIS
+     */
+    public static void setBudget(final double MILLIS) { budget = (long) (Helper.clamp(0.1, 1000, MILLIS) * 1_000_000); }
+
+    /**
+     * @return the time in milliseconds that was spent in skins during the last pulse
+     */
+    public static double getLastPulseTime() { return lastPulseTime / 1_000_000.0; }
+
+    /**
+     * @return the number of events that were deferred to a later pulse since the last reset
+     */
+    public static long getNoOfDeferrals() { return deferrals; }
+
+    /**
+     * @return the number of skins that wait for their events to be handled
+     */
+    public static int getQueueDepth() { return QUEUE.size(); }
+
+    /**
+     * Resets the number of deferrals and the time of the last pulse,
+     * the measured costs of the skins will be kept
+     */
+    public static void resetMetrics() {
+        deferrals     = 0;
+        lastPulseTime = 0;
+    }
+
+    /**
+     * Handles all pending events immediately
+     */
+    public static void flush() {
+        // Clients that are queued while flushing will be appended and handled in this loop
+        for (int i = 0 ; i < QUEUE.size() ; i++) { QUEUE.get(i).dispatchAll(); }
+        QUEUE.clear();
+    }
+
+    private static void pulse() {
+        lastPulseTime = spent;
+        spent         = 0;
+        if (!QUEUE.isEmpty()) {
+            final long NOW = System.nanoTime();
+            for (Client client : QUEUE) { client.updatePriority(NOW); }
+            QUEUE.sort(BY_PRIORITY);
+            // Handle at least one skin per pulse to guarantee progress
+            int drained = 0;
+            while (drained < QUEUE.size()) {
+                Client client = QUEUE.get(drained);
+                if (spent > 0 && spent + client.estimate() > budget) { break; }
+                client.dispatchAll();
+                drained++;
+            }
+            QUEUE.subList(0, drained).clear();
+        }
+        if (QUEUE.isEmpty() && 0 == spent) {
+            timerRunning = false;
+            TIMER.stop();
+        }
+    }
+
+    private static void ensureTimerRunning() {
+        if (timerRunning) { return; }
+        timerRunning = true;
+        TIMER.start();
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * The connection between one skin and the scheduler
+     */
+    public static final class Client {
+        private final Node             node;
+        private final Consumer<String> handler;
+        private       int              pending;
+        private       boolean          queued;
+        private       long             queuedSince;
+        private       long             lastAlert;
+        private       boolean          alerted;
+        private       double           cost;
+        private       int              tier;
+        private       double           area;
+
+
+        // ******************** Constructors **********************************
+        private Client(final Node NODE, final Consumer<String> HANDLER) {
+            node    = NODE;
+            handler = HANDLER;
+            alerted = false;
+        }
+
+
+        // ******************** Methods ***************************************
+        /**
+         * Handles the given event immediately if the budget of the current
+         * pulse allows it, otherwise the event will be deferred.
+         * @param TYPE the type of the event
+         * @return false if the event was coalesced with a pending event of the same type
+         */
+        public boolean schedule(final EventType TYPE) {
+            if (!enabled || !Platform.isFxApplicationThread()) {
+                handler.accept(TYPE.name());
+                return true;
+            }
+            if (EventType.ALERT == TYPE) {
+                lastAlert = System.nanoTime();
+                alerted   = true;
+            }
+            ensureTimerRunning();
+            if (0 == pending && (0 == spent || spent + cost <= budget)) {
+                dispatch(TYPE);
+                return true;
+            }
+            if (0 == pending) {
+                queuedSince = System.nanoTime();
+                if (!queued) {
+                    queued = true;
+                    QUEUE.add(this);
+                }
+            }
+            final int BIT = 1 << TYPE.ordinal();
+            if (0 != (pending & BIT)) { return false; }
+            pending |= BIT;
+            deferrals++;
+            return true;
+        }
+
+        /**
+         * Removes the pending events of this client, has to be called when
+         * the skin will be disposed. The client stays in the queue without
+         * events until the next pulse drops it.
+         */
+        public void cancel() { pending = 0; }
+
+        /**
+         * Handles the pending events of this client immediately, the events
+         * of other clients stay queued. The client stays in the queue without
+         * events until the next pulse drops it.
+         */
+        public void flush() { dispatchPending(); }
+
+        /**
+         * @return the measured time in milliseconds the skin needs to handle one event
+         */
+        public double getCost() { return cost / 1_000_000.0; }
+
+        private void dispatch(final EventType TYPE) {
+            final long START = System.nanoTime();
+            try {
+                handler.accept(TYPE.name());
+            } finally {
+                final long DURATION = System.nanoTime() - START;
+                spent += DURATION;
+                cost   = 0 == cost ? DURATION : cost + (DURATION - cost) * COST_WEIGHT;
+            }
+        }
+
+        private void dispatchAll() {
+            queued = false;
+            dispatchPending();
+        }
+
+        private void dispatchPending() {
+            final int EVENTS = pending;
+            pending = 0;
+            for (EventType type : UpdateEvent.BATCH_ORDER) {
+                if (0 != (EVENTS & (1 << type.ordinal()))) { dispatch(type); }
+            }
+        }
+
+        private double estimate() { return cost * Integer.bitCount(pending); }
+
+        private void updatePriority(final long NOW) {
+            final Bounds BOUNDS = node.getLayoutBounds();
+            area = BOUNDS.getWidth() * BOUNDS.getHeight();
+            if (NOW - queuedSince > MAX_WAIT) {
+                tier = 3;
+            } else {
+                tier = (isOnScreen(BOUNDS) ? 2 : 0) + (alerted && NOW - lastAlert < ALERT_PERIOD ? 1 : 0);
+            }
+        }
+
+        private boolean isOnScreen(final Bounds BOUNDS) {
+            final Scene SCENE = node.getScene();
+            if (null == SCENE || !node.isVisible()) { return false; }
+            final Bounds SCENE_BOUNDS = node.localToScene(BOUNDS);
+            return SCENE_BOUNDS.intersects(0, 0, SCENE.getWidth(), SCENE.getHeight());
+        }
+    }
+}
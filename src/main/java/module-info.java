@@ -19,6 +19,8 @@ module eu.hansolo.medusa {
 
     // Java
     requires java.base;
+    requires transitive java.management;
+    requires static jdk.jfr;
 
     // Java-FX
     requires transitive javafx.base;
@@ -29,4 +31,7 @@ module eu.hansolo.medusa {
     exports eu.hansolo.medusa.skins;
     exports eu.hansolo.medusa.events;
     exports eu.hansolo.medusa.tools;
+    exports eu.hansolo.medusa.grid;
+    exports eu.hansolo.medusa.export;
+    exports eu.hansolo.medusa.jfr;
 }